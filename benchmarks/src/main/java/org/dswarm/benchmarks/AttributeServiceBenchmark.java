@@ -0,0 +1,125 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.persist.PersistService;
+import com.typesafe.config.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.dswarm.init.ConfigModule;
+import org.dswarm.init.ExecutionScope;
+import org.dswarm.persistence.DMPPersistenceException;
+import org.dswarm.persistence.JacksonObjectMapperModule;
+import org.dswarm.persistence.JpaHibernateModule;
+import org.dswarm.persistence.PersistenceModule;
+import org.dswarm.persistence.model.schema.proxy.ProxyAttribute;
+import org.dswarm.persistence.service.MaintainDBService;
+import org.dswarm.persistence.service.schema.AttributeService;
+
+/**
+ * Measures the throughput of {@link AttributeService#createOrGetObjectTransactional(String)}, i.e., the lookup of attributes by their uri
+ * (existing attributes) and the creation of new attributes.<br/>
+ * note: this benchmark requires a metadata database (see dswarm.db.metadata) that will be re-initialised, i.e., don't run it against a
+ * database with valuable content
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class AttributeServiceBenchmark {
+
+	private static final String ATTRIBUTE_BASE_URI = "http://data.slub-dresden.de/benchmarks/attributes#";
+
+	/**
+	 * the number of existing attributes
+	 */
+	@Param({ "1000" })
+	public int attributes;
+
+	private Injector injector;
+
+	private AttributeService attributeService;
+
+	private int existingCounter;
+
+	private long newCounter;
+
+	@Setup(Level.Trial)
+	public void setUp() throws DMPPersistenceException {
+
+		final ConfigModule configModule = new ConfigModule();
+		final Config config = configModule.getConfig();
+
+		injector = Guice.createInjector(configModule, new PersistenceModule(), new JacksonObjectMapperModule(), new JpaHibernateModule(config));
+		injector.getInstance(PersistService.class).start();
+		injector.getInstance(ExecutionScope.class).enter();
+		injector.getInstance(MaintainDBService.class).initDB();
+
+		attributeService = injector.getInstance(AttributeService.class);
+
+		for (int i = 0; i < attributes; i++) {
+
+			attributeService.createOrGetObjectTransactional(existingAttributeUri(i));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws DMPPersistenceException {
+
+		injector.getInstance(MaintainDBService.class).initDB();
+		injector.getInstance(PersistService.class).stop();
+		injector.getInstance(ExecutionScope.class).leave();
+	}
+
+	@Benchmark
+	public ProxyAttribute getExistingAttribute() throws DMPPersistenceException {
+
+		existingCounter = (existingCounter + 1) % attributes;
+
+		return attributeService.createOrGetObjectTransactional(existingAttributeUri(existingCounter));
+	}
+
+	@Benchmark
+	public ProxyAttribute createNewAttribute() throws DMPPersistenceException {
+
+		return attributeService.createOrGetObjectTransactional(ATTRIBUTE_BASE_URI + "new" + newCounter++);
+	}
+
+	private static String existingAttributeUri(final int i) {
+
+		return ATTRIBUTE_BASE_URI + "existing" + i;
+	}
+}
@@ -0,0 +1,205 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the results of two benchmark runs, i.e., two JMH result files in JSON format (as written with '-rf json -rff <file>'), e.g., the
+ * stored baseline (see baselines/) and the results of the current build. Every benchmark (incl. its parameters) of the current run is
+ * compared with the same benchmark of the baseline. A benchmark is reported as regression (i.e., the comparison exits with status 1 then),
+ * if it became worse by more than the threshold (default: 10%) and the confidence intervals (score +/- score error) of both runs don't
+ * overlap, i.e., a change that is within the measurement noise is no regression. Benchmarks of the baseline that are missing in the current
+ * run are reported as well.<br/>
+ * Usage: java -cp benchmarks.jar org.dswarm.benchmarks.BenchmarkComparison &lt;baseline.json&gt; &lt;current.json&gt; [threshold in %]
+ */
+public final class BenchmarkComparison {
+
+	private static final double DEFAULT_THRESHOLD = 10.0;
+
+	/**
+	 * the benchmark mode where a higher score is better, all other modes (average time, sample time, single shot time) measure time
+	 */
+	private static final String THROUGHPUT_MODE = "thrpt";
+
+	private static final String ROW_FORMAT = "%-90s %24s %24s %10s %s%n";
+
+	private BenchmarkComparison() {
+
+	}
+
+	public static void main(final String[] args) throws IOException {
+
+		if (args.length < 2) {
+
+			System.err.println("usage: BenchmarkComparison <baseline.json> <current.json> [threshold in %]");
+
+			System.exit(2);
+		}
+
+		final Map<String, JsonNode> baseline = readResults(new File(args[0]));
+		final Map<String, JsonNode> current = readResults(new File(args[1]));
+		final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+
+		int regressions = 0;
+		int missing = 0;
+
+		System.out.printf(ROW_FORMAT, "benchmark", "baseline", "current", "change", "");
+
+		for (final Map.Entry<String, JsonNode> entry : current.entrySet()) {
+
+			final JsonNode currentResult = entry.getValue();
+			final JsonNode baselineResult = baseline.get(entry.getKey());
+
+			final double currentScore = score(currentResult);
+			final double currentError = scoreError(currentResult);
+			final String unit = currentResult.path("primaryMetric").path("scoreUnit").asText();
+
+			if (baselineResult == null) {
+
+				System.out.printf(ROW_FORMAT, entry.getKey(), "-", format(currentScore, currentError, unit), "-", "(new)");
+
+				continue;
+			}
+
+			final double baselineScore = score(baselineResult);
+			final double baselineError = scoreError(baselineResult);
+			final double change = (currentScore - baselineScore) / baselineScore * 100;
+
+			// positive = better
+			final double improvement = THROUGHPUT_MODE.equals(currentResult.path("mode").asText()) ? change : -change;
+
+			// the confidence intervals of both runs overlap, i.e., the change can't be distinguished from the measurement noise
+			final boolean withinError = Math.abs(currentScore - baselineScore) <= currentError + baselineError;
+
+			final String verdict;
+
+			if (Math.abs(improvement) <= threshold) {
+
+				verdict = "";
+			} else if (withinError) {
+
+				verdict = "(within error)";
+			} else if (improvement < 0) {
+
+				verdict = "REGRESSION";
+				regressions++;
+			} else {
+
+				verdict = "improvement";
+			}
+
+			System.out.printf(ROW_FORMAT, entry.getKey(), format(baselineScore, baselineError, unit), format(currentScore, currentError, unit),
+					String.format("%+.1f%%", change), verdict);
+		}
+
+		for (final Map.Entry<String, JsonNode> entry : baseline.entrySet()) {
+
+			if (current.containsKey(entry.getKey())) {
+
+				continue;
+			}
+
+			final String unit = entry.getValue().path("primaryMetric").path("scoreUnit").asText();
+
+			System.out.printf(ROW_FORMAT, entry.getKey(), format(score(entry.getValue()), scoreError(entry.getValue()), unit), "-", "-",
+					"(missing)");
+
+			missing++;
+		}
+
+		System.out.printf("%n%d of %d benchmarks regressed by more than %.1f%% (beyond the score error)%n", regressions, current.size(),
+				threshold);
+
+		if (missing > 0) {
+
+			System.out.printf("%d of %d benchmarks of the baseline are missing in the current run%n", missing, baseline.size());
+		}
+
+		if (regressions > 0) {
+
+			System.exit(1);
+		}
+	}
+
+	private static double score(final JsonNode result) {
+
+		return result.path("primaryMetric").path("score").asDouble();
+	}
+
+	/**
+	 * Returns the score error of the given result, i.e., the half-width of the confidence interval of the score. JMH writes "NaN", if the
+	 * error couldn't be determined (e.g., one measurement iteration only); such a score is treated as exact.
+	 */
+	private static double scoreError(final JsonNode result) {
+
+		final double scoreError = result.path("primaryMetric").path("scoreError").asDouble();
+
+		return Double.isNaN(scoreError) ? 0 : Math.abs(scoreError);
+	}
+
+	/**
+	 * Reads the results of a JMH result file and keys them by benchmark name + parameters (+ mode).
+	 *
+	 * @param resultFile a JMH result file in JSON format
+	 * @return the results keyed by benchmark name + parameters
+	 * @throws IOException
+	 */
+	private static Map<String, JsonNode> readResults(final File resultFile) throws IOException {
+
+		final Map<String, JsonNode> results = new LinkedHashMap<>();
+
+		for (final JsonNode result : new ObjectMapper().readTree(resultFile)) {
+
+			final StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+
+			// sort the parameters, i.e., the key doesn't depend on the order of the parameters in the file
+			final Map<String, String> params = new TreeMap<>();
+			final Iterator<Map.Entry<String, JsonNode>> fields = result.path("params").fields();
+
+			while (fields.hasNext()) {
+
+				final Map.Entry<String, JsonNode> field = fields.next();
+
+				params.put(field.getKey(), field.getValue().asText());
+			}
+
+			if (!params.isEmpty()) {
+
+				key.append(params);
+			}
+
+			key.append(" (").append(result.path("mode").asText()).append(')');
+
+			results.put(key.toString(), result);
+		}
+
+		return results;
+	}
+
+	private static String format(final double score, final double scoreError, final String unit) {
+
+		return String.format("%.3f +/- %.3f %s", score, scoreError, unit);
+	}
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.csv.CSVRecord;
+import org.culturegraph.mf.framework.DefaultObjectReceiver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.dswarm.converter.mf.stream.converter.CsvLineReader;
+import org.dswarm.converter.mf.stream.reader.CsvReader;
+import org.dswarm.converter.mf.stream.source.CSVGDMEncoder;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+import org.dswarm.persistence.model.resource.DataModel;
+
+/**
+ * Measures the ingest of CSV resources, i.e., the parsing of the CSV lines with {@link CsvLineReader} ({@link #readLines()}) and the
+ * complete triplification of the CSV records with {@link CsvReader} + {@link CSVGDMEncoder} ({@link #triplify()}). The input is generated
+ * synthetically, i.e., a header line + the given number of rows with the given number of columns (every fifth value is quoted and contains a
+ * column delimiter).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class CsvIngestBenchmark {
+
+	private static final char   ESCAPE_CHARACTER = '\\';
+	private static final char   QUOTE_CHARACTER  = '"';
+	private static final char   COLUMN_DELIMITER = ';';
+	private static final String ROW_DELIMITER    = "\n";
+
+	/**
+	 * the number of rows of the input
+	 */
+	@Param({ "10000" })
+	public int rows;
+
+	/**
+	 * the number of columns of a row
+	 */
+	@Param({ "10", "50" })
+	public int columns;
+
+	private final DataModel dataModel = new DataModel("1");
+
+	private String csv;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		final StringBuilder sb = new StringBuilder();
+
+		for (int j = 0; j < columns; j++) {
+
+			if (j > 0) {
+
+				sb.append(COLUMN_DELIMITER);
+			}
+
+			sb.append("column").append(j);
+		}
+
+		sb.append(ROW_DELIMITER);
+
+		for (int i = 0; i < rows; i++) {
+
+			for (int j = 0; j < columns; j++) {
+
+				if (j > 0) {
+
+					sb.append(COLUMN_DELIMITER);
+				}
+
+				if (j % 5 == 4) {
+
+					sb.append(QUOTE_CHARACTER).append("value ").append(i).append(COLUMN_DELIMITER).append(j).append(QUOTE_CHARACTER);
+				} else {
+
+					sb.append("value ").append(i).append('.').append(j);
+				}
+			}
+
+			sb.append(ROW_DELIMITER);
+		}
+
+		csv = sb.toString();
+	}
+
+	@Benchmark
+	public long readLines() {
+
+		final RecordCounter recordCounter = new RecordCounter();
+
+		final CsvLineReader lineReader = new CsvLineReader(ESCAPE_CHARACTER, QUOTE_CHARACTER, COLUMN_DELIMITER, ROW_DELIMITER)
+				.withHeader(true);
+		lineReader.setReceiver(recordCounter);
+
+		lineReader.process(new StringReader(csv));
+		lineReader.closeStream();
+
+		return recordCounter.records;
+	}
+
+	@Benchmark
+	public long triplify() {
+
+		final StatementCounter statementCounter = new StatementCounter();
+
+		final CsvReader reader = new CsvReader(ESCAPE_CHARACTER, QUOTE_CHARACTER, COLUMN_DELIMITER, ROW_DELIMITER).setHeader(true);
+		reader
+				.setReceiver(new CSVGDMEncoder(dataModel))
+				.setReceiver(statementCounter);
+
+		reader.process(new StringReader(csv));
+		reader.closeStream();
+
+		return statementCounter.statements;
+	}
+
+	/**
+	 * Counts the received CSV records, i.e., the records can't be eliminated as dead code.
+	 */
+	private static final class RecordCounter extends DefaultObjectReceiver<CSVRecord> {
+
+		private long records;
+
+		@Override
+		public void process(final CSVRecord record) {
+
+			records++;
+		}
+	}
+
+	/**
+	 * Counts the statements of the received records, i.e., the records can't be eliminated as dead code.
+	 */
+	private static final class StatementCounter extends DefaultObjectReceiver<GDMModel> {
+
+		private long statements;
+
+		@Override
+		public void process(final GDMModel gdmModel) {
+
+			statements += gdmModel.getModel().size();
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.dswarm.graph.json.LiteralNode;
+import org.dswarm.graph.json.Model;
+import org.dswarm.graph.json.Node;
+import org.dswarm.graph.json.Predicate;
+import org.dswarm.graph.json.Resource;
+import org.dswarm.graph.json.ResourceNode;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+import org.dswarm.persistence.model.internal.helper.AttributePathHelper;
+import org.dswarm.persistence.util.GDMUtil;
+
+/**
+ * Measures the conversion of (large) nested GDM records to JSON and the determination of their attribute paths. The records are generated
+ * synthetically, i.e., a record consists of the given number of entities (blank nodes) with some literals each. The conversion time should
+ * grow (roughly) linear with the number of entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class GDMModelBenchmark {
+
+	private static final String RECORD_URI        = "http://data.slub-dresden.de/benchmarks/records/1";
+	private static final String RECORD_CLASS_URI  = "http://data.slub-dresden.de/benchmarks/schema#RecordType";
+	private static final String PROPERTY_BASE_URI = "http://data.slub-dresden.de/benchmarks/schema#";
+
+	private static final int LITERALS_PER_ENTITY = 5;
+
+	/**
+	 * the number of (nested) entities of the record
+	 */
+	@Param({ "100", "1000", "10000" })
+	public int entities;
+
+	private Model model;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		final Resource recordResource = new Resource(RECORD_URI);
+		final ResourceNode recordNode = new ResourceNode(RECORD_URI);
+
+		long order = 1;
+
+		recordResource.addStatement(recordNode, new Predicate(GDMUtil.RDF_type), new ResourceNode(RECORD_CLASS_URI), order++);
+
+		final Predicate entityPredicate = new Predicate(PROPERTY_BASE_URI + "entity");
+		final Predicate valuePredicate = new Predicate(PROPERTY_BASE_URI + "value");
+		final Predicate childPredicate = new Predicate(PROPERTY_BASE_URI + "child");
+
+		long nodeId = 1;
+
+		for (int i = 0; i < entities; i++) {
+
+			final Node entityNode = new Node(nodeId++);
+
+			recordResource.addStatement(recordNode, entityPredicate, entityNode, order++);
+
+			for (int j = 0; j < LITERALS_PER_ENTITY; j++) {
+
+				recordResource.addStatement(entityNode, valuePredicate, new LiteralNode("value " + i + "." + j), order++);
+			}
+
+			// one more nesting level per entity
+			final Node childNode = new Node(nodeId++);
+
+			recordResource.addStatement(entityNode, childPredicate, childNode, order++);
+			recordResource.addStatement(childNode, valuePredicate, new LiteralNode("child value " + i), order++);
+		}
+
+		model = new Model();
+		model.addResource(recordResource);
+	}
+
+	@Benchmark
+	public JsonNode toJSON() {
+
+		return new GDMModel(model, RECORD_URI, RECORD_CLASS_URI).toJSON();
+	}
+
+	@Benchmark
+	public JsonNode toRawJSON() {
+
+		return new GDMModel(model, RECORD_URI, RECORD_CLASS_URI).toRawJSON();
+	}
+
+	@Benchmark
+	public Set<AttributePathHelper> getAttributePaths() {
+
+		return new GDMModel(model, RECORD_URI, RECORD_CLASS_URI).getAttributePaths();
+	}
+}
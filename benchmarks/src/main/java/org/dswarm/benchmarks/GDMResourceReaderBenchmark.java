@@ -0,0 +1,183 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.Lists;
+import org.culturegraph.mf.framework.DefaultStreamReceiver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.dswarm.common.types.Tuple;
+import org.dswarm.converter.mf.stream.reader.GDMResourceReader;
+import org.dswarm.converter.mf.stream.reader.JsonNodeReader;
+import org.dswarm.graph.json.LiteralNode;
+import org.dswarm.graph.json.Model;
+import org.dswarm.graph.json.Node;
+import org.dswarm.graph.json.Predicate;
+import org.dswarm.graph.json.Resource;
+import org.dswarm.graph.json.ResourceNode;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+import org.dswarm.persistence.util.GDMUtil;
+
+/**
+ * Compares the throughput of the input of a transformation, i.e., the emission of the Metamorph events of GDM records, via the JSON route
+ * ({@link GDMModel#toRawJSON()} + {@link JsonNodeReader}) with the direct route ({@link GDMResourceReader}). The records are generated
+ * synthetically, i.e., a record consists of the given number of entities (blank nodes) with some literals each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class GDMResourceReaderBenchmark {
+
+	private static final String RECORD_BASE_URI   = "http://data.slub-dresden.de/benchmarks/records/";
+	private static final String RECORD_CLASS_URI  = "http://data.slub-dresden.de/benchmarks/schema#RecordType";
+	private static final String PROPERTY_BASE_URI = "http://data.slub-dresden.de/benchmarks/schema#";
+
+	private static final int RECORDS = 100;
+
+	private static final int LITERALS_PER_ENTITY = 5;
+
+	/**
+	 * the number of entities per record
+	 */
+	@Param({ "10", "100" })
+	public int entities;
+
+	private final List<Tuple<String, Model>> records = Lists.newArrayList();
+
+	private JsonNodeReader jsonNodeReader;
+
+	private GDMResourceReader gdmResourceReader;
+
+	private EventCounter eventCounter;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		final Predicate entityPredicate = new Predicate(PROPERTY_BASE_URI + "entity");
+		final Predicate valuePredicate = new Predicate(PROPERTY_BASE_URI + "value");
+
+		for (int i = 0; i < RECORDS; i++) {
+
+			final String recordURI = RECORD_BASE_URI + i;
+			final Resource recordResource = new Resource(recordURI);
+			final ResourceNode recordNode = new ResourceNode(recordURI);
+
+			long order = 1;
+			long nodeId = 1;
+
+			recordResource.addStatement(recordNode, new Predicate(GDMUtil.RDF_type), new ResourceNode(RECORD_CLASS_URI), order++);
+
+			for (int j = 0; j < entities; j++) {
+
+				final Node entityNode = new Node(nodeId++);
+
+				recordResource.addStatement(recordNode, entityPredicate, entityNode, order++);
+
+				for (int k = 0; k < LITERALS_PER_ENTITY; k++) {
+
+					recordResource.addStatement(entityNode, valuePredicate, new LiteralNode("value " + j + "." + k), order++);
+				}
+			}
+
+			final Model model = new Model();
+			model.addResource(recordResource);
+
+			records.add(Tuple.tuple(recordURI, model));
+		}
+
+		eventCounter = new EventCounter();
+
+		jsonNodeReader = new JsonNodeReader();
+		jsonNodeReader.setReceiver(eventCounter);
+
+		gdmResourceReader = new GDMResourceReader();
+		gdmResourceReader.setReceiver(eventCounter);
+	}
+
+	@Benchmark
+	public long jsonRoute() {
+
+		eventCounter.events = 0;
+
+		for (final Tuple<String, Model> record : records) {
+
+			final JsonNode json = new GDMModel(record.v2(), record.v1()).toRawJSON();
+
+			jsonNodeReader.process(Tuple.tuple(record.v1(), json));
+		}
+
+		return eventCounter.events;
+	}
+
+	@Benchmark
+	public long gdmRoute() {
+
+		eventCounter.events = 0;
+
+		for (final Tuple<String, Model> record : records) {
+
+			gdmResourceReader.process(record);
+		}
+
+		return eventCounter.events;
+	}
+
+	/**
+	 * Counts the received events, i.e., the events can't be eliminated as dead code.
+	 */
+	private static final class EventCounter extends DefaultStreamReceiver {
+
+		private long events;
+
+		@Override
+		public void startRecord(final String identifier) {
+
+			events++;
+		}
+
+		@Override
+		public void startEntity(final String name) {
+
+			events++;
+		}
+
+		@Override
+		public void literal(final String name, final String value) {
+
+			events++;
+		}
+	}
+}
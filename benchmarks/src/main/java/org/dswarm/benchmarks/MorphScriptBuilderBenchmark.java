@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.dswarm.converter.DMPConverterException;
+import org.dswarm.converter.morph.MorphScriptBuilder;
+import org.dswarm.persistence.model.job.Task;
+
+/**
+ * Measures the generation of the morph script of a task (see {@link TaskFixture}) with {@link MorphScriptBuilder#apply(Task)}, incl. the
+ * serialisation of the script document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class MorphScriptBuilderBenchmark {
+
+	@Param({ "ALMOST_ALL_FUNCTIONS_CSV", "DD_530_MABXML" })
+	public TaskFixture fixture;
+
+	private Task task;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+
+		task = fixture.readTask();
+	}
+
+	@Benchmark
+	public String apply() throws DMPConverterException {
+
+		return new MorphScriptBuilder().apply(task).toString();
+	}
+}
@@ -0,0 +1,155 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.assistedinject.FactoryModuleBuilder;
+import com.google.inject.name.Names;
+import org.culturegraph.mf.framework.DefaultStreamReceiver;
+import org.culturegraph.mf.framework.StreamReceiver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.dswarm.converter.pipe.timing.StreamTimer;
+import org.dswarm.converter.pipe.timing.TimerBasedFactory;
+
+/**
+ * Quantifies the overhead of the {@link StreamTimer} for a literal-heavy record, i.e., compares the emission of the events of a record
+ * without timing ({@link #untimed()}) with the emission through a stream timer ({@link #timed()}) that times every event or only a sample of
+ * the events (see sample interval).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class StreamTimerBenchmark {
+
+	private static final String RECORD_IDENTIFIER = "http://data.slub-dresden.de/benchmarks/records/1";
+
+	private static final int ENTITIES = 10;
+
+	private static final int LITERALS_PER_ENTITY = 20;
+
+	/**
+	 * only every ...th event is timed
+	 */
+	@Param({ "1", "100" })
+	public long sampleInterval;
+
+	private StreamTimer streamTimer;
+
+	private EventCounter eventCounter;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		final TimerBasedFactory timerBasedFactory = Guice.createInjector(new AbstractModule() {
+
+			@Override
+			protected void configure() {
+
+				bind(MetricRegistry.class).annotatedWith(Names.named("Monitoring")).toInstance(new MetricRegistry());
+				bindConstant().annotatedWith(Names.named("dswarm.converter.timing.sample-interval")).to(sampleInterval);
+
+				install(new FactoryModuleBuilder().build(TimerBasedFactory.class));
+			}
+		}).getInstance(TimerBasedFactory.class);
+
+		eventCounter = new EventCounter();
+
+		streamTimer = timerBasedFactory.forStream("stream-input");
+		streamTimer.setReceiver(eventCounter);
+	}
+
+	@Benchmark
+	public long untimed() {
+
+		return emitRecord(eventCounter);
+	}
+
+	@Benchmark
+	public long timed() {
+
+		return emitRecord(streamTimer);
+	}
+
+	private long emitRecord(final StreamReceiver receiver) {
+
+		eventCounter.events = 0;
+
+		receiver.startRecord(RECORD_IDENTIFIER);
+
+		for (int i = 0; i < ENTITIES; i++) {
+
+			receiver.startEntity("entity");
+
+			for (int j = 0; j < LITERALS_PER_ENTITY; j++) {
+
+				receiver.literal("literal", "value");
+			}
+
+			receiver.endEntity();
+		}
+
+		receiver.endRecord();
+
+		return eventCounter.events;
+	}
+
+	/**
+	 * Counts the received events, i.e., the events can't be eliminated as dead code.
+	 */
+	private static final class EventCounter extends DefaultStreamReceiver {
+
+		private long events;
+
+		@Override
+		public void startRecord(final String identifier) {
+
+			events++;
+		}
+
+		@Override
+		public void startEntity(final String name) {
+
+			events++;
+		}
+
+		@Override
+		public void literal(final String name, final String value) {
+
+			events++;
+		}
+	}
+}
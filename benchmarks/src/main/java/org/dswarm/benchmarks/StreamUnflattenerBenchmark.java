@@ -0,0 +1,155 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+import org.culturegraph.mf.framework.DefaultStreamReceiver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.dswarm.common.DMPStatics;
+import org.dswarm.converter.pipe.StreamUnflattener;
+
+/**
+ * Measures the unflattening of the (flat) output of a transformation with {@link StreamUnflattener}, i.e., the pipe that is placed after
+ * the Metamorph of a {@link org.dswarm.converter.flow.TransformationFlow}. The output is generated synthetically and resembles the
+ * output of a wide MABXML mapping, i.e., every record consists of the given number of fields (each with number, indicator, value and a
+ * sub field). The literal names are attribute paths (delimited by {@link DMPStatics#ATTRIBUTE_DELIMITER}) that repeat in every record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class StreamUnflattenerBenchmark {
+
+	private static final String MABXML_NS       = "http://www.ddb.de/professionell/mabxml/mabxml-1.xsd#";
+	private static final String RDF_VALUE       = "http://www.w3.org/1999/02/22-rdf-syntax-ns#value";
+	private static final String RECORD_BASE_URI = "http://data.slub-dresden.de/benchmarks/records/";
+
+	/**
+	 * the number of records of the output
+	 */
+	@Param({ "1000" })
+	public int records;
+
+	/**
+	 * the number of fields of an output record, i.e., of the mappings
+	 */
+	@Param({ "50", "250" })
+	public int fields;
+
+	private final List<String> literalNames = Lists.newArrayList();
+
+	private final List<String> recordIdentifiers = Lists.newArrayList();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		final String delimiter = DMPStatics.ATTRIBUTE_DELIMITER.toString();
+
+		for (int i = 0; i < fields; i++) {
+
+			final String field = MABXML_NS + "datensatz" + delimiter + MABXML_NS + "feld" + String.format("%03d", i) + delimiter;
+			final String subField = field + MABXML_NS + "uf" + delimiter;
+
+			literalNames.add(field + MABXML_NS + "nr");
+			literalNames.add(field + MABXML_NS + "ind");
+			literalNames.add(field + RDF_VALUE);
+			literalNames.add(subField + MABXML_NS + "code");
+			literalNames.add(subField + RDF_VALUE);
+		}
+
+		for (int i = 0; i < records; i++) {
+
+			recordIdentifiers.add(RECORD_BASE_URI + i);
+		}
+	}
+
+	@Benchmark
+	public long unflatten() {
+
+		final EventCounter eventCounter = new EventCounter();
+
+		// a new instance per invocation, since a transformation creates a new instance per execution as well
+		final StreamUnflattener unflattener = new StreamUnflattener("", DMPStatics.ATTRIBUTE_DELIMITER);
+		unflattener.setReceiver(eventCounter);
+
+		for (final String recordIdentifier : recordIdentifiers) {
+
+			unflattener.startRecord(recordIdentifier);
+
+			for (final String literalName : literalNames) {
+
+				unflattener.literal(literalName, recordIdentifier);
+			}
+
+			unflattener.endRecord();
+		}
+
+		unflattener.closeStream();
+
+		return eventCounter.events;
+	}
+
+	/**
+	 * Counts the received events, i.e., the events can't be eliminated as dead code.
+	 */
+	private static final class EventCounter extends DefaultStreamReceiver {
+
+		private long events;
+
+		@Override
+		public void startRecord(final String identifier) {
+
+			events++;
+		}
+
+		@Override
+		public void startEntity(final String name) {
+
+			events++;
+		}
+
+		@Override
+		public void endEntity() {
+
+			events++;
+		}
+
+		@Override
+		public void literal(final String name, final String value) {
+
+			events++;
+		}
+	}
+}
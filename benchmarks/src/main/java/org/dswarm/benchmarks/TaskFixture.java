@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.dswarm.common.types.Tuple;
+import org.dswarm.persistence.model.job.Task;
+import org.dswarm.persistence.util.DMPPersistenceUtil;
+
+/**
+ * The task fixtures of the converter tests that are utilised by the task related benchmarks, i.e., a task (with its mappings) and the records
+ * the task was designed for.
+ */
+public enum TaskFixture {
+
+	/**
+	 * CSV records + a task with (almost) all available transformation functions
+	 */
+	ALMOST_ALL_FUNCTIONS_CSV("almost.all.functions.complex.test.csv.task.json", "almost.all.functions.complex.test.csv.tuples.json"),
+
+	/**
+	 * MABXML records + a task with one concat mapping with two filters (dd-530)
+	 */
+	DD_530_MABXML("dd-530.mabxml.task.json", "test-mabxml.tuples.json");
+
+	private final String taskResource;
+	private final String tuplesResource;
+
+	TaskFixture(final String taskResource, final String tuplesResource) {
+
+		this.taskResource = taskResource;
+		this.tuplesResource = tuplesResource;
+	}
+
+	Task readTask() throws IOException {
+
+		return DMPPersistenceUtil.getJSONObjectMapper().readValue(DMPPersistenceUtil.getResourceAsString(taskResource), Task.class);
+	}
+
+	/**
+	 * Reads the records of this fixture and repeats them (with new record identifiers) until the given number of records is reached.
+	 *
+	 * @param records the number of records
+	 * @return the given number of records (identifier + content)
+	 * @throws IOException
+	 */
+	List<Tuple<String, JsonNode>> readTuples(final int records) throws IOException {
+
+		final List<Tuple<String, JsonNode>> tuples = DMPPersistenceUtil.getJSONObjectMapper().readValue(
+				DMPPersistenceUtil.getResourceAsString(tuplesResource), new TypeReference<List<Tuple<String, JsonNode>>>() {
+
+				});
+
+		final List<Tuple<String, JsonNode>> scaledTuples = new ArrayList<>(records);
+
+		for (int i = 0; i < records; i++) {
+
+			final Tuple<String, JsonNode> tuple = tuples.get(i % tuples.size());
+
+			scaledTuples.add(Tuple.tuple(tuple.v1() + '-' + i, tuple.v2()));
+		}
+
+		return scaledTuples;
+	}
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.assistedinject.FactoryModuleBuilder;
+import com.google.inject.name.Names;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import rx.Observable;
+
+import org.dswarm.common.types.Tuple;
+import org.dswarm.converter.DMPConverterException;
+import org.dswarm.converter.flow.TransformationFlow;
+import org.dswarm.converter.flow.TransformationFlowFactory;
+import org.dswarm.converter.morph.FilterMorphScriptBuilder;
+import org.dswarm.converter.morph.MorphScriptBuilder;
+import org.dswarm.converter.pipe.timing.TimerBasedFactory;
+import org.dswarm.persistence.model.job.Task;
+import org.dswarm.persistence.service.InternalModelServiceFactory;
+
+/**
+ * Measures the execution of a task with {@link TransformationFlow#apply(Observable, boolean, boolean)}, i.e., the records of a task fixture
+ * (see {@link TaskFixture}) are transformed with the morph (and filter) script of the task. The records of the fixture are repeated until the
+ * given number of records is reached. The result is not written to the data hub, i.e., only the transformation itself is measured.<br/>
+ * The flow is created per invocation (from the scripts that are generated once), since a flow is utilised for one task execution only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class TransformationFlowBenchmark {
+
+	@Param({ "ALMOST_ALL_FUNCTIONS_CSV", "DD_530_MABXML" })
+	public TaskFixture fixture;
+
+	/**
+	 * the number of records of the input
+	 */
+	@Param({ "1000" })
+	public int records;
+
+	private TransformationFlowFactory flowFactory;
+
+	private String morphScript;
+
+	private String filterScript;
+
+	private List<Tuple<String, JsonNode>> tuples;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException, DMPConverterException {
+
+		flowFactory = Guice.createInjector(new AbstractModule() {
+
+			@Override
+			protected void configure() {
+
+				bind(MetricRegistry.class).annotatedWith(Names.named("Monitoring")).toInstance(new MetricRegistry());
+				bindConstant().annotatedWith(Names.named("dswarm.converter.timing.sample-interval")).to(1L);
+				bindConstant().annotatedWith(Names.named("dswarm.paths.lookup-tables")).to(System.getProperty("java.io.tmpdir"));
+
+				// the transformation result won't be written to the data hub
+				bind(InternalModelServiceFactory.class).toProvider(() -> {
+
+					throw new UnsupportedOperationException("the benchmark doesn't write to the data hub");
+				});
+
+				install(new FactoryModuleBuilder().build(TimerBasedFactory.class));
+				install(new FactoryModuleBuilder().build(TransformationFlowFactory.class));
+			}
+		}).getInstance(TransformationFlowFactory.class);
+
+		final Task task = fixture.readTask();
+
+		morphScript = new MorphScriptBuilder().apply(task).toString();
+		filterScript = new FilterMorphScriptBuilder().apply(task).toString();
+		tuples = fixture.readTuples(records);
+	}
+
+	@Benchmark
+	public int apply() throws DMPConverterException {
+
+		final TransformationFlow flow = filterScript == null ? flowFactory.fromString(morphScript) : flowFactory.fromString(morphScript,
+				filterScript);
+
+		return flow.apply(Observable.from(tuples), false, false).count().toBlocking().single();
+	}
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.dswarm.persistence.model.schema.utils.SchemaUtils;
+import org.dswarm.persistence.service.UUIDGenerator;
+
+/**
+ * Compares the UUID generators for minting entity URIs and (JPA) object UUIDs, single-threaded and with all available processors. The
+ * legacy benchmarks reproduce the approach before the generators were introduced, i.e., {@link UUID#randomUUID()} and
+ * {@link String#format(String, Object...)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UUIDGeneratorBenchmark {
+
+	private static final String RESOURCE_BASE_URI = SchemaUtils.BASE_URI + "resource/";
+
+	private static final String OBJECT_BASE = "AttributePath";
+
+	@State(Scope.Benchmark)
+	public static class Generator {
+
+		@Param({ "RANDOM", "TIME_ORDERED" })
+		public String generatorName;
+
+		private UUIDGenerator generator;
+
+		@Setup
+		public void setUp() {
+
+			generator = UUIDGenerator.valueOf(generatorName);
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String mintEntityUri(final Generator generator) {
+
+		return RESOURCE_BASE_URI + generator.generator.next();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String mintEntityUriContended(final Generator generator) {
+
+		return RESOURCE_BASE_URI + generator.generator.next();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String getObjectUUID(final Generator generator) {
+
+		return OBJECT_BASE + '-' + generator.generator.next().toString();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String legacyGetObjectUUID() {
+
+		return String.format("%s-%s", OBJECT_BASE, UUID.randomUUID().toString());
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String legacyMintEntityUriContended() {
+
+		return RESOURCE_BASE_URI + UUID.randomUUID();
+	}
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Resources;
+import org.culturegraph.mf.framework.DefaultObjectReceiver;
+import org.culturegraph.mf.stream.converter.xml.XmlDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.dswarm.converter.mf.stream.source.XMLGDMEncoder;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+import org.dswarm.persistence.model.resource.DataModel;
+
+/**
+ * Measures the throughput of the triplification of XML records, i.e., {@link XmlDecoder} + {@link XMLGDMEncoder}, as it is utilised at the
+ * ingest of XML resources. The input is a real MARCXML record (marcxml_sample.xml) that is repeated the given number of times in one
+ * collection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class XMLGDMEncoderBenchmark {
+
+	private static final String SAMPLE           = "marcxml_sample.xml";
+	private static final String RECORD_TAG       = "record";
+	private static final String COLLECTION_START = "<collection xmlns=\"http://www.loc.gov/MARC21/slim\">\n";
+	private static final String COLLECTION_END   = "</collection>\n";
+
+	/**
+	 * the number of records of the input
+	 */
+	@Param({ "100" })
+	public int records;
+
+	private final DataModel dataModel = new DataModel("1");
+
+	private String xml;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+
+		final String sample = Resources.toString(Resources.getResource(SAMPLE), Charsets.UTF_8);
+		final String recordEnd = "</" + RECORD_TAG + '>';
+		final String record = sample.substring(sample.indexOf('<' + RECORD_TAG), sample.lastIndexOf(recordEnd) + recordEnd.length());
+
+		final StringBuilder sb = new StringBuilder(COLLECTION_START);
+
+		for (int i = 0; i < records; i++) {
+
+			sb.append(record).append('\n');
+		}
+
+		xml = sb.append(COLLECTION_END).toString();
+	}
+
+	@Benchmark
+	public long triplify() {
+
+		final StatementCounter statementCounter = new StatementCounter();
+
+		final XmlDecoder decoder = new XmlDecoder();
+		decoder
+				.setReceiver(new XMLGDMEncoder(RECORD_TAG, Optional.of(dataModel)))
+				.setReceiver(statementCounter);
+
+		decoder.process(new StringReader(xml));
+		decoder.closeStream();
+
+		return statementCounter.statements;
+	}
+
+	/**
+	 * Counts the statements of the received records, i.e., the records can't be eliminated as dead code.
+	 */
+	private static final class StatementCounter extends DefaultObjectReceiver<GDMModel> {
+
+		private long statements;
+
+		@Override
+		public void process(final GDMModel gdmModel) {
+
+			statements += gdmModel.getModel().size();
+		}
+	}
+}
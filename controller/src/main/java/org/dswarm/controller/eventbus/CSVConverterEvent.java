@@ -15,6 +15,9 @@
  */
 package org.dswarm.controller.eventbus;
 
+import com.google.common.base.Optional;
+
+import org.dswarm.controller.jobs.IngestJob;
 import org.dswarm.persistence.model.resource.UpdateFormat;
 import org.dswarm.persistence.model.resource.DataModel;
 
@@ -29,4 +32,10 @@ public class CSVConverterEvent extends ConverterEvent {
 
 		super(dataModel, updateFormat, enableVersioning);
 	}
+
+	public CSVConverterEvent(final DataModel dataModel, final UpdateFormat updateFormat, final boolean enableVersioning,
+			final Optional<IngestJob> job) {
+
+		super(dataModel, updateFormat, enableVersioning, job);
+	}
 }
@@ -15,43 +15,34 @@
  */
 package org.dswarm.controller.eventbus;
 
-import java.util.Collection;
-
 import javax.ws.rs.core.Response;
 
+import com.google.common.base.Optional;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
-import org.culturegraph.mf.types.Triple;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Observable;
 
 import org.dswarm.controller.DMPControllerException;
+import org.dswarm.controller.jobs.IngestJob;
 import org.dswarm.converter.DMPConverterException;
 import org.dswarm.converter.flow.CSVResourceFlowFactory;
-import org.dswarm.converter.flow.CSVSourceResourceTriplesFlow;
-import org.dswarm.graph.json.LiteralNode;
-import org.dswarm.graph.json.Model;
-import org.dswarm.graph.json.Predicate;
-import org.dswarm.graph.json.Resource;
-import org.dswarm.graph.json.ResourceNode;
+import org.dswarm.converter.flow.CSVSourceResourceGDMStmtsFlow;
 import org.dswarm.persistence.DMPPersistenceException;
 import org.dswarm.persistence.model.internal.gdm.GDMModel;
 import org.dswarm.persistence.model.resource.DataModel;
 import org.dswarm.persistence.model.resource.UpdateFormat;
-import org.dswarm.persistence.model.resource.utils.DataModelUtils;
 import org.dswarm.persistence.model.resource.utils.ResourceStatics;
 import org.dswarm.persistence.monitoring.MonitoringHelper;
 import org.dswarm.persistence.monitoring.MonitoringLogger;
 import org.dswarm.persistence.service.InternalModelServiceFactory;
-import org.dswarm.persistence.util.GDMUtil;
 
 @Singleton
 public class CSVConverterEventRecorder {
 
-	private static final Logger LOG                 = LoggerFactory.getLogger(CSVConverterEventRecorder.class);
-	private static final String RECORD_TYPE_POSTFIX = "RecordType";
+	private static final Logger LOG = LoggerFactory.getLogger(CSVConverterEventRecorder.class);
 
 	private final Provider<CSVResourceFlowFactory> flowFactory;
 	private final InternalModelServiceFactory      internalServiceFactory;
@@ -75,25 +66,25 @@ public class CSVConverterEventRecorder {
 		final boolean enableVersioning = event.isEnableVersioning();
 
 		try (final MonitoringHelper ignore = loggerProvider.get().startIngest(dataModel)) {
-			convertConfiguration(dataModel, updateFormat, enableVersioning);
+			convertConfiguration(dataModel, updateFormat, enableVersioning, event.getJob());
 		}
 	}
 
-	private void convertConfiguration(final DataModel dataModel, final UpdateFormat updateFormat, final boolean enableVersioning)
-			throws DMPControllerException {
+	private void convertConfiguration(final DataModel dataModel, final UpdateFormat updateFormat, final boolean enableVersioning,
+			final Optional<IngestJob> optionalJob) throws DMPControllerException {
 
 		LOG.debug("try to process csv data resource into data model '{}'", dataModel.getUuid());
 
-		Observable<Collection<Triple>> result = null;
+		Observable<GDMModel> result = null;
 		try {
 
-			final CSVSourceResourceTriplesFlow flow = flowFactory.get().fromDataModel(dataModel);
+			final CSVSourceResourceGDMStmtsFlow flow = flowFactory.get().gdmFromDataModel(dataModel);
 
 			final String path = dataModel.getDataResource().getAttribute(ResourceStatics.PATH).asText();
 
 			LOG.debug("process csv data resource at '{}' into data model '{}'", path, dataModel.getUuid());
 
-			result = flow.applyFile(path);
+			result = IngestJob.parsed(flow.applyFile(path), optionalJob);
 
 		} catch (final DMPConverterException | NullPointerException e) {
 
@@ -113,63 +104,14 @@ public class CSVConverterEventRecorder {
 
 		if (result != null) {
 
-			LOG.debug("transformed CSV data resource to triples for data model '{}'", dataModel.getUuid());
-
-			// convert result to GDM
-
-			final String dataResourceBaseSchemaURI = DataModelUtils.determineDataModelSchemaBaseURI(dataModel);
-			final String recordClassURI = dataResourceBaseSchemaURI + RECORD_TYPE_POSTFIX;
-			final ResourceNode recordClassNode = new ResourceNode(recordClassURI);
-
-			//final AtomicInteger counter = new AtomicInteger(0);
-
-			//LOG.debug("CSV triples = '{}'", result.size());
-
 			final Observable<org.dswarm.persistence.model.internal.Model> models = result
-					.map(triples -> {
-
-						// 1. create resource uri from subject (line number)
-						final Resource recordResource = DataModelUtils.mintRecordResource(dataModel);
-
-						//final int current = counter.incrementAndGet();
-
-						//LOG.debug("CSV resource number '{}' with '{}'", current, recordResource.getUri());
-
-						// add resource type statement to model
-						recordResource.addStatement(new ResourceNode(recordResource.getUri()), new Predicate(GDMUtil.RDF_type), recordClassNode);
-
-						triples.stream().forEach(triple -> {
-
-							// 2. create property object from property uri string
-							final Predicate property = new Predicate(triple.getPredicate());
-
-							final ResourceNode subject = (ResourceNode) recordResource.getStatements().iterator().next().getSubject();
-
-							// 3. convert objects (string literals) to string literals (?)
-							final LiteralNode object = new LiteralNode(triple.getObject());
-
-							recordResource.addStatement(subject, property, object);
-						});
-
-						return recordResource;
-					}).map(finalResource -> {
-
-						final Model model = new Model();
-						model.addResource(finalResource);
-
-						//final int current2 = counter.get();
-						//LOG.debug("CSV resource number '{}' with '{}' and '{}' statement", current2, finalResource.getUri(),
-						//		finalResource.size());
-
-						return new GDMModel(model, null, recordClassURI);
-					});
-
-			models.doOnCompleted(() -> LOG.debug("transformed CSV data resource to GDM for data model '{}'", dataModel.getUuid()));
+					.cast(org.dswarm.persistence.model.internal.Model.class)
+					.doOnCompleted(() -> LOG.debug("transformed CSV data resource to GDM for data model '{}'", dataModel.getUuid()));
 
 			try {
 
 				final Observable<Response> writeResponse = internalServiceFactory.getInternalGDMGraphService()
-						.updateObject(dataModel.getUuid(), models, updateFormat, enableVersioning);
+						.updateObject(dataModel.getUuid(), IngestJob.written(models, optionalJob), updateFormat, enableVersioning);
 
 				//LOG.debug("before to blocking");
 
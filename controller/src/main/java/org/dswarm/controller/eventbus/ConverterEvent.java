@@ -15,6 +15,9 @@
  */
 package org.dswarm.controller.eventbus;
 
+import com.google.common.base.Optional;
+
+import org.dswarm.controller.jobs.IngestJob;
 import org.dswarm.persistence.model.resource.UpdateFormat;
 import org.dswarm.persistence.model.resource.DataModel;
 
@@ -25,6 +28,11 @@ import org.dswarm.persistence.model.resource.DataModel;
  */
 public class ConverterEvent extends DataModelEvent {
 
+	/**
+	 * The (optional) job of an asynchronous ingest.
+	 */
+	private final Optional<IngestJob> job;
+
 	/**
 	 * Creates a new converter event with the given data model.
 	 * 
@@ -32,6 +40,30 @@ public class ConverterEvent extends DataModelEvent {
 	 */
 	public ConverterEvent(final DataModel dataModel, final UpdateFormat updateFormat, final boolean enableVersioning) {
 
+		this(dataModel, updateFormat, enableVersioning, Optional.<IngestJob>absent());
+	}
+
+	/**
+	 * Creates a new converter event with the given data model and the (optional) job of an asynchronous ingest.
+	 *
+	 * @param dataModel a data model that can be utilised for further processing
+	 * @param job       the (optional) job that tracks the progress of the ingest
+	 */
+	public ConverterEvent(final DataModel dataModel, final UpdateFormat updateFormat, final boolean enableVersioning,
+			final Optional<IngestJob> job) {
+
 		super(dataModel, updateFormat, enableVersioning);
+
+		this.job = job;
+	}
+
+	/**
+	 * Gets the (optional) job of an asynchronous ingest.
+	 *
+	 * @return the (optional) job of an asynchronous ingest
+	 */
+	public Optional<IngestJob> getJob() {
+
+		return job;
 	}
 }
@@ -21,6 +21,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.ws.rs.core.Response;
 
+import com.google.common.base.Optional;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
@@ -30,6 +31,7 @@ import rx.Observable;
 import rx.functions.Action0;
 
 import org.dswarm.controller.DMPControllerException;
+import org.dswarm.controller.jobs.IngestJob;
 import org.dswarm.converter.flow.XMLSourceResourceGDMStmtsFlow;
 import org.dswarm.converter.flow.XmlResourceFlowFactory;
 import org.dswarm.graph.json.Model;
@@ -89,13 +91,19 @@ public class XMLConverterEventRecorder {
 		final boolean enableVersioning = event.isEnableVersioning();
 
 		try (final MonitoringHelper ignore = loggerProvider.get().startIngest(dataModel)) {
-			processDataModel(dataModel, updateFormat, enableVersioning);
+			processDataModel(dataModel, updateFormat, enableVersioning, event.getJob());
 		}
 	}
 
 	public void processDataModel(final DataModel dataModel, final UpdateFormat updateFormat, final boolean enableVersioning)
 			throws DMPControllerException {
 
+		processDataModel(dataModel, updateFormat, enableVersioning, Optional.<IngestJob>absent());
+	}
+
+	private void processDataModel(final DataModel dataModel, final UpdateFormat updateFormat, final boolean enableVersioning,
+			final Optional<IngestJob> optionalJob) throws DMPControllerException {
+
 		LOG.debug("try to process xml data resource into data model '{}'", dataModel.getUuid());
 
 		rx.Observable<org.dswarm.persistence.model.internal.Model> result = null;
@@ -108,7 +116,7 @@ public class XMLConverterEventRecorder {
 
 			LOG.debug("process xml data resource at '{}' into data model '{}'", path, dataModel.getUuid());
 
-			final Observable<GDMModel> gdmModels = flow.applyResource(path);
+			final Observable<GDMModel> gdmModels = IngestJob.parsed(flow.applyResource(path), optionalJob);
 
 			//final AtomicInteger counter = new AtomicInteger(0);
 
@@ -142,6 +150,8 @@ public class XMLConverterEventRecorder {
 
 			}).cast(org.dswarm.persistence.model.internal.Model.class).doOnCompleted(
 					() -> LOG.debug("transformed xml data resource at '{}' to GDM for data model '{}'", path, dataModel.getUuid()));
+
+			result = IngestJob.written(result, optionalJob);
 		} catch (final NullPointerException e) {
 
 			final String message = String.format("couldn't convert the XML data of data model '%s'", dataModel.getUuid());
@@ -25,6 +25,7 @@ import org.dswarm.controller.eventbus.CSVConverterEventRecorder;
 import org.dswarm.controller.eventbus.SchemaEventRecorder;
 import org.dswarm.controller.eventbus.XMLConverterEventRecorder;
 import org.dswarm.controller.eventbus.XMLSchemaEventRecorder;
+import org.dswarm.controller.jobs.IngestJobService;
 import org.dswarm.controller.status.DatabaseHealthCheck;
 import org.dswarm.controller.status.MetricsReporter;
 import org.dswarm.controller.utils.DMPControllerUtils;
@@ -50,6 +51,7 @@ public class DMPModule extends AbstractModule {
 		bind(XMLSchemaEventRecorder.class);
 
 		bind(DataModelUtil.class);
+		bind(IngestJobService.class);
 		// TODO bind persistence services here ???
 
 		bind(MetricsReporter.class);
@@ -0,0 +1,269 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.controller.jobs;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.google.common.base.Optional;
+import rx.Observable;
+
+import org.dswarm.persistence.service.UUIDService;
+
+/**
+ * An (asynchronous) ingest of the data resource of a data model, i.e., the conversion of the data resource and the persistence of the
+ * converted data in the data hub. An ingest job reports its progress (records parsed/written) and can be cancelled.<br/>
+ * note: a cancelled or failed job can't be resumed, since the records of an ingest are written to the data hub in one write request, i.e.,
+ * there is no checkpoint to resume from. The ingest needs to be started again (records are identified by their URIs, i.e., records that were
+ * already written will be updated).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IngestJob {
+
+	public enum Status {
+
+		/**
+		 * the job waits for a free ingest worker
+		 */
+		QUEUED,
+
+		RUNNING,
+
+		SUCCEEDED,
+
+		FAILED,
+
+		CANCELLED;
+
+		public boolean isFinished() {
+
+			return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+		}
+	}
+
+	private final String uuid;
+	private final String dataModelUuid;
+	private final long   created;
+
+	private final AtomicLong recordsParsed  = new AtomicLong();
+	private final AtomicLong recordsWritten = new AtomicLong();
+
+	private volatile Status  status = Status.QUEUED;
+	private volatile Long    started;
+	private volatile Long    finished;
+	private volatile String  error;
+	private volatile boolean cancellationRequested;
+
+	private Future<?> future;
+
+	IngestJob(final String dataModelUuid) {
+
+		uuid = UUIDService.getUUID();
+		this.dataModelUuid = dataModelUuid;
+		created = System.currentTimeMillis();
+	}
+
+	public String getUuid() {
+
+		return uuid;
+	}
+
+	public String getDataModelUuid() {
+
+		return dataModelUuid;
+	}
+
+	public Status getStatus() {
+
+		return status;
+	}
+
+	/**
+	 * @return the number of records that were emitted by the conversion of the data resource
+	 */
+	public long getRecordsParsed() {
+
+		return recordsParsed.get();
+	}
+
+	/**
+	 * @return the number of records that were handed over to the data hub writer
+	 */
+	public long getRecordsWritten() {
+
+		return recordsWritten.get();
+	}
+
+	public long getCreated() {
+
+		return created;
+	}
+
+	public Long getStarted() {
+
+		return started;
+	}
+
+	public Long getFinished() {
+
+		return finished;
+	}
+
+	public String getError() {
+
+		return error;
+	}
+
+	/**
+	 * Counts the given records as parsed records of the given (optional) job. A cancelled job will abort the processing of the records.
+	 *
+	 * @param records     the records emitted by the conversion
+	 * @param optionalJob the (optional) job of the ingest
+	 * @return the records
+	 */
+	public static <T> Observable<T> parsed(final Observable<T> records, final Optional<IngestJob> optionalJob) {
+
+		if (!optionalJob.isPresent()) {
+
+			return records;
+		}
+
+		final IngestJob job = optionalJob.get();
+
+		return records.doOnNext(record -> {
+
+			job.checkCancellation();
+			job.recordsParsed.incrementAndGet();
+		});
+	}
+
+	/**
+	 * Counts the given records as written records of the given (optional) job.
+	 *
+	 * @param records     the records that are handed over to the data hub writer
+	 * @param optionalJob the (optional) job of the ingest
+	 * @return the records
+	 */
+	public static <T> Observable<T> written(final Observable<T> records, final Optional<IngestJob> optionalJob) {
+
+		if (!optionalJob.isPresent()) {
+
+			return records;
+		}
+
+		final IngestJob job = optionalJob.get();
+
+		return records.doOnNext(record -> job.recordsWritten.incrementAndGet());
+	}
+
+	synchronized void setFuture(final Future<?> future) {
+
+		this.future = future;
+	}
+
+	/**
+	 * Marks this job as running.
+	 *
+	 * @return false, if this job was cancelled before it could be started; otherwise true
+	 */
+	synchronized boolean start() {
+
+		if (status != Status.QUEUED) {
+
+			return false;
+		}
+
+		status = Status.RUNNING;
+		started = System.currentTimeMillis();
+
+		return true;
+	}
+
+	synchronized void succeed() {
+
+		finish(Status.SUCCEEDED, null);
+	}
+
+	synchronized void fail(final Throwable throwable) {
+
+		if (cancellationRequested) {
+
+			finish(Status.CANCELLED, null);
+
+			return;
+		}
+
+		finish(Status.FAILED, throwable.getMessage() != null ? throwable.getMessage() : throwable.getClass().getName());
+	}
+
+	/**
+	 * Requests the cancellation of this job, i.e., a queued job won't be started and a running job will be aborted with the next parsed
+	 * record.<br/>
+	 * note: data that was already written to the data hub won't be removed
+	 *
+	 * @return false, if this job was already finished; otherwise true
+	 */
+	synchronized boolean cancel() {
+
+		if (status.isFinished()) {
+
+			return false;
+		}
+
+		cancellationRequested = true;
+
+		if (status == Status.QUEUED) {
+
+			finish(Status.CANCELLED, null);
+		}
+
+		if (future != null) {
+
+			future.cancel(true);
+		}
+
+		return true;
+	}
+
+	private void checkCancellation() {
+
+		if (cancellationRequested) {
+
+			throw new CancellationException(String.format("ingest job '%s' for data model '%s' was cancelled", uuid, dataModelUuid));
+		}
+	}
+
+	private void finish(final Status finalStatus, final String errorMessage) {
+
+		if (status.isFinished()) {
+
+			return;
+		}
+
+		status = finalStatus;
+		error = errorMessage;
+		finished = System.currentTimeMillis();
+	}
+
+	boolean isFinishedBefore(final long timestamp) {
+
+		final Long finishedTimestamp = finished;
+
+		return finishedTimestamp != null && finishedTimestamp < timestamp;
+	}
+}
@@ -0,0 +1,235 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.controller.jobs;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Optional;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.google.inject.persist.UnitOfWork;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.dswarm.init.ExecutionScope;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Executes ingests of data models asynchronously on a bounded pool of ingest workers, i.e., at most the configured number of ingests run
+ * concurrently on this node, further ingests are queued. Finished jobs are kept for the configured retention time, so that their final status
+ * can be requested.
+ */
+@Singleton
+public class IngestJobService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(IngestJobService.class);
+
+	private static final String DSWARM_INGEST_WORKER_THREAD_NAMING_PATTERN = "dswarm-ingest-worker-%d";
+
+	private final ConcurrentMap<String, IngestJob> jobs = new ConcurrentHashMap<>();
+
+	private final ThreadPoolExecutor executorService;
+	private final long               retention;
+	private final ExecutionScope     executionScope;
+	private final UnitOfWork         unitOfWork;
+
+	/**
+	 * An ingest, i.e., the conversion and persistence of the data of a data model.
+	 */
+	@FunctionalInterface
+	public interface Ingest {
+
+		/**
+		 * Executes the ingest.
+		 *
+		 * @param job the job of the ingest for progress reporting (and cancellation)
+		 * @throws Exception
+		 */
+		void run(final IngestJob job) throws Exception;
+	}
+
+	/**
+	 * @param concurrentJobs the maximum number of concurrently running ingests
+	 * @param retention      the time (in ms) finished jobs are kept
+	 * @param executionScope the execution scope that will be entered for every ingest
+	 * @param unitOfWork     the unit of work that will be started for every ingest
+	 * @param registry       the metric registry for the job statistics
+	 */
+	@Inject
+	public IngestJobService(
+			@Named("dswarm.ingest.concurrent-jobs") final long concurrentJobs,
+			@Named("dswarm.ingest.job-retention") final long retention,
+			final ExecutionScope executionScope,
+			final UnitOfWork unitOfWork,
+			final MetricRegistry registry) {
+
+		final int workers = (int) Math.max(1, concurrentJobs);
+
+		executorService = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+				new BasicThreadFactory.Builder().daemon(true).namingPattern(DSWARM_INGEST_WORKER_THREAD_NAMING_PATTERN).build());
+
+		this.retention = retention;
+		this.executionScope = executionScope;
+		this.unitOfWork = unitOfWork;
+
+		registerGauge(registry, "running", executorService::getActiveCount);
+		registerGauge(registry, "queued", () -> executorService.getQueue().size());
+	}
+
+	/**
+	 * Submits the given ingest of the given data model.
+	 *
+	 * @param dataModelUuid the identifier of the data model
+	 * @param ingest        the ingest
+	 * @return the job of the ingest
+	 */
+	public IngestJob submit(final String dataModelUuid, final Ingest ingest) {
+
+		removeExpiredJobs();
+
+		final IngestJob job = new IngestJob(dataModelUuid);
+
+		jobs.put(job.getUuid(), job);
+		job.setFuture(executorService.submit(() -> run(job, ingest)));
+
+		LOG.debug("submitted ingest job '{}' for data model '{}'", job.getUuid(), dataModelUuid);
+
+		return job;
+	}
+
+	/**
+	 * Gets the job with the given identifier.
+	 *
+	 * @param jobUuid the identifier of the job
+	 * @return (optional) the matched job
+	 */
+	public Optional<IngestJob> getJob(final String jobUuid) {
+
+		removeExpiredJobs();
+
+		return Optional.fromNullable(jobs.get(jobUuid));
+	}
+
+	/**
+	 * Gets all (known) jobs of the given data model.
+	 *
+	 * @param dataModelUuid the identifier of the data model
+	 * @return the jobs of the given data model (in the order of their creation)
+	 */
+	public List<IngestJob> getJobs(final String dataModelUuid) {
+
+		removeExpiredJobs();
+
+		return jobs.values().stream()
+				.filter(job -> dataModelUuid.equals(job.getDataModelUuid()))
+				.sorted((job1, job2) -> Long.compare(job1.getCreated(), job2.getCreated()))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Cancels the job with the given identifier.
+	 *
+	 * @param jobUuid the identifier of the job
+	 * @return (optional) the matched job
+	 */
+	public Optional<IngestJob> cancel(final String jobUuid) {
+
+		final Optional<IngestJob> optionalJob = getJob(jobUuid);
+
+		if (optionalJob.isPresent() && optionalJob.get().cancel()) {
+
+			LOG.debug("requested cancellation of ingest job '{}'", jobUuid);
+		}
+
+		return optionalJob;
+	}
+
+	private void run(final IngestJob job, final Ingest ingest) {
+
+		if (!job.start()) {
+
+			// job was cancelled while it was queued
+
+			return;
+		}
+
+		LOG.debug("start ingest job '{}' for data model '{}'", job.getUuid(), job.getDataModelUuid());
+
+		executionScope.enter();
+		unitOfWork.begin();
+
+		Throwable failure = null;
+
+		try {
+
+			ingest.run(job);
+		} catch (final Throwable e) {
+
+			failure = e;
+		} finally {
+
+			unitOfWork.end();
+			executionScope.leave();
+
+			// a cancellation might have interrupted this worker
+			Thread.interrupted();
+		}
+
+		// the final status will be set after the unit of work was ended, i.e., a finished job doesn't hold any resources anymore
+		if (failure == null) {
+
+			job.succeed();
+
+			LOG.debug("finished ingest job '{}' for data model '{}'", job.getUuid(), job.getDataModelUuid());
+		} else {
+
+			LOG.error("ingest job '{}' for data model '{}' failed", job.getUuid(), job.getDataModelUuid(), failure);
+
+			job.fail(failure);
+		}
+	}
+
+	private void removeExpiredJobs() {
+
+		final long expiredBefore = System.currentTimeMillis() - retention;
+
+		final Collection<IngestJob> expiredJobs = jobs.values().stream()
+				.filter(job -> job.isFinishedBefore(expiredBefore))
+				.collect(Collectors.toList());
+
+		expiredJobs.forEach(job -> jobs.remove(job.getUuid()));
+	}
+
+	private static void registerGauge(final MetricRegistry registry, final String gaugeName, final Gauge<Integer> gauge) {
+
+		final String metricName = name(IngestJobService.class, gaugeName);
+
+		registry.remove(metricName);
+		registry.register(metricName, gauge);
+	}
+}
@@ -27,7 +27,9 @@ import org.dswarm.controller.guice.DMPModule;
 import org.dswarm.controller.guice.DMPServletModule;
 import org.dswarm.converter.ConverterModule;
 import org.dswarm.init.ConfigModule;
+import org.dswarm.init.ExecutionScope;
 import org.dswarm.init.LoggingConfigurator;
+import org.dswarm.persistence.ExecutionScopeSchedulersHook;
 import org.dswarm.persistence.JacksonObjectMapperModule;
 import org.dswarm.persistence.JpaHibernateModule;
 import org.dswarm.persistence.PersistenceModule;
@@ -83,7 +85,7 @@ public class DMPInjector extends GuiceServletContextListener {
 		final Config config = configModule.getConfig();
 		LoggingConfigurator.configureFrom(config);
 
-		return Guice.createInjector(
+		final Injector injector = Guice.createInjector(
 				configModule,
 				new JpaHibernateModule(config),
 				new JacksonObjectMapperModule(),
@@ -92,5 +94,10 @@ public class DMPInjector extends GuiceServletContextListener {
 				new DMPModule(),
 				new DMPServletModule()
 		);
+
+		// propagate the execution scope to the threads of the RxJava schedulers (fails, if another schedulers hook is already registered)
+		ExecutionScopeSchedulersHook.register(injector.getInstance(ExecutionScope.class));
+
+		return injector;
 	}
 }
@@ -16,6 +16,7 @@
 package org.dswarm.controller.resources.job;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -33,9 +34,11 @@ import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 import com.codahale.metrics.annotation.Timed;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -57,9 +60,9 @@ import org.dswarm.common.types.Tuple;
 import org.dswarm.controller.DMPControllerException;
 import org.dswarm.controller.utils.DataModelUtil;
 import org.dswarm.converter.DMPConverterException;
+import org.dswarm.converter.flow.MorphScriptCache;
 import org.dswarm.converter.flow.TransformationFlow;
 import org.dswarm.converter.flow.TransformationFlowFactory;
-import org.dswarm.converter.morph.MorphScriptBuilder;
 import org.dswarm.persistence.monitoring.MonitoringLogger;
 import org.dswarm.persistence.monitoring.MonitoringHelper;
 import org.dswarm.persistence.model.job.Job;
@@ -87,6 +90,14 @@ public class TasksResource {
 	public static final String PERSIST_IDENTIFIER          = "persist";
 	public static final String RETURN_IDENTIFIER           = "do_not_return_data";
 	public static final String SELECTED_RECORDS_IDENTIFIER = "selected_records";
+	public static final String WORKERS_IDENTIFIER          = "workers";
+	public static final String PRESERVE_ORDER_IDENTIFIER   = "preserve_order";
+	public static final String STREAM_IDENTIFIER           = "stream";
+
+	/**
+	 * the maximum number of parallel transformation pipelines of a task execution
+	 */
+	private static final int MAX_WORKERS = Runtime.getRuntime().availableProcessors();
 
 	/**
 	 * The base URI of this resource.
@@ -105,6 +116,7 @@ public class TasksResource {
 	private final ObjectMapper objectMapper;
 
 	private final TransformationFlowFactory  transformationFlowFactory;
+	private final MorphScriptCache           morphScriptCache;
 	private final Provider<MonitoringLogger> monitoringLogger;
 
 	/**
@@ -113,6 +125,7 @@ public class TasksResource {
 	 * @param dataModelUtilArg the data model util
 	 * @param objectMapperArg  an object mapper
 	 * @param transformationFlowFactoryArg the factory for creating transformation flows
+	 * @param morphScriptCacheArg the cache of the morph scripts of tasks
 	 * @param monitoringLogger A logger that produces the logfiles for the monitoring
 	 */
 	@Inject
@@ -120,11 +133,13 @@ public class TasksResource {
 			final DataModelUtil dataModelUtilArg,
 			final ObjectMapper objectMapperArg,
 			final TransformationFlowFactory transformationFlowFactoryArg,
+			final MorphScriptCache morphScriptCacheArg,
 			@Named("Monitoring") final Provider<MonitoringLogger> monitoringLogger) {
 
 		dataModelUtil = dataModelUtilArg;
 		objectMapper = objectMapperArg;
 		transformationFlowFactory = transformationFlowFactoryArg;
+		morphScriptCache = morphScriptCacheArg;
 		this.monitoringLogger = monitoringLogger;
 	}
 
@@ -144,6 +159,9 @@ public class TasksResource {
 	 *     - selected_records: a set of selected record identifiers, i.e., the task will only be executed on these records
 	 *     - at_most: the number of result records that should be returned at most (optional)
 	 *     - persist: flag that indicates whether the result should be persisted in the datahub or not (optional)
+	 *     - workers: the number of parallel transformation pipelines, the records will be distributed to them by their identifier (optional, default 1, is limited by the number of available processors)
+	 *     - preserve_order: flag that indicates whether the result should be in the order of the input records at a parallel execution (optional, default true)
+	 *     - stream: flag that indicates whether the result records should be written to the response while they are transformed (optional, default false), i.e., the result isn't collected in memory; however, an error that occurs after the first record was written can only be recognised by an incomplete JSON array
 	 *
 	 * @param jsonObjectString a JSON representation of the request JSON (incl. task)
 	 * @return the result of the task execution
@@ -271,7 +289,7 @@ public class TasksResource {
 			throw new DMPConverterException(message);
 		}
 
-		final Observable<Tuple<String, JsonNode>> inputData;
+		final Observable<Tuple<String, org.dswarm.graph.json.Model>> inputData;
 
 		final Optional<Set<String>> optionalSelectedRecords = getStringSetValue(TasksResource.SELECTED_RECORDS_IDENTIFIER, requestJSON);
 
@@ -279,24 +297,30 @@ public class TasksResource {
 
 			// retrieve data only for selected records
 
-			inputData = dataModelUtil.getRecordsData(optionalSelectedRecords.get(), inputDataModel.getUuid());
+			inputData = dataModelUtil.getGDMRecordsData(optionalSelectedRecords.get(), inputDataModel.getUuid());
 		} else {
 
 			final Optional<Integer> optionalAtMost = getIntValue(TasksResource.AT_MOST_IDENTIFIER, requestJSON);
 
-			inputData = dataModelUtil.getData(inputDataModel.getUuid(), optionalAtMost);
+			inputData = dataModelUtil.getGDMData(inputDataModel.getUuid(), optionalAtMost);
 		}
 
 		final boolean writeResultToDatahub = getBooleanValue(TasksResource.PERSIST_IDENTIFIER, requestJSON, false);
 
 		final boolean doNotReturnJsonToCaller = getBooleanValue(TasksResource.RETURN_IDENTIFIER, requestJSON, false);
 
+		final int workers = Math.min(getIntValue(TasksResource.WORKERS_IDENTIFIER, requestJSON).or(1), TasksResource.MAX_WORKERS);
+
+		final boolean preserveOrder = getBooleanValue(TasksResource.PRESERVE_ORDER_IDENTIFIER, requestJSON, true);
+
+		final boolean streamResult = getBooleanValue(TasksResource.STREAM_IDENTIFIER, requestJSON, false);
+
 		final Observable<JsonNode> result;
 
 		try (final MonitoringHelper ignore = monitoringLogger.get().startExecution(task)) {
 
-			final TransformationFlow flow = transformationFlowFactory.fromTask(task);
-			result = flow.apply(inputData, writeResultToDatahub, doNotReturnJsonToCaller);
+			final TransformationFlow flow = morphScriptCache.fromTask(task, transformationFlowFactory);
+			result = flow.applyGDM(inputData, writeResultToDatahub, doNotReturnJsonToCaller, workers, preserveOrder);
 		}
 
 		if (result == null) {
@@ -337,6 +361,15 @@ public class TasksResource {
 			return;
 		}
 
+		if (streamResult) {
+
+			TasksResource.LOG.debug("stream result of task execution to caller");
+
+			asyncResponse.resume(Response.ok(new StreamingResult(result)).build());
+
+			return;
+		}
+
 		// transform model json to fe friendly json
 		final ArrayNode feFriendlyJSON = objectMapper.createArrayNode();
 
@@ -418,7 +451,65 @@ public class TasksResource {
 			throw new DMPConverterException("there is are no mappings for this job of this task");
 		}
 
-		return new MorphScriptBuilder().apply(task).toString();
+		return morphScriptCache.getMorphScript(task);
+	}
+
+	/**
+	 * Writes the (FE friendly) result records of a task execution as JSON array to the response, while they are delivered by the
+	 * transformation, i.e., the transformation is subscribed not until the response is written. Every record is written on the thread that
+	 * emits it. Hence, a slow consumer blocks the transformation instead of letting the result pile up in memory.
+	 */
+	private class StreamingResult implements StreamingOutput {
+
+		private final Observable<JsonNode> result;
+
+		private StreamingResult(final Observable<JsonNode> resultArg) {
+
+			result = resultArg;
+		}
+
+		@Override
+		public void write(final OutputStream output) throws IOException {
+
+			// the generator (and the response output stream) is closed on errors as well, but an incomplete array isn't closed, i.e., the
+			// caller doesn't get a truncated result that looks complete
+			try (final JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+					.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+
+				generator.writeStartArray();
+
+				try {
+
+					result.toBlocking().forEach(jsonNode -> {
+
+						try {
+
+							objectMapper.writeTree(generator, transformModelJSONtoFEFriendlyJSON(jsonNode));
+						} catch (final IOException e) {
+
+							throw new RuntimeException(e);
+						}
+					});
+				} catch (final RuntimeException e) {
+
+					final String message = "couldn't stream result of task execution";
+
+					TasksResource.LOG.error(message, e);
+
+					if (e.getCause() instanceof IOException) {
+
+						throw (IOException) e.getCause();
+					}
+
+					throw new IOException(message, e);
+				}
+
+				generator.writeEndArray();
+				generator.flush();
+			}
+
+			TasksResource.LOG.debug("processed task successfully, streamed data to caller");
+		}
 	}
 
 	private JsonNode transformModelJSONtoFEFriendlyJSON(final JsonNode resultJSON) {
@@ -42,6 +42,7 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 
 import com.codahale.metrics.annotation.Timed;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -72,6 +73,8 @@ import org.dswarm.controller.eventbus.XMLConverterEvent;
 import org.dswarm.controller.eventbus.XMLConverterEventRecorder;
 import org.dswarm.controller.eventbus.XMLSchemaEvent;
 import org.dswarm.controller.eventbus.XMLSchemaEventRecorder;
+import org.dswarm.controller.jobs.IngestJob;
+import org.dswarm.controller.jobs.IngestJobService;
 import org.dswarm.controller.resources.ExtendedMediumBasicDMPResource;
 import org.dswarm.controller.resources.POJOFormat;
 import org.dswarm.controller.resources.resource.utils.ExportUtils;
@@ -115,6 +118,8 @@ public class DataModelsResource extends ExtendedMediumBasicDMPResource<DataModel
 	private final Provider<CSVConverterEventRecorder> csvConverterEventRecorderProvider;
 	private final Provider<XMLConverterEventRecorder> xmlConvertEventRecorderProvider;
 
+	private final IngestJobService ingestJobService;
+
 	// this is likely to be http://localhost:7474/graph
 	private final String graphEndpoint;
 
@@ -129,6 +134,7 @@ public class DataModelsResource extends ExtendedMediumBasicDMPResource<DataModel
 	 * @param xmlSchemaEventRecorderProviderArg
 	 * @param csvConverterEventRecorderProviderArg
 	 * @param xmlConverterEventRecorderProviderArg
+	 * @param ingestJobServiceArg                  the service that runs asynchronous data model ingests
 	 * @param graphEndpointArg
 	 * @throws DMPControllerException
 	 */
@@ -141,6 +147,7 @@ public class DataModelsResource extends ExtendedMediumBasicDMPResource<DataModel
 			final Provider<XMLSchemaEventRecorder> xmlSchemaEventRecorderProviderArg,
 			final Provider<CSVConverterEventRecorder> csvConverterEventRecorderProviderArg,
 			final Provider<XMLConverterEventRecorder> xmlConverterEventRecorderProviderArg,
+			final IngestJobService ingestJobServiceArg,
 			@Named("dswarm.db.graph.endpoint") final String graphEndpointArg) throws DMPControllerException {
 
 		super(DataModel.class, persistenceServiceProviderArg, objectMapperProviderArg);
@@ -150,6 +157,7 @@ public class DataModelsResource extends ExtendedMediumBasicDMPResource<DataModel
 		xmlSchemaEventRecorderProvider = xmlSchemaEventRecorderProviderArg;
 		csvConverterEventRecorderProvider = csvConverterEventRecorderProviderArg;
 		xmlConvertEventRecorderProvider = xmlConverterEventRecorderProviderArg;
+		ingestJobService = ingestJobServiceArg;
 		graphEndpoint = graphEndpointArg;
 	}
 
@@ -247,14 +255,18 @@ public class DataModelsResource extends ExtendedMediumBasicDMPResource<DataModel
 	}
 
 	/**
-	 * This endpoint consumes a data model uuid and updates the data model content in the datahub.
+	 * This endpoint consumes a data model uuid and updates the data model content in the datahub. If the update should be processed
+	 * asynchronously, an ingest job will be queued and returned immediately. The progress of this job can be retrieved via the jobs endpoint
+	 * of the data model.
 	 *
 	 * @param uuid             a data model identifier
-	 * @return the updated data model as JSON representation
+	 * @param async            true, if the update should be processed as asynchronous ingest job
+	 * @return the updated data model as JSON representation or the queued ingest job (if the update is processed asynchronously)
 	 * @throws DMPControllerException
 	 */
-	@ApiOperation(value = "update data model with given id ", notes = "Returns an updated DataModel object.")
+	@ApiOperation(value = "update data model with given id ", notes = "Returns an updated DataModel object or, if processed asynchronously, the queued ingest job.")
 	@ApiResponses(value = { @ApiResponse(code = 200, message = "data model was successfully updated"),
+			@ApiResponse(code = 202, message = "ingest job was successfully queued"),
 			@ApiResponse(code = 404, message = "could not find a data model for the given id"),
 			@ApiResponse(code = 500, message = "internal processing error (see body for details)") })
 	@Timed
@@ -262,7 +274,8 @@ public class DataModelsResource extends ExtendedMediumBasicDMPResource<DataModel
 	@Path("/{id}/data")
 	public Response updateDataModelData(@ApiParam(value = "data model identifier", required = true) @PathParam("id") final String uuid,
 			@ApiParam(value = "update format", required = false) @QueryParam("format") @DefaultValue("full") final UpdateFormat updateFormat,
-			@ApiParam(value = "enable versioning", required = false) @QueryParam("enableVersioning") @DefaultValue("true") final boolean enableVersioning)
+			@ApiParam(value = "enable versioning", required = false) @QueryParam("enableVersioning") @DefaultValue("true") final boolean enableVersioning,
+			@ApiParam(value = "process the update as asynchronous ingest job", required = false) @QueryParam("async") @DefaultValue("false") final boolean async)
 			throws DMPControllerException {
 
 		DataModelsResource.LOG.debug("try to update {} '{}'", pojoClassName, uuid);
@@ -274,8 +287,29 @@ public class DataModelsResource extends ExtendedMediumBasicDMPResource<DataModel
 			return Response.status(Status.NOT_FOUND).build();
 		}
 
+		if (async) {
+
+			final IngestJob ingestJob = ingestJobService.submit(uuid, job -> {
+
+				// the data model needs to be retrieved in the unit of work of the ingest job
+				final DataModel dataModel = persistenceServiceProvider.get().getObject(uuid);
+
+				if (dataModel == null) {
+
+					throw new DMPControllerException(String.format("couldn't find data model '%s' for ingest job '%s'", uuid, job.getUuid()));
+				}
+
+				updateDataModelContent(new ProxyDataModel(dataModel, RetrievalType.RETRIEVED), dataModel, updateFormat, enableVersioning,
+						Optional.of(job));
+			});
+
+			DataModelsResource.LOG.debug("queued ingest job '{}' for data model '{}'", ingestJob.getUuid(), uuid);
+
+			return Response.status(Status.ACCEPTED).entity(serializeIngestJobs(ingestJob)).type(MediaType.APPLICATION_JSON_TYPE).build();
+		}
+
 		final ProxyDataModel updatedProxyDataModel = updateDataModelContent(new ProxyDataModel(objectFromDB, RetrievalType.RETRIEVED), objectFromDB,
-				updateFormat, enableVersioning);
+				updateFormat, enableVersioning, Optional.absent());
 
 		if (updatedProxyDataModel == null) {
 
@@ -305,6 +339,90 @@ public class DataModelsResource extends ExtendedMediumBasicDMPResource<DataModel
 		return Response.ok().build();
 	}
 
+	/**
+	 * This endpoint returns the (recent) ingest jobs of the data model that matches the given id.
+	 *
+	 * @param uuid a data model identifier
+	 * @return the ingest jobs of the data model as JSON representation
+	 * @throws DMPControllerException
+	 */
+	@ApiOperation(value = "get the ingest jobs of the data model that matches the given id", notes = "Returns the queued, running and recently finished ingest jobs of the data model.")
+	@ApiResponses(value = { @ApiResponse(code = 200, message = "returns the ingest jobs (as JSON) of the data model"),
+			@ApiResponse(code = 500, message = "internal processing error (see body for details)") })
+	@GET
+	@Path("/{id}/jobs")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response getIngestJobs(@ApiParam(value = "data model identifier", required = true) @PathParam("id") final String uuid)
+			throws DMPControllerException {
+
+		DataModelsResource.LOG.debug("try to get ingest jobs for data model '{}'", uuid);
+
+		return buildResponse(serializeIngestJobs(ingestJobService.getJobs(uuid)));
+	}
+
+	/**
+	 * This endpoint returns the ingest job that matches the given job id.
+	 *
+	 * @param uuid  a data model identifier
+	 * @param jobId an ingest job identifier
+	 * @return the ingest job as JSON representation
+	 * @throws DMPControllerException
+	 */
+	@ApiOperation(value = "get the ingest job that matches the given id", notes = "Returns the status and the progress of the ingest job.")
+	@ApiResponses(value = { @ApiResponse(code = 200, message = "returns the ingest job (as JSON) that matches the given id"),
+			@ApiResponse(code = 404, message = "could not find an ingest job for the given id"),
+			@ApiResponse(code = 500, message = "internal processing error (see body for details)") })
+	@GET
+	@Path("/{id}/jobs/{jobid}")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response getIngestJob(@ApiParam(value = "data model identifier", required = true) @PathParam("id") final String uuid,
+			@ApiParam(value = "ingest job identifier", required = true) @PathParam("jobid") final String jobId) throws DMPControllerException {
+
+		DataModelsResource.LOG.debug("try to get ingest job '{}' of data model '{}'", jobId, uuid);
+
+		final Optional<IngestJob> optionalJob = ingestJobService.getJob(jobId);
+
+		if (!optionalJob.isPresent() || !uuid.equals(optionalJob.get().getDataModelUuid())) {
+
+			return Response.status(Status.NOT_FOUND).build();
+		}
+
+		return buildResponse(serializeIngestJobs(optionalJob.get()));
+	}
+
+	/**
+	 * This endpoint cancels the ingest job that matches the given job id. Records that were already written to the datahub won't be
+	 * removed.
+	 *
+	 * @param uuid  a data model identifier
+	 * @param jobId an ingest job identifier
+	 * @return the ingest job as JSON representation
+	 * @throws DMPControllerException
+	 */
+	@ApiOperation(value = "cancel the ingest job that matches the given id", notes = "Returns the ingest job; the job will stop at the next record.")
+	@ApiResponses(value = { @ApiResponse(code = 200, message = "cancellation of the ingest job was requested"),
+			@ApiResponse(code = 404, message = "could not find an ingest job for the given id"),
+			@ApiResponse(code = 500, message = "internal processing error (see body for details)") })
+	@DELETE
+	@Path("/{id}/jobs/{jobid}")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response cancelIngestJob(@ApiParam(value = "data model identifier", required = true) @PathParam("id") final String uuid,
+			@ApiParam(value = "ingest job identifier", required = true) @PathParam("jobid") final String jobId) throws DMPControllerException {
+
+		DataModelsResource.LOG.debug("try to cancel ingest job '{}' of data model '{}'", jobId, uuid);
+
+		final Optional<IngestJob> optionalJob = ingestJobService.getJob(jobId);
+
+		if (!optionalJob.isPresent() || !uuid.equals(optionalJob.get().getDataModelUuid())) {
+
+			return Response.status(Status.NOT_FOUND).build();
+		}
+
+		ingestJobService.cancel(jobId);
+
+		return buildResponse(serializeIngestJobs(optionalJob.get()));
+	}
+
 	/**
 	 * Returns the data for matched records of a given data model.
 	 *
@@ -747,7 +865,7 @@ public class DataModelsResource extends ExtendedMediumBasicDMPResource<DataModel
 			return proxyDataModel;
 		}
 
-		return updateDataModelContent(newProxyDataModel, newDataModel, UpdateFormat.FULL, enableVersioning);
+		return updateDataModelContent(newProxyDataModel, newDataModel, UpdateFormat.FULL, enableVersioning, Optional.absent());
 	}
 
 	private ProxyDataModel addConfigurationToDataResource(final ProxyDataModel proxyDataModel, final DataModel dataModel)
@@ -808,7 +926,7 @@ public class DataModelsResource extends ExtendedMediumBasicDMPResource<DataModel
 	}
 
 	private ProxyDataModel updateDataModelContent(final ProxyDataModel proxyDataModel, final DataModel dataModel, final UpdateFormat updateFormat,
-			final boolean enableVersioning) throws DMPControllerException {
+			final boolean enableVersioning, final Optional<IngestJob> optionalJob) throws DMPControllerException {
 
 		// final Timer.Context context = dmpStatus.createNewConfiguration();
 
@@ -854,7 +972,7 @@ public class DataModelsResource extends ExtendedMediumBasicDMPResource<DataModel
 
 					// eventBusProvider.get().post(new CSVConverterEvent(dataModel));
 
-					final CSVConverterEvent csvConverterEvent = new CSVConverterEvent(dataModel, updateFormat, enableVersioning);
+					final CSVConverterEvent csvConverterEvent = new CSVConverterEvent(dataModel, updateFormat, enableVersioning, optionalJob);
 					csvConverterEventRecorderProvider.get().convertConfiguration(csvConverterEvent);
 
 					break;
@@ -868,7 +986,7 @@ public class DataModelsResource extends ExtendedMediumBasicDMPResource<DataModel
 
 					// eventBusProvider.get().post(new XMLConverterEvent(dataModel));
 
-					final XMLConverterEvent xmlConverterEvent = new XMLConverterEvent(dataModel, updateFormat, enableVersioning);
+					final XMLConverterEvent xmlConverterEvent = new XMLConverterEvent(dataModel, updateFormat, enableVersioning, optionalJob);
 					xmlConvertEventRecorderProvider.get().processDataModel(xmlConverterEvent);
 
 					break;
@@ -883,6 +1001,17 @@ public class DataModelsResource extends ExtendedMediumBasicDMPResource<DataModel
 		return new ProxyDataModel(freshDataModel, type);
 	}
 
+	private String serializeIngestJobs(final Object ingestJobs) throws DMPControllerException {
+
+		try {
+
+			return objectMapperProvider.get().writeValueAsString(ingestJobs);
+		} catch (final JsonProcessingException e) {
+
+			throw new DMPControllerException("couldn't serialize ingest job(s) to JSON", e);
+		}
+	}
+
 	private void getDataInternal(final String uuid, final Integer atMost, final AsyncResponse asyncResponse) throws DMPControllerException {
 
 		// final Timer.Context context = dmpStatus.getConfigurationData();
@@ -20,18 +20,30 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import javax.inject.Inject;
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
 import javax.ws.rs.POST;
+import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
 
 import com.codahale.metrics.annotation.Timed;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.inject.Provider;
 import com.google.inject.servlet.RequestScoped;
@@ -49,10 +61,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.dswarm.controller.DMPControllerException;
+import org.dswarm.converter.DMPConverterException;
+import org.dswarm.converter.morph.lookup.LookupTable;
+import org.dswarm.converter.morph.lookup.LookupTableStore;
 import org.dswarm.persistence.model.resource.utils.ConfigurationStatics;
 
 /**
- * for lookup table file processing
+ * for lookup table file processing and the server-side (named) lookup tables that can be referenced from morph scripts (see
+ * {@link LookupTableStore})
  *
  * @author tgaengler
  */
@@ -67,12 +83,19 @@ public class LookupResource {
 	private static final char   quoteCharacter  = ConfigurationStatics.DEFAULT_QUOTE_CHARACTER;
 	private static final String lineEnding      = ConfigurationStatics.DEFAULT_ROW_DELIMITER;
 
+	private static final String NAME_PROPERTY = "name";
+
+	private static final String SIZE_PROPERTY = "size";
+
 	private final Provider<ObjectMapper> objectMapperProvider;
 
+	private final LookupTableStore lookupTableStore;
+
 	@Inject
-	public LookupResource(final Provider<ObjectMapper> objectMapperProviderArg) {
+	public LookupResource(final Provider<ObjectMapper> objectMapperProviderArg, final LookupTableStore lookupTableStoreArg) {
 
 		objectMapperProvider = objectMapperProviderArg;
+		lookupTableStore = lookupTableStoreArg;
 	}
 
 	/**
@@ -99,9 +122,217 @@ public class LookupResource {
 
 		LookupResource.LOG.debug("try to process lookup table file '{}'", lookupTableFileDetail.getFileName());
 
+		final Map<String, String> lookupTable = new LinkedHashMap<>();
+
+		readLookupTableFile(lookupTableFileInputStream, columnDelimiter, lookupTable::put);
+
+		final ObjectNode json = objectMapperProvider.get().createObjectNode();
+
+		for (final Map.Entry<String, String> entry : lookupTable.entrySet()) {
+
+			json.put(entry.getKey(), entry.getValue());
+		}
+
+		final String jsonString = serializeLookupTableJSON(json);
+
+		LookupResource.LOG.debug("successfully processed lookup table file '{}'", lookupTableFileDetail.getFileName());
+
+		return Response.ok(jsonString).build();
+	}
+
+	/**
+	 * Stores an uploaded lookup table file as server-side lookup table with the given name. An existing lookup table with this name will be
+	 * replaced. A stored lookup table can be referenced by name from a lookup function of a task (parameter 'lookupTable'), i.e., its entries
+	 * don't need to be inlined into the task.
+	 *
+	 * @param tableName                  the name of the lookup table
+	 * @param lookupTableFileInputStream the input stream of the lookup table file
+	 * @param lookupTableFileDetail      lookup table file metadata
+	 * @param columnDelimiter            the column delimiter of the lookup table
+	 * @return the name and the number of entries of the stored lookup table
+	 * @throws DMPControllerException
+	 */
+	@ApiOperation(value = "upload a lookup table file and store it as lookup table with the given name", notes = "Returns the name and the number of entries of the stored lookup table")
+	@ApiResponses(value = { @ApiResponse(code = 200, message = "lookup table file was successfully stored"),
+			@ApiResponse(code = 400, message = "the lookup table name is invalid"),
+			@ApiResponse(code = 500, message = "internal processing error (see body for details)") })
+	@Timed
+	@PUT
+	@Path("/tables/{name}")
+	@Consumes(MediaType.MULTIPART_FORM_DATA)
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response storeLookupTable(@ApiParam(value = "lookup table name", required = true) @PathParam("name") final String tableName,
+			@ApiParam(value = "lookup table file input stream", required = true) @FormDataParam("file") final InputStream lookupTableFileInputStream,
+			@ApiParam("lookup table file metadata") @FormDataParam("file") final FormDataContentDisposition lookupTableFileDetail,
+			@ApiParam(value = "lookup table column delimiter", required = true) @FormDataParam("column_delimiter") final String columnDelimiter)
+			throws DMPControllerException {
+
+		LookupResource.LOG.debug("try to store lookup table file '{}' as lookup table '{}'", lookupTableFileDetail.getFileName(), tableName);
+
+		checkTableName(tableName);
+
+		final LookupTable.Builder entries = new LookupTable.Builder();
+
+		readLookupTableFile(lookupTableFileInputStream, columnDelimiter, entries::put);
+
+		final LookupTable lookupTable;
+
+		try {
+
+			lookupTable = lookupTableStore.put(tableName, entries);
+		} catch (final DMPConverterException e) {
+
+			LookupResource.LOG.error(e.getMessage(), e);
+
+			throw new DMPControllerException(e.getMessage());
+		}
+
+		LookupResource.LOG.debug("successfully stored lookup table '{}' with '{}' entries", tableName, lookupTable.size());
+
+		return Response.ok(serializeLookupTableJSON(describeLookupTable(tableName, lookupTable))).build();
+	}
+
+	/**
+	 * Returns the names and the number of entries of all stored lookup tables.
+	 *
+	 * @return the names and the number of entries of all stored lookup tables
+	 * @throws DMPControllerException
+	 */
+	@ApiOperation(value = "get all stored lookup tables", notes = "Returns the names and the number of entries of all stored lookup tables")
+	@ApiResponses(value = { @ApiResponse(code = 200, message = "returns the stored lookup tables"),
+			@ApiResponse(code = 500, message = "internal processing error (see body for details)") })
+	@Timed
+	@GET
+	@Path("/tables")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response getLookupTables() throws DMPControllerException {
+
+		final ArrayNode json = objectMapperProvider.get().createArrayNode();
+
+		try {
+
+			for (final String tableName : lookupTableStore.getNames()) {
+
+				final Optional<LookupTable> optionalLookupTable = lookupTableStore.get(tableName);
+
+				if (optionalLookupTable.isPresent()) {
+
+					json.add(describeLookupTable(tableName, optionalLookupTable.get()));
+				}
+			}
+		} catch (final DMPConverterException e) {
+
+			LookupResource.LOG.error(e.getMessage(), e);
+
+			throw new DMPControllerException(e.getMessage());
+		}
+
+		return Response.ok(serializeLookupTableJSON(json)).build();
+	}
+
+	/**
+	 * Returns the name and the number of entries of the stored lookup table with the given name.
+	 *
+	 * @param tableName the name of the lookup table
+	 * @return the name and the number of entries of the lookup table
+	 * @throws DMPControllerException
+	 */
+	@ApiOperation(value = "get the stored lookup table with the given name", notes = "Returns the name and the number of entries of the lookup table")
+	@ApiResponses(value = { @ApiResponse(code = 200, message = "returns the lookup table"),
+			@ApiResponse(code = 400, message = "the lookup table name is invalid"),
+			@ApiResponse(code = 404, message = "could not find a lookup table for the given name"),
+			@ApiResponse(code = 500, message = "internal processing error (see body for details)") })
+	@Timed
+	@GET
+	@Path("/tables/{name}")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response getLookupTable(@ApiParam(value = "lookup table name", required = true) @PathParam("name") final String tableName)
+			throws DMPControllerException {
+
+		checkTableName(tableName);
+
+		final Optional<LookupTable> optionalLookupTable;
+
+		try {
+
+			optionalLookupTable = lookupTableStore.get(tableName);
+		} catch (final DMPConverterException e) {
+
+			LookupResource.LOG.error(e.getMessage(), e);
+
+			throw new DMPControllerException(e.getMessage());
+		}
+
+		if (!optionalLookupTable.isPresent()) {
+
+			return Response.status(Status.NOT_FOUND).build();
+		}
+
+		return Response.ok(serializeLookupTableJSON(describeLookupTable(tableName, optionalLookupTable.get()))).build();
+	}
+
+	/**
+	 * Deletes the stored lookup table with the given name.
+	 *
+	 * @param tableName the name of the lookup table
+	 * @return 204, if the lookup table was deleted
+	 * @throws DMPControllerException
+	 */
+	@ApiOperation(value = "delete the stored lookup table with the given name")
+	@ApiResponses(value = { @ApiResponse(code = 204, message = "lookup table was successfully deleted"),
+			@ApiResponse(code = 400, message = "the lookup table name is invalid"),
+			@ApiResponse(code = 404, message = "could not find a lookup table for the given name"),
+			@ApiResponse(code = 500, message = "internal processing error (see body for details)") })
+	@Timed
+	@DELETE
+	@Path("/tables/{name}")
+	public Response deleteLookupTable(@ApiParam(value = "lookup table name", required = true) @PathParam("name") final String tableName)
+			throws DMPControllerException {
+
+		checkTableName(tableName);
+
+		final boolean deleted;
+
+		try {
+
+			deleted = lookupTableStore.delete(tableName);
+		} catch (final DMPConverterException e) {
+
+			LookupResource.LOG.error(e.getMessage(), e);
+
+			throw new DMPControllerException(e.getMessage());
+		}
+
+		if (!deleted) {
+
+			return Response.status(Status.NOT_FOUND).build();
+		}
+
+		LookupResource.LOG.debug("deleted lookup table '{}'", tableName);
+
+		return Response.noContent().build();
+	}
+
+	private static void checkTableName(final String tableName) {
+
+		try {
+
+			LookupTableStore.checkName(tableName);
+		} catch (final DMPConverterException e) {
+
+			throw new BadRequestException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Parses the given lookup table file and hands each entry over to the given consumer, i.e., the entries aren't collected in between.
+	 */
+	private void readLookupTableFile(final InputStream lookupTableFileInputStream, final String columnDelimiter,
+			final BiConsumer<String, String> entryConsumer) throws DMPControllerException {
+
 		if (lookupTableFileInputStream == null) {
 
-			final String message = "couldn't process lookup table file to JSON, because the lookup table file input stream was null";
+			final String message = "couldn't process lookup table file, because the lookup table file input stream was null";
 
 			LookupResource.LOG.error(message);
 
@@ -124,12 +355,18 @@ public class LookupResource {
 				.withRecordSeparator(lineEnding).withIgnoreEmptyLines(true).withIgnoreSurroundingSpaces(true);
 
 		final CSVParser parser = createParser(reader, csvFormat);
-		final ObjectNode json = parseLookupTable(parser);
-		final String jsonString = serializeLookupTableJSON(json);
 
-		LookupResource.LOG.debug("successfully processed lookup table file '{}'", lookupTableFileDetail.getFileName());
+		parseLookupTable(parser, entryConsumer);
+	}
 
-		return Response.ok(jsonString).build();
+	private ObjectNode describeLookupTable(final String tableName, final LookupTable lookupTable) {
+
+		final ObjectNode json = objectMapperProvider.get().createObjectNode();
+
+		json.put(NAME_PROPERTY, tableName);
+		json.put(SIZE_PROPERTY, lookupTable.size());
+
+		return json;
 	}
 
 	private CSVParser createParser(Reader reader, CSVFormat csvFormat) throws DMPControllerException {
@@ -147,12 +384,10 @@ public class LookupResource {
 		}
 	}
 
-	private ObjectNode parseLookupTable(final CSVParser parser) throws DMPControllerException {
+	private void parseLookupTable(final CSVParser parser, final BiConsumer<String, String> entryConsumer) throws DMPControllerException {
 
 		final Iterator<CSVRecord> csvIter = parser.iterator();
 
-		final ObjectNode json = objectMapperProvider.get().createObjectNode();
-
 		while (csvIter.hasNext()) {
 
 			final CSVRecord csvRecord = csvIter.next();
@@ -169,19 +404,17 @@ public class LookupResource {
 			final String key = csvRecord.get(0).trim();
 			final String value = csvRecord.get(1).trim();
 
-			json.put(key, value);
+			entryConsumer.accept(key, value);
 		}
-
-		return json;
 	}
 
-	private String serializeLookupTableJSON(final ObjectNode objectNode) throws DMPControllerException {
+	private String serializeLookupTableJSON(final JsonNode jsonNode) throws DMPControllerException {
 
 		String objectJSONString;
 
 		try {
 
-			objectJSONString = objectMapperProvider.get().writeValueAsString(objectNode);
+			objectJSONString = objectMapperProvider.get().writeValueAsString(jsonNode);
 		} catch (final JsonProcessingException e) {
 
 			final String message = "couldn't process lookup table to JSON, because couldn't serialize JSON.";
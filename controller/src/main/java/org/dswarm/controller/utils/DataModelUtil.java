@@ -37,6 +37,7 @@ import org.dswarm.common.types.Tuple;
 import org.dswarm.controller.DMPControllerException;
 import org.dswarm.persistence.DMPPersistenceException;
 import org.dswarm.persistence.model.internal.Model;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
 import org.dswarm.persistence.model.resource.Configuration;
 import org.dswarm.persistence.model.resource.DataModel;
 import org.dswarm.persistence.model.resource.Resource;
@@ -90,6 +91,23 @@ public class DataModelUtil {
 	 */
 	public Observable<Tuple<String, JsonNode>> getData(final String dataModelUuid, final Optional<Integer> atMost) {
 
+		return getModels(dataModelUuid, atMost).map(this::transformDataNode);
+	}
+
+	/**
+	 * Gets the data of the given data model and maximum in the given amount as GDM models, i.e., without converting them to JSON.
+	 *
+	 * @param dataModelUuid the identifier of the data model
+	 * @param atMost        the number of records that should be retrieved
+	 * @return the data of the given data model
+	 */
+	public Observable<Tuple<String, org.dswarm.graph.json.Model>> getGDMData(final String dataModelUuid, final Optional<Integer> atMost) {
+
+		return getModels(dataModelUuid, atMost).map(this::transformDataResource);
+	}
+
+	private Observable<Tuple<String, Model>> getModels(final String dataModelUuid, final Optional<Integer> atMost) {
+
 		DataModelUtil.LOG.debug(String.format("try to get data for data model with id [%s]", dataModelUuid));
 
 		final InternalModelService internalService = internalServiceFactoryProvider.get().getInternalGDMGraphService();
@@ -105,7 +123,7 @@ public class DataModelUtil {
 			return Observable.empty();
 		}
 
-		return modelObservable.map(this::transformDataNode);
+		return modelObservable;
 	}
 
 	/**
@@ -117,6 +135,25 @@ public class DataModelUtil {
 	 */
 	public Observable<Tuple<String, JsonNode>> getRecordsData(final Set<String> recordIdentifiers, final String dataModelUuid) {
 
+		return getRecordModels(recordIdentifiers, dataModelUuid).map(this::transformDataNode);
+	}
+
+	/**
+	 * Gets the data of the records with the given record identifier in the given data model as GDM models, i.e., without converting them to
+	 * JSON.
+	 *
+	 * @param recordIdentifiers the record identifiers
+	 * @param dataModelUuid the identifier of the data model
+	 * @return the data of the given data model
+	 */
+	public Observable<Tuple<String, org.dswarm.graph.json.Model>> getGDMRecordsData(final Set<String> recordIdentifiers,
+			final String dataModelUuid) {
+
+		return getRecordModels(recordIdentifiers, dataModelUuid).map(this::transformDataResource);
+	}
+
+	private Observable<Tuple<String, Model>> getRecordModels(final Set<String> recordIdentifiers, final String dataModelUuid) {
+
 		DataModelUtil.LOG.debug(String.format("try to get record's data for some records in data model with id [%s]", dataModelUuid));
 
 		final InternalModelService internalService = internalServiceFactoryProvider.get().getInternalGDMGraphService();
@@ -132,7 +169,7 @@ public class DataModelUtil {
 			return Observable.empty();
 		}
 
-		return maybeTriples.map(this::transformDataNode);
+		return maybeTriples;
 	}
 
 	/**
@@ -335,4 +372,18 @@ public class DataModelUtil {
 		final JsonNode jsonNode = input.v2().toRawJSON();
 		return Tuple.tuple(recordId, jsonNode);
 	}
+
+	private Tuple<String, org.dswarm.graph.json.Model> transformDataResource(final Tuple<String, Model> input) {
+		final String recordId = input.v1();
+		final Model model = input.v2();
+
+		if (!(model instanceof GDMModel)) {
+
+			throw new IllegalStateException(String.format("the data of record '%s' is no GDM model (but a '%s')", recordId,
+					model == null ? null : model.getClass().getSimpleName()));
+		}
+
+		// keep the whole model, i.e., nested resource nodes can be resolved against all resources of the record (as in the JSON route)
+		return Tuple.tuple(recordId, ((GDMModel) model).getModel());
+	}
 }
@@ -0,0 +1,217 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.controller.jobs.test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Optional;
+import com.google.inject.persist.UnitOfWork;
+import org.hamcrest.CoreMatchers;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Observable;
+
+import org.dswarm.controller.jobs.IngestJob;
+import org.dswarm.controller.jobs.IngestJobService;
+import org.dswarm.init.ExecutionScope;
+
+public class IngestJobServiceTest {
+
+	private static final String DATA_MODEL_UUID = "DataModel-1";
+
+	private static final long RETENTION = TimeUnit.HOURS.toMillis(1);
+
+	private final CountingUnitOfWork unitOfWork = new CountingUnitOfWork();
+
+	@Test
+	public void testSucceededJob() throws Exception {
+
+		final IngestJobService service = createService(1, RETENTION);
+
+		final IngestJob job = service.submit(DATA_MODEL_UUID,
+				ingestJob -> IngestJob.written(IngestJob.parsed(Observable.range(0, 3), Optional.of(ingestJob)), Optional.of(ingestJob))
+						.toBlocking().last());
+
+		awaitFinished(job);
+
+		Assert.assertThat(job.getStatus(), CoreMatchers.equalTo(IngestJob.Status.SUCCEEDED));
+		Assert.assertThat(job.getRecordsParsed(), CoreMatchers.equalTo(3L));
+		Assert.assertThat(job.getRecordsWritten(), CoreMatchers.equalTo(3L));
+		Assert.assertNotNull(job.getStarted());
+		Assert.assertNotNull(job.getFinished());
+		Assert.assertNull(job.getError());
+
+		// every ingest runs in its own unit of work
+		Assert.assertThat(unitOfWork.begun.get(), CoreMatchers.equalTo(1));
+		Assert.assertThat(unitOfWork.ended.get(), CoreMatchers.equalTo(1));
+	}
+
+	@Test
+	public void testFailedJob() throws Exception {
+
+		final IngestJobService service = createService(1, RETENTION);
+
+		final IngestJob job = service.submit(DATA_MODEL_UUID, ingestJob -> {
+
+			throw new IllegalStateException("couldn't read data resource");
+		});
+
+		awaitFinished(job);
+
+		Assert.assertThat(job.getStatus(), CoreMatchers.equalTo(IngestJob.Status.FAILED));
+		Assert.assertThat(job.getError(), CoreMatchers.equalTo("couldn't read data resource"));
+		Assert.assertThat(unitOfWork.ended.get(), CoreMatchers.equalTo(1));
+	}
+
+	@Test
+	public void testCancelRunningJob() throws Exception {
+
+		final IngestJobService service = createService(1, RETENTION);
+
+		final CountDownLatch running = new CountDownLatch(1);
+
+		final IngestJob job = service.submit(DATA_MODEL_UUID,
+				ingestJob -> IngestJob.parsed(Observable.range(0, Integer.MAX_VALUE), Optional.of(ingestJob))
+						.doOnNext(record -> running.countDown())
+						.toBlocking().last());
+
+		Assert.assertTrue(running.await(10, TimeUnit.SECONDS));
+		Assert.assertThat(job.getStatus(), CoreMatchers.equalTo(IngestJob.Status.RUNNING));
+
+		final Optional<IngestJob> cancelledJob = service.cancel(job.getUuid());
+
+		Assert.assertTrue(cancelledJob.isPresent());
+		Assert.assertThat(cancelledJob.get(), CoreMatchers.sameInstance(job));
+
+		awaitFinished(job);
+
+		Assert.assertThat(job.getStatus(), CoreMatchers.equalTo(IngestJob.Status.CANCELLED));
+		Assert.assertNull(job.getError());
+		Assert.assertTrue(job.getRecordsParsed() > 0);
+
+		// a finished job can't be cancelled (again), i.e., its status doesn't change
+		service.cancel(job.getUuid());
+
+		Assert.assertThat(job.getStatus(), CoreMatchers.equalTo(IngestJob.Status.CANCELLED));
+	}
+
+	@Test
+	public void testCancelQueuedJob() throws Exception {
+
+		// only one ingest at a time, i.e., the second job needs to wait for the first one
+		final IngestJobService service = createService(1, RETENTION);
+
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicBoolean secondIngestExecuted = new AtomicBoolean();
+
+		final IngestJob job1 = service.submit(DATA_MODEL_UUID, ingestJob -> release.await(10, TimeUnit.SECONDS));
+		final IngestJob job2 = service.submit(DATA_MODEL_UUID, ingestJob -> secondIngestExecuted.set(true));
+
+		Assert.assertThat(job2.getStatus(), CoreMatchers.equalTo(IngestJob.Status.QUEUED));
+
+		service.cancel(job2.getUuid());
+
+		// a queued job will be cancelled immediately
+		Assert.assertThat(job2.getStatus(), CoreMatchers.equalTo(IngestJob.Status.CANCELLED));
+		Assert.assertNull(job2.getStarted());
+
+		release.countDown();
+
+		awaitFinished(job1);
+
+		Assert.assertThat(job1.getStatus(), CoreMatchers.equalTo(IngestJob.Status.SUCCEEDED));
+		Assert.assertFalse(secondIngestExecuted.get());
+	}
+
+	@Test
+	public void testGetJobs() throws Exception {
+
+		final IngestJobService service = createService(2, RETENTION);
+
+		final IngestJob job1 = service.submit(DATA_MODEL_UUID, ingestJob -> {});
+		final IngestJob job2 = service.submit(DATA_MODEL_UUID, ingestJob -> {});
+		final IngestJob otherJob = service.submit("DataModel-2", ingestJob -> {});
+
+		awaitFinished(job1);
+		awaitFinished(job2);
+		awaitFinished(otherJob);
+
+		final List<IngestJob> jobs = service.getJobs(DATA_MODEL_UUID);
+
+		Assert.assertThat(jobs.size(), CoreMatchers.equalTo(2));
+		Assert.assertTrue(jobs.contains(job1));
+		Assert.assertTrue(jobs.contains(job2));
+
+		Assert.assertThat(service.getJob(otherJob.getUuid()).get(), CoreMatchers.sameInstance(otherJob));
+		Assert.assertFalse(service.getJob("IngestJob-42").isPresent());
+		Assert.assertFalse(service.cancel("IngestJob-42").isPresent());
+	}
+
+	@Test
+	public void testFinishedJobsExpire() throws Exception {
+
+		final IngestJobService service = createService(1, 0);
+
+		final IngestJob job = service.submit(DATA_MODEL_UUID, ingestJob -> {});
+
+		awaitFinished(job);
+
+		Thread.sleep(10);
+
+		Assert.assertFalse(service.getJob(job.getUuid()).isPresent());
+		Assert.assertTrue(service.getJobs(DATA_MODEL_UUID).isEmpty());
+	}
+
+	private IngestJobService createService(final long concurrentJobs, final long retention) {
+
+		return new IngestJobService(concurrentJobs, retention, new ExecutionScope(), unitOfWork, new MetricRegistry());
+	}
+
+	private static void awaitFinished(final IngestJob job) throws InterruptedException {
+
+		final long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+
+		while (!job.getStatus().isFinished() && System.currentTimeMillis() < timeout) {
+
+			Thread.sleep(10);
+		}
+
+		Assert.assertTrue(String.format("ingest job '%s' should be finished", job.getUuid()), job.getStatus().isFinished());
+	}
+
+	private static final class CountingUnitOfWork implements UnitOfWork {
+
+		private final AtomicInteger begun = new AtomicInteger();
+		private final AtomicInteger ended = new AtomicInteger();
+
+		@Override
+		public void begin() {
+
+			begun.incrementAndGet();
+		}
+
+		@Override
+		public void end() {
+
+			ended.incrementAndGet();
+		}
+	}
+}
@@ -191,6 +191,49 @@ public class TasksResourceTest extends ResourceTest {
 		TasksResourceTest.LOG.debug("end task execution with no return test");
 	}
 
+	@Test
+	public void testStreamedTaskExecution() throws Exception {
+
+		TasksResourceTest.LOG.debug("start streamed task execution test");
+
+		final String resourceFileName = "controller_test-mabxml.xml";
+
+		final PrepareResource prepareResource = new PrepareResource(resourceFileName).invoke();
+		final PrepareConfiguration prepareConfiguration = new PrepareConfiguration(prepareResource).invoke();
+		final DataModel inputDataModel = prepareDataModel(prepareResource, prepareConfiguration);
+
+		final ObjectNode requestJSON = prepareTask(inputDataModel);
+
+		final Response response = target().request(MediaType.APPLICATION_JSON_TYPE)
+				.accept(MediaType.APPLICATION_JSON_TYPE).post(Entity.json(requestJSON));
+
+		Assert.assertEquals("200 Created was expected", 200, response.getStatus());
+
+		final ArrayNode expectedJSONArray = objectMapper.readValue(response.readEntity(String.class), ArrayNode.class);
+
+		requestJSON.put(TasksResource.STREAM_IDENTIFIER, true);
+
+		final Response streamedResponse = target().request(MediaType.APPLICATION_JSON_TYPE)
+				.accept(MediaType.APPLICATION_JSON_TYPE).post(Entity.json(requestJSON));
+
+		Assert.assertEquals("200 Created was expected", 200, streamedResponse.getStatus());
+
+		final String streamedResponseString = streamedResponse.readEntity(String.class);
+
+		Assert.assertNotNull("the streamed response JSON shouldn't be null", streamedResponseString);
+
+		final ArrayNode actualJSONArray = objectMapper.readValue(streamedResponseString, ArrayNode.class);
+
+		Assert.assertEquals("the streamed result should contain the same number of records", expectedJSONArray.size(), actualJSONArray.size());
+
+		for (int i = 0; i < expectedJSONArray.size(); i++) {
+
+			Assert.assertEquals(expectedJSONArray.get(i).get(DMPPersistenceUtil.RECORD_ID), actualJSONArray.get(i).get(DMPPersistenceUtil.RECORD_ID));
+		}
+
+		TasksResourceTest.LOG.debug("end streamed task execution test");
+	}
+
 	private ObjectNode prepareTask(final DataModel inputDataModel) throws Exception {
 		// check processed data
 		final String data = dataModelsResourceTestUtils.getData(inputDataModel.getUuid(), 1);
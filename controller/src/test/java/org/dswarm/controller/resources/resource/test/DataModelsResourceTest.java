@@ -315,6 +315,75 @@ public class DataModelsResourceTest extends
 		DataModelsResourceTest.LOG.debug("end get resource configuration data missing test");
 	}
 
+	@Test
+	public void testAsyncIngestJob() throws Exception {
+
+		DataModelsResourceTest.LOG.debug("start async ingest job test");
+
+		final DataModel dataModel = loadCSVData("UTF-8Csv_Resource.json", "UTF-8.csv", "UTF-8Csv_Configuration.json");
+		final String dataModelUuid = dataModel.getUuid();
+
+		final Response response = target(dataModelUuid, "data").queryParam("async", true).request().accept(MediaType.APPLICATION_JSON_TYPE)
+				.post(Entity.entity("", MediaType.TEXT_PLAIN));
+
+		Assert.assertThat("202 Accepted was expected", response.getStatus(), CoreMatchers.equalTo(202));
+
+		final ObjectNode queuedJobJSON = objectMapper.readValue(response.readEntity(String.class), ObjectNode.class);
+		final String jobUuid = queuedJobJSON.get("uuid").asText();
+
+		Assert.assertThat(queuedJobJSON.get("dataModelUuid").asText(), CoreMatchers.equalTo(dataModelUuid));
+
+		final ObjectNode finishedJobJSON = awaitFinishedIngestJob(dataModelUuid, jobUuid);
+
+		Assert.assertThat(finishedJobJSON.get("status").asText(), CoreMatchers.equalTo("SUCCEEDED"));
+		Assert.assertTrue(finishedJobJSON.get("recordsParsed").asLong() > 0);
+		Assert.assertThat(finishedJobJSON.get("recordsWritten").asLong(),
+				CoreMatchers.equalTo(finishedJobJSON.get("recordsParsed").asLong()));
+
+		final Response jobsResponse = target(dataModelUuid, "jobs").request().accept(MediaType.APPLICATION_JSON_TYPE).get(Response.class);
+
+		Assert.assertThat("200 OK was expected", jobsResponse.getStatus(), CoreMatchers.equalTo(200));
+
+		final ArrayNode jobsJSON = objectMapper.readValue(jobsResponse.readEntity(String.class), ArrayNode.class);
+
+		Assert.assertThat(jobsJSON.size(), CoreMatchers.equalTo(1));
+		Assert.assertThat(jobsJSON.get(0).get("uuid").asText(), CoreMatchers.equalTo(jobUuid));
+
+		// a finished job can't be cancelled anymore, i.e., it keeps its status
+		final Response cancelResponse = target(dataModelUuid, "jobs", jobUuid).request().accept(MediaType.APPLICATION_JSON_TYPE).delete();
+
+		Assert.assertThat("200 OK was expected", cancelResponse.getStatus(), CoreMatchers.equalTo(200));
+
+		final ObjectNode cancelledJobJSON = objectMapper.readValue(cancelResponse.readEntity(String.class), ObjectNode.class);
+
+		Assert.assertThat(cancelledJobJSON.get("status").asText(), CoreMatchers.equalTo("SUCCEEDED"));
+
+		// the job can't be requested via another data model
+		final Response otherDataModelResponse = target("42", "jobs", jobUuid).request().accept(MediaType.APPLICATION_JSON_TYPE)
+				.get(Response.class);
+
+		Assert.assertThat("404 Not Found was expected", otherDataModelResponse.getStatus(), CoreMatchers.equalTo(404));
+
+		DataModelsResourceTest.LOG.debug("end async ingest job test");
+	}
+
+	@Test
+	public void testIngestJobMissing() throws Exception {
+
+		final Response getResponse = target("42", "jobs", "42").request().accept(MediaType.APPLICATION_JSON_TYPE).get(Response.class);
+
+		Assert.assertThat("404 Not Found was expected", getResponse.getStatus(), CoreMatchers.equalTo(404));
+
+		final Response deleteResponse = target("42", "jobs", "42").request().accept(MediaType.APPLICATION_JSON_TYPE).delete();
+
+		Assert.assertThat("404 Not Found was expected", deleteResponse.getStatus(), CoreMatchers.equalTo(404));
+
+		final Response jobsResponse = target("42", "jobs").request().accept(MediaType.APPLICATION_JSON_TYPE).get(Response.class);
+
+		Assert.assertThat("200 OK was expected", jobsResponse.getStatus(), CoreMatchers.equalTo(200));
+		Assert.assertThat(objectMapper.readValue(jobsResponse.readEntity(String.class), ArrayNode.class).size(), CoreMatchers.equalTo(0));
+	}
+
 	/**
 	 * Test export of a single graph to N3
 	 *
@@ -692,6 +761,31 @@ public class DataModelsResourceTest extends
 		return jsonNode.asText();
 	}
 
+	private ObjectNode awaitFinishedIngestJob(final String dataModelUuid, final String jobUuid) throws Exception {
+
+		final long timeout = System.currentTimeMillis() + 60000;
+
+		while (true) {
+
+			final Response response = target(dataModelUuid, "jobs", jobUuid).request().accept(MediaType.APPLICATION_JSON_TYPE)
+					.get(Response.class);
+
+			Assert.assertThat("200 OK was expected", response.getStatus(), CoreMatchers.equalTo(200));
+
+			final ObjectNode jobJSON = objectMapper.readValue(response.readEntity(String.class), ObjectNode.class);
+			final String status = jobJSON.get("status").asText();
+
+			if ("SUCCEEDED".equals(status) || "FAILED".equals(status) || "CANCELLED".equals(status)) {
+
+				return jobJSON;
+			}
+
+			Assert.assertTrue(String.format("ingest job '%s' should be finished", jobUuid), System.currentTimeMillis() < timeout);
+
+			Thread.sleep(100);
+		}
+	}
+
 	private DataModel loadCSVData(final String resourceJsonFilename, final String csvFilename, final String configurationJsonFilename)
 			throws Exception {
 
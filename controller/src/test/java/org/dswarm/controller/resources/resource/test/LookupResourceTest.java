@@ -86,4 +86,71 @@ public class LookupResourceTest extends ResourceTest {
 
 		JSONAssert.assertEquals(finalExpected, finalActual, true);
 	}
+
+	@Test
+	public void testStoredLookupTable() throws IOException {
+
+		final ObjectMapper objectMapper = DMPPersistenceUtil.getJSONObjectMapper();
+
+		final URL fileURL = Resources.getResource("rvk_slub.csv");
+		final File lookupTableFile = FileUtils.toFile(fileURL);
+
+		Assert.assertNotNull(lookupTableFile);
+
+		final FormDataMultiPart form = new FormDataMultiPart();
+		form.field("column_delimiter", ",");
+		form.bodyPart(new FileDataBodyPart("file", lookupTableFile, MediaType.MULTIPART_FORM_DATA_TYPE));
+
+		final Response response = target().path("/tables/rvk_slub").request(MediaType.MULTIPART_FORM_DATA_TYPE)
+				.accept(MediaType.APPLICATION_JSON_TYPE).put(Entity.entity(form, MediaType.MULTIPART_FORM_DATA));
+
+		Assert.assertNotNull(response);
+		Assert.assertEquals(200, response.getStatus());
+
+		final ObjectNode expectedLookupTableJSON = objectMapper.readValue(DMPPersistenceUtil.getResourceAsString("rvk_slub.json"),
+				ObjectNode.class);
+		final ObjectNode storedLookupTableJSON = objectMapper.readValue(response.readEntity(String.class), ObjectNode.class);
+
+		Assert.assertEquals("rvk_slub", storedLookupTableJSON.get("name").asText());
+		Assert.assertEquals(expectedLookupTableJSON.size(), storedLookupTableJSON.get("size").asInt());
+
+		final Response getResponse = target().path("/tables/rvk_slub").request().accept(MediaType.APPLICATION_JSON_TYPE).get();
+
+		Assert.assertEquals(200, getResponse.getStatus());
+		Assert.assertEquals(storedLookupTableJSON, objectMapper.readValue(getResponse.readEntity(String.class), ObjectNode.class));
+
+		final Response deleteResponse = target().path("/tables/rvk_slub").request().delete();
+
+		Assert.assertEquals(204, deleteResponse.getStatus());
+
+		final Response notFoundResponse = target().path("/tables/rvk_slub").request().accept(MediaType.APPLICATION_JSON_TYPE).get();
+
+		Assert.assertEquals(404, notFoundResponse.getStatus());
+	}
+
+	@Test
+	public void testInvalidLookupTableName() throws IOException {
+
+		final URL fileURL = Resources.getResource("rvk_slub.csv");
+		final File lookupTableFile = FileUtils.toFile(fileURL);
+
+		Assert.assertNotNull(lookupTableFile);
+
+		final FormDataMultiPart form = new FormDataMultiPart();
+		form.field("column_delimiter", ",");
+		form.bodyPart(new FileDataBodyPart("file", lookupTableFile, MediaType.MULTIPART_FORM_DATA_TYPE));
+
+		final Response response = target().path("/tables/-rvk_slub").request(MediaType.MULTIPART_FORM_DATA_TYPE)
+				.accept(MediaType.APPLICATION_JSON_TYPE).put(Entity.entity(form, MediaType.MULTIPART_FORM_DATA));
+
+		Assert.assertEquals(400, response.getStatus());
+
+		final Response getResponse = target().path("/tables/-rvk_slub").request().accept(MediaType.APPLICATION_JSON_TYPE).get();
+
+		Assert.assertEquals(400, getResponse.getStatus());
+
+		final Response deleteResponse = target().path("/tables/-rvk_slub").request().delete();
+
+		Assert.assertEquals(400, deleteResponse.getStatus());
+	}
 }
@@ -21,8 +21,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.dswarm.converter.flow.CSVResourceFlowFactory;
+import org.dswarm.converter.flow.MorphScriptCache;
 import org.dswarm.converter.flow.TransformationFlowFactory;
 import org.dswarm.converter.flow.XmlResourceFlowFactory;
+import org.dswarm.converter.morph.lookup.LookupTableStore;
 import org.dswarm.converter.pipe.timing.TimerBasedFactory;
 import org.dswarm.converter.schema.SolrSchemaParser;
 import org.dswarm.converter.schema.XMLSchemaParser;
@@ -41,6 +43,8 @@ public class ConverterModule extends AbstractModule {
 
 		bind(XMLSchemaParser.class);
 		bind(SolrSchemaParser.class);
+		bind(MorphScriptCache.class);
+		bind(LookupTableStore.class);
 
 		install(new FactoryModuleBuilder().build(CSVResourceFlowFactory.class));
 		install(new FactoryModuleBuilder().build(TimerBasedFactory.class));
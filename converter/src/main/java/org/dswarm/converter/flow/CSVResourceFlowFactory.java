@@ -27,6 +27,8 @@ public interface CSVResourceFlowFactory {
 
 	MonitoringCSVSourceResourceTriplesFlow fromDataModel(final DataModel dataModel);
 
+	CSVSourceResourceGDMStmtsFlow gdmFromDataModel(final DataModel dataModel);
+
 	CSVSourceResourceTriplesFlow fromConfiguration(final Configuration configuration);
 
 	CSVSourceResourceTriplesFlow fromConfigurationParameters(
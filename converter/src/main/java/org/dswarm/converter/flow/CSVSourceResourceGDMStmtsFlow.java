@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.flow;
+
+import java.io.Reader;
+
+import com.google.inject.Inject;
+import com.google.inject.assistedinject.Assisted;
+import org.culturegraph.mf.framework.ObjectPipe;
+import org.culturegraph.mf.framework.ObjectReceiver;
+import rx.Observable;
+import rx.Subscriber;
+
+import org.dswarm.converter.DMPConverterException;
+import org.dswarm.converter.mf.stream.GDMModelReceiver;
+import org.dswarm.converter.mf.stream.reader.CsvReader;
+import org.dswarm.converter.mf.stream.source.CSVGDMEncoder;
+import org.dswarm.converter.pipe.timing.ObjectTimer;
+import org.dswarm.converter.pipe.timing.StreamTimer;
+import org.dswarm.converter.pipe.timing.TimerBasedFactory;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+import org.dswarm.persistence.model.resource.DataModel;
+
+/**
+ * Flow that transforms a given CSV source into GDM records, i.e., the CSV records will be triplified directly (see {@link CSVGDMEncoder})
+ * without intermediate triples.
+ */
+public class CSVSourceResourceGDMStmtsFlow extends AbstractCSVResourceFlow<Observable<GDMModel>> {
+
+	private final DataModel         dataModel;
+	private final TimerBasedFactory timerBasedFactory;
+
+	@Inject
+	private CSVSourceResourceGDMStmtsFlow(
+			final TimerBasedFactory timerBasedFactory,
+			@Assisted final DataModel dataModel) throws DMPConverterException {
+		super(dataModel);
+		this.dataModel = dataModel;
+		this.timerBasedFactory = timerBasedFactory;
+	}
+
+	@Override
+	protected Observable<GDMModel> process(final ObjectPipe<String, ObjectReceiver<Reader>> opener, final String obj, final CsvReader pipe) {
+
+		final GDMModelReceiver writer = new GDMModelReceiver();
+		final ObjectTimer<Reader> csvReaderTimer = timerBasedFactory.forObject(MonitoringFlowStatics.INPUT_RESOURCE_FILES);
+		final StreamTimer csvInputTimer = timerBasedFactory.forStream(MonitoringFlowStatics.CSV_RECORDS);
+		final ObjectTimer<GDMModel> gdmModelsTimer = timerBasedFactory.forObject(MonitoringFlowStatics.PARSED_CSV_RECORDS);
+
+		pipe
+				.setReceiver(csvInputTimer)
+				.setReceiver(new CSVGDMEncoder(dataModel))
+				.setReceiver(gdmModelsTimer)
+				.setReceiver(writer);
+
+		opener.setReceiver(csvReaderTimer).setReceiver(pipe);
+
+		return Observable.create(new Observable.OnSubscribe<GDMModel>() {
+
+			@Override public void call(final Subscriber<? super GDMModel> subscriber) {
+
+				writer.getObservable().subscribe(subscriber);
+
+				opener.process(obj);
+				opener.closeStream();
+			}
+		});
+	}
+}
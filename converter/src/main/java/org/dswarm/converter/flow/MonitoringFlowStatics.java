@@ -24,6 +24,7 @@ final class MonitoringFlowStatics {
 	static final String CSV_RECORDS = "CSV Records (Lines)";
 	static final String CSV_TRIPLES = "CSV Triples";
 	static final String INPUT_RESOURCE_FILES = "Input Resource Files";
+	static final String PARSED_CSV_RECORDS = "Parsed CSV Records";
 	static final String PARSED_XML_RECORDS = "Parsed XML Records";
 	static final String XML_EVENTS = "XML Events";
 }
@@ -0,0 +1,262 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.flow;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.culturegraph.mf.morph.Metamorph;
+import org.culturegraph.mf.stream.pipe.Filter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.dswarm.converter.DMPConverterException;
+import org.dswarm.converter.DMPMorphDefException;
+import org.dswarm.converter.morph.FilterMorphScriptBuilder;
+import org.dswarm.converter.morph.MorphScriptBuilder;
+import org.dswarm.persistence.model.job.Job;
+import org.dswarm.persistence.model.job.Task;
+import org.dswarm.persistence.util.DMPPersistenceUtil;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static org.dswarm.converter.flow.TransformationFlow.createFilter;
+import static org.dswarm.converter.flow.TransformationFlow.createMorph;
+import static org.dswarm.converter.flow.TransformationFlow.readString;
+
+/**
+ * A bounded cache of the rendered morph (and skip filter) scripts of tasks. The cache key is a content hash of the job of a task (incl. its
+ * mappings and skip filter), i.e., a modified job results in a new cache entry, while the outdated entry will be evicted eventually.<br/>
+ * Metamorph instances are stateful, i.e., they can't be shared between transformations. Hence, every cache entry holds one spare compiled
+ * Metamorph (and filter) instance, which will be handed out to the next transformation of this job. A new spare will be compiled in the
+ * background afterwards.<br/>
+ * The cache statistics (hits, misses, evictions) are reported to the metric registry.
+ */
+@Singleton
+public class MorphScriptCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(MorphScriptCache.class);
+
+	private static final String DSWARM_MORPH_COMPILER_THREAD_NAMING_PATTERN = "dswarm-morph-compiler-%d";
+
+	private final Cache<String, CompiledTransformation> cache;
+
+	private final ExecutorService compiler = Executors.newSingleThreadExecutor(
+			new BasicThreadFactory.Builder().daemon(true).namingPattern(DSWARM_MORPH_COMPILER_THREAD_NAMING_PATTERN).build());
+
+	private final Counter compiledHits;
+	private final Counter compiledMisses;
+
+	/**
+	 * @param maxSize           the maximum number of cached tasks (jobs)
+	 * @param expireAfterAccess the time (in ms) after which an unused cache entry will be evicted
+	 * @param registry          the metric registry for the cache statistics
+	 */
+	@Inject
+	public MorphScriptCache(
+			@Named("dswarm.converter.morph-cache.max-size") final long maxSize,
+			@Named("dswarm.converter.morph-cache.expire-after-access") final long expireAfterAccess,
+			final MetricRegistry registry) {
+
+		cache = CacheBuilder.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterAccess(expireAfterAccess, TimeUnit.MILLISECONDS)
+				.recordStats()
+				.build();
+
+		registerGauge(registry, "hits", () -> cache.stats().hitCount());
+		registerGauge(registry, "misses", () -> cache.stats().missCount());
+		registerGauge(registry, "evictions", () -> cache.stats().evictionCount());
+		registerGauge(registry, "size", cache::size);
+
+		compiledHits = registry.counter(name(MorphScriptCache.class, "compiled", "hits"));
+		compiledMisses = registry.counter(name(MorphScriptCache.class, "compiled", "misses"));
+	}
+
+	/**
+	 * Creates a transformation flow for the given task. The morph (and skip filter) script will be taken from the cache, if the job of the
+	 * task was seen before.
+	 *
+	 * @param task                      the task
+	 * @param transformationFlowFactory the factory for creating the transformation flow
+	 * @return the transformation flow for the given task
+	 * @throws DMPConverterException
+	 */
+	public TransformationFlow fromTask(final Task task, final TransformationFlowFactory transformationFlowFactory) throws DMPConverterException {
+
+		final CompiledTransformation compiledTransformation = get(task);
+
+		final Metamorph morph;
+		final Optional<Filter> optionalSkipFilter;
+
+		final Compiled spare = compiledTransformation.spare.getAndSet(null);
+
+		if (spare != null) {
+
+			compiledHits.inc();
+
+			morph = spare.morph;
+			optionalSkipFilter = spare.optionalSkipFilter;
+		} else {
+
+			compiledMisses.inc();
+
+			final Compiled compiled = compiledTransformation.compile();
+
+			morph = compiled.morph;
+			optionalSkipFilter = compiled.optionalSkipFilter;
+		}
+
+		compiler.execute(compiledTransformation::prepareSpare);
+
+		return transformationFlowFactory.create(morph, compiledTransformation.morphScript, Optional.ofNullable(task.getOutputDataModel()),
+				optionalSkipFilter, compiledTransformation.optionalSkipFilterScript);
+	}
+
+	/**
+	 * Returns the rendered morph script of the given task (from the cache, if the job of the task was seen before).
+	 *
+	 * @param task the task
+	 * @return the morph script of the task
+	 * @throws DMPConverterException
+	 */
+	public String getMorphScript(final Task task) throws DMPConverterException {
+
+		return get(task).morphScript;
+	}
+
+	private CompiledTransformation get(final Task task) throws DMPConverterException {
+
+		final String key = determineKey(task.getJob());
+
+		try {
+
+			return cache.get(key, () -> {
+
+				LOG.debug("render morph script for job '{}' of task '{}'", task.getJob().getUuid(), task.getUuid());
+
+				final String morphScript = new MorphScriptBuilder().apply(task).toString();
+				final Optional<String> optionalSkipFilterScript = Optional.ofNullable(new FilterMorphScriptBuilder().apply(task).toString());
+
+				return new CompiledTransformation(morphScript, optionalSkipFilterScript);
+			});
+		} catch (final ExecutionException | UncheckedExecutionException e) {
+
+			final Throwable cause = e.getCause();
+
+			if (cause instanceof DMPConverterException) {
+
+				throw (DMPConverterException) cause;
+			}
+
+			throw new DMPConverterException("couldn't render morph script of task", cause);
+		}
+	}
+
+	private static String determineKey(final Job job) throws DMPConverterException {
+
+		try {
+
+			final byte[] jobJSON = DMPPersistenceUtil.getJSONObjectMapper().writeValueAsBytes(job);
+
+			return Hashing.sha256().hashBytes(jobJSON).toString();
+		} catch (final JsonProcessingException e) {
+
+			throw new DMPConverterException("couldn't serialize job of task for determining its cache key", e);
+		}
+	}
+
+	private void registerGauge(final MetricRegistry registry, final String gaugeName, final Gauge<Long> gauge) {
+
+		final String metricName = name(MorphScriptCache.class, gaugeName);
+
+		registry.remove(metricName);
+		registry.register(metricName, gauge);
+	}
+
+	private static final class CompiledTransformation {
+
+		private final String           morphScript;
+		private final Optional<String> optionalSkipFilterScript;
+
+		private final AtomicReference<Compiled> spare = new AtomicReference<>();
+
+		private CompiledTransformation(final String morphScript, final Optional<String> optionalSkipFilterScript) {
+
+			this.morphScript = morphScript;
+			this.optionalSkipFilterScript = optionalSkipFilterScript;
+		}
+
+		private Compiled compile() throws DMPMorphDefException {
+
+			final Metamorph morph = createMorph(readString(morphScript));
+			final Optional<Filter> optionalSkipFilter;
+
+			if (optionalSkipFilterScript.isPresent()) {
+
+				optionalSkipFilter = Optional.of(createFilter(readString(optionalSkipFilterScript.get())));
+			} else {
+
+				optionalSkipFilter = Optional.empty();
+			}
+
+			return new Compiled(morph, optionalSkipFilter);
+		}
+
+		private void prepareSpare() {
+
+			if (spare.get() != null) {
+
+				return;
+			}
+
+			try {
+
+				spare.compareAndSet(null, compile());
+			} catch (final DMPMorphDefException e) {
+
+				LOG.debug("couldn't compile spare morph script", e);
+			}
+		}
+	}
+
+	private static final class Compiled {
+
+		private final Metamorph        morph;
+		private final Optional<Filter> optionalSkipFilter;
+
+		private Compiled(final Metamorph morph, final Optional<Filter> optionalSkipFilter) {
+
+			this.morph = morph;
+			this.optionalSkipFilter = optionalSkipFilter;
+		}
+	}
+}
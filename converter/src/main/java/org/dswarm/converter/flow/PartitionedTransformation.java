@@ -0,0 +1,365 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.flow;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.culturegraph.mf.framework.ObjectReceiver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+import rx.Subscription;
+import rx.schedulers.Schedulers;
+import rx.subscriptions.CompositeSubscription;
+import rx.subscriptions.Subscriptions;
+
+import org.dswarm.common.types.Tuple;
+import org.dswarm.converter.mf.stream.GDMModelReceiver;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+
+/**
+ * Executes a transformation with several independent (Metamorph) pipelines in parallel. The records are partitioned by their identifier, i.e.,
+ * all records with the same identifier are processed by the same pipeline (records without identifier, e.g., chunks of an XML input, are
+ * distributed round-robin). Every pipeline runs in its own thread and is fed via a bounded queue,
+ * i.e., the input will be throttled, if the pipelines can't keep up.<br/>
+ * The resulting GDM models are delivered to the given {@link GDMModelReceiver}, optionally in the order of the input records.
+ *
+ * @param <T> the type of the record content, e.g., JSON or GDM
+ */
+final class PartitionedTransformation<T> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PartitionedTransformation.class);
+
+	private static final String DSWARM_TRANSFORMATION_WORKER_THREAD_NAMING_PATTERN = "dswarm-transformation-worker-%d";
+
+	private static final int     QUEUE_CAPACITY = 1000;
+	private static final long    POLL_TIMEOUT   = 100;
+	private static final Item<?> END_OF_STREAM  = new Item<>(-1, null);
+
+	private final List<Pipeline<T>> pipelines;
+	private final GDMModelReceiver  writer;
+	private final boolean           preserveOrder;
+
+	private final AtomicBoolean failed = new AtomicBoolean();
+	private final AtomicInteger runningPipelines;
+
+	/**
+	 * the results of records that are not in order yet (only utilised, if the order should be preserved)
+	 */
+	private final Map<Long, List<GDMModel>> pendingResults = new HashMap<>();
+	private long nextResult;
+
+	/**
+	 * @param pipelines     the independent pipelines, i.e., each pipeline has its own opener, Metamorph etc.
+	 * @param writer        the receiver of the resulting GDM models of all pipelines
+	 * @param preserveOrder whether the resulting GDM models should be delivered in the order of the input records
+	 */
+	PartitionedTransformation(final List<Pipeline<T>> pipelines, final GDMModelReceiver writer, final boolean preserveOrder) {
+
+		this.pipelines = pipelines;
+		this.writer = writer;
+		this.preserveOrder = preserveOrder;
+		runningPipelines = new AtomicInteger(pipelines.size());
+
+		for (final Pipeline<T> pipeline : pipelines) {
+
+			pipeline.transformation = this;
+		}
+	}
+
+	/**
+	 * Starts the processing of the given records, i.e., the pipeline threads and the consumption of the records. The processing is cancelled,
+	 * when the returned subscription is unsubscribed, i.e., the consumption of the records stops, the queued records are dropped and the
+	 * pipeline threads terminate (after the records that are currently processed).
+	 *
+	 * @param tuples the records (identifier + content)
+	 * @return the subscription of the processing
+	 */
+	Subscription process(final Observable<Tuple<String, T>> tuples) {
+
+		final int numberOfPipelines = pipelines.size();
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(numberOfPipelines,
+				new BasicThreadFactory.Builder().daemon(true).namingPattern(DSWARM_TRANSFORMATION_WORKER_THREAD_NAMING_PATTERN).build());
+
+		for (final Pipeline<T> pipeline : pipelines) {
+
+			executorService.execute(pipeline);
+		}
+
+		// the threads terminate after the pipelines are finished
+		executorService.shutdown();
+
+		LOG.debug("started transformation with '{}' pipelines", numberOfPipelines);
+
+		final AtomicLong counter = new AtomicLong();
+
+		final Subscription inputSubscription = tuples.subscribeOn(Schedulers.newThread()).subscribe(tuple -> {
+
+			final long sequenceNumber = counter.getAndIncrement();
+
+			final String recordIdentifier = tuple.v1();
+			final long partitionKey = recordIdentifier != null ? (recordIdentifier.hashCode() & Integer.MAX_VALUE) : sequenceNumber;
+
+			enqueue(pipelines.get((int) (partitionKey % numberOfPipelines)), new Item<>(sequenceNumber, tuple));
+		}, error -> {
+
+			fail(error);
+		}, () -> {
+
+			LOG.debug("distributed '{}' records to '{}' pipelines", counter.get(), numberOfPipelines);
+
+			for (final Pipeline<T> pipeline : pipelines) {
+
+				enqueue(pipeline, PartitionedTransformation.<T>endOfStream());
+			}
+		});
+
+		return new CompositeSubscription(inputSubscription, Subscriptions.create(this::cancel));
+	}
+
+	private void enqueue(final Pipeline<T> pipeline, final Item<T> item) {
+
+		if (failed.get()) {
+
+			return;
+		}
+
+		try {
+
+			while (!pipeline.queue.offer(item, POLL_TIMEOUT, TimeUnit.MILLISECONDS)) {
+
+				if (failed.get()) {
+
+					return;
+				}
+			}
+		} catch (final InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+
+			fail(e);
+		}
+	}
+
+	private synchronized void deliver(final long sequenceNumber, final List<GDMModel> gdmModels) {
+
+		if (failed.get()) {
+
+			return;
+		}
+
+		if (!preserveOrder) {
+
+			gdmModels.forEach(writer::process);
+
+			return;
+		}
+
+		pendingResults.put(sequenceNumber, gdmModels);
+
+		List<GDMModel> nextGDMModels;
+
+		while ((nextGDMModels = pendingResults.remove(nextResult)) != null) {
+
+			nextGDMModels.forEach(writer::process);
+
+			nextResult++;
+		}
+	}
+
+	private synchronized void fail(final Throwable error) {
+
+		if (failed.compareAndSet(false, true)) {
+
+			LOG.error("transformation failed", error);
+
+			pendingResults.clear();
+			dropQueuedRecords();
+			writer.propagateError(error);
+		}
+	}
+
+	/**
+	 * Cancels the processing, e.g., when the consumer of the result went away. The pipelines stop without delivering further results and
+	 * without completing the result.
+	 */
+	private synchronized void cancel() {
+
+		if (failed.compareAndSet(false, true)) {
+
+			LOG.debug("cancelled transformation with '{}' pipelines", pipelines.size());
+		}
+
+		pendingResults.clear();
+		dropQueuedRecords();
+	}
+
+	private void dropQueuedRecords() {
+
+		for (final Pipeline<T> pipeline : pipelines) {
+
+			pipeline.queue.clear();
+		}
+	}
+
+	private synchronized void finish() {
+
+		if (runningPipelines.decrementAndGet() == 0 && !failed.get()) {
+
+			LOG.debug("finished transformation with '{}' pipelines", pipelines.size());
+
+			writer.closeStream();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Item<T> endOfStream() {
+
+		return (Item<T>) END_OF_STREAM;
+	}
+
+	private static final class Item<T> {
+
+		private final long             sequenceNumber;
+		private final Tuple<String, T> tuple;
+
+		private Item(final long sequenceNumber, final Tuple<String, T> tuple) {
+
+			this.sequenceNumber = sequenceNumber;
+			this.tuple = tuple;
+		}
+	}
+
+	/**
+	 * One independent pipeline, i.e., an opener that is wired with its own Metamorph (or XML encoder) etc. and the collector of the resulting
+	 * GDM models at the end.
+	 */
+	static final class Pipeline<T> implements Runnable {
+
+		private final BlockingQueue<Item<T>> queue;
+
+		private final ObjectReceiver<Tuple<String, T>> opener;
+		private final GDMModelCollector               collector;
+
+		private PartitionedTransformation<T> transformation;
+
+		/**
+		 * @param opener    the opener of this pipeline
+		 * @param collector the receiver at the end of this pipeline
+		 */
+		Pipeline(final ObjectReceiver<Tuple<String, T>> opener, final GDMModelCollector collector) {
+
+			this(opener, collector, PartitionedTransformation.QUEUE_CAPACITY);
+		}
+
+		/**
+		 * @param opener        the opener of this pipeline
+		 * @param collector     the receiver at the end of this pipeline
+		 * @param queueCapacity the maximum number of queued items of this pipeline, e.g., a smaller one for large items
+		 */
+		Pipeline(final ObjectReceiver<Tuple<String, T>> opener, final GDMModelCollector collector, final int queueCapacity) {
+
+			this.opener = opener;
+			this.collector = collector;
+			queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+		}
+
+		@Override
+		public void run() {
+
+			try {
+
+				while (!transformation.failed.get()) {
+
+					final Item<T> item = queue.poll(PartitionedTransformation.POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+
+					if (item == null) {
+
+						continue;
+					}
+
+					if (item == PartitionedTransformation.END_OF_STREAM) {
+
+						opener.closeStream();
+
+						return;
+					}
+
+					// a pipeline processes a record synchronously, i.e., the collector contains the resulting GDM models of this record now
+					opener.process(item.tuple);
+
+					transformation.deliver(item.sequenceNumber, collector.drain());
+				}
+			} catch (final Throwable e) {
+
+				transformation.fail(e);
+			} finally {
+
+				transformation.finish();
+			}
+		}
+	}
+
+	/**
+	 * Collects the GDM models that were produced for the record that is currently processed by a pipeline.
+	 */
+	static final class GDMModelCollector implements ObjectReceiver<GDMModel> {
+
+		private List<GDMModel> gdmModels = new ArrayList<>();
+
+		@Override
+		public void process(final GDMModel gdmModel) {
+
+			if (gdmModel != null) {
+
+				gdmModels.add(gdmModel);
+			}
+		}
+
+		@Override
+		public void resetStream() {
+
+			gdmModels = new ArrayList<>();
+		}
+
+		@Override
+		public void closeStream() {
+
+			// nothing to do here, the pipeline completes the transformation
+		}
+
+		private List<GDMModel> drain() {
+
+			final List<GDMModel> result = gdmModels;
+			gdmModels = new ArrayList<>();
+
+			return result;
+		}
+	}
+}
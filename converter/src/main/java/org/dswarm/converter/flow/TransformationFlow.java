@@ -31,6 +31,7 @@ import java.util.function.Supplier;
 
 import javax.ws.rs.core.Response;
 
+import com.codahale.metrics.Counter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.codahale.metrics.Timer.Context;
@@ -49,6 +50,7 @@ import com.google.inject.assistedinject.Assisted;
 import com.google.inject.name.Named;
 import org.culturegraph.mf.exceptions.MorphDefException;
 import org.culturegraph.mf.framework.ObjectPipe;
+import org.culturegraph.mf.framework.ObjectReceiver;
 import org.culturegraph.mf.framework.StreamPipe;
 import org.culturegraph.mf.framework.StreamReceiver;
 import org.culturegraph.mf.morph.Metamorph;
@@ -57,6 +59,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Observable;
 import rx.Subscriber;
+import rx.Subscription;
 import rx.schedulers.Schedulers;
 
 import org.dswarm.common.types.Tuple;
@@ -65,7 +68,9 @@ import org.dswarm.converter.DMPConverterException;
 import org.dswarm.converter.DMPMorphDefException;
 import org.dswarm.converter.mf.stream.GDMEncoder;
 import org.dswarm.converter.mf.stream.GDMModelReceiver;
+import org.dswarm.converter.mf.stream.reader.GDMResourceReader;
 import org.dswarm.converter.mf.stream.reader.JsonNodeReader;
+import org.dswarm.converter.morph.lookup.LookupTableStore;
 import org.dswarm.converter.pipe.StreamUnflattener;
 import org.dswarm.converter.pipe.timing.ObjectTimer;
 import org.dswarm.converter.pipe.timing.StreamTimer;
@@ -87,6 +92,8 @@ import org.dswarm.persistence.service.InternalModelServiceFactory;
 import org.dswarm.persistence.util.DMPPersistenceUtil;
 import org.dswarm.persistence.util.GDMUtil;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 /**
  * Flow that executes a given set of transformations on data of a given data model.
  *
@@ -105,31 +112,42 @@ public class TransformationFlow {
 
 	private final Optional<Filter> optionalSkipFilter;
 
+	private final Optional<String> optionalSkipFilterScript;
+
 	private final Optional<DataModel> outputDataModel;
 
 	private final Provider<InternalModelServiceFactory> internalModelServiceFactoryProvider;
 
 	private final TimerBasedFactory timerBasedFactory;
 
+	private final LookupTableStore lookupTableStore;
+
 	private final Timer morphTimer;
 
+	private final Counter pipelinesCounter;
+
 	@Inject
 	private TransformationFlow(
 			final Provider<InternalModelServiceFactory> internalModelServiceFactoryProviderArg,
 			@Named("Monitoring") final MetricRegistry registry,
 			final TimerBasedFactory timerBasedFactory,
+			final LookupTableStore lookupTableStore,
 			@Assisted final Metamorph transformer,
 			@Assisted final String scriptArg,
 			@Assisted final Optional<DataModel> outputDataModelArg,
-			@Assisted final Optional<Filter> optionalSkipFilterArg) {
+			@Assisted final Optional<Filter> optionalSkipFilterArg,
+			@Assisted final Optional<String> optionalSkipFilterScriptArg) {
 		this.timerBasedFactory = timerBasedFactory;
+		this.lookupTableStore = lookupTableStore;
 		this.transformer = transformer;
 		script = scriptArg == null ? "" : scriptArg;
 		outputDataModel = outputDataModelArg;
 		optionalSkipFilter = optionalSkipFilterArg;
+		optionalSkipFilterScript = optionalSkipFilterScriptArg;
 		internalModelServiceFactoryProvider = internalModelServiceFactoryProviderArg;
 
 		morphTimer = registry.timer("metamorph");
+		pipelinesCounter = registry.counter(name(TransformationFlow.class, "pipelines"));
 	}
 
 	public String getScript() {
@@ -189,14 +207,145 @@ public class TransformationFlow {
 	}
 
 	// TODO: Observable String / Model / Future String
-	public Observable<JsonNode> apply(
-			final Observable<Tuple<String, JsonNode>> tuples,
-			final ObjectPipe<Tuple<String, JsonNode>, StreamReceiver> opener,
+	public <T> Observable<JsonNode> apply(
+			final Observable<Tuple<String, T>> tuples,
+			final ObjectPipe<Tuple<String, T>, StreamReceiver> opener,
 			final boolean writeResultToDatahub, final boolean doNotReturnJsonToCaller) throws DMPConverterException {
 
 		final Context morphContext = morphTimer.time();
 
-		// final String recordDummy = "record";
+		final GDMModelReceiver writer = new GDMModelReceiver();
+
+		wirePipeline(opener, transformer, optionalSkipFilter, writer);
+
+		return apply(writer, morphContext, writeResultToDatahub, doNotReturnJsonToCaller,
+				() -> tuples.subscribeOn(Schedulers.newThread()).subscribe(opener::process, writer::propagateError, opener::closeStream));
+	}
+
+	public Observable<JsonNode> apply(final Observable<Tuple<String, JsonNode>> tuples, final boolean writeResultToDatahub,
+			final boolean doNotReturnJsonToCaller) throws DMPConverterException {
+
+		final JsonNodeReader opener = new JsonNodeReader();
+
+		return apply(tuples, opener, writeResultToDatahub, doNotReturnJsonToCaller);
+	}
+
+	/**
+	 * Executes this transformation with several independent pipelines in parallel, i.e., each pipeline has its own Metamorph instance (created
+	 * from the same morph script). The records are distributed to the pipelines by their identifier.
+	 *
+	 * @param tuples                  the records (identifier + content)
+	 * @param writeResultToDatahub    whether the result should be persisted in the data hub
+	 * @param doNotReturnJsonToCaller whether the result should not be returned
+	 * @param workers                 the number of parallel pipelines
+	 * @param preserveOrder           whether the result should be in the order of the input records
+	 * @return the result of the transformation
+	 * @throws DMPConverterException
+	 */
+	public Observable<JsonNode> apply(final Observable<Tuple<String, JsonNode>> tuples, final boolean writeResultToDatahub,
+			final boolean doNotReturnJsonToCaller, final int workers, final boolean preserveOrder) throws DMPConverterException {
+
+		return apply(tuples, JsonNodeReader::new, writeResultToDatahub, doNotReturnJsonToCaller, workers, preserveOrder);
+	}
+
+	/**
+	 * Executes this transformation on GDM records, i.e., the Metamorph events are emitted directly from the statements of the record resources
+	 * (without converting the records to JSON first).
+	 *
+	 * @param tuples                  the records (identifier + GDM model of the record)
+	 * @param writeResultToDatahub    whether the result should be persisted in the data hub
+	 * @param doNotReturnJsonToCaller whether the result should not be returned
+	 * @return the result of the transformation
+	 * @throws DMPConverterException
+	 */
+	public Observable<JsonNode> applyGDM(final Observable<Tuple<String, Model>> tuples, final boolean writeResultToDatahub,
+			final boolean doNotReturnJsonToCaller) throws DMPConverterException {
+
+		return apply(tuples, new GDMResourceReader(), writeResultToDatahub, doNotReturnJsonToCaller);
+	}
+
+	/**
+	 * Executes this transformation on GDM records with several independent pipelines in parallel (see
+	 * {@link #apply(Observable, boolean, boolean, int, boolean)}), i.e., the Metamorph events are emitted directly from the statements of the
+	 * record resources (without converting the records to JSON first).
+	 *
+	 * @param tuples                  the records (identifier + GDM model of the record)
+	 * @param writeResultToDatahub    whether the result should be persisted in the data hub
+	 * @param doNotReturnJsonToCaller whether the result should not be returned
+	 * @param workers                 the number of parallel pipelines
+	 * @param preserveOrder           whether the result should be in the order of the input records
+	 * @return the result of the transformation
+	 * @throws DMPConverterException
+	 */
+	public Observable<JsonNode> applyGDM(final Observable<Tuple<String, Model>> tuples, final boolean writeResultToDatahub,
+			final boolean doNotReturnJsonToCaller, final int workers, final boolean preserveOrder) throws DMPConverterException {
+
+		return apply(tuples, GDMResourceReader::new, writeResultToDatahub, doNotReturnJsonToCaller, workers, preserveOrder);
+	}
+
+	private <T> Observable<JsonNode> apply(final Observable<Tuple<String, T>> tuples,
+			final Supplier<ObjectPipe<Tuple<String, T>, StreamReceiver>> openerFactory, final boolean writeResultToDatahub,
+			final boolean doNotReturnJsonToCaller, final int workers, final boolean preserveOrder) throws DMPConverterException {
+
+		final int numberOfPipelines = workers;
+
+		// all pipelines need their own instances of the morph (and filter) script
+		final boolean isReproducible = !script.isEmpty() && (!optionalSkipFilter.isPresent() || optionalSkipFilterScript.isPresent());
+
+		if (numberOfPipelines <= 1 || !isReproducible) {
+
+			return apply(tuples, openerFactory.get(), writeResultToDatahub, doNotReturnJsonToCaller);
+		}
+
+		LOG.debug("execute transformation with '{}' parallel pipelines", numberOfPipelines);
+
+		final List<PartitionedTransformation.Pipeline<T>> pipelines = new ArrayList<>(numberOfPipelines);
+
+		for (int i = 0; i < numberOfPipelines; i++) {
+
+			final Metamorph pipelineTransformer;
+			final Optional<Filter> pipelineSkipFilter;
+
+			if (i == 0) {
+
+				pipelineTransformer = transformer;
+				pipelineSkipFilter = optionalSkipFilter;
+			} else {
+
+				pipelineTransformer = createMorph(readString(script));
+
+				if (optionalSkipFilterScript.isPresent()) {
+
+					pipelineSkipFilter = Optional.of(createFilter(readString(optionalSkipFilterScript.get())));
+				} else {
+
+					pipelineSkipFilter = Optional.empty();
+				}
+			}
+
+			final ObjectPipe<Tuple<String, T>, StreamReceiver> opener = openerFactory.get();
+			final PartitionedTransformation.GDMModelCollector collector = new PartitionedTransformation.GDMModelCollector();
+
+			wirePipeline(opener, pipelineTransformer, pipelineSkipFilter, collector);
+
+			pipelines.add(new PartitionedTransformation.Pipeline<>(opener, collector));
+		}
+
+		final Context morphContext = morphTimer.time();
+
+		final GDMModelReceiver writer = new GDMModelReceiver();
+		final PartitionedTransformation<T> partitionedTransformation = new PartitionedTransformation<>(pipelines, writer, preserveOrder);
+
+		return apply(writer, morphContext, writeResultToDatahub, doNotReturnJsonToCaller, () -> partitionedTransformation.process(tuples));
+	}
+
+	private <T> void wirePipeline(final ObjectPipe<Tuple<String, T>, StreamReceiver> opener, final Metamorph pipelineTransformer,
+			final Optional<Filter> pipelineSkipFilter, final ObjectReceiver<GDMModel> writer) throws DMPConverterException {
+
+		pipelinesCounter.inc();
+
+		// the stored lookup tables are resolved at every execution, i.e., cached morph scripts utilise the current version of the tables
+		lookupTableStore.registerLookupTables(pipelineTransformer);
 
 		final StreamTimer inputTimer = timerBasedFactory.forStream("stream-input");
 		final ObjectTimer gdmModelsTimer = timerBasedFactory.forObject("gdm-models");
@@ -204,14 +353,12 @@ public class TransformationFlow {
 		//		final StreamJsonCollapser collapser = new StreamJsonCollapser();
 		final GDMEncoder converter = new GDMEncoder(outputDataModel);
 
-		final GDMModelReceiver writer = new GDMModelReceiver();
-
 		final StreamPipe<StreamReceiver> starter;
-		if (optionalSkipFilter.isPresent()) {
+		if (pipelineSkipFilter.isPresent()) {
 
 			// skip filter + input timer
 			starter = opener
-					.setReceiver(optionalSkipFilter.get())
+					.setReceiver(pipelineSkipFilter.get())
 					.setReceiver(inputTimer);
 
 		} else {
@@ -221,11 +368,15 @@ public class TransformationFlow {
 		}
 
 		starter
-				.setReceiver(transformer)
+				.setReceiver(pipelineTransformer)
 				.setReceiver(unflattener)
 				.setReceiver(converter)
 				.setReceiver(gdmModelsTimer)
 				.setReceiver(writer);
+	}
+
+	private Observable<JsonNode> apply(final GDMModelReceiver writer, final Context morphContext, final boolean writeResultToDatahub,
+			final boolean doNotReturnJsonToCaller, final Supplier<Subscription> inputProcessing) throws DMPConverterException {
 
 		// transform to FE friendly JSON => or use Model#toJSON() ;)
 
@@ -353,19 +504,12 @@ public class TransformationFlow {
 						.doOnCompleted(morphContext::stop)
 						.subscribe(subscriber);
 
-				tuples.subscribeOn(Schedulers.newThread()).subscribe(opener::process, writer::propagateError, opener::closeStream);
+				// the consumption of the input stops, when the consumer of the result unsubscribes
+				subscriber.add(inputProcessing.get());
 			}
 		});
 	}
 
-	public Observable<JsonNode> apply(final Observable<Tuple<String, JsonNode>> tuples, final boolean writeResultToDatahub,
-			final boolean doNotReturnJsonToCaller) throws DMPConverterException {
-
-		final JsonNodeReader opener = new JsonNodeReader();
-
-		return apply(tuples, opener, writeResultToDatahub, doNotReturnJsonToCaller);
-	}
-
 	static Metamorph createMorph(final Reader morphString) throws DMPMorphDefException {
 		try {
 			return new Metamorph(morphString);
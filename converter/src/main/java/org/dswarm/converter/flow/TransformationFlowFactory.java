@@ -44,7 +44,8 @@ public interface TransformationFlowFactory {
 			final Metamorph transformer,
 			final String scriptArg,
 			final Optional<DataModel> outputDataModelArg,
-			final Optional<Filter> optionalSkipFilterArg);
+			final Optional<Filter> optionalSkipFilterArg,
+			final Optional<String> optionalSkipFilterScriptArg);
 
 	default TransformationFlow fromString(
 			final String morphScriptString) throws DMPConverterException {
@@ -158,12 +159,20 @@ public interface TransformationFlowFactory {
 
 		final Metamorph morph = createMorph(new StringReader(morphContent));
 		final Optional<Filter> filter;
+		final Optional<String> filterContent;
 		if (filterScript.isPresent()) {
-			filter = Optional.of(createFilter(filterScript.get()));
+			try {
+				filterContent = Optional.of(CharStreams.toString(filterScript.get()));
+				filterScript.get().close();
+			} catch (final IOException e) {
+				throw new DMPMorphDefException("could not read filter string", e);
+			}
+			filter = Optional.of(createFilter(new StringReader(filterContent.get())));
 		} else {
+			filterContent = Optional.empty();
 			filter = Optional.empty();
 		}
 
-		return create(morph, morphContent, outputDataModel, filter);
+		return create(morph, morphContent, outputDataModel, filter, filterContent);
 	}
 }
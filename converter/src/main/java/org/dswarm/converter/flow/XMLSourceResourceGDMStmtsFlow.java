@@ -16,9 +16,11 @@
 package org.dswarm.converter.flow;
 
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
@@ -27,6 +29,7 @@ import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
 import com.google.inject.name.Named;
 import org.culturegraph.mf.framework.DefaultObjectPipe;
+import org.culturegraph.mf.framework.DefaultObjectReceiver;
 import org.culturegraph.mf.framework.ObjectReceiver;
 import org.culturegraph.mf.stream.converter.xml.XmlDecoder;
 import org.culturegraph.mf.stream.source.StringReader;
@@ -35,8 +38,10 @@ import org.slf4j.LoggerFactory;
 import rx.Observable;
 import rx.Subscriber;
 
+import org.dswarm.common.types.Tuple;
 import org.dswarm.converter.DMPConverterException;
 import org.dswarm.converter.mf.stream.GDMModelReceiver;
+import org.dswarm.converter.mf.stream.converter.XmlRecordSplitter;
 import org.dswarm.converter.mf.stream.source.BOMResourceOpener;
 import org.dswarm.converter.mf.stream.source.XMLGDMEncoder;
 import org.dswarm.converter.pipe.timing.ObjectTimer;
@@ -48,7 +53,9 @@ import org.dswarm.persistence.model.resource.DataModel;
 import org.dswarm.persistence.model.resource.utils.ConfigurationStatics;
 
 /**
- * Flow that transforms a given XML source into GDM statements.
+ * Flow that transforms a given XML source into GDM statements.<br/>
+ * If more than one ingest worker is configured, XML resources will be split at their record boundaries into chunks, which will be triplified
+ * by the workers in parallel (see {@link XmlRecordSplitter} and {@link PartitionedTransformation}).
  *
  * @author tgaengler
  */
@@ -61,10 +68,22 @@ public class XMLSourceResourceGDMStmtsFlow {
 	private final TimerBasedFactory timerBasedFactory;
 	private final Timer morphTimer;
 
+	private final int     workers;
+	private final int     recordsPerChunk;
+	private final boolean preserveOrder;
+
+	/**
+	 * the maximum number of queued chunks per worker (chunks are rather large items)
+	 */
+	private static final int CHUNK_QUEUE_CAPACITY = 2;
+
 	@Inject
 	private XMLSourceResourceGDMStmtsFlow(
 			@Named("Monitoring") final MetricRegistry registry,
 			final TimerBasedFactory timerBasedFactory,
+			@Named("dswarm.converter.xml-ingest.workers") final long workers,
+			@Named("dswarm.converter.xml-ingest.records-per-chunk") final long recordsPerChunk,
+			@Named("dswarm.converter.xml-ingest.preserve-order") final boolean preserveOrder,
 			@Assisted final DataModel dataModel) throws DMPConverterException {
 		if (dataModel == null) {
 
@@ -94,6 +113,10 @@ public class XMLSourceResourceGDMStmtsFlow {
 		this.timerBasedFactory = timerBasedFactory;
 
 		morphTimer = registry.timer(MonitoringFlowStatics.METAMORPH);
+
+		this.workers = (int) Math.max(1, workers);
+		this.recordsPerChunk = (int) Math.min(Math.max(1, recordsPerChunk), Integer.MAX_VALUE);
+		this.preserveOrder = preserveOrder;
 	}
 
 	public Observable<GDMModel> applyRecord(final String record) {
@@ -107,6 +130,11 @@ public class XMLSourceResourceGDMStmtsFlow {
 
 		final BOMResourceOpener opener = new BOMResourceOpener();
 
+		if (workers > 1 && recordTagName.isPresent()) {
+
+			return applyParallel(resourcePath, opener);
+		}
+
 		return apply(resourcePath, opener);
 	}
 
@@ -153,6 +181,82 @@ public class XMLSourceResourceGDMStmtsFlow {
 		});
 	}
 
+	Observable<GDMModel> applyParallel(final String object, final DefaultObjectPipe<String, ObjectReceiver<Reader>> opener) {
+
+		LOG.debug("triplify XML with '{}' parallel workers and '{}' records per chunk", workers, recordsPerChunk);
+
+		// the node ids need to be unique across all chunks
+		final AtomicLong nodeIdCounter = new AtomicLong(1);
+
+		final List<PartitionedTransformation.Pipeline<String>> pipelines = new ArrayList<>(workers);
+
+		for (int i = 0; i < workers; i++) {
+
+			final ChunkOpener chunkOpener = new ChunkOpener();
+			final XmlDecoder decoder = new XmlDecoder();
+			final XMLGDMEncoder encoder = new XMLGDMEncoder(recordTagName.get(), dataModel, nodeIdCounter);
+			final PartitionedTransformation.GDMModelCollector collector = new PartitionedTransformation.GDMModelCollector();
+
+			final XmlTimer<GDMModel> xmlTimer = timerBasedFactory.forXml(MonitoringFlowStatics.XML_EVENTS);
+			final ObjectTimer<GDMModel> gdmModelsTimer = timerBasedFactory.forObject(MonitoringFlowStatics.PARSED_XML_RECORDS);
+
+			chunkOpener
+					.setReceiver(decoder)
+					.setReceiver(xmlTimer)
+					.setReceiver(encoder)
+					.setReceiver(gdmModelsTimer)
+					.setReceiver(collector);
+
+			pipelines.add(new PartitionedTransformation.Pipeline<>(chunkOpener, collector, CHUNK_QUEUE_CAPACITY));
+		}
+
+		final XmlRecordSplitter splitter = new XmlRecordSplitter(recordTagName.get(), recordsPerChunk);
+		final ObjectTimer<Reader> inputTimer = timerBasedFactory.forObject(MonitoringFlowStatics.INPUT_RESOURCE_FILES);
+
+		final Observable<Tuple<String, String>> chunks = Observable.create(new Observable.OnSubscribe<Tuple<String, String>>() {
+
+			@Override public void call(final Subscriber<? super Tuple<String, String>> subscriber) {
+
+				opener
+						.setReceiver(inputTimer)
+						.setReceiver(splitter)
+						.setReceiver(new DefaultObjectReceiver<String>() {
+
+							@Override public void process(final String chunk) {
+
+								subscriber.onNext(Tuple.<String, String>tuple(null, chunk));
+							}
+						});
+
+				try {
+
+					opener.process(object);
+					opener.closeStream();
+
+					subscriber.onCompleted();
+				} catch (final Throwable e) {
+
+					subscriber.onError(e);
+				}
+			}
+		});
+
+		final GDMModelReceiver writer = new GDMModelReceiver();
+		final PartitionedTransformation<String> partitionedTransformation = new PartitionedTransformation<>(pipelines, writer, preserveOrder);
+
+		return Observable.create(new Observable.OnSubscribe<GDMModel>() {
+
+			@Override public void call(final Subscriber<? super GDMModel> subscriber) {
+
+				final Timer.Context morphContext = morphTimer.time();
+
+				writer.getObservable().doOnTerminate(morphContext::stop).subscribe(subscriber);
+
+				subscriber.add(partitionedTransformation.process(chunks));
+			}
+		});
+	}
+
 	private static Optional<String> getStringParameter(final Configuration configuration, final String key) throws DMPConverterException {
 		final JsonNode jsonNode = getParameterValue(configuration, key);
 		if (jsonNode == null) {
@@ -179,4 +283,16 @@ public class XMLSourceResourceGDMStmtsFlow {
 
 		return valueNode;
 	}
+
+	/**
+	 * Opens a chunk of an XML resource, i.e., an independent XML document (the record identifier of the tuple is not utilised).
+	 */
+	private static final class ChunkOpener extends DefaultObjectPipe<Tuple<String, String>, ObjectReceiver<Reader>> {
+
+		@Override
+		public void process(final Tuple<String, String> chunk) {
+
+			getReceiver().process(new java.io.StringReader(chunk.v2()));
+		}
+	}
 }
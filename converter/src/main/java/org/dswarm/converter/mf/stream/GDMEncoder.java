@@ -15,10 +15,10 @@
  */
 package org.dswarm.converter.mf.stream;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Stack;
-import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.common.collect.Maps;
@@ -42,6 +42,7 @@ import org.dswarm.persistence.model.internal.gdm.GDMModel;
 import org.dswarm.persistence.model.resource.DataModel;
 import org.dswarm.persistence.model.resource.utils.DataModelUtils;
 import org.dswarm.persistence.model.schema.utils.SchemaUtils;
+import org.dswarm.persistence.service.UUIDService;
 import org.dswarm.persistence.util.GDMUtil;
 
 /**
@@ -57,6 +58,13 @@ import org.dswarm.persistence.util.GDMUtil;
 public final class GDMEncoder extends DefaultStreamPipe<ObjectReceiver<GDMModel>> {
 
 	private static final String RESOURCE_BASE_URI = SchemaUtils.BASE_URI + "resource/";
+
+	/**
+	 * The maximum number of entries of the URI, predicate and type caches. Their keys might be derived from values, i.e., they are not
+	 * necessarily bounded by the number of attributes of a schema.
+	 */
+	private static final int MAX_CACHED_TERMS = 10000;
+
 	private       String                                currentId;
 	private       Model                                 internalGDMModel;
 	private       ResourceNode                          recordNode;
@@ -71,10 +79,15 @@ public final class GDMEncoder extends DefaultStreamPipe<ObjectReceiver<GDMModel>
 	private final Optional<DataModel> dataModel;
 	private final Optional<String>    dataModelUri;
 
-	private final Map<String, Predicate>    predicates   = Maps.newHashMap();
-	private final Map<String, AtomicLong>   valueCounter = Maps.newHashMap();
-	private final Map<String, ResourceNode> types        = Maps.newHashMap();
-	private final Map<String, String>       uris         = Maps.newHashMap();
+	private final Map<String, Predicate>    predicates   = new BoundedCache<>(MAX_CACHED_TERMS);
+	private final Map<String, ResourceNode> types        = new BoundedCache<>(MAX_CACHED_TERMS);
+	private final Map<String, String>       uris         = new BoundedCache<>(MAX_CACHED_TERMS);
+
+	/**
+	 * The order counters of the statements of the current record (by subject and predicate). Subjects are the record or its entities, i.e.,
+	 * the counters are reset at every new record.
+	 */
+	private final Map<String, AtomicLong> valueCounter = Maps.newHashMap();
 
 	public GDMEncoder(final Optional<DataModel> dataModel) {
 
@@ -94,6 +107,8 @@ public final class GDMEncoder extends DefaultStreamPipe<ObjectReceiver<GDMModel>
 
 		currentId = SchemaUtils.isValidUri(identifier) ? identifier : SchemaUtils.mintRecordUri(identifier, currentId, dataModel);
 
+		valueCounter.clear();
+
 		internalGDMModel = new Model();
 		recordResource = getOrCreateResource(currentId);
 
@@ -131,6 +146,9 @@ public final class GDMEncoder extends DefaultStreamPipe<ObjectReceiver<GDMModel>
 		currentId = null;
 		recordNode = null;
 		recordType = null;
+		internalGDMModel = null;
+		recordResource = null;
+		valueCounter.clear();
 
 		getReceiver().process(gdmModel);
 
@@ -275,21 +293,14 @@ public final class GDMEncoder extends DefaultStreamPipe<ObjectReceiver<GDMModel>
 
 	private static String mintEntityUri() {
 
-		return RESOURCE_BASE_URI + UUID.randomUUID();
+		return RESOURCE_BASE_URI + UUIDService.getUUID();
 	}
 
 	private Predicate getPredicate(final String predicateId) {
 
 		final String predicateURI = getURI(predicateId);
 
-		if (!predicates.containsKey(predicateURI)) {
-
-			final Predicate predicate = new Predicate(predicateURI);
-
-			predicates.put(predicateURI, predicate);
-		}
-
-		return predicates.get(predicateURI);
+		return predicates.computeIfAbsent(predicateURI, Predicate::new);
 	}
 
 	private void addStatement(final Node subject, final Predicate predicate, final Node object) {
@@ -306,41 +317,21 @@ public final class GDMEncoder extends DefaultStreamPipe<ObjectReceiver<GDMModel>
 
 		key += "::" + predicate.getUri();
 
-		if (!valueCounter.containsKey(key)) {
-
-			final AtomicLong valueCounterForKey = new AtomicLong(0);
-			valueCounter.put(key, valueCounterForKey);
-		}
-
-		final Long order = valueCounter.get(key).incrementAndGet();
+		final Long order = valueCounter.computeIfAbsent(key, k -> new AtomicLong(0)).incrementAndGet();
 
 		currentResource.addStatement(subject, predicate, object, order);
 	}
 
 	private String getURI(final String id) {
 
-		if (!uris.containsKey(id)) {
-
-			final String uri = SchemaUtils.isValidUri(id) ? id : SchemaUtils.mintTermUri(null, id, dataModelUri);
-
-			uris.put(id, uri);
-		}
-
-		return uris.get(id);
+		return uris.computeIfAbsent(id, i -> SchemaUtils.isValidUri(i) ? i : SchemaUtils.mintTermUri(null, i, dataModelUri));
 	}
 
 	private ResourceNode getType(final String typeId) {
 
 		final String typeURI = getURI(typeId);
 
-		if (!types.containsKey(typeURI)) {
-
-			final ResourceNode type = new ResourceNode(typeURI);
-
-			types.put(typeURI, type);
-		}
-
-		return types.get(typeURI);
+		return types.computeIfAbsent(typeURI, ResourceNode::new);
 	}
 
 	private Resource getOrCreateResource(final String resourceURI) {
@@ -358,4 +349,36 @@ public final class GDMEncoder extends DefaultStreamPipe<ObjectReceiver<GDMModel>
 		return newResource;
 	}
 
+	int getValueCounterSize() {
+
+		return valueCounter.size();
+	}
+
+	int getCachedTermsSize() {
+
+		return uris.size() + predicates.size() + types.size();
+	}
+
+	/**
+	 * A map that keeps at most the given number of entries, i.e., the least recently accessed entry is removed on overflow.
+	 */
+	private static final class BoundedCache<K, V> extends LinkedHashMap<K, V> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int maxSize;
+
+		private BoundedCache(final int maxSize) {
+
+			super(16, 0.75f, true);
+
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+
+			return size() > maxSize;
+		}
+	}
 }
@@ -0,0 +1,462 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.mf.stream.converter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import com.google.common.base.Preconditions;
+import org.culturegraph.mf.exceptions.MetafactureException;
+import org.culturegraph.mf.framework.DefaultObjectPipe;
+import org.culturegraph.mf.framework.ObjectReceiver;
+import org.culturegraph.mf.framework.annotations.Description;
+import org.culturegraph.mf.framework.annotations.In;
+import org.culturegraph.mf.framework.annotations.Out;
+
+/**
+ * Splits an XML document at the boundaries of its records into chunks of a given number of records, without parsing the document. Every chunk
+ * is a well-formed XML document on its own, i.e., the records are wrapped by the (raw) start tags of their ancestor elements, so that the
+ * namespace declarations of the ancestors are still in place. Hence, the chunks can be parsed and triplified independently of each other.<br/>
+ * The scanner is aware of comments, CDATA sections, processing instructions and (quoted) attribute values. Records are identified by the local
+ * name of their element; nested elements with the same qualified name are part of the enclosing record. The document type declaration
+ * (incl. its internal subset) is copied into every chunk, so that the records can still refer to the entities that are declared there. Content
+ * between records and the XML declaration won't be part of the chunks.
+ */
+@Description("Splits an XML document into chunks of records.")
+@In(Reader.class)
+@Out(String.class)
+public final class XmlRecordSplitter extends DefaultObjectPipe<Reader, ObjectReceiver<String>> {
+
+	private static final int    BUFFER_SIZE = 65536;
+	private static final String DOCTYPE     = "<!DOCTYPE";
+
+	private final String recordTagName;
+	private final int    recordsPerChunk;
+
+	/**
+	 * @param recordTagName   the local name of the element that marks a record
+	 * @param recordsPerChunk the (maximum) number of records of a chunk
+	 */
+	public XmlRecordSplitter(final String recordTagName, final int recordsPerChunk) {
+
+		this.recordTagName = Preconditions.checkNotNull(recordTagName);
+		this.recordsPerChunk = Math.max(1, recordsPerChunk);
+	}
+
+	@Override
+	public void process(final Reader reader) {
+
+		assert !isClosed();
+		assert null != reader;
+
+		try {
+
+			new Scanner(reader, getReceiver()).scan();
+		} catch (final IOException e) {
+
+			throw new MetafactureException("couldn't read XML input", e);
+		}
+	}
+
+	private final class Scanner {
+
+		private final Reader                 reader;
+		private final ObjectReceiver<String> receiver;
+
+		private final char[] buffer = new char[BUFFER_SIZE];
+		private int position;
+		private int limit;
+
+		/**
+		 * the qualified names and the raw start tags of the currently open elements outside of a record
+		 */
+		private final Deque<String[]> ancestors = new ArrayDeque<>();
+
+		private final StringBuilder tag   = new StringBuilder();
+		private final StringBuilder chunk = new StringBuilder();
+
+		private List<String[]> chunkAncestors;
+		private int            recordsInChunk;
+
+		private String recordQName;
+		private int    recordDepth;
+
+		/**
+		 * the raw document type declaration (incl. its internal subset), if any
+		 */
+		private String doctype;
+
+		private Scanner(final Reader reader, final ObjectReceiver<String> receiver) {
+
+			this.reader = reader;
+			this.receiver = receiver;
+		}
+
+		private void scan() throws IOException {
+
+			int c;
+
+			while ((c = read()) != -1) {
+
+				if (c != '<') {
+
+					if (recordQName != null) {
+
+						chunk.append((char) c);
+					}
+
+					continue;
+				}
+
+				tag.setLength(0);
+				tag.append('<');
+
+				final int next = read();
+
+				if (next == '!') {
+
+					tag.append('!');
+					readMarkupDeclaration();
+
+					if (recordQName == null && doctype == null && isDoctype()) {
+
+						doctype = tag.toString();
+					}
+				} else if (next == '?') {
+
+					tag.append('?');
+					readUntil("?>");
+				} else if (next == '/') {
+
+					tag.append('/');
+					readTag();
+					endElement();
+
+					continue;
+				} else if (next != -1) {
+
+					tag.append((char) next);
+					readTag();
+					startElement();
+
+					continue;
+				}
+
+				if (recordQName != null) {
+
+					chunk.append(tag);
+				}
+			}
+
+			if (recordQName != null) {
+
+				throw new MetafactureException(String.format("unexpected end of XML input in record '%s'", recordQName));
+			}
+
+			flush();
+		}
+
+		private void startElement() {
+
+			final String qName = elementName(1);
+			final boolean emptyElement = tag.charAt(tag.length() - 2) == '/';
+
+			if (recordQName != null) {
+
+				chunk.append(tag);
+
+				if (!emptyElement && qName.equals(recordQName)) {
+
+					recordDepth++;
+				}
+
+				return;
+			}
+
+			if (!isRecordTag(qName)) {
+
+				if (!emptyElement) {
+
+					ancestors.push(new String[] { qName, tag.toString() });
+				}
+
+				return;
+			}
+
+			if (chunkAncestors != null && !sameAncestors()) {
+
+				// the records of a chunk need to share their ancestors
+				flush();
+			}
+
+			if (chunkAncestors == null) {
+
+				startChunk();
+			}
+
+			chunk.append(tag);
+
+			if (emptyElement) {
+
+				endRecord();
+			} else {
+
+				recordQName = qName;
+				recordDepth = 1;
+			}
+		}
+
+		private void endElement() {
+
+			final String qName = elementName(2);
+
+			if (recordQName == null) {
+
+				if (!ancestors.isEmpty() && ancestors.peek()[0].equals(qName)) {
+
+					ancestors.pop();
+				}
+
+				return;
+			}
+
+			chunk.append(tag);
+
+			if (qName.equals(recordQName) && --recordDepth == 0) {
+
+				recordQName = null;
+				endRecord();
+			}
+		}
+
+		private void endRecord() {
+
+			if (++recordsInChunk >= recordsPerChunk) {
+
+				flush();
+			}
+		}
+
+		private void startChunk() {
+
+			chunkAncestors = new ArrayList<>(ancestors);
+
+			if (doctype != null) {
+
+				chunk.append(doctype);
+			}
+
+			final Iterator<String[]> iterator = ancestors.descendingIterator();
+
+			while (iterator.hasNext()) {
+
+				chunk.append(iterator.next()[1]);
+			}
+		}
+
+		private void flush() {
+
+			if (chunkAncestors == null) {
+
+				return;
+			}
+
+			for (final String[] ancestor : chunkAncestors) {
+
+				chunk.append("</").append(ancestor[0]).append('>');
+			}
+
+			receiver.process(chunk.toString());
+
+			chunk.setLength(0);
+			chunkAncestors = null;
+			recordsInChunk = 0;
+		}
+
+		private boolean sameAncestors() {
+
+			if (chunkAncestors.size() != ancestors.size()) {
+
+				return false;
+			}
+
+			final Iterator<String[]> iterator = ancestors.iterator();
+
+			for (final String[] chunkAncestor : chunkAncestors) {
+
+				if (chunkAncestor != iterator.next()) {
+
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private boolean isRecordTag(final String qName) {
+
+			final int colon = qName.indexOf(':');
+
+			return qName.regionMatches(colon + 1, recordTagName, 0, recordTagName.length())
+					&& qName.length() - colon - 1 == recordTagName.length();
+		}
+
+		private String elementName(final int offset) {
+
+			int end = offset;
+
+			while (end < tag.length()) {
+
+				final char c = tag.charAt(end);
+
+				if (c == '>' || c == '/' || Character.isWhitespace(c)) {
+
+					break;
+				}
+
+				end++;
+			}
+
+			return tag.substring(offset, end);
+		}
+
+		/**
+		 * Reads the remainder of a start or end tag (incl. the closing '>'), i.e., '>' in quoted attribute values is skipped.
+		 */
+		private void readTag() throws IOException {
+
+			int quote = 0;
+			int c;
+
+			while ((c = read()) != -1) {
+
+				tag.append((char) c);
+
+				if (quote != 0) {
+
+					if (c == quote) {
+
+						quote = 0;
+					}
+				} else if (c == '"' || c == '\'') {
+
+					quote = c;
+				} else if (c == '>') {
+
+					return;
+				}
+			}
+
+			throw new MetafactureException("unexpected end of XML input in tag");
+		}
+
+		private boolean isDoctype() {
+
+			return tag.length() > DOCTYPE.length() && tag.substring(0, DOCTYPE.length()).equals(DOCTYPE);
+		}
+
+		/**
+		 * Reads the remainder of a comment, a CDATA section or a (document type) declaration.
+		 */
+		private void readMarkupDeclaration() throws IOException {
+
+			int c = read();
+
+			if (c == '-') {
+
+				tag.append('-');
+				readUntil("-->");
+
+				return;
+			}
+
+			if (c == '[') {
+
+				tag.append('[');
+				readUntil("]]>");
+
+				return;
+			}
+
+			// a declaration, e.g., <!DOCTYPE ...> (maybe with an internal subset)
+			int openBrackets = 0;
+
+			while (c != -1) {
+
+				tag.append((char) c);
+
+				if (c == '[') {
+
+					openBrackets++;
+				} else if (c == ']') {
+
+					openBrackets--;
+				} else if (c == '>' && openBrackets <= 0) {
+
+					return;
+				}
+
+				c = read();
+			}
+
+			throw new MetafactureException("unexpected end of XML input in declaration");
+		}
+
+		private void readUntil(final String terminator) throws IOException {
+
+			final int terminatorLength = terminator.length();
+			int c;
+
+			while ((c = read()) != -1) {
+
+				tag.append((char) c);
+
+				final int tagLength = tag.length();
+
+				if (c == terminator.charAt(terminatorLength - 1) && tagLength >= terminatorLength
+						&& tag.indexOf(terminator, tagLength - terminatorLength) != -1) {
+
+					return;
+				}
+			}
+
+			throw new MetafactureException(String.format("unexpected end of XML input, expected '%s'", terminator));
+		}
+
+		private int read() throws IOException {
+
+			if (position == limit) {
+
+				limit = reader.read(buffer, 0, buffer.length);
+				position = 0;
+
+				if (limit <= 0) {
+
+					limit = 0;
+
+					return -1;
+				}
+			}
+
+			return buffer[position++];
+		}
+	}
+}
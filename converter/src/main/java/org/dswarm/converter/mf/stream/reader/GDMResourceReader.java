@@ -0,0 +1,179 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.mf.stream.reader;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.culturegraph.mf.framework.DefaultObjectPipe;
+import org.culturegraph.mf.framework.StreamReceiver;
+
+import org.dswarm.common.types.Tuple;
+import org.dswarm.graph.json.LiteralNode;
+import org.dswarm.graph.json.Model;
+import org.dswarm.graph.json.Node;
+import org.dswarm.graph.json.Resource;
+import org.dswarm.graph.json.ResourceNode;
+import org.dswarm.graph.json.Statement;
+import org.dswarm.persistence.util.DMPPersistenceUtil;
+import org.dswarm.persistence.util.GDMResourceIndex;
+
+/**
+ * Emits the Metamorph events of a GDM record directly from the statements of its record resource, i.e., without converting the record to
+ * JSON first (see {@link org.dswarm.persistence.model.internal.gdm.GDMModel#toRawJSON()} + {@link JsonNodeReader}). The emitted events
+ * are equal to the events of the JSON route:<br/>
+ * - the statements of a node are grouped by their predicates (in the order of the first occurrence of a predicate)<br/>
+ * - literals and resources without statements are emitted as literals<br/>
+ * - blank nodes and resources with statements are emitted as entities (resources additionally with their URI as record id literal)<br/>
+ * - the statements of a resource node are looked up in the resource with the same URI in the model of the record (if there is one) and
+ * otherwise in the resource of the parent node
+ */
+public class GDMResourceReader extends DefaultObjectPipe<Tuple<String, Model>, StreamReceiver> {
+
+	private final Optional<String> recordPrefix;
+
+	public GDMResourceReader() {
+
+		this(null);
+	}
+
+	public GDMResourceReader(@Nullable final String recordPrefix) {
+
+		this.recordPrefix = Optional.fromNullable(recordPrefix);
+	}
+
+	@Override
+	public void process(final Tuple<String, Model> tuple) {
+
+		final StreamReceiver receiver = getReceiver();
+
+		final String recordURI = tuple.v1();
+		final Model model = tuple.v2();
+
+		receiver.startRecord(recordURI);
+		if (recordPrefix.isPresent()) {
+			receiver.startEntity(recordPrefix.get());
+		}
+
+		final Resource recordResource = model != null ? model.getResource(recordURI) : null;
+
+		if (recordResource != null) {
+
+			final Map<String, GDMResourceIndex> resourceIndices = Maps.newHashMap();
+			final GDMResourceIndex recordResourceIndex = getResourceIndex(recordResource, resourceIndices);
+			final ResourceNode recordResourceNode = recordResourceIndex.getResourceNode(recordURI);
+
+			if (recordResourceNode != null) {
+
+				processStatements(receiver, model, recordResource, recordResourceIndex.getResourceStatements(recordResourceNode),
+						resourceIndices);
+			}
+		}
+
+		if (recordPrefix.isPresent()) {
+			receiver.endEntity();
+		}
+		receiver.endRecord();
+	}
+
+	private void processStatements(final StreamReceiver receiver, final Model model, final Resource resource, final Set<Statement> statements,
+			final Map<String, GDMResourceIndex> resourceIndices) {
+
+		// group statements by predicate (in the order of their first occurrence)
+		final Map<String, List<Node>> objectsByPredicate = Maps.newLinkedHashMap();
+
+		for (final Statement statement : statements) {
+
+			objectsByPredicate.computeIfAbsent(statement.getPredicate().getUri(), predicateURI -> Lists.newArrayList()).add(statement.getObject());
+		}
+
+		for (final Map.Entry<String, List<Node>> objectsEntry : objectsByPredicate.entrySet()) {
+
+			final String predicateURI = objectsEntry.getKey();
+
+			for (final Node object : objectsEntry.getValue()) {
+
+				processObject(receiver, model, resource, predicateURI, object, resourceIndices);
+			}
+		}
+	}
+
+	private void processObject(final StreamReceiver receiver, final Model model, final Resource resource, final String predicateURI,
+			final Node object, final Map<String, GDMResourceIndex> resourceIndices) {
+
+		if (object instanceof LiteralNode) {
+
+			receiver.literal(predicateURI, ((LiteralNode) object).getValue());
+
+			return;
+		}
+
+		// TODO: define stop criteria to avoid running in endless loops
+
+		if (object instanceof ResourceNode) {
+
+			final String objectURI = ((ResourceNode) object).getUri();
+
+			// a resource node may be described by a resource of its own in the model (otherwise, it's described in the current resource)
+			final Resource modelObjectResource = model.getResource(objectURI);
+			final Resource objectResource = modelObjectResource != null ? modelObjectResource : resource;
+
+			final Set<Statement> objectStatements = getResourceIndex(objectResource, resourceIndices).getResourceStatements(object);
+
+			if (objectStatements.isEmpty()) {
+
+				receiver.literal(predicateURI, objectURI);
+
+				return;
+			}
+
+			// resource has an uri, but is deeper in the hierarchy => record_id will be attached inline
+
+			receiver.startEntity(predicateURI);
+			processStatements(receiver, model, objectResource, objectStatements, resourceIndices);
+			receiver.literal(DMPPersistenceUtil.RECORD_ID, objectURI);
+			receiver.endEntity();
+
+			return;
+		}
+
+		// node is (/must be) a blank node, i.e., it is described in the current resource
+
+		final Set<Statement> objectStatements = getResourceIndex(resource, resourceIndices).getResourceStatements(object);
+
+		if (objectStatements.isEmpty()) {
+
+			// an empty entity won't be emitted at all
+
+			return;
+		}
+
+		receiver.startEntity(predicateURI);
+		processStatements(receiver, model, resource, objectStatements, resourceIndices);
+		receiver.endEntity();
+	}
+
+	private static GDMResourceIndex getResourceIndex(final Resource resource, final Map<String, GDMResourceIndex> resourceIndices) {
+
+		return resourceIndices.computeIfAbsent(resource.getUri(), resourceURI -> new GDMResourceIndex(resource));
+	}
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.mf.stream.source;
+
+import java.util.Map;
+
+import com.google.common.collect.Maps;
+import org.culturegraph.mf.exceptions.MetafactureException;
+import org.culturegraph.mf.framework.DefaultStreamPipe;
+import org.culturegraph.mf.framework.ObjectReceiver;
+import org.culturegraph.mf.framework.StreamReceiver;
+import org.culturegraph.mf.framework.annotations.Description;
+import org.culturegraph.mf.framework.annotations.In;
+import org.culturegraph.mf.framework.annotations.Out;
+
+import org.dswarm.graph.json.LiteralNode;
+import org.dswarm.graph.json.Model;
+import org.dswarm.graph.json.Predicate;
+import org.dswarm.graph.json.Resource;
+import org.dswarm.graph.json.ResourceNode;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+import org.dswarm.persistence.model.resource.DataModel;
+import org.dswarm.persistence.model.resource.utils.DataModelUtils;
+import org.dswarm.persistence.util.GDMUtil;
+
+/**
+ * Converts the (flat) records of a CSV resource, i.e., the events of a {@link org.dswarm.converter.mf.stream.converter.CsvDecoder}, directly
+ * to GDM records. Every column value becomes a literal statement of the record resource with the column (URI) as predicate. The predicates of
+ * the columns are created only once per input, since the columns are the same for every row.
+ */
+@Description("triplifies CSV records to our graph data model")
+@In(StreamReceiver.class)
+@Out(GDMModel.class)
+public final class CSVGDMEncoder extends DefaultStreamPipe<ObjectReceiver<GDMModel>> {
+
+	private static final String RECORD_TYPE_POSTFIX = "RecordType";
+
+	private final DataModel    dataModel;
+	private final String       recordClassURI;
+	private final ResourceNode recordClassNode;
+	private final Predicate    rdfType = new Predicate(GDMUtil.RDF_type);
+
+	private final Map<String, Predicate> predicates = Maps.newHashMap();
+
+	private Resource     recordResource;
+	private ResourceNode recordNode;
+
+	/**
+	 * @param dataModel the data model of the records, i.e., the record URIs and the record type will be minted from it
+	 */
+	public CSVGDMEncoder(final DataModel dataModel) {
+
+		this.dataModel = dataModel;
+
+		recordClassURI = DataModelUtils.determineDataModelSchemaBaseURI(dataModel) + RECORD_TYPE_POSTFIX;
+		recordClassNode = new ResourceNode(recordClassURI);
+	}
+
+	@Override
+	public void startRecord(final String identifier) {
+
+		assert !isClosed();
+
+		// the line number is not utilised as identifier, i.e., a new record uri will be minted
+		recordResource = DataModelUtils.mintRecordResource(dataModel);
+		recordNode = new ResourceNode(recordResource.getUri());
+
+		recordResource.addStatement(recordNode, rdfType, recordClassNode);
+	}
+
+	@Override
+	public void endRecord() {
+
+		assert !isClosed();
+
+		final Model model = new Model();
+		model.addResource(recordResource);
+
+		recordResource = null;
+		recordNode = null;
+
+		getReceiver().process(new GDMModel(model, null, recordClassURI));
+	}
+
+	@Override
+	public void startEntity(final String name) {
+
+		throw new MetafactureException(String.format("CSV records are flat, i.e., they can't contain entities like '%s'", name));
+	}
+
+	@Override
+	public void endEntity() {
+
+		throw new MetafactureException("CSV records are flat, i.e., they can't contain entities");
+	}
+
+	@Override
+	public void literal(final String name, final String value) {
+
+		assert !isClosed();
+
+		if (recordResource == null) {
+
+			throw new MetafactureException("couldn't get a resource for adding this property");
+		}
+
+		recordResource.addStatement(recordNode, getPredicate(name), new LiteralNode(value));
+	}
+
+	private Predicate getPredicate(final String name) {
+
+		Predicate predicate = predicates.get(name);
+
+		if (predicate == null) {
+
+			predicate = new Predicate(name);
+
+			predicates.put(name, predicate);
+		}
+
+		return predicate;
+	}
+}
@@ -15,12 +15,11 @@
  */
 package org.dswarm.converter.mf.stream.source;
 
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Stack;
-import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.regex.Pattern;
 
 import javax.annotation.Nullable;
 
@@ -49,6 +48,7 @@ import org.dswarm.persistence.model.internal.gdm.GDMModel;
 import org.dswarm.persistence.model.resource.DataModel;
 import org.dswarm.persistence.model.resource.utils.DataModelUtils;
 import org.dswarm.persistence.model.schema.utils.SchemaUtils;
+import org.dswarm.persistence.service.UUIDService;
 import org.dswarm.persistence.util.GDMUtil;
 
 /**
@@ -72,8 +72,6 @@ public final class XMLGDMEncoder extends DefaultXmlPipe<ObjectReceiver<GDMModel>
 
 	private static final String DATA_MODEL_BASE_URI = SchemaUtils.DATA_MODEL_BASE_URI + "%s";
 
-	private static final Pattern TABS = Pattern.compile("\t+");
-
 	/**
 	 * note: recordTagName is not biunique, i.e., the record tag name can occur in different name spaces; hence, a record tag
 	 * uniqueness is only give by a complete uri
@@ -86,20 +84,32 @@ public final class XMLGDMEncoder extends DefaultXmlPipe<ObjectReceiver<GDMModel>
 	private String recordTagUri = null;
 
 	private boolean inRecord;
-	private StringBuilder valueBuffer = new StringBuilder();
+	private final StringBuilder valueBuffer = new StringBuilder();
 	private String       uri;
+	private boolean      cacheableUri;
 	private ResourceNode recordType;
 
 	private final Optional<DataModel> dataModel;
 	private final Optional<String>    dataModelUri;
 
-	private       long                      nodeIdCounter = 1;
+	private final AtomicLong                nodeIdCounter;
 	private final Predicate                 rdfType       = new Predicate(GDMUtil.RDF_type);
 	private final Map<String, Predicate>    predicates    = Maps.newHashMap();
 	private final Map<String, ResourceNode> types         = Maps.newHashMap();
-	private final Map<String, AtomicLong>   valueCounter  = Maps.newHashMap();
+	private final Map<String, ResourceNode> entityTypes   = Maps.newHashMap();
 	private final Map<String, String>       uris          = Maps.newHashMap();
 
+	/**
+	 * the minted URIs of elements and attributes per namespace and local name
+	 */
+	private final Map<String, Map<String, String>> mintedUris = Maps.newHashMap();
+
+	/**
+	 * the order counters of the statements of the current record per subject (node) and predicate, i.e., the node and predicate instances are
+	 * unique within a record
+	 */
+	private final Map<Node, Map<Predicate, AtomicLong>> valueCounter = new IdentityHashMap<>();
+
 	public XMLGDMEncoder(final Optional<DataModel> dataModel) {
 		super();
 
@@ -110,6 +120,7 @@ public final class XMLGDMEncoder extends DefaultXmlPipe<ObjectReceiver<GDMModel>
 
 		this.dataModel = dataModel;
 		dataModelUri = init(dataModel);
+		nodeIdCounter = new AtomicLong(1);
 
 		// init
 		elementURIStack = new Stack<>();
@@ -117,8 +128,20 @@ public final class XMLGDMEncoder extends DefaultXmlPipe<ObjectReceiver<GDMModel>
 	}
 
 	public XMLGDMEncoder(final String recordTagName, final Optional<DataModel> dataModel) {
+
+		this(recordTagName, dataModel, new AtomicLong(1));
+	}
+
+	/**
+	 * @param recordTagName the local name of the element that marks a record
+	 * @param dataModel     the data model of the records
+	 * @param nodeIdCounter the source of the node ids, that can be shared by several encoders that triplify parts of the same input, so that
+	 *                      the node ids are unique across all of them
+	 */
+	public XMLGDMEncoder(final String recordTagName, final Optional<DataModel> dataModel, final AtomicLong nodeIdCounter) {
 		super();
 		this.recordTagName = Preconditions.checkNotNull(recordTagName);
+		this.nodeIdCounter = Preconditions.checkNotNull(nodeIdCounter);
 
 		this.dataModel = dataModel;
 		dataModelUri = init(dataModel);
@@ -131,22 +154,25 @@ public final class XMLGDMEncoder extends DefaultXmlPipe<ObjectReceiver<GDMModel>
 	@Override
 	public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) throws SAXException {
 
+		cacheableUri = isCacheable(uri);
 		this.uri = mintDataModelUri(uri);
 
 		elementURIStack.push(this.uri);
 
 		if (inRecord) {
 			writeValue();
-			startEntity(SchemaUtils.mintUri(uri, localName));
+			startEntity(mintUri(uri, localName, true));
 			writeAttributes(attributes);
 		} else if (localName.equals(recordTagName)) {
 
+			final String elementUri = mintUri(this.uri, localName, cacheableUri);
+
 			if (recordTagUri == null) {
 
-				recordTagUri = SchemaUtils.mintUri(elementURIStack.peek(), localName);
+				recordTagUri = elementUri;
 			}
 
-			if (recordTagUri.equals(SchemaUtils.mintUri(elementURIStack.peek(), localName))) {
+			if (recordTagUri.equals(elementUri)) {
 
 				// TODO: how to determine the id of an record, or should we mint uris?
 				final String identifier = attributes.getValue("id");
@@ -167,7 +193,7 @@ public final class XMLGDMEncoder extends DefaultXmlPipe<ObjectReceiver<GDMModel>
 
 			final String elementUri = elementURIStack.pop();
 
-			if (recordTagUri.equals(SchemaUtils.mintUri(elementUri, localName))) {
+			if (recordTagUri.equals(mintUri(elementUri, localName, isCacheable(uri)))) {
 				inRecord = false;
 				endRecord();
 			} else {
@@ -179,23 +205,62 @@ public final class XMLGDMEncoder extends DefaultXmlPipe<ObjectReceiver<GDMModel>
 	@Override
 	public void characters(final char[] chars, final int start, final int length) throws SAXException {
 		if (inRecord) {
-			valueBuffer.append(XMLGDMEncoder.TABS.matcher(new String(chars, start, length)).replaceAll(""));
+
+			// tabs are removed and line breaks are replaced by spaces, i.e., runs of other characters are appended as they are
+			final int end = start + length;
+			int runStart = start;
+
+			for (int i = start; i < end; i++) {
+
+				final char c = chars[i];
+
+				if (c == '\t' || c == '\n') {
+
+					valueBuffer.append(chars, runStart, i - runStart);
+
+					if (c == '\n') {
+
+						valueBuffer.append(' ');
+					}
+
+					runStart = i + 1;
+				}
+			}
+
+			valueBuffer.append(chars, runStart, end - runStart);
 		}
 	}
 
 	private void writeValue() {
-		final String value = valueBuffer.toString();
-		if (!value.trim().isEmpty()) {
-			literal(GDMUtil.RDF_value, value.replace('\n', ' '));
+		if (!isBlank(valueBuffer)) {
+			literal(GDMUtil.RDF_value, valueBuffer.toString());
 		}
-		valueBuffer = new StringBuilder();
+		valueBuffer.setLength(0);
+	}
+
+	/**
+	 * @return true, if the given value consists only of whitespace or control characters (see {@link String#trim()})
+	 */
+	private static boolean isBlank(final CharSequence value) {
+
+		final int length = value.length();
+
+		for (int i = 0; i < length; i++) {
+
+			if (value.charAt(i) > ' ') {
+
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	private void writeAttributes(final Attributes attributes) {
 		final int length = attributes.getLength();
 
 		for (int i = 0; i < length; ++i) {
-			final String name = SchemaUtils.mintUri(uri, attributes.getLocalName(i));
+			final String name = mintUri(uri, attributes.getLocalName(i), cacheableUri);
 			final String value = attributes.getValue(i);
 			literal(name, value);
 		}
@@ -212,6 +277,7 @@ public final class XMLGDMEncoder extends DefaultXmlPipe<ObjectReceiver<GDMModel>
 		model = new Model();
 		recordResource = new Resource(currentId);
 		recordNode = new ResourceNode(currentId);
+		valueCounter.clear();
 
 		// init
 		entityStack = new Stack<>();
@@ -282,7 +348,13 @@ public final class XMLGDMEncoder extends DefaultXmlPipe<ObjectReceiver<GDMModel>
 		}
 
 		// sub resource type
-		final ResourceNode entityType = getType(name + SchemaUtils.TYPE_POSTFIX);
+		ResourceNode entityType = entityTypes.get(name);
+
+		if (entityType == null) {
+
+			entityType = getType(name + SchemaUtils.TYPE_POSTFIX);
+			entityTypes.put(name, entityType);
+		}
 
 		addStatement(entityNode, rdfType, entityType);
 
@@ -350,82 +422,117 @@ public final class XMLGDMEncoder extends DefaultXmlPipe<ObjectReceiver<GDMModel>
 				return dataModelUri.get();
 			}
 
-			return String.format(DATA_MODEL_BASE_URI, UUID.randomUUID());
+			return String.format(DATA_MODEL_BASE_URI, UUIDService.getUUID());
 		}
 
 		return uri;
 	}
 
-	private long getNewNodeId() {
+	/**
+	 * note: without namespace and data model, a random namespace will be minted per element, i.e., the URIs of this namespace won't be cached
+	 */
+	private boolean isCacheable(@Nullable final String uri) {
 
-		final long newNodeId = nodeIdCounter;
-		nodeIdCounter++;
+		return !Strings.isNullOrEmpty(uri) || dataModelUri.isPresent();
+	}
+
+	private String mintUri(final String namespace, final String localName, final boolean cacheable) {
+
+		if (!cacheable) {
+
+			return SchemaUtils.mintUri(namespace, localName);
+		}
+
+		Map<String, String> mintedUrisOfNamespace = mintedUris.get(namespace);
 
-		return newNodeId;
+		if (mintedUrisOfNamespace == null) {
+
+			mintedUrisOfNamespace = Maps.newHashMap();
+			mintedUris.put(namespace, mintedUrisOfNamespace);
+		}
+
+		String mintedUri = mintedUrisOfNamespace.get(localName);
+
+		if (mintedUri == null) {
+
+			mintedUri = SchemaUtils.mintUri(namespace, localName);
+			mintedUrisOfNamespace.put(localName, mintedUri);
+		}
+
+		return mintedUri;
+	}
+
+	private long getNewNodeId() {
+
+		return nodeIdCounter.getAndIncrement();
 	}
 
 	private Predicate getPredicate(final String predicateId) {
 
 		final String predicateURI = getURI(predicateId);
 
-		if (!predicates.containsKey(predicateURI)) {
+		Predicate predicate = predicates.get(predicateURI);
+
+		if (predicate == null) {
 
-			final Predicate predicate = new Predicate(predicateURI);
+			predicate = new Predicate(predicateURI);
 
 			predicates.put(predicateURI, predicate);
 		}
 
-		return predicates.get(predicateURI);
+		return predicate;
 	}
 
 	private ResourceNode getType(final String typeId) {
 
 		final String typeURI = getURI(typeId);
 
-		if (!types.containsKey(typeURI)) {
+		ResourceNode type = types.get(typeURI);
 
-			final ResourceNode type = new ResourceNode(typeURI);
+		if (type == null) {
+
+			type = new ResourceNode(typeURI);
 
 			types.put(typeURI, type);
 		}
 
-		return types.get(typeURI);
+		return type;
 	}
 
 	private void addStatement(final Node subject, final Predicate predicate, final Node object) {
 
-		String key;
+		Map<Predicate, AtomicLong> valueCountersOfSubject = valueCounter.get(subject);
 
-		if (subject instanceof ResourceNode) {
+		if (valueCountersOfSubject == null) {
 
-			key = ((ResourceNode) subject).getUri();
-		} else {
-
-			key = subject.getId().toString();
+			valueCountersOfSubject = new IdentityHashMap<>();
+			valueCounter.put(subject, valueCountersOfSubject);
 		}
 
-		key += "::" + predicate.getUri();
+		AtomicLong valueCounterForKey = valueCountersOfSubject.get(predicate);
 
-		if (!valueCounter.containsKey(key)) {
+		if (valueCounterForKey == null) {
 
-			final AtomicLong valueCounterForKey = new AtomicLong(0);
-			valueCounter.put(key, valueCounterForKey);
+			valueCounterForKey = new AtomicLong(0);
+			valueCountersOfSubject.put(predicate, valueCounterForKey);
 		}
 
-		final Long order = valueCounter.get(key).incrementAndGet();
+		final long order = valueCounterForKey.incrementAndGet();
 
 		recordResource.addStatement(subject, predicate, object, order);
 	}
 
 	private String getURI(final String id) {
 
-		if (!uris.containsKey(id)) {
+		String uri = uris.get(id);
+
+		if (uri == null) {
 
-			final String uri = SchemaUtils.isValidUri(id) ? id : SchemaUtils.mintTermUri(null, id, dataModelUri);
+			uri = SchemaUtils.isValidUri(id) ? id : SchemaUtils.mintTermUri(null, id, dataModelUri);
 
 			uris.put(id, uri);
 		}
 
-		return uris.get(id);
+		return uri;
 	}
 }
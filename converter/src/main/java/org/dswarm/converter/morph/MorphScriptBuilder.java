@@ -22,6 +22,7 @@ import com.google.common.collect.Maps;
 import org.apache.commons.lang3.StringEscapeUtils;
 
 import org.dswarm.converter.DMPConverterException;
+import org.dswarm.converter.morph.lookup.LookupTableStore;
 import org.dswarm.persistence.model.job.*;
 import org.dswarm.persistence.model.schema.MappingAttributePathInstance;
 import org.dswarm.persistence.util.DMPPersistenceUtil;
@@ -76,6 +77,8 @@ public class MorphScriptBuilder extends AbstractMorphScriptBuilder<MorphScriptBu
 
 	private static final String METAMORPH_MAP_NAME = "name";
 
+	private static final String METAMORPH_MAP_DEFAULT = "default";
+
 	private static final String INPUT_VARIABLE_IDENTIFIER = "inputString";
 
 	private static final String OUTPUT_VARIABLE_PREFIX_IDENTIFIER = "__TRANSFORMATION_OUTPUT_VARIABLE__";
@@ -87,6 +90,11 @@ public class MorphScriptBuilder extends AbstractMorphScriptBuilder<MorphScriptBu
 
 	private static final String LOOKUP_MAP_DEFINITION = "lookupString";
 
+	/**
+	 * the parameter of a lookup function that references a stored lookup table (instead of an inline lookup map definition)
+	 */
+	private static final String LOOKUP_TABLE_NAME = "lookupTable";
+
 	private static final String MF_OCCURRENCE_FUNCTION_ONLY_ATTRIBUTE_IDENTIFIER = "only";
 
 	private static final String MF_CONCAT_FUNCTION_DELIMITER_ATTRIBUTE_IDENTIFIER = "delimiter";
@@ -95,6 +103,8 @@ public class MorphScriptBuilder extends AbstractMorphScriptBuilder<MorphScriptBu
 
 	private static final String MF_CONCAT_FUNCTION_POSTFIX_ATTRIBUTE_IDENTIFIER = "postfix";
 
+	private final Set<String> referencedLookupTables = new HashSet<>();
+
 	@Override
 	public MorphScriptBuilder apply(final Task task) throws DMPConverterException {
 
@@ -207,6 +217,24 @@ public class MorphScriptBuilder extends AbstractMorphScriptBuilder<MorphScriptBu
 
 				if (LOOKUP_FUNCTIONS.contains(component.getFunction().getName()) && componentParameterMapping != null) {
 
+					final String lookupTableName = componentParameterMapping.get(LOOKUP_TABLE_NAME);
+
+					if (lookupTableName != null) {
+
+						// the entries of a stored lookup table are not inlined, the map only references the table (Metamorph only registers
+						// maps with at least one entry, i.e., the placeholder map gets an empty default value; it will be replaced by the
+						// stored lookup table at execution time)
+						if (referencedLookupTables.add(lookupTableName)) {
+
+							final Element map = doc.createElement(METAMORPH_ELEMENT_SINGLE_MAP);
+							map.setAttribute(METAMORPH_MAP_NAME, LookupTableStore.getMapName(lookupTableName));
+							map.setAttribute(METAMORPH_MAP_DEFAULT, "");
+							maps.appendChild(map);
+						}
+
+						continue;
+					}
+
 					final Element map = doc.createElement(METAMORPH_ELEMENT_SINGLE_MAP);
 					map.setAttribute(METAMORPH_MAP_NAME, component.getName());
 					maps.appendChild(map);
@@ -276,6 +304,11 @@ public class MorphScriptBuilder extends AbstractMorphScriptBuilder<MorphScriptBu
 
 	private void createParameters(final Component component, final Element componentElement) {
 
+		createParameters(component, component.getParameterMappings(), componentElement);
+	}
+
+	private void createParameters(final Component component, final Map<String, String> parameterMappings, final Element componentElement) {
+
 		// TODO: parse parameter values that can be simple string values, JSON objects or JSON arrays (?)
 		// => for now we expect only simple string values
 
@@ -287,12 +320,10 @@ public class MorphScriptBuilder extends AbstractMorphScriptBuilder<MorphScriptBu
 					: METAMORPH_LOOKUP_ATTRIBUTE_MAP;
 
 			final Attr param = doc.createAttribute(lookupNameAttr);
-			param.setValue(component.getName());
+			param.setValue(getLookupMapName(component));
 			componentElement.setAttributeNode(param);
 		}
 
-		final Map<String, String> parameterMappings = component.getParameterMappings();
-
 		if (parameterMappings != null) {
 
 			for (final Entry<String, String> parameterMapping : parameterMappings.entrySet()) {
@@ -300,7 +331,8 @@ public class MorphScriptBuilder extends AbstractMorphScriptBuilder<MorphScriptBu
 				if (parameterMapping.getKey() != null) {
 
 					if (parameterMapping.getKey().equals(MorphScriptBuilder.INPUT_VARIABLE_IDENTIFIER) ||
-							parameterMapping.getKey().equals(MorphScriptBuilder.LOOKUP_MAP_DEFINITION)) {
+							parameterMapping.getKey().equals(MorphScriptBuilder.LOOKUP_MAP_DEFINITION) ||
+							parameterMapping.getKey().equals(MorphScriptBuilder.LOOKUP_TABLE_NAME)) {
 
 						continue;
 					}
@@ -316,6 +348,18 @@ public class MorphScriptBuilder extends AbstractMorphScriptBuilder<MorphScriptBu
 		}
 	}
 
+	private static String getLookupMapName(final Component lookupComponent) {
+
+		final Map<String, String> parameterMappings = lookupComponent.getParameterMappings();
+
+		if (parameterMappings != null && parameterMappings.get(LOOKUP_TABLE_NAME) != null) {
+
+			return LookupTableStore.getMapName(parameterMappings.get(LOOKUP_TABLE_NAME));
+		}
+
+		return lookupComponent.getName();
+	}
+
 	private Element createDataTag(final Component singleInputComponent, final String dataNameAttribute, final String dataSourceAttribute) {
 
 		final Element data = doc.createElement(METAMORPH_ELEMENT_DATA);
@@ -338,6 +382,8 @@ public class MorphScriptBuilder extends AbstractMorphScriptBuilder<MorphScriptBu
 
 		final Element collection;
 
+		Map<String, String> parameterMappings = multipleInputComponent.getParameterMappings();
+
 		// convert concat function to combine function because concat are concatenated the
 		// values in the order they appear in the input and not in the order of the <data> sources.
 		if (multipleInputComponent.getFunction().getName().equals(METAMORPH_FUNCTION_CONCAT)) {
@@ -388,13 +434,12 @@ public class MorphScriptBuilder extends AbstractMorphScriptBuilder<MorphScriptBu
 				valueString += parameters.get(MF_CONCAT_FUNCTION_POSTFIX_ATTRIBUTE_IDENTIFIER);
 			}
 
-			Map<String, String> extendedParameterMappings = new HashMap<>();
-
-			extendedParameterMappings.put(MF_ELEMENT_VALUE_ATTRIBUTE_IDENTIFIER, valueString);
+			// note: the parameter mappings of the component are not replaced, i.e., the script can be created again from the same task
+			parameterMappings = new HashMap<>();
 
-			extendedParameterMappings.put(MF_COLLECTOR_RESET_ATTRIBUTE_IDENTIFIER, BOOLEAN_VALUE_TRUE);
+			parameterMappings.put(MF_ELEMENT_VALUE_ATTRIBUTE_IDENTIFIER, valueString);
 
-			multipleInputComponent.setParameterMappings(extendedParameterMappings);
+			parameterMappings.put(MF_COLLECTOR_RESET_ATTRIBUTE_IDENTIFIER, BOOLEAN_VALUE_TRUE);
 		}
 
 		final String functionName = multipleInputComponent.getFunction().getName();
@@ -404,7 +449,7 @@ public class MorphScriptBuilder extends AbstractMorphScriptBuilder<MorphScriptBu
 		else
 			collection = doc.createElement(multipleInputComponent.getFunction().getName());
 
-		createParameters(multipleInputComponent, collection);
+		createParameters(multipleInputComponent, parameterMappings, collection);
 
 		collection.setAttribute(METAMORPH_DATA_TARGET, "@" + collectionNameAttribute);
 
@@ -0,0 +1,440 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.morph.lookup;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable, compact lookup table (key -> value) for Metamorph lookup functions (lookup, whitelist, blacklist, setreplace, regexlookup).
+ * <br/>
+ * All keys and values are stored UTF-8 encoded in one buffer (sorted by key) + an offset table, i.e., an entry costs (roughly) the bytes of
+ * its key and value + 8 bytes, instead of several objects per entry of a hash map. Keys are looked up with a binary search. The buffer has
+ * the same layout in memory and on disk, i.e., a stored lookup table is memory-mapped (off-heap) when it is opened (see
+ * {@link #open(Path)}).<br/>
+ * Layout: magic number, version, number of entries, offsets (start of key 1, start of value 1, start of key 2, ..., end of last value),
+ * entry data.
+ */
+public final class LookupTable extends AbstractMap<String, String> {
+
+	private static final int MAGIC_NUMBER = 0x444d504c;
+
+	private static final int VERSION = 1;
+
+	private static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+	private final ByteBuffer buffer;
+	private final int        size;
+	private final int        dataStart;
+
+	private LookupTable(final ByteBuffer buffer) throws IOException {
+
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC_NUMBER) {
+
+			throw new IOException("not a lookup table");
+		}
+
+		final int version = buffer.getInt(Integer.BYTES);
+
+		if (version != VERSION) {
+
+			throw new IOException(String.format("unsupported lookup table version '%d'", version));
+		}
+
+		this.buffer = buffer;
+		size = buffer.getInt(2 * Integer.BYTES);
+		dataStart = HEADER_SIZE + (2 * size + 1) * Integer.BYTES;
+	}
+
+	/**
+	 * Creates a lookup table from the given entries. Null values are stored as empty strings.
+	 *
+	 * @param entries the entries of the lookup table
+	 * @return the lookup table
+	 */
+	public static LookupTable of(final Map<String, String> entries) {
+
+		final Builder builder = new Builder();
+
+		for (final Map.Entry<String, String> entry : entries.entrySet()) {
+
+			builder.put(entry.getKey(), entry.getValue());
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Collects the entries of a lookup table, e.g., while an uploaded lookup table file is parsed, and writes them (sorted by key) either
+	 * straight to a lookup table file (see {@link #writeTo(Path)}) or into an in-memory lookup table (see {@link #build()}). Only the
+	 * UTF-8 encoded keys and values are held in the heap. If a key is put several times, the last value wins (like {@link Map#put}).
+	 */
+	public static final class Builder {
+
+		private final List<byte[]> keys   = new ArrayList<>();
+		private final List<byte[]> values = new ArrayList<>();
+
+		/**
+		 * Adds the given entry. Null values are stored as empty strings.
+		 *
+		 * @param key   the key of the entry
+		 * @param value the value of the entry
+		 * @return this builder
+		 */
+		public Builder put(final String key, final String value) {
+
+			keys.add(key.getBytes(StandardCharsets.UTF_8));
+			values.add(value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0]);
+
+			return this;
+		}
+
+		/**
+		 * Creates an in-memory lookup table from the entries of this builder.
+		 *
+		 * @return the lookup table
+		 */
+		public LookupTable build() {
+
+			final int[] order = sortedEntries();
+			final ByteBuffer buffer = ByteBuffer.allocate((int) tableSize(order));
+
+			try {
+
+				write(order, new DataOutputStream(new OutputStream() {
+
+					@Override
+					public void write(final int b) {
+
+						buffer.put((byte) b);
+					}
+
+					@Override
+					public void write(final byte[] bytes, final int offset, final int length) {
+
+						buffer.put(bytes, offset, length);
+					}
+				}));
+
+				buffer.clear();
+
+				return new LookupTable(buffer);
+			} catch (final IOException e) {
+
+				throw new IllegalStateException(e);
+			}
+		}
+
+		/**
+		 * Writes the entries of this builder as lookup table to the given file, i.e., the lookup table isn't built in memory before.
+		 *
+		 * @param file the target file
+		 * @throws IOException
+		 */
+		public void writeTo(final Path file) throws IOException {
+
+			final int[] order = sortedEntries();
+
+			tableSize(order);
+
+			try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+					StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)))) {
+
+				write(order, out);
+			}
+		}
+
+		/**
+		 * Returns the indices of the entries sorted by key. Only the last entry of equal keys is kept.
+		 */
+		private int[] sortedEntries() {
+
+			final Integer[] order = new Integer[keys.size()];
+
+			for (int i = 0; i < order.length; i++) {
+
+				order[i] = i;
+			}
+
+			// a stable sort, i.e., entries with equal keys keep the order in which they were put
+			Arrays.sort(order, (index1, index2) -> compareUnsigned(keys.get(index1), keys.get(index2)));
+
+			final int[] uniqueOrder = new int[order.length];
+			int size = 0;
+
+			for (int i = 0; i < order.length; i++) {
+
+				if (i + 1 < order.length && compareUnsigned(keys.get(order[i]), keys.get(order[i + 1])) == 0) {
+
+					continue;
+				}
+
+				uniqueOrder[size++] = order[i];
+			}
+
+			return Arrays.copyOf(uniqueOrder, size);
+		}
+
+		private long tableSize(final int[] order) {
+
+			long dataSize = 0;
+
+			for (final int index : order) {
+
+				dataSize += keys.get(index).length + values.get(index).length;
+			}
+
+			final long tableSize = HEADER_SIZE + (2L * order.length + 1) * Integer.BYTES + dataSize;
+
+			if (tableSize > Integer.MAX_VALUE) {
+
+				throw new IllegalArgumentException("the lookup table is too large, it must not exceed 2 GB");
+			}
+
+			return tableSize;
+		}
+
+		private void write(final int[] order, final DataOutputStream out) throws IOException {
+
+			out.writeInt(MAGIC_NUMBER);
+			out.writeInt(VERSION);
+			out.writeInt(order.length);
+
+			int offset = 0;
+
+			for (final int index : order) {
+
+				out.writeInt(offset);
+				offset += keys.get(index).length;
+				out.writeInt(offset);
+				offset += values.get(index).length;
+			}
+
+			out.writeInt(offset);
+
+			for (final int index : order) {
+
+				out.write(keys.get(index));
+				out.write(values.get(index));
+			}
+
+			out.flush();
+		}
+	}
+
+	/**
+	 * Opens a lookup table that was written with {@link #writeTo(Path)} or {@link Builder#writeTo(Path)}. The file is memory-mapped
+	 * (read-only), i.e., the entries are not loaded into the heap.
+	 *
+	 * @param file the lookup table file
+	 * @return the lookup table
+	 * @throws IOException if the file couldn't be read or isn't a lookup table
+	 */
+	public static LookupTable open(final Path file) throws IOException {
+
+		try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+			return new LookupTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/**
+	 * Writes this lookup table to the given file.
+	 *
+	 * @param file the target file
+	 * @throws IOException
+	 */
+	public void writeTo(final Path file) throws IOException {
+
+		try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.WRITE)) {
+
+			final ByteBuffer source = buffer.duplicate();
+			source.clear();
+
+			while (source.hasRemaining()) {
+
+				channel.write(source);
+			}
+		}
+	}
+
+	@Override
+	public String get(final Object key) {
+
+		if (!(key instanceof String)) {
+
+			return null;
+		}
+
+		final int index = indexOf(((String) key).getBytes(StandardCharsets.UTF_8));
+
+		return index >= 0 ? decode(offset(2 * index + 1), offset(2 * index + 2)) : null;
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+
+		return key instanceof String && indexOf(((String) key).getBytes(StandardCharsets.UTF_8)) >= 0;
+	}
+
+	@Override
+	public int size() {
+
+		return size;
+	}
+
+	@Override
+	public Set<Entry<String, String>> entrySet() {
+
+		return new AbstractSet<Entry<String, String>>() {
+
+			@Override
+			public Iterator<Entry<String, String>> iterator() {
+
+				return new Iterator<Entry<String, String>>() {
+
+					private int index;
+
+					@Override
+					public boolean hasNext() {
+
+						return index < size;
+					}
+
+					@Override
+					public Entry<String, String> next() {
+
+						if (!hasNext()) {
+
+							throw new NoSuchElementException();
+						}
+
+						final int keyStart = offset(2 * index);
+						final int valueStart = offset(2 * index + 1);
+						final int valueEnd = offset(2 * index + 2);
+
+						index++;
+
+						return new SimpleImmutableEntry<>(decode(keyStart, valueStart), decode(valueStart, valueEnd));
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+
+				return size;
+			}
+		};
+	}
+
+	private int indexOf(final byte[] key) {
+
+		int low = 0;
+		int high = size - 1;
+
+		while (low <= high) {
+
+			final int middle = (low + high) >>> 1;
+			final int keyStart = offset(2 * middle);
+			final int comparison = compare(key, dataStart + keyStart, offset(2 * middle + 1) - keyStart);
+
+			if (comparison > 0) {
+
+				low = middle + 1;
+			} else if (comparison < 0) {
+
+				high = middle - 1;
+			} else {
+
+				return middle;
+			}
+		}
+
+		return -(low + 1);
+	}
+
+	private int offset(final int index) {
+
+		return buffer.getInt(HEADER_SIZE + index * Integer.BYTES);
+	}
+
+	/**
+	 * Compares the given key with the stored key at the given position (unsigned, lexicographically), i.e., in code point order.
+	 */
+	private int compare(final byte[] key, final int position, final int length) {
+
+		final int minLength = Math.min(key.length, length);
+
+		for (int i = 0; i < minLength; i++) {
+
+			final int comparison = (key[i] & 0xff) - (buffer.get(position + i) & 0xff);
+
+			if (comparison != 0) {
+
+				return comparison;
+			}
+		}
+
+		return key.length - length;
+	}
+
+	private static int compareUnsigned(final byte[] bytes1, final byte[] bytes2) {
+
+		final int minLength = Math.min(bytes1.length, bytes2.length);
+
+		for (int i = 0; i < minLength; i++) {
+
+			final int comparison = (bytes1[i] & 0xff) - (bytes2[i] & 0xff);
+
+			if (comparison != 0) {
+
+				return comparison;
+			}
+		}
+
+		return bytes1.length - bytes2.length;
+	}
+
+	private String decode(final int start, final int end) {
+
+		final byte[] bytes = new byte[end - start];
+
+		final ByteBuffer source = buffer.duplicate();
+		source.position(dataStart + start);
+		source.get(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,293 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.morph.lookup;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import org.culturegraph.mf.morph.Metamorph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.dswarm.converter.DMPConverterException;
+
+/**
+ * The server-side store of named lookup tables. A lookup table is uploaded once, stored in a compact binary format (see
+ * {@link LookupTable}) in the lookup tables directory and memory-mapped on first use, i.e., all transformations share one instance per
+ * table.<br/>
+ * Morph scripts reference a stored lookup table by an (empty) map whose name is the table name prefixed with {@link #MAP_NAME_PREFIX},
+ * e.g., &lt;map name="dswarm:lookup-table:rvk"/&gt; + &lt;lookup in="dswarm:lookup-table:rvk"/&gt;. Such maps are replaced by the
+ * stored lookup tables before a transformation is executed (see {@link #registerLookupTables(Metamorph)}).
+ */
+@Singleton
+public class LookupTableStore {
+
+	private static final Logger LOG = LoggerFactory.getLogger(LookupTableStore.class);
+
+	/**
+	 * the prefix of the map names that reference stored lookup tables in morph scripts
+	 */
+	public static final String MAP_NAME_PREFIX = "dswarm:lookup-table:";
+
+	private static final Pattern TABLE_NAME_PATTERN = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_.-]*");
+
+	private static final String FILE_EXTENSION = ".lookup";
+
+	private final Path directory;
+
+	private final ConcurrentMap<String, LookupTable> tables = new ConcurrentHashMap<>();
+
+	/**
+	 * @param directory the directory of the stored lookup tables
+	 */
+	@Inject
+	public LookupTableStore(@Named("dswarm.paths.lookup-tables") final String directory) {
+
+		this.directory = Paths.get(directory);
+	}
+
+	/**
+	 * Returns the name of the map that references the given lookup table in morph scripts.
+	 *
+	 * @param tableName the name of the lookup table
+	 * @return the map name for the given lookup table
+	 */
+	public static String getMapName(final String tableName) {
+
+		return MAP_NAME_PREFIX + tableName;
+	}
+
+	/**
+	 * Stores the given entries as lookup table with the given name. An existing lookup table with this name will be replaced, i.e., the
+	 * next transformations will utilise the new entries.
+	 *
+	 * @param tableName the name of the lookup table
+	 * @param entries   the entries of the lookup table
+	 * @return the stored lookup table
+	 * @throws DMPConverterException if the name is invalid or the lookup table couldn't be written
+	 */
+	public LookupTable put(final String tableName, final Map<String, String> entries) throws DMPConverterException {
+
+		final LookupTable.Builder builder = new LookupTable.Builder();
+
+		for (final Map.Entry<String, String> entry : entries.entrySet()) {
+
+			builder.put(entry.getKey(), entry.getValue());
+		}
+
+		return put(tableName, builder);
+	}
+
+	/**
+	 * Stores the entries of the given builder as lookup table with the given name, i.e., the sorted entries are written straight to the
+	 * lookup table file. An existing lookup table with this name will be replaced, i.e., the next transformations will utilise the new
+	 * entries.
+	 *
+	 * @param tableName the name of the lookup table
+	 * @param entries   the entries of the lookup table
+	 * @return the stored lookup table
+	 * @throws DMPConverterException if the name is invalid or the lookup table couldn't be written
+	 */
+	public LookupTable put(final String tableName, final LookupTable.Builder entries) throws DMPConverterException {
+
+		final Path file = getFile(tableName);
+
+		try {
+
+			Files.createDirectories(directory);
+
+			// write to a temporary file first, i.e., transformations that utilise the current version of the table are not affected
+			final Path tmpFile = Files.createTempFile(directory, tableName, FILE_EXTENSION + ".tmp");
+
+			try {
+
+				entries.writeTo(tmpFile);
+
+				Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+
+				Files.deleteIfExists(tmpFile);
+			}
+
+			final LookupTable lookupTable = LookupTable.open(file);
+
+			tables.put(tableName, lookupTable);
+
+			LOG.debug("stored lookup table '{}' with '{}' entries", tableName, lookupTable.size());
+
+			return lookupTable;
+		} catch (final IOException e) {
+
+			throw new DMPConverterException(String.format("couldn't store lookup table '%s'", tableName), e);
+		}
+	}
+
+	/**
+	 * Returns the lookup table with the given name.
+	 *
+	 * @param tableName the name of the lookup table
+	 * @return the lookup table or nothing, if no lookup table with this name exists
+	 * @throws DMPConverterException if the name is invalid or the lookup table couldn't be read
+	 */
+	public Optional<LookupTable> get(final String tableName) throws DMPConverterException {
+
+		final LookupTable cachedLookupTable = tables.get(tableName);
+
+		if (cachedLookupTable != null) {
+
+			return Optional.of(cachedLookupTable);
+		}
+
+		final Path file = getFile(tableName);
+
+		try {
+
+			final LookupTable lookupTable = LookupTable.open(file);
+			final LookupTable existingLookupTable = tables.putIfAbsent(tableName, lookupTable);
+
+			return Optional.of(existingLookupTable != null ? existingLookupTable : lookupTable);
+		} catch (final NoSuchFileException e) {
+
+			return Optional.empty();
+		} catch (final IOException e) {
+
+			throw new DMPConverterException(String.format("couldn't read lookup table '%s'", tableName), e);
+		}
+	}
+
+	/**
+	 * Returns the names of all stored lookup tables.
+	 *
+	 * @return the names of all stored lookup tables (sorted)
+	 * @throws DMPConverterException if the lookup tables directory couldn't be read
+	 */
+	public List<String> getNames() throws DMPConverterException {
+
+		if (!Files.isDirectory(directory)) {
+
+			return Collections.emptyList();
+		}
+
+		final List<String> tableNames = new ArrayList<>();
+
+		try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_EXTENSION)) {
+
+			for (final Path file : files) {
+
+				final String fileName = file.getFileName().toString();
+
+				tableNames.add(fileName.substring(0, fileName.length() - FILE_EXTENSION.length()));
+			}
+		} catch (final IOException e) {
+
+			throw new DMPConverterException("couldn't read the lookup tables directory", e);
+		}
+
+		Collections.sort(tableNames);
+
+		return tableNames;
+	}
+
+	/**
+	 * Deletes the lookup table with the given name.
+	 *
+	 * @param tableName the name of the lookup table
+	 * @return true, if the lookup table existed
+	 * @throws DMPConverterException if the name is invalid or the lookup table couldn't be deleted
+	 */
+	public boolean delete(final String tableName) throws DMPConverterException {
+
+		final Path file = getFile(tableName);
+
+		tables.remove(tableName);
+
+		try {
+
+			return Files.deleteIfExists(file);
+		} catch (final IOException e) {
+
+			throw new DMPConverterException(String.format("couldn't delete lookup table '%s'", tableName), e);
+		}
+	}
+
+	/**
+	 * Replaces all maps of the given Metamorph that reference a stored lookup table (see {@link #MAP_NAME_PREFIX}) by the stored lookup
+	 * table.
+	 *
+	 * @param morph the Metamorph of a transformation
+	 * @throws DMPConverterException if a referenced lookup table doesn't exist
+	 */
+	public void registerLookupTables(final Metamorph morph) throws DMPConverterException {
+
+		for (final String mapName : new ArrayList<>(morph.getMapNames())) {
+
+			if (!mapName.startsWith(MAP_NAME_PREFIX)) {
+
+				continue;
+			}
+
+			final String tableName = mapName.substring(MAP_NAME_PREFIX.length());
+			final Optional<LookupTable> optionalLookupTable = get(tableName);
+
+			if (!optionalLookupTable.isPresent()) {
+
+				throw new DMPConverterException(
+						String.format("the lookup table '%s' that is referenced by the morph script doesn't exist", tableName));
+			}
+
+			morph.putMap(mapName, optionalLookupTable.get());
+		}
+	}
+
+	/**
+	 * Checks whether the given name is a valid lookup table name, i.e., it may only consist of letters, digits, '_', '-' and '.' (and
+	 * must start with a letter or digit).
+	 *
+	 * @param tableName the name of the lookup table
+	 * @throws DMPConverterException if the name is invalid
+	 */
+	public static void checkName(final String tableName) throws DMPConverterException {
+
+		if (tableName == null || !TABLE_NAME_PATTERN.matcher(tableName).matches()) {
+
+			throw new DMPConverterException(String.format(
+					"'%s' is not a valid lookup table name, it may only consist of letters, digits, '_', '-' and '.'", tableName));
+		}
+	}
+
+	private Path getFile(final String tableName) throws DMPConverterException {
+
+		checkName(tableName);
+
+		return directory.resolve(tableName + FILE_EXTENSION);
+	}
+}
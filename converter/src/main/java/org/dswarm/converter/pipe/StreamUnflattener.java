@@ -15,13 +15,11 @@
  */
 package org.dswarm.converter.pipe;
 
-import com.google.common.base.Splitter;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.culturegraph.mf.framework.DefaultStreamPipe;
 import org.culturegraph.mf.framework.StreamReceiver;
 
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
 
 /**
@@ -29,7 +27,9 @@ import java.util.Map;
  * {@link org.culturegraph.mf.morph.Metamorph} and flattens out any hierarchical data into a flat list of key-value tuples. This
  * class then constructs the flat structure produced by Metamorph and emits them in the proper hierarchy. So, one can use 'deep'
  * output names in Metamorh (e.g. &lt;data name="foo.bar%gt;), that pipe the result through an instance of StreamUnflattener and
- * continue to work with the desired hierarchical structure.
+ * continue to work with the desired hierarchical structure.<br/>
+ * The literal names of a transformation come from a small set of output names (defined by the mappings), i.e., the split paths of the
+ * literal names are cached (up to {@link #MAX_CACHED_NAMES} distinct names).
  * 
  * @author Paul Horn <phorn@avantgarde-labs.de>
  */
@@ -48,7 +48,25 @@ public class StreamUnflattener extends DefaultStreamPipe<StreamReceiver> {
 	 */
 	public static final String			DEFAULT_INITIAL_DISCARD	= "";
 
-	private final Map<Integer, String>	openEntities			= Maps.newHashMap();
+	/**
+	 * The maximum number of distinct literal names whose split paths will be cached. The split paths of further literal names won't be
+	 * cached.
+	 */
+	public static final int				MAX_CACHED_NAMES		= 4096;
+
+	private static final int			INITIAL_LEVELS			= 8;
+
+	private final Map<String, String[]>	splitNames				= Maps.newHashMap();
+
+	/**
+	 * The currently opened entity per level (or <code>null</code>, if no entity is opened at a level).
+	 */
+	private String[]					openEntities			= new String[INITIAL_LEVELS];
+
+	/**
+	 * The number of levels that might have an opened entity.
+	 */
+	private int							openEntitiesSize;
 	private int							currentLevel;
 
 	private final char					entityMarker;
@@ -105,7 +123,7 @@ public class StreamUnflattener extends DefaultStreamPipe<StreamReceiver> {
 	@Override
 	public void startRecord(final String identifier) {
 		assert !isClosed();
-		openEntities.clear();
+		clearOpenEntities();
 		getReceiver().startRecord(identifier);
 	}
 
@@ -120,7 +138,7 @@ public class StreamUnflattener extends DefaultStreamPipe<StreamReceiver> {
 		}
 
 		currentLevel = 0;
-		if (openEntities.containsKey(currentLevel)) {
+		if (getOpenEntity(currentLevel) != null) {
 			getReceiver().endEntity();
 		}
 
@@ -148,8 +166,8 @@ public class StreamUnflattener extends DefaultStreamPipe<StreamReceiver> {
 	}
 
 	/**
-	 * Forwards the literal and emits some entity levels, if necessary. The parameter name is split on {@link #getEntityMarker()}.
-	 * The resulting array is interpreted as a path into a tree and according to the current state, some new nodes of this tree
+	 * Forwards the literal and emits some entity levels, if necessary. The parameter name is split on {@link #getEntityMarker()}
+	 * (the split paths are cached per name). The resulting array is interpreted as a path into a tree and according to the current state, some new nodes of this tree
 	 * will be opened by calling <code>startEntity</code> and <code>endEntity</code>.
 	 * 
 	 * @param name the literal name
@@ -158,12 +176,12 @@ public class StreamUnflattener extends DefaultStreamPipe<StreamReceiver> {
 	@Override
 	public void literal(final String name, final String value) {
 		assert !isClosed();
-		final List<String> es = Lists.newArrayList(Splitter.on(entityMarker).split(name));
+		final String[] es = split(name);
 
-		final int l = es.size();
+		final int l = es.length;
 
 		for (int i = 0; i < l; i++) {
-			final String entity = es.get(i);
+			final String entity = es[i];
 
 			if (i + 1 == l) {
 				getReceiver().literal(entity, value);
@@ -174,7 +192,9 @@ public class StreamUnflattener extends DefaultStreamPipe<StreamReceiver> {
 				continue;
 			}
 
-			if (entity.equals(openEntities.get(i))) {
+			final String openEntity = getOpenEntity(i);
+
+			if (entity.equals(openEntity)) {
 				continue;
 			}
 
@@ -182,19 +202,76 @@ public class StreamUnflattener extends DefaultStreamPipe<StreamReceiver> {
 				getReceiver().endEntity();
 			}
 
-			if (openEntities.containsKey(i)) {
+			if (openEntity != null) {
 				getReceiver().endEntity();
 			}
 
 			currentLevel = i;
 
 			if (currentLevel == 0) {
-				openEntities.clear();
+				clearOpenEntities();
 			}
 
-			openEntities.put(i, entity);
+			putOpenEntity(i, entity);
 
 			getReceiver().startEntity(entity);
 		}
 	}
+
+	/**
+	 * Splits the given literal name on {@link #getEntityMarker()} (incl. empty segments). The split paths of the first
+	 * {@link #MAX_CACHED_NAMES} distinct names are cached.
+	 *
+	 * @param name the literal name
+	 * @return the path segments of the literal name
+	 */
+	private String[] split(final String name) {
+		final String[] cachedSegments = splitNames.get(name);
+
+		if (cachedSegments != null) {
+			return cachedSegments;
+		}
+
+		int count = 1;
+
+		for (int i = name.indexOf(entityMarker); i >= 0; i = name.indexOf(entityMarker, i + 1)) {
+			count++;
+		}
+
+		final String[] segments = new String[count];
+
+		int start = 0;
+
+		for (int i = 0; i < count - 1; i++) {
+			final int end = name.indexOf(entityMarker, start);
+			segments[i] = name.substring(start, end);
+			start = end + 1;
+		}
+
+		segments[count - 1] = name.substring(start);
+
+		if (splitNames.size() < MAX_CACHED_NAMES) {
+			splitNames.put(name, segments);
+		}
+
+		return segments;
+	}
+
+	private String getOpenEntity(final int level) {
+		return level < openEntitiesSize ? openEntities[level] : null;
+	}
+
+	private void putOpenEntity(final int level, final String entity) {
+		if (level >= openEntities.length) {
+			openEntities = Arrays.copyOf(openEntities, Math.max(openEntities.length * 2, level + 1));
+		}
+
+		openEntities[level] = entity;
+		openEntitiesSize = Math.max(openEntitiesSize, level + 1);
+	}
+
+	private void clearOpenEntities() {
+		Arrays.fill(openEntities, 0, openEntitiesSize, null);
+		openEntitiesSize = 0;
+	}
 }
@@ -27,16 +27,21 @@ import org.culturegraph.mf.framework.annotations.Description;
 public final class ObjectTimer<T> extends TimerBased<ObjectReceiver<T>>
 		implements ObjectPipe<T, ObjectReceiver<T>> {
 
+	private final Measurement objects;
+
 	@Inject
 	private ObjectTimer(
 			@Named("Monitoring") final MetricRegistry registry,
+			@Named("dswarm.converter.timing.sample-interval") final long sampleInterval,
 			@Assisted final String prefix) {
-		super(registry, prefix);
+		super(registry, sampleInterval, prefix);
+
+		objects = measurement(OBJECT_PROCESS);
 	}
 
 	@Override
 	public void process(final T obj) {
-		final TimingContext context = startMeasurement(OBJECT_PROCESS);
+		final TimingContext context = objects.start();
 		try {
 			getReceiver().process(obj);
 		} finally {
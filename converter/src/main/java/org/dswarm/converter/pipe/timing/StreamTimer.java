@@ -15,8 +15,8 @@
  */
 package org.dswarm.converter.pipe.timing;
 
+import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.LinkedList;
 
 import com.codahale.metrics.MetricRegistry;
 import com.google.inject.Inject;
@@ -31,19 +31,28 @@ public final class StreamTimer extends TimerBased<StreamReceiver> implements Str
 	private final Deque<TimingContext> recordContexts;
 	private final Deque<TimingContext> entityContexts;
 
+	private final Measurement records;
+	private final Measurement entities;
+	private final Measurement literals;
+
 	@Inject
 	private StreamTimer(
 			@Named("Monitoring") final MetricRegistry registry,
+			@Named("dswarm.converter.timing.sample-interval") final long sampleInterval,
 			@Assisted final String prefix) {
-		super(registry, prefix);
+		super(registry, sampleInterval, prefix);
+
+		recordContexts = new ArrayDeque<>();
+		entityContexts = new ArrayDeque<>();
 
-		recordContexts = new LinkedList<>();
-		entityContexts = new LinkedList<>();
+		records = measurement(STREAM_RECORDS);
+		entities = measurement(STREAM_ENTITIES);
+		literals = measurement(STREAM_LITERALS);
 	}
 
 	@Override
 	public void startRecord(final String identifier) {
-		final TimingContext context = startMeasurement(STREAM_RECORDS);
+		final TimingContext context = records.start();
 		recordContexts.offerLast(context);
 		try {
 			getReceiver().startRecord(identifier);
@@ -68,7 +77,7 @@ public final class StreamTimer extends TimerBased<StreamReceiver> implements Str
 
 	@Override
 	public void startEntity(final String name) {
-		final TimingContext context = startMeasurement(STREAM_ENTITIES);
+		final TimingContext context = entities.start();
 		entityContexts.offerLast(context);
 		try {
 			getReceiver().startEntity(name);
@@ -93,7 +102,7 @@ public final class StreamTimer extends TimerBased<StreamReceiver> implements Str
 
 	@Override
 	public void literal(final String name, final String value) {
-		final TimingContext context = startMeasurement(STREAM_LITERALS);
+		final TimingContext context = literals.start();
 		try {
 			getReceiver().literal(name, value);
 		} finally {
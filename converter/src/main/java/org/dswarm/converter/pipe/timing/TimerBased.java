@@ -15,6 +15,7 @@
  */
 package org.dswarm.converter.pipe.timing;
 
+import com.codahale.metrics.Counter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.codahale.metrics.Timer.Context;
@@ -36,18 +37,23 @@ abstract class TimerBased<R extends Receiver> implements Sender<R> {
 	protected static final String XML_ELEMENTS = "elements";
 	protected static final String XML_CHARACTERS = "characters";
 
+	private static final String EVENTS = "events";
+
 	private final MetricRegistry registry;
 	private final String prefix;
 	private final Timer cumulativeTimer;
+	private final long sampleInterval;
 
 	private R receiver;
 
 	@Inject
 	protected TimerBased(
 			@Named("Monitoring") final MetricRegistry registry,
+			@Named("dswarm.converter.timing.sample-interval") final long sampleInterval,
 			@Assisted final String prefix) {
 		this.registry = registry;
 		this.prefix = prefix;
+		this.sampleInterval = Math.max(1, sampleInterval);
 
 		cumulativeTimer = registry.timer(name(prefix, "cumulative"));
 	}
@@ -78,8 +84,41 @@ abstract class TimerBased<R extends Receiver> implements Sender<R> {
 		}
 	}
 
-	protected final TimingContext startMeasurement(final String qualifier) {
-		final Timer timer = registry.timer(name(prefix, qualifier));
-		return new TimingContext(timer.time(), cumulativeTimer.time());
+	/**
+	 * Resolves the metrics of the given qualifier once, i.e., they can be utilised for every event without looking them up again.
+	 *
+	 * @param qualifier the qualifier of the measured events, e.g., 'literals'
+	 * @return the measurement of the given qualifier
+	 */
+	protected final Measurement measurement(final String qualifier) {
+		return new Measurement(registry.timer(name(prefix, qualifier)), registry.counter(name(prefix, qualifier, EVENTS)));
+	}
+
+	/**
+	 * Measures events of one kind. Every event is counted, but only every n-th event (see sample interval) is timed, i.e., the timer (with
+	 * the same name as before) reports the durations of the sampled events and the counter the number of all events.<br/>
+	 * note: a measurement is not thread-safe, i.e., it should only be utilised by one pipe
+	 */
+	protected final class Measurement {
+
+		private final Timer timer;
+		private final Counter counter;
+
+		private long events;
+
+		private Measurement(final Timer timer, final Counter counter) {
+			this.timer = timer;
+			this.counter = counter;
+		}
+
+		public TimingContext start() {
+			counter.inc();
+
+			if (events++ % sampleInterval != 0) {
+				return TimingContext.NONE;
+			}
+
+			return new TimingContext(timer.time(), cumulativeTimer.time());
+		}
 	}
 }
@@ -15,17 +15,19 @@
  */
 package org.dswarm.converter.pipe.timing;
 
-import java.util.Arrays;
-import java.util.List;
-
 import com.codahale.metrics.Timer.Context;
 
 public final class TimingContext implements AutoCloseable {
 
-	private final List<Context> contexts;
+	/**
+	 * a timing context that doesn't measure anything, e.g., for events that are not sampled
+	 */
+	public static final TimingContext NONE = new TimingContext();
+
+	private final Context[] contexts;
 
 	public TimingContext(final Context... contexts) {
-		this.contexts = Arrays.asList(contexts);
+		this.contexts = contexts;
 	}
 
 	@Override
@@ -34,6 +36,8 @@ public final class TimingContext implements AutoCloseable {
 	}
 
 	public void stop() {
-		contexts.forEach(Context::stop);
+		for (final Context context : contexts) {
+			context.stop();
+		}
 	}
 }
@@ -16,8 +16,8 @@
 package org.dswarm.converter.pipe.timing;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.LinkedList;
 
 import com.codahale.metrics.MetricRegistry;
 import com.google.inject.Inject;
@@ -38,14 +38,23 @@ public final class XmlTimer<R> extends TimerBased<XmlPipe<ObjectReceiver<R>>> im
 	private final Deque<TimingContext> entityContexts;
 	private final Deque<TimingContext> elementContexts;
 
+	private final Measurement entities;
+	private final Measurement elements;
+	private final Measurement characters;
+
 	@Inject
 	private XmlTimer(
 			@Named("Monitoring") final MetricRegistry registry,
+			@Named("dswarm.converter.timing.sample-interval") final long sampleInterval,
 			@Assisted final String prefix) {
-		super(registry, prefix);
+		super(registry, sampleInterval, prefix);
+
+		entityContexts = new ArrayDeque<>();
+		elementContexts = new ArrayDeque<>();
 
-		entityContexts = new LinkedList<>();
-		elementContexts = new LinkedList<>();
+		entities = measurement(XML_ENTITIES);
+		elements = measurement(XML_ELEMENTS);
+		characters = measurement(XML_CHARACTERS);
 	}
 
 	@Override
@@ -60,7 +69,7 @@ public final class XmlTimer<R> extends TimerBased<XmlPipe<ObjectReceiver<R>>> im
 
 	@Override
 	public void startEntity(final String name) throws SAXException {
-		final TimingContext context = startMeasurement(XML_ENTITIES);
+		final TimingContext context = entities.start();
 		entityContexts.offerLast(context);
 		try {
 			getReceiver().startEntity(name);
@@ -153,7 +162,7 @@ public final class XmlTimer<R> extends TimerBased<XmlPipe<ObjectReceiver<R>>> im
 
 	@Override
 	public void startElement(final String uri, final String localName, final String qName, final Attributes atts) throws SAXException {
-		final TimingContext context = startMeasurement(XML_ELEMENTS);
+		final TimingContext context = elements.start();
 		elementContexts.offerLast(context);
 		try {
 			getReceiver().startElement(uri, localName, qName, atts);
@@ -176,7 +185,7 @@ public final class XmlTimer<R> extends TimerBased<XmlPipe<ObjectReceiver<R>>> im
 
 	@Override
 	public void characters(final char[] ch, final int start, final int length) throws SAXException {
-		try (final TimingContext ignore = startMeasurement(XML_CHARACTERS)) {
+		try (final TimingContext ignore = characters.start()) {
 			getReceiver().characters(ch, start, length);
 		}
 	}
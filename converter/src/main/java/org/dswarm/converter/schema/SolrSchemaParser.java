@@ -18,7 +18,10 @@ package org.dswarm.converter.schema;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -46,8 +49,6 @@ import org.dswarm.persistence.model.schema.Attribute;
 import org.dswarm.persistence.model.schema.AttributePath;
 import org.dswarm.persistence.model.schema.Schema;
 import org.dswarm.persistence.model.schema.SchemaAttributePathInstance;
-import org.dswarm.persistence.model.schema.proxy.ProxyAttribute;
-import org.dswarm.persistence.model.schema.proxy.ProxyAttributePath;
 import org.dswarm.persistence.model.schema.proxy.ProxySchema;
 import org.dswarm.persistence.model.schema.utils.SchemaUtils;
 import org.dswarm.persistence.service.UUIDService;
@@ -238,7 +239,8 @@ public class SolrSchemaParser {
 
 	private List<Attribute> determineAndCreateAttributes(final NodeList fields, final String schemaBaseURI) throws DMPPersistenceException {
 
-		final List<Attribute> attributes = new ArrayList<>();
+		// attribute names by their (minted) uris
+		final Map<String, String> attributeNames = new LinkedHashMap<>();
 
 		// determine and mint attributes
 		for (int i = 0; i < fields.getLength(); i++) {
@@ -283,31 +285,24 @@ public class SolrSchemaParser {
 				continue;
 			}
 
-			final Optional<Attribute> optionalAttribute = createAttribute(schemaBaseURI, optionalName.get());
+			final String attributeName = optionalName.get();
 
-			if (optionalAttribute.isPresent()) {
-
-				attributes.add(optionalAttribute.get());
-			}
+			attributeNames.putIfAbsent(SchemaUtils.mintAttributeURI(attributeName, schemaBaseURI), attributeName);
 		}
 
-		return attributes;
+		return createAttributes(attributeNames);
 	}
 
 	private List<AttributePath> createAttributePaths(final List<Attribute> attributes) throws DMPPersistenceException {
 
-		final List<AttributePath> attributePaths = new ArrayList<>();
+		final List<List<Attribute>> attributePaths = new ArrayList<>();
 
 		for (final Attribute attribute : attributes) {
 
-			final Optional<AttributePath> optionalAttributePath = createAttributePath(attribute);
-
-			if (optionalAttributePath.isPresent()) {
-
-				attributePaths.add(optionalAttributePath.get());
-			}
+			attributePaths.add(Collections.singletonList(attribute));
 		}
-		return attributePaths;
+
+		return new ArrayList<>(attributePathServiceProvider.get().createOrGetObjectsTransactional(attributePaths).values());
 	}
 
 	private Schema createSchema(final String uuid, final String name) {
@@ -332,40 +327,33 @@ public class SolrSchemaParser {
 		return schema;
 	}
 
-	private Optional<Attribute> createAttribute(final String schemaBaseURI, final String attributeName) throws DMPPersistenceException {
-
-		final String uuid = UUIDService.getUUID(Attribute.class.getSimpleName());
-		final String uri = SchemaUtils.mintAttributeURI(attributeName, schemaBaseURI);
-
-		final Attribute attribute = new Attribute(uuid, uri, attributeName);
+	/**
+	 * Creates the attributes for the given uris or retrieves the existing ones (all at once).
+	 *
+	 * @param attributeNames the names of the attributes by their uris
+	 * @return the created or retrieved attributes (in the order of the given uris)
+	 * @throws DMPPersistenceException
+	 */
+	private List<Attribute> createAttributes(final Map<String, String> attributeNames) throws DMPPersistenceException {
 
-		final Optional<ProxyAttribute> optionalProxyAttribute = Optional
-				.ofNullable(attributeServiceProvider.get().createObjectTransactional(attribute));
+		if (attributeNames.isEmpty()) {
 
-		if (!optionalProxyAttribute.isPresent()) {
-
-			return Optional.empty();
+			return Collections.emptyList();
 		}
 
-		return Optional.ofNullable(optionalProxyAttribute.get().getObject());
-	}
-
-	private Optional<AttributePath> createAttributePath(final Attribute attribute) throws DMPPersistenceException {
+		final Map<String, Attribute> attributes = attributeServiceProvider.get().createOrGetObjectsTransactional(attributeNames.keySet());
 
-		final String uuid = UUIDService.getUUID(AttributePath.class.getSimpleName());
+		for (final Map.Entry<String, Attribute> attributeEntry : attributes.entrySet()) {
 
-		final AttributePath attributePath = new AttributePath(uuid);
-		attributePath.addAttribute(attribute);
+			final Attribute attribute = attributeEntry.getValue();
 
-		final Optional<ProxyAttributePath> optionalProxyAttributePath = Optional
-				.ofNullable(attributePathServiceProvider.get().createObject(attributePath));
+			if (attribute.getName() == null) {
 
-		if (!optionalProxyAttributePath.isPresent()) {
-
-			return Optional.empty();
+				attribute.setName(attributeNames.get(attributeEntry.getKey()));
+			}
 		}
 
-		return Optional.ofNullable(optionalProxyAttributePath.get().getObject());
+		return new ArrayList<>(attributes.values());
 	}
 
 	private SchemaAttributePathInstance createSchemaAttributePathInstance(final AttributePath attributePath)
@@ -268,7 +268,7 @@ public class XMLSchemaParser {
 
 	private Set<AttributePathHelper> parseAttributePaths(final List<JsonNode> recordTagNodes) {
 
-		final Set<AttributePathHelper> attributePaths = Sets.newCopyOnWriteArraySet();
+		final Set<AttributePathHelper> attributePaths = Sets.newLinkedHashSet();
 
 		// attribute path retrieval from all records
 		for (final JsonNode recordTagNode : recordTagNodes) {
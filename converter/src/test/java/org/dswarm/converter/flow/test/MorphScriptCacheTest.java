@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.flow.test;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.dswarm.converter.GuicedTest;
+import org.dswarm.converter.flow.MorphScriptCache;
+import org.dswarm.converter.flow.TransformationFlow;
+import org.dswarm.converter.flow.TransformationFlowFactory;
+import org.dswarm.converter.morph.MorphScriptBuilder;
+import org.dswarm.persistence.model.job.Task;
+import org.dswarm.persistence.util.DMPPersistenceUtil;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+public class MorphScriptCacheTest extends GuicedTest {
+
+	@Test
+	public void testCachedMorphScript() throws Exception {
+
+		final ObjectMapper objectMapper = GuicedTest.injector.getInstance(ObjectMapper.class);
+		final MetricRegistry registry = GuicedTest.injector.getInstance(MetricRegistry.class);
+		final MorphScriptCache morphScriptCache = GuicedTest.injector.getInstance(MorphScriptCache.class);
+		final TransformationFlowFactory flowFactory = GuicedTest.injector.getInstance(TransformationFlowFactory.class);
+
+		final Task task = objectMapper.readValue(DMPPersistenceUtil.getResourceAsString("dd-528.csv.task.json"), Task.class);
+
+		final String expectedMorphScript = new MorphScriptBuilder().apply(task).toString();
+
+		final long hitsBefore = getGaugeValue(registry, "hits");
+		final long missesBefore = getGaugeValue(registry, "misses");
+
+		final TransformationFlow flow1 = morphScriptCache.fromTask(task, flowFactory);
+		final TransformationFlow flow2 = morphScriptCache.fromTask(task, flowFactory);
+
+		Assert.assertEquals(expectedMorphScript, flow1.getScript());
+		Assert.assertEquals(expectedMorphScript, flow2.getScript());
+		Assert.assertEquals(expectedMorphScript, morphScriptCache.getMorphScript(task));
+
+		Assert.assertEquals(missesBefore + 1, getGaugeValue(registry, "misses"));
+		Assert.assertEquals(hitsBefore + 2, getGaugeValue(registry, "hits"));
+
+		final Counter compiledHits = registry.counter(name(MorphScriptCache.class, "compiled", "hits"));
+		final Counter compiledMisses = registry.counter(name(MorphScriptCache.class, "compiled", "misses"));
+
+		Assert.assertEquals(2, compiledHits.getCount() + compiledMisses.getCount());
+	}
+
+	@Test
+	public void testOtherJob() throws Exception {
+
+		final ObjectMapper objectMapper = GuicedTest.injector.getInstance(ObjectMapper.class);
+		final MorphScriptCache morphScriptCache = GuicedTest.injector.getInstance(MorphScriptCache.class);
+
+		final Task task = objectMapper.readValue(DMPPersistenceUtil.getResourceAsString("dd-474.task.json"), Task.class);
+		final Task otherTask = objectMapper.readValue(DMPPersistenceUtil.getResourceAsString("substring.task.json"), Task.class);
+
+		final String morphScript = morphScriptCache.getMorphScript(task);
+
+		// another job results in another cache entry
+		final String otherMorphScript = morphScriptCache.getMorphScript(otherTask);
+
+		Assert.assertNotEquals(morphScript, otherMorphScript);
+		Assert.assertEquals(new MorphScriptBuilder().apply(otherTask).toString(), otherMorphScript);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static long getGaugeValue(final MetricRegistry registry, final String gaugeName) {
+
+		final Gauge<Long> gauge = (Gauge<Long>) registry.getGauges().get(name(MorphScriptCache.class, gaugeName));
+
+		return gauge.getValue();
+	}
+}
@@ -15,26 +15,43 @@
  */
 package org.dswarm.converter.flow.test.csv;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import org.junit.Assert;
 import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
+import rx.Observable;
 
+import org.dswarm.common.types.Tuple;
 import org.dswarm.converter.GuicedTest;
 import org.dswarm.converter.flow.TransformationFlow;
 import org.dswarm.converter.flow.TransformationFlowFactory;
 import org.dswarm.persistence.model.job.Task;
 import org.dswarm.persistence.util.DMPPersistenceUtil;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 /**
  * @author tgaengler Created by tgaengler on 13/05/14.
  */
 public class CSVTransformationFlowTest extends GuicedTest {
 
+	private static final int CANCELLED_INPUT_SIZE = 1000000;
+
+	private static final String TRANSFORMATION_WORKER_THREAD_NAME_PREFIX = "dswarm-transformation-worker-";
+
 	@Test
 	public void testCSVEndToEndWithEmptyValues() throws Exception {
 
@@ -82,6 +99,64 @@ public class CSVTransformationFlowTest extends GuicedTest {
 				Optional.of("skipfiltermorph6.xml"));
 	}
 
+	/**
+	 * with skip filter and parallel pipelines (independent of the number of available processors)
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCSVMultipleMappings2MorphInParallel() throws Exception {
+
+		testCSVMorphWithTuples("demo_csv.multiple_mappings.result.2.json", "transformationmorph4.xml", "demo_csv.tuples.json",
+				Optional.of("skipfiltermorph6.xml"), 4);
+	}
+
+	/**
+	 * with skip filter and parallel pipelines that are cancelled by the consumer of the result, i.e., the input isn't consumed any further and
+	 * the pipeline threads terminate
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCSVMultipleMappings2MorphInParallelCancelled() throws Exception {
+
+		final TransformationFlowFactory flowFactory = GuicedTest.injector.getInstance(TransformationFlowFactory.class);
+		final TransformationFlow flow = flowFactory.fromFile("transformationmorph4.xml", "skipfiltermorph6.xml");
+
+		final List<Tuple<String, JsonNode>> tuples = DMPPersistenceUtil.getJSONObjectMapper().readValue(
+				DMPPersistenceUtil.getResourceAsString("demo_csv.tuples.json"), new TypeReference<List<Tuple<String, JsonNode>>>() {
+
+				});
+
+		final AtomicLong consumedRecords = new AtomicLong();
+
+		final Observable<Tuple<String, JsonNode>> input = Observable.range(0, CANCELLED_INPUT_SIZE).map(i -> {
+
+			final Tuple<String, JsonNode> tuple = tuples.get(i % tuples.size());
+
+			return Tuple.tuple(tuple.v1() + '-' + i, tuple.v2());
+		}).doOnNext(tuple -> consumedRecords.incrementAndGet());
+
+		// the consumer goes away after the first records
+		flow.apply(input, false, false, 4, false).take(10).toBlocking().last();
+
+		final long deadline = System.currentTimeMillis() + 10000;
+
+		while (countTransformationWorkers() > 0 && System.currentTimeMillis() < deadline) {
+
+			Thread.sleep(50);
+		}
+
+		Assert.assertEquals("the pipeline threads should have been terminated", 0, countTransformationWorkers());
+
+		final long consumedRecordsAfterCancellation = consumedRecords.get();
+
+		Thread.sleep(500);
+
+		Assert.assertEquals("the input shouldn't be consumed after the cancellation", consumedRecordsAfterCancellation, consumedRecords.get());
+		Assert.assertTrue("the input shouldn't be consumed completely", consumedRecordsAfterCancellation < CANCELLED_INPUT_SIZE);
+	}
+
 	@Test
 	public void testCSVOneMappingWithMultipleFunctions() throws Exception {
 
@@ -157,6 +232,13 @@ public class CSVTransformationFlowTest extends GuicedTest {
 			final Optional<String> optionalSkipFilterMorphXMLFileName)
 			throws Exception {
 
+		testCSVMorphWithTuples(resultJSONFileName, morphXMLFileName, tuplesJSONFileName, optionalSkipFilterMorphXMLFileName, 1);
+	}
+
+	private void testCSVMorphWithTuples(final String resultJSONFileName, final String morphXMLFileName, final String tuplesJSONFileName,
+			final Optional<String> optionalSkipFilterMorphXMLFileName, final int workers)
+			throws Exception {
+
 		final String expected = DMPPersistenceUtil.getResourceAsString(resultJSONFileName);
 
 		final TransformationFlowFactory flowFactory = GuicedTest.injector
@@ -181,7 +263,31 @@ public class CSVTransformationFlowTest extends GuicedTest {
 
 		flow.getScript();
 
-		final String actual = flow.applyResource(tuplesJSONFileName).toBlocking().first();
+		final String actual;
+
+		if (workers > 1) {
+
+			final List<Tuple<String, JsonNode>> tuples = DMPPersistenceUtil.getJSONObjectMapper().readValue(
+					DMPPersistenceUtil.getResourceAsString(tuplesJSONFileName), new TypeReference<List<Tuple<String, JsonNode>>>() {
+
+					});
+
+			final Counter pipelinesCounter = GuicedTest.injector.getInstance(Key.get(MetricRegistry.class, Names.named("Monitoring")))
+					.counter(name(TransformationFlow.class, "pipelines"));
+			final long pipelinesBefore = pipelinesCounter.getCount();
+
+			final ArrayNode actualNodes = flow.apply(Observable.from(tuples), false, false, workers, true).reduce(
+					DMPPersistenceUtil.getJSONObjectMapper().createArrayNode(), ArrayNode::add).toBlocking().first();
+
+			Assert.assertEquals("the records should have been transformed by parallel pipelines", workers,
+					pipelinesCounter.getCount() - pipelinesBefore);
+
+			actual = DMPPersistenceUtil.getJSONObjectMapper().writeValueAsString(actualNodes);
+		} else {
+
+			actual = flow.applyResource(tuplesJSONFileName).toBlocking().first();
+		}
+
 		final ArrayNode array = objectMapper2.readValue(actual, ArrayNode.class);
 		final String finalActual = objectMapper2.writeValueAsString(array);
 
@@ -190,4 +296,11 @@ public class CSVTransformationFlowTest extends GuicedTest {
 
 		JSONAssert.assertEquals(finalExpected, finalActual, true);
 	}
+
+	private static long countTransformationWorkers() {
+
+		return Thread.getAllStackTraces().keySet().stream()
+				.filter(thread -> thread.getName().startsWith(TRANSFORMATION_WORKER_THREAD_NAME_PREFIX))
+				.count();
+	}
 }
@@ -0,0 +1,185 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.flow.test.xml;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.assistedinject.FactoryModuleBuilder;
+import com.google.inject.name.Names;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.dswarm.converter.DMPConverterException;
+import org.dswarm.converter.flow.XmlResourceFlowFactory;
+import org.dswarm.converter.pipe.timing.TimerBasedFactory;
+import org.dswarm.graph.json.LiteralNode;
+import org.dswarm.graph.json.Node;
+import org.dswarm.graph.json.ResourceNode;
+import org.dswarm.graph.json.Statement;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+import org.dswarm.persistence.model.resource.Configuration;
+import org.dswarm.persistence.model.resource.DataModel;
+import org.dswarm.persistence.model.resource.utils.ConfigurationStatics;
+
+/**
+ * Checks that the parallel ingest of XML resources (i.e., split into chunks that are triplified by several workers) results in the same GDM
+ * records (in the same order) as the serial ingest.
+ */
+public class ParallelXMLSourceResourceGDMStmtsFlowTest {
+
+	private static final int WORKERS           = 4;
+	private static final int RECORDS_PER_CHUNK = 1;
+
+	@Test
+	public void testMABXML() throws DMPConverterException {
+
+		checkSameRecords("dmpf_bsp1.xml", "record");
+	}
+
+	@Test
+	public void testMABXMLWithCDATA() throws DMPConverterException {
+
+		checkSameRecords("rvk_lokal_cdata.xml", "record");
+	}
+
+	private static void checkSameRecords(final String resourceName, final String recordTagName) throws DMPConverterException {
+
+		final List<GDMModel> expectedGDMModels = triplify(1, resourceName, recordTagName);
+		final List<GDMModel> actualGDMModels = triplify(WORKERS, resourceName, recordTagName);
+
+		final List<String> expectedRecords = describe(expectedGDMModels);
+
+		Assert.assertTrue(resourceName, expectedRecords.size() > 1);
+		Assert.assertEquals(resourceName, expectedRecords, describe(actualGDMModels));
+
+		// the node ids need to be unique across all records (i.e., across all chunks)
+		final Set<Long> nodeIds = new HashSet<>();
+		int nodeIdsPerRecord = 0;
+
+		for (final GDMModel gdmModel : actualGDMModels) {
+
+			final Set<Long> recordNodeIds = nodeIds(gdmModel);
+
+			nodeIdsPerRecord += recordNodeIds.size();
+			nodeIds.addAll(recordNodeIds);
+		}
+
+		Assert.assertEquals(resourceName, nodeIdsPerRecord, nodeIds.size());
+	}
+
+	private static List<GDMModel> triplify(final int workers, final String resourceName, final String recordTagName) throws DMPConverterException {
+
+		final Injector injector = Guice.createInjector(new AbstractModule() {
+
+			@Override
+			protected void configure() {
+
+				bind(MetricRegistry.class).annotatedWith(Names.named("Monitoring")).toInstance(new MetricRegistry());
+
+				bindConstant().annotatedWith(Names.named("dswarm.converter.timing.sample-interval")).to(1L);
+				bindConstant().annotatedWith(Names.named("dswarm.converter.xml-ingest.workers")).to((long) workers);
+				bindConstant().annotatedWith(Names.named("dswarm.converter.xml-ingest.records-per-chunk")).to((long) RECORDS_PER_CHUNK);
+				bindConstant().annotatedWith(Names.named("dswarm.converter.xml-ingest.preserve-order")).to(true);
+
+				install(new FactoryModuleBuilder().build(TimerBasedFactory.class));
+				install(new FactoryModuleBuilder().build(XmlResourceFlowFactory.class));
+			}
+		});
+
+		final Configuration configuration = new Configuration("1");
+		configuration.addParameter(ConfigurationStatics.RECORD_TAG, new TextNode(recordTagName));
+
+		final DataModel dataModel = new DataModel("1");
+		dataModel.setConfiguration(configuration);
+
+		return injector.getInstance(XmlResourceFlowFactory.class)
+				.fromDataModel(dataModel)
+				.applyResource(resourceName)
+				.toList()
+				.toBlocking()
+				.single();
+	}
+
+	/**
+	 * Describes every record by its statements (without the record URIs and node ids, since these are minted).
+	 */
+	private static List<String> describe(final List<GDMModel> gdmModels) {
+
+		final List<String> records = new ArrayList<>();
+
+		for (final GDMModel gdmModel : gdmModels) {
+
+			final List<String> statements = new ArrayList<>();
+
+			gdmModel.getModel().getResources().forEach(resource -> {
+
+				for (final Statement statement : resource.getStatements()) {
+
+					statements.add(statement.getOrder() + " " + statement.getPredicate().getUri() + " " + describe(statement.getObject()));
+				}
+			});
+
+			statements.sort(null);
+			records.add(String.join("\n", statements));
+		}
+
+		return records;
+	}
+
+	private static String describe(final Node node) {
+
+		if (node instanceof LiteralNode) {
+
+			return '"' + ((LiteralNode) node).getValue() + '"';
+		}
+
+		if (node instanceof ResourceNode) {
+
+			return ((ResourceNode) node).getUri();
+		}
+
+		return "_:node";
+	}
+
+	private static Set<Long> nodeIds(final GDMModel gdmModel) {
+
+		final Set<Long> nodeIds = new HashSet<>();
+
+		gdmModel.getModel().getResources().forEach(resource -> {
+
+			for (final Statement statement : resource.getStatements()) {
+
+				for (final Node node : new Node[] { statement.getSubject(), statement.getObject() }) {
+
+					if (!(node instanceof LiteralNode) && !(node instanceof ResourceNode) && node.getId() != null) {
+
+						nodeIds.add(node.getId());
+					}
+				}
+			}
+		});
+
+		return nodeIds;
+	}
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.mf.stream;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.culturegraph.mf.framework.DefaultObjectReceiver;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.dswarm.converter.SlowTests;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+
+/**
+ * Streams records through the {@link GDMEncoder} and checks that its state doesn't grow with the number of records. The check of the heap
+ * usage streams millions of records and is therefore only executed with the long-running tests (see {@link SlowTests}).
+ */
+public class GDMEncoderTest {
+
+	private static final int RECORDS = 2000000;
+
+	private static final int CHECKPOINT = 500000;
+
+	/**
+	 * more records than the term caches can hold, since every record has a value-derived attribute name
+	 */
+	private static final int CACHE_RECORDS = 25000;
+
+	private static final int MAX_CACHED_TERMS = 3 * 10000;
+
+	private static final long MAX_HEAP_GROWTH = 64L * 1024 * 1024;
+
+	private static final String RECORD_BASE_URI = "http://data.slub-dresden.de/records/";
+
+	private GDMEncoder encoder;
+
+	private final AtomicLong processedStatements = new AtomicLong(0);
+
+	@Before
+	public void setUp() {
+
+		encoder = new GDMEncoder(Optional.empty());
+		encoder.setReceiver(new DefaultObjectReceiver<GDMModel>() {
+
+			@Override
+			public void process(final GDMModel gdmModel) {
+
+				processedStatements.addAndGet(gdmModel.getModel().size());
+			}
+		});
+	}
+
+	@Test
+	public void testOrderIsScopedToRecord() {
+
+		encodeRecord(0);
+
+		Assert.assertEquals("the order counters should be reset after a record", 0, encoder.getValueCounterSize());
+		Assert.assertTrue("statements should have been processed", processedStatements.get() > 0);
+	}
+
+	@Test
+	public void testBoundedTermCaches() {
+
+		for (int i = 0; i < CACHE_RECORDS; i++) {
+
+			encodeRecord(i);
+		}
+
+		Assert.assertEquals("the order counters should be reset after a record", 0, encoder.getValueCounterSize());
+		Assert.assertTrue("the term caches should be bounded", encoder.getCachedTermsSize() <= MAX_CACHED_TERMS);
+	}
+
+	@Test
+	@Category(SlowTests.class)
+	public void testBoundedMemory() {
+
+		long heapAtCheckpoint = 0;
+
+		for (int i = 0; i < RECORDS; i++) {
+
+			encodeRecord(i);
+
+			if (i == CHECKPOINT) {
+
+				heapAtCheckpoint = usedHeap();
+			}
+		}
+
+		final long heapAtEnd = usedHeap();
+
+		Assert.assertEquals("the order counters should be reset after a record", 0, encoder.getValueCounterSize());
+		Assert.assertTrue("the term caches should be bounded", encoder.getCachedTermsSize() <= MAX_CACHED_TERMS);
+		Assert.assertTrue(String.format("the heap should not grow with the number of records (from %d to %d bytes)", heapAtCheckpoint, heapAtEnd),
+				heapAtEnd - heapAtCheckpoint < MAX_HEAP_GROWTH);
+	}
+
+	private void encodeRecord(final int i) {
+
+		encoder.startRecord(RECORD_BASE_URI + i);
+		encoder.literal("title", "title " + i);
+		encoder.startEntity("creator");
+		encoder.literal("name", "creator " + i);
+		encoder.literal("name", "alternative creator " + i);
+		encoder.endEntity();
+		// a value-derived attribute name
+		encoder.literal("note" + i, "note");
+		encoder.endRecord();
+	}
+
+	private static long usedHeap() {
+
+		final Runtime runtime = Runtime.getRuntime();
+
+		for (int i = 0; i < 3; i++) {
+
+			System.gc();
+		}
+
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,219 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.mf.stream.converter;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Resources;
+import org.culturegraph.mf.framework.DefaultObjectReceiver;
+import org.culturegraph.mf.framework.ObjectReceiver;
+import org.culturegraph.mf.stream.converter.xml.XmlDecoder;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.dswarm.converter.mf.stream.source.XMLGDMEncoder;
+import org.dswarm.graph.json.LiteralNode;
+import org.dswarm.graph.json.Node;
+import org.dswarm.graph.json.ResourceNode;
+import org.dswarm.graph.json.Statement;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+import org.dswarm.persistence.model.resource.DataModel;
+
+/**
+ * Checks that the chunks of the {@link XmlRecordSplitter} are independent XML documents, which are triplified to the same records as the
+ * complete input.
+ */
+public class XmlRecordSplitterTest {
+
+	@Test
+	public void testChunks() {
+
+		final String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<!DOCTYPE collection [ <!ELEMENT collection ANY> ]>\n"
+				+ "<m:collection xmlns:m=\"http://example.org/m\">\n"
+				+ "<!-- <m:record>commented</m:record> -->\n"
+				+ "<m:record id=\"1\" note=\"a > b\"><m:record>nested</m:record><![CDATA[</m:record>]]></m:record>\n"
+				+ "<m:info>between</m:info>\n"
+				+ "<m:record id=\"2\"/>\n"
+				+ "<m:record id=\"3\">three</m:record>\n"
+				+ "</m:collection>";
+
+		final List<String> chunks = split(xml, "record", 2);
+
+		Assert.assertEquals(2, chunks.size());
+		Assert.assertEquals("<!DOCTYPE collection [ <!ELEMENT collection ANY> ]>"
+				+ "<m:collection xmlns:m=\"http://example.org/m\">"
+				+ "<m:record id=\"1\" note=\"a > b\"><m:record>nested</m:record><![CDATA[</m:record>]]></m:record>"
+				+ "<m:record id=\"2\"/>"
+				+ "</m:collection>", chunks.get(0));
+		Assert.assertEquals("<!DOCTYPE collection [ <!ELEMENT collection ANY> ]>"
+				+ "<m:collection xmlns:m=\"http://example.org/m\"><m:record id=\"3\">three</m:record></m:collection>", chunks.get(1));
+	}
+
+	@Test
+	public void testDeclaredEntities() {
+
+		final String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<!DOCTYPE collection [\n"
+				+ "  <!ENTITY publisher \"SLUB Dresden\">\n"
+				+ "]>\n"
+				+ "<collection>\n"
+				+ "<record><title>one</title></record>\n"
+				+ "<record><title>two</title><publisher>&publisher;</publisher></record>\n"
+				+ "</collection>";
+
+		final List<String> chunks = split(xml, "record", 1);
+
+		Assert.assertEquals(2, chunks.size());
+
+		final List<String> expectedRecords = triplify(xml, "record", new AtomicLong(1));
+
+		final AtomicLong nodeIdCounter = new AtomicLong(1);
+		final List<String> actualRecords = new ArrayList<>();
+
+		for (final String chunk : chunks) {
+
+			actualRecords.addAll(triplify(chunk, "record", nodeIdCounter));
+		}
+
+		Assert.assertEquals(2, expectedRecords.size());
+		Assert.assertTrue(expectedRecords.get(1).contains("\"SLUB Dresden\""));
+		Assert.assertEquals(expectedRecords, actualRecords);
+	}
+
+	@Test
+	public void testChunksOfDifferentAncestors() {
+
+		final String xml = "<root><a><record/><record/></a><b><record/></b></root>";
+
+		final List<String> chunks = split(xml, "record", 5);
+
+		Assert.assertEquals(2, chunks.size());
+		Assert.assertEquals("<root><a><record/><record/></a></root>", chunks.get(0));
+		Assert.assertEquals("<root><b><record/></b></root>", chunks.get(1));
+	}
+
+	@Test
+	public void testSameRecordsAsCompleteInput() throws IOException {
+
+		checkSameRecords("testset5.xml", "record");
+		checkSameRecords("dmpf_bsp1.xml", "record");
+		checkSameRecords("test-mabxml.xml", "datensatz");
+	}
+
+	private static void checkSameRecords(final String resourceName, final String recordTagName) throws IOException {
+
+		final URL resourceURL = Resources.getResource(resourceName);
+		// note: the XML declaration needs to be at the very beginning of a document
+		final String xml = Resources.toString(resourceURL, Charsets.UTF_8).trim();
+
+		final List<String> expectedRecords = triplify(xml, recordTagName, new AtomicLong(1));
+
+		final AtomicLong nodeIdCounter = new AtomicLong(1);
+		final List<String> actualRecords = new ArrayList<>();
+
+		for (final String chunk : split(xml, recordTagName, 2)) {
+
+			actualRecords.addAll(triplify(chunk, recordTagName, nodeIdCounter));
+		}
+
+		Assert.assertFalse(expectedRecords.isEmpty());
+		Assert.assertEquals(resourceName, expectedRecords, actualRecords);
+	}
+
+	private static List<String> split(final String xml, final String recordTagName, final int recordsPerChunk) {
+
+		final List<String> chunks = new ArrayList<>();
+
+		final XmlRecordSplitter splitter = new XmlRecordSplitter(recordTagName, recordsPerChunk);
+		splitter.setReceiver(collector(chunks));
+		splitter.process(new StringReader(xml));
+		splitter.closeStream();
+
+		return chunks;
+	}
+
+	/**
+	 * Triplifies the given XML document and describes every resulting record by its statements (without the record URIs and node ids, since
+	 * these are minted).
+	 */
+	private static List<String> triplify(final String xml, final String recordTagName, final AtomicLong nodeIdCounter) {
+
+		final List<GDMModel> gdmModels = new ArrayList<>();
+
+		final XmlDecoder decoder = new XmlDecoder();
+		decoder
+				.setReceiver(new XMLGDMEncoder(recordTagName, Optional.of(new DataModel("1")), nodeIdCounter))
+				.setReceiver(collector(gdmModels));
+
+		decoder.process(new StringReader(xml));
+		decoder.closeStream();
+
+		final List<String> records = new ArrayList<>();
+
+		for (final GDMModel gdmModel : gdmModels) {
+
+			final List<String> statements = new ArrayList<>();
+
+			gdmModel.getModel().getResources().forEach(resource -> {
+
+				for (final Statement statement : resource.getStatements()) {
+
+					statements.add(statement.getOrder() + " " + statement.getPredicate().getUri() + " " + describe(statement.getObject()));
+				}
+			});
+
+			statements.sort(null);
+			records.add(String.join("\n", statements));
+		}
+
+		return records;
+	}
+
+	private static String describe(final Node node) {
+
+		if (node instanceof LiteralNode) {
+
+			return '"' + ((LiteralNode) node).getValue() + '"';
+		}
+
+		if (node instanceof ResourceNode) {
+
+			return ((ResourceNode) node).getUri();
+		}
+
+		return "_:node";
+	}
+
+	private static <T> ObjectReceiver<T> collector(final List<T> objects) {
+
+		return new DefaultObjectReceiver<T>() {
+
+			@Override
+			public void process(final T object) {
+
+				objects.add(object);
+			}
+		};
+	}
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.mf.stream.reader;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.culturegraph.mf.stream.sink.EventList;
+import org.culturegraph.mf.types.Event;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.dswarm.common.types.Tuple;
+import org.dswarm.graph.json.LiteralNode;
+import org.dswarm.graph.json.Model;
+import org.dswarm.graph.json.Node;
+import org.dswarm.graph.json.Predicate;
+import org.dswarm.graph.json.Resource;
+import org.dswarm.graph.json.ResourceNode;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+import org.dswarm.persistence.util.GDMUtil;
+
+/**
+ * Checks that the {@link GDMResourceReader} emits the same events as the JSON route, i.e., {@link GDMModel#toRawJSON()} +
+ * {@link JsonNodeReader}.
+ */
+public class GDMResourceReaderTest {
+
+	private static final String RECORD_URI      = "http://data.slub-dresden.de/records/1";
+	private static final String SUB_RECORD_URI  = "http://data.slub-dresden.de/records/1/sub";
+	private static final String SCHEMA_BASE_URI = "http://data.slub-dresden.de/schema#";
+	private static final String PERSON_URI      = "http://data.slub-dresden.de/persons/1";
+	private static final String PLACE_URI       = "http://data.slub-dresden.de/places/1";
+
+	@Test
+	public void testEventsAreEqualToJSONRoute() {
+
+		final Resource recordResource = new Resource(RECORD_URI);
+		final ResourceNode recordNode = new ResourceNode(RECORD_URI);
+		final ResourceNode subRecordNode = new ResourceNode(SUB_RECORD_URI);
+
+		final Predicate title = new Predicate(SCHEMA_BASE_URI + "title");
+		final Predicate creator = new Predicate(SCHEMA_BASE_URI + "creator");
+		final Predicate name = new Predicate(SCHEMA_BASE_URI + "name");
+		final Predicate part = new Predicate(SCHEMA_BASE_URI + "part");
+		final Predicate empty = new Predicate(SCHEMA_BASE_URI + "empty");
+
+		final Node creatorNode1 = new Node(1);
+		final Node creatorNode2 = new Node(2);
+		final Node nestedNode = new Node(3);
+		final Node emptyNode = new Node(4);
+
+		long order = 1;
+
+		recordResource.addStatement(recordNode, new Predicate(GDMUtil.RDF_type), new ResourceNode(SCHEMA_BASE_URI + "Record"), order++);
+		recordResource.addStatement(recordNode, title, new LiteralNode("a title"), order++);
+		recordResource.addStatement(recordNode, creator, creatorNode1, order++);
+		// the second title will be grouped with the first one
+		recordResource.addStatement(recordNode, title, new LiteralNode("another title"), order++);
+		recordResource.addStatement(recordNode, creator, creatorNode2, order++);
+		recordResource.addStatement(recordNode, part, subRecordNode, order++);
+		recordResource.addStatement(recordNode, empty, emptyNode, order++);
+		recordResource.addStatement(creatorNode1, name, new LiteralNode("a name"), order++);
+		recordResource.addStatement(creatorNode1, part, nestedNode, order++);
+		recordResource.addStatement(nestedNode, name, new LiteralNode("a nested name"), order++);
+		recordResource.addStatement(creatorNode2, name, new LiteralNode("another name"), order++);
+		recordResource.addStatement(subRecordNode, title, new LiteralNode("a sub title"), order++);
+
+		final Model model = new Model();
+		model.addResource(recordResource);
+
+		assertEventsAreEqualToJSONRoute(model);
+	}
+
+	/**
+	 * Checks that resource nodes, which are described by resources of their own in the model (and not in the record resource), are resolved
+	 * against the whole model (as in the JSON route).
+	 */
+	@Test
+	public void testEventsOfMultiResourceModelAreEqualToJSONRoute() {
+
+		final Resource recordResource = new Resource(RECORD_URI);
+		final Resource personResource = new Resource(PERSON_URI);
+		final Resource placeResource = new Resource(PLACE_URI);
+
+		final ResourceNode recordNode = new ResourceNode(RECORD_URI);
+		final ResourceNode personNode = new ResourceNode(PERSON_URI);
+		final ResourceNode placeNode = new ResourceNode(PLACE_URI);
+
+		final Predicate title = new Predicate(SCHEMA_BASE_URI + "title");
+		final Predicate creator = new Predicate(SCHEMA_BASE_URI + "creator");
+		final Predicate name = new Predicate(SCHEMA_BASE_URI + "name");
+		final Predicate birthPlace = new Predicate(SCHEMA_BASE_URI + "birthPlace");
+		final Predicate label = new Predicate(SCHEMA_BASE_URI + "label");
+		final Predicate part = new Predicate(SCHEMA_BASE_URI + "part");
+
+		final Node nameNode = new Node(1);
+		final Node partNode = new Node(2);
+
+		long order = 1;
+
+		recordResource.addStatement(recordNode, new Predicate(GDMUtil.RDF_type), new ResourceNode(SCHEMA_BASE_URI + "Record"), order++);
+		recordResource.addStatement(recordNode, title, new LiteralNode("a title"), order++);
+		recordResource.addStatement(recordNode, creator, personNode, order++);
+		recordResource.addStatement(recordNode, part, partNode, order++);
+		recordResource.addStatement(partNode, title, new LiteralNode("a part title"), order++);
+		// a place resource node that is described in the place resource (and not in the record resource)
+		recordResource.addStatement(partNode, birthPlace, placeNode, order++);
+
+		// a blank node in the person resource
+		personResource.addStatement(personNode, name, nameNode, order++);
+		personResource.addStatement(nameNode, label, new LiteralNode("a name"), order++);
+		personResource.addStatement(personNode, birthPlace, placeNode, order++);
+
+		placeResource.addStatement(placeNode, label, new LiteralNode("a place"), order++);
+
+		final Model model = new Model();
+		model.addResource(recordResource);
+		model.addResource(personResource);
+		model.addResource(placeResource);
+
+		final List<String> gdmEvents = assertEventsAreEqualToJSONRoute(model);
+
+		Assert.assertTrue("the statements of the person resource should be emitted", gdmEvents.contains(literal(label, "a name")));
+		Assert.assertTrue("the statements of the place resource should be emitted", gdmEvents.contains(literal(label, "a place")));
+	}
+
+	private static List<String> assertEventsAreEqualToJSONRoute(final Model model) {
+
+		final JsonNode json = new GDMModel(model, RECORD_URI).toRawJSON();
+
+		final EventList jsonEvents = new EventList();
+		final JsonNodeReader jsonNodeReader = new JsonNodeReader();
+		jsonNodeReader.setReceiver(jsonEvents);
+		jsonNodeReader.process(Tuple.tuple(RECORD_URI, json));
+
+		final EventList gdmEvents = new EventList();
+		final GDMResourceReader gdmResourceReader = new GDMResourceReader();
+		gdmResourceReader.setReceiver(gdmEvents);
+		gdmResourceReader.process(Tuple.tuple(RECORD_URI, model));
+
+		Assert.assertFalse("there should be some events", jsonEvents.getEvents().isEmpty());
+		Assert.assertEquals("the events of both routes should be equal", toStrings(jsonEvents), toStrings(gdmEvents));
+
+		return toStrings(gdmEvents);
+	}
+
+	private static String literal(final Predicate predicate, final String value) {
+
+		return new Event(Event.Type.LITERAL, predicate.getUri(), value).toString();
+	}
+
+	private static List<String> toStrings(final EventList eventList) {
+
+		return eventList.getEvents().stream().map(Object::toString).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.mf.stream.source;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Resources;
+import org.culturegraph.mf.framework.DefaultObjectReceiver;
+import org.culturegraph.mf.types.Triple;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.dswarm.converter.mf.stream.converter.StreamToRecordTriples;
+import org.dswarm.converter.mf.stream.reader.CsvReader;
+import org.dswarm.graph.json.LiteralNode;
+import org.dswarm.graph.json.Resource;
+import org.dswarm.graph.json.ResourceNode;
+import org.dswarm.graph.json.Statement;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+import org.dswarm.persistence.model.resource.DataModel;
+import org.dswarm.persistence.model.resource.utils.DataModelUtils;
+import org.dswarm.persistence.util.GDMUtil;
+
+/**
+ * Checks that the {@link CSVGDMEncoder} results in the same GDM records as the (former) route via the triples of the CSV records.
+ */
+public class CSVGDMEncoderTest {
+
+	private static final String DATA_MODEL_UUID = "1";
+
+	@Test
+	public void testSameRecordsAsTriplesRoute() throws IOException {
+
+		final String csv = Resources.toString(Resources.getResource("test_csv.csv"), Charsets.UTF_8);
+		final DataModel dataModel = new DataModel(DATA_MODEL_UUID);
+		final String recordClassURI = DataModelUtils.determineDataModelSchemaBaseURI(dataModel) + "RecordType";
+
+		final List<Collection<Triple>> records = new ArrayList<>();
+
+		final CsvReader triplesReader = createReader();
+		triplesReader
+				.setReceiver(new StreamToRecordTriples())
+				.setReceiver(new DefaultObjectReceiver<Collection<Triple>>() {
+
+					@Override
+					public void process(final Collection<Triple> triples) {
+
+						records.add(triples);
+					}
+				});
+		triplesReader.process(new StringReader(csv));
+
+		final List<GDMModel> gdmModels = new ArrayList<>();
+
+		final CsvReader gdmReader = createReader();
+		gdmReader
+				.setReceiver(new CSVGDMEncoder(dataModel))
+				.setReceiver(new DefaultObjectReceiver<GDMModel>() {
+
+					@Override
+					public void process(final GDMModel gdmModel) {
+
+						gdmModels.add(gdmModel);
+					}
+				});
+		gdmReader.process(new StringReader(csv));
+
+		Assert.assertEquals(19, records.size());
+		Assert.assertEquals(records.size(), gdmModels.size());
+
+		for (int i = 0; i < records.size(); i++) {
+
+			final GDMModel gdmModel = gdmModels.get(i);
+
+			Assert.assertEquals(recordClassURI, gdmModel.getRecordClassURI());
+			Assert.assertEquals(1, gdmModel.getModel().getResources().size());
+
+			final Resource recordResource = gdmModel.getModel().getResources().iterator().next();
+
+			Assert.assertTrue(recordResource.getUri().startsWith(DataModelUtils.determineDataModelBaseURI(dataModel)));
+
+			final List<String> expectedStatements = new ArrayList<>();
+			expectedStatements.add(GDMUtil.RDF_type + " " + recordClassURI);
+
+			for (final Triple triple : records.get(i)) {
+
+				expectedStatements.add(triple.getPredicate() + " " + triple.getObject());
+			}
+
+			final List<String> actualStatements = new ArrayList<>();
+
+			for (final Statement statement : recordResource.getStatements()) {
+
+				Assert.assertEquals(recordResource.getUri(), ((ResourceNode) statement.getSubject()).getUri());
+
+				final String object = statement.getObject() instanceof LiteralNode ?
+						((LiteralNode) statement.getObject()).getValue() :
+						((ResourceNode) statement.getObject()).getUri();
+
+				actualStatements.add(statement.getPredicate().getUri() + " " + object);
+			}
+
+			Assert.assertEquals(expectedStatements, actualStatements);
+		}
+	}
+
+	private static CsvReader createReader() {
+
+		final CsvReader reader = new CsvReader('\\', '"', ';', "\n");
+		reader.setHeader(true);
+
+		return reader;
+	}
+}
@@ -97,6 +97,25 @@ public class MorphScriptBuilderTest extends GuicedTest {
 		compareTaskGeneratedMorphscript("dd-962.task.json", "dd-962.regexlookup.morph.result.xml");
 	}
 
+	/**
+	 * The morph script of a task can be created more than once (e.g. when a cached script was evicted), i.e., creating it shouldn't modify
+	 * the task (concat functions are converted into combine functions).
+	 */
+	@Test
+	public void testMorphScriptOfTheSameTaskTwice() throws Exception {
+
+		final ObjectMapper objectMapper = injector.getInstance(ObjectMapper.class);
+
+		final String request = DMPPersistenceUtil.getResourceAsString("almost.all.functions.complex.test.csv.task.json");
+
+		final String result = DMPPersistenceUtil.getResourceAsString("almost.all.functions.complex.test.csv.morph.xml");
+
+		final Task task = objectMapper.readValue(request, Task.class);
+
+		Assert.assertEquals(result, new MorphScriptBuilder().apply(task).toString());
+		Assert.assertEquals(result, new MorphScriptBuilder().apply(task).toString());
+	}
+
 	private void compareTaskGeneratedMorphscript(final String taskJSONFileName, final String morphFileName) throws Exception {
 
 		final ObjectMapper objectMapper = injector.getInstance(ObjectMapper.class);
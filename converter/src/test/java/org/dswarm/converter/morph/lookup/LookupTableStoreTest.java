@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.morph.lookup;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.culturegraph.mf.morph.Metamorph;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.dswarm.converter.DMPConverterException;
+
+public class LookupTableStoreTest {
+
+	private static final String MORPH_SCRIPT = "<metamorph xmlns=\"http://www.culturegraph.org/metamorph\" version=\"1\">"
+			+ "<rules><data source=\"subject\" name=\"notation\"><lookup in=\"" + LookupTableStore.getMapName("rvk") + "\"/></data></rules>"
+			+ "<maps><map name=\"" + LookupTableStore.getMapName("rvk") + "\" default=\"\"/></maps></metamorph>";
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private LookupTableStore lookupTableStore;
+
+	@Before
+	public void prepare() {
+
+		lookupTableStore = new LookupTableStore(temporaryFolder.getRoot().getAbsolutePath());
+	}
+
+	@Test
+	public void testPutGetAndDelete() throws Exception {
+
+		Assert.assertFalse(lookupTableStore.get("rvk").isPresent());
+
+		lookupTableStore.put("rvk", Collections.singletonMap("Mathematik", "SK"));
+
+		Assert.assertEquals(Collections.singletonList("rvk"), lookupTableStore.getNames());
+		Assert.assertEquals("SK", lookupTableStore.get("rvk").get().get("Mathematik"));
+
+		// replace the lookup table
+		final Map<String, String> entries = new HashMap<>();
+		entries.put("Mathematik", "SK");
+		entries.put("Physik", "UA");
+
+		lookupTableStore.put("rvk", entries);
+
+		Assert.assertEquals(2, lookupTableStore.get("rvk").get().size());
+
+		// a new store instance reads the stored lookup table from disk
+		final LookupTableStore otherLookupTableStore = new LookupTableStore(temporaryFolder.getRoot().getAbsolutePath());
+
+		Assert.assertEquals(entries, otherLookupTableStore.get("rvk").get());
+
+		Assert.assertTrue(lookupTableStore.delete("rvk"));
+		Assert.assertFalse(lookupTableStore.delete("rvk"));
+		Assert.assertFalse(lookupTableStore.get("rvk").isPresent());
+		Assert.assertTrue(lookupTableStore.getNames().isEmpty());
+	}
+
+	@Test(expected = DMPConverterException.class)
+	public void testInvalidName() throws Exception {
+
+		lookupTableStore.put("../rvk", Collections.singletonMap("Mathematik", "SK"));
+	}
+
+	@Test
+	public void testRegisterLookupTables() throws Exception {
+
+		lookupTableStore.put("rvk", Collections.singletonMap("Mathematik", "SK"));
+
+		final Metamorph morph = new Metamorph(new StringReader(MORPH_SCRIPT));
+
+		lookupTableStore.registerLookupTables(morph);
+
+		Assert.assertEquals("SK", morph.getValue(LookupTableStore.getMapName("rvk"), "Mathematik"));
+	}
+
+	@Test(expected = DMPConverterException.class)
+	public void testRegisterMissingLookupTable() throws Exception {
+
+		final Metamorph morph = new Metamorph(new StringReader(MORPH_SCRIPT));
+
+		lookupTableStore.registerLookupTables(morph);
+	}
+}
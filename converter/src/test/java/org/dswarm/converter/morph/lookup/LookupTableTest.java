@@ -0,0 +1,157 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.converter.morph.lookup;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LookupTableTest {
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testLookup() {
+
+		final Map<String, String> entries = new HashMap<>();
+		entries.put("Mathematik", "SK");
+		entries.put("Physik", "UA");
+		entries.put("Informatik", "ST");
+		entries.put("Chemie", null);
+
+		final LookupTable lookupTable = LookupTable.of(entries);
+
+		Assert.assertEquals(4, lookupTable.size());
+		Assert.assertEquals("SK", lookupTable.get("Mathematik"));
+		Assert.assertEquals("UA", lookupTable.get("Physik"));
+		Assert.assertEquals("ST", lookupTable.get("Informatik"));
+		Assert.assertEquals("", lookupTable.get("Chemie"));
+		Assert.assertTrue(lookupTable.containsKey("Chemie"));
+		Assert.assertFalse(lookupTable.containsKey("Biologie"));
+		Assert.assertNull(lookupTable.get("Biologie"));
+		Assert.assertNull(lookupTable.get(42));
+	}
+
+	@Test
+	public void testEmptyLookupTable() {
+
+		final LookupTable lookupTable = LookupTable.of(new HashMap<>());
+
+		Assert.assertTrue(lookupTable.isEmpty());
+		Assert.assertNull(lookupTable.get("a"));
+		Assert.assertFalse(lookupTable.entrySet().iterator().hasNext());
+	}
+
+	@Test
+	public void testIterationOrder() {
+
+		final Map<String, String> entries = new LinkedHashMap<>();
+		entries.put("ü", "4");
+		entries.put("b", "2");
+		entries.put("a", "1");
+		entries.put("z", "3");
+		entries.put("€", "5");
+
+		final LookupTable lookupTable = LookupTable.of(entries);
+
+		final List<String> keys = new ArrayList<>(lookupTable.keySet());
+
+		Assert.assertEquals(5, keys.size());
+		// keys are ordered by their UTF-8 bytes
+		Assert.assertEquals("a", keys.get(0));
+		Assert.assertEquals("b", keys.get(1));
+		Assert.assertEquals("z", keys.get(2));
+		Assert.assertEquals("ü", keys.get(3));
+		Assert.assertEquals("€", keys.get(4));
+
+		for (final Map.Entry<String, String> entry : entries.entrySet()) {
+
+			Assert.assertEquals(entry.getValue(), lookupTable.get(entry.getKey()));
+		}
+
+		Assert.assertEquals(entries, lookupTable);
+	}
+
+	@Test
+	public void testWriteAndOpen() throws Exception {
+
+		final Map<String, String> entries = new HashMap<>();
+
+		for (int i = 0; i < 10000; i++) {
+
+			entries.put("key" + i, "value" + i);
+		}
+
+		final Path file = temporaryFolder.getRoot().toPath().resolve("test.lookup");
+
+		LookupTable.of(entries).writeTo(file);
+
+		final LookupTable lookupTable = LookupTable.open(file);
+
+		Assert.assertEquals(entries.size(), lookupTable.size());
+		Assert.assertEquals("value0", lookupTable.get("key0"));
+		Assert.assertEquals("value9999", lookupTable.get("key9999"));
+		Assert.assertNull(lookupTable.get("key10000"));
+		Assert.assertEquals(entries, lookupTable);
+	}
+
+	@Test
+	public void testBuilderLastValueWins() {
+
+		final LookupTable lookupTable = new LookupTable.Builder().put("b", "1").put("a", "2").put("b", "3").put("a", null).build();
+
+		Assert.assertEquals(2, lookupTable.size());
+		Assert.assertEquals("", lookupTable.get("a"));
+		Assert.assertEquals("3", lookupTable.get("b"));
+	}
+
+	@Test
+	public void testBuilderWriteAndOpen() throws Exception {
+
+		final LookupTable.Builder builder = new LookupTable.Builder();
+		final Map<String, String> entries = new HashMap<>();
+
+		for (int i = 10000; i > 0; i--) {
+
+			builder.put("key" + i, "value" + i);
+			entries.put("key" + i, "value" + i);
+		}
+
+		builder.put("key1", "value");
+		entries.put("key1", "value");
+
+		final Path file = temporaryFolder.getRoot().toPath().resolve("test.lookup");
+
+		builder.writeTo(file);
+
+		final LookupTable lookupTable = LookupTable.open(file);
+
+		Assert.assertEquals(entries.size(), lookupTable.size());
+		Assert.assertEquals("value", lookupTable.get("key1"));
+		Assert.assertEquals("value10000", lookupTable.get("key10000"));
+		Assert.assertEquals(entries, lookupTable);
+		Assert.assertEquals(builder.build(), lookupTable);
+	}
+}
@@ -244,4 +244,43 @@ public class StreamUnflattenerTest {
 		Mockito.verify(mockedReceiver).endEntity();
 		Mockito.verify(mockedReceiver).endRecord();
 	}
+
+	@Test
+	public void testLiteralRepeatedInNextRecord() throws Exception {
+		final String expectedName = "foo";
+		final String expectedValue1 = "bar";
+		final String expectedValue2 = "bar2";
+		final String expectedEntity = "baz";
+
+		final String inName = Joiner.on(StreamUnflattener.DEFAULT_ENTITY_MARKER).join(expectedEntity, expectedName);
+
+		unflattener.literal(inName, expectedValue1);
+		unflattener.endRecord();
+
+		unflattener.startRecord("2");
+		unflattener.literal(inName, expectedValue2);
+
+		// the (cached) path is opened again in the next record
+		Mockito.verify(mockedReceiver, Mockito.times(2)).startEntity(expectedEntity);
+		Mockito.verify(mockedReceiver).literal(expectedName, expectedValue1);
+		Mockito.verify(mockedReceiver).endEntity();
+		Mockito.verify(mockedReceiver).endRecord();
+		Mockito.verify(mockedReceiver).startRecord("2");
+		Mockito.verify(mockedReceiver).literal(expectedName, expectedValue2);
+	}
+
+	@Test
+	public void testLiteralWithEmptyPathSegment() throws Exception {
+		final String expectedName = "foo";
+		final String expectedValue = "bar";
+		final String expectedEntity = "baz";
+
+		final String inName = Joiner.on(StreamUnflattener.DEFAULT_ENTITY_MARKER).join(expectedEntity, "", expectedName);
+
+		unflattener.literal(inName, expectedValue);
+
+		Mockito.verify(mockedReceiver).startEntity(expectedEntity);
+		Mockito.verify(mockedReceiver).startEntity("");
+		Mockito.verify(mockedReceiver).literal(expectedName, expectedValue);
+	}
 }
@@ -15,6 +15,10 @@
  */
 package org.dswarm.init;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
 import com.google.inject.Key;
 import com.google.inject.Provider;
 import com.google.inject.Scope;
@@ -28,11 +32,15 @@ public final class ExecutionScope implements Scope, AutoCloseable {
 	private final ThreadLocal<ExecutionScopeStore> scopes = new ThreadLocal<>();
 	private final ThreadLocal<Integer> nestingLevel = new ThreadLocal<>();
 
+	private final AtomicLong outOfScopeProvisions = new AtomicLong();
+	private final AtomicLong propagations = new AtomicLong();
+
 	@Override
 	public <T> Provider<T> scope(final Key<T> key, final Provider<T> unscoped) {
 		return () -> {
 			final ExecutionScopeStore scope = scopes.get();
 			if (scope == null) {
+				outOfScopeProvisions.incrementAndGet();
 				LOG.warn("[{}] was requested out of scope, falling back to unscoped provision", key);
 				return unscoped.get();
 			}
@@ -80,4 +88,106 @@ public final class ExecutionScope implements Scope, AutoCloseable {
 	public void close() {
 		leave();
 	}
+
+	/**
+	 * Wraps the given task, so that it runs in the execution scope of the calling thread, i.e., a task that will be executed on
+	 * another thread (e.g. by an executor or a scheduler) utilises the scoped objects of the current execution.
+	 * The task is returned as it is, if no execution scope is opened.
+	 *
+	 * @param task the task to run in the current execution scope
+	 * @return the wrapped task
+	 */
+	public Runnable wrap(final Runnable task) {
+		final ExecutionScopeStore scope = scopes.get();
+		if (scope == null) {
+			return task;
+		}
+
+		return () -> {
+			final Runnable restore = propagate(scope);
+			try {
+				task.run();
+			} finally {
+				restore.run();
+			}
+		};
+	}
+
+	/**
+	 * Wraps the given task, so that it runs in the execution scope of the calling thread (see {@link #wrap(Runnable)}).
+	 *
+	 * @param task the task to run in the current execution scope
+	 * @return the wrapped task
+	 */
+	public <T> Callable<T> wrap(final Callable<T> task) {
+		final ExecutionScopeStore scope = scopes.get();
+		if (scope == null) {
+			return task;
+		}
+
+		return () -> {
+			final Runnable restore = propagate(scope);
+			try {
+				return task.call();
+			} finally {
+				restore.run();
+			}
+		};
+	}
+
+	/**
+	 * Wraps the given executor, so that every task runs in the execution scope of the thread that submitted it
+	 * (see {@link #wrap(Runnable)}).
+	 *
+	 * @param executor the executor to wrap
+	 * @return the wrapped executor
+	 */
+	public Executor wrap(final Executor executor) {
+		return task -> executor.execute(wrap(task));
+	}
+
+	/**
+	 * @return the number of provisions of scoped objects that were requested outside of an execution scope, i.e., that created
+	 * new (unscoped) objects
+	 */
+	public long getOutOfScopeProvisions() {
+		return outOfScopeProvisions.get();
+	}
+
+	/**
+	 * @return the number of tasks that were executed in the propagated execution scope of another thread
+	 */
+	public long getPropagations() {
+		return propagations.get();
+	}
+
+	/**
+	 * Opens the given execution scope on the current thread.
+	 *
+	 * @param scope the execution scope of another thread
+	 * @return a function that restores the previous execution scope of the current thread
+	 */
+	private Runnable propagate(final ExecutionScopeStore scope) {
+		final ExecutionScopeStore previousScope = scopes.get();
+		if (previousScope == scope) {
+			// e.g. a synchronous execution on the same thread
+			return () -> {
+			};
+		}
+
+		final Integer previousLevel = nestingLevel.get();
+		scopes.set(scope);
+		nestingLevel.set(0);
+		propagations.incrementAndGet();
+
+		return () -> {
+			if (previousScope == null) {
+				scopes.remove();
+				nestingLevel.remove();
+			} else {
+				scopes.set(previousScope);
+				nestingLevel.set(previousLevel);
+			}
+		};
+	}
 }
@@ -15,7 +15,6 @@
  */
 package org.dswarm.init;
 
-import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
 
@@ -29,7 +28,7 @@ public final class ExecutionScopeStore {
 
 	private static final Logger LOG = LoggerFactory.getLogger(ExecutionScopeStore.class);
 
-	private final Map<Key<?>,Object> store = Maps.newConcurrentMap();
+	private final ConcurrentMap<Key<?>,Object> store = Maps.newConcurrentMap();
 
 	public <T> boolean has(final Key<T> key) {
 		return store.containsKey(key);
@@ -49,7 +48,14 @@ public final class ExecutionScopeStore {
 		if (Scopes.isCircularProxy(newValue)) {
 			return newValue;
 		}
-		set(key, newValue);
+		// another thread might have created the value in the meantime, i.e., the value that was stored first wins
+		// (note: computeIfAbsent can't be utilised here, since the fallback might resolve further keys of this scope)
+		@SuppressWarnings("unchecked")
+		final T previous = (T) store.putIfAbsent(key, newValue);
+		if (previous != null) {
+			LOG.debug("The key [{}] was concurrently created in this scope. Current value: {}, Discarded value: {}", key, previous, newValue);
+			return previous;
+		}
 		return newValue;
 	}
 
@@ -0,0 +1,88 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence;
+
+import rx.functions.Action0;
+import rx.plugins.RxJavaPlugins;
+import rx.plugins.RxJavaSchedulersHook;
+
+import org.dswarm.init.ExecutionScope;
+
+/**
+ * A RxJava schedulers hook that propagates the execution scope of the thread that schedules an action to the thread that executes this
+ * action, i.e., work that is moved to another thread (e.g. via {@link rx.schedulers.Schedulers#newThread()}) can utilise the scoped
+ * objects of its execution.<br/>
+ * The hook needs to be registered once at application bootstrap ({@link #register(ExecutionScope)}), i.e., before any RxJava scheduler is
+ * utilised (otherwise, RxJava already fixed its default hook).<br/>
+ * Note: actions of schedulers that are created from executors (see {@link rx.schedulers.Schedulers#from(java.util.concurrent.Executor)})
+ * are not passed to this hook, i.e., those executors need to be wrapped via {@link ExecutionScope#wrap(java.util.concurrent.Executor)}.
+ */
+public final class ExecutionScopeSchedulersHook extends RxJavaSchedulersHook {
+
+	private final ExecutionScope executionScope;
+
+	private ExecutionScopeSchedulersHook(final ExecutionScope executionScope) {
+
+		this.executionScope = executionScope;
+	}
+
+	/**
+	 * Registers the schedulers hook for the given execution scope. RxJava only accepts one schedulers hook per JVM, i.e., a repeated
+	 * registration for the same execution scope won't change anything.
+	 *
+	 * @param executionScope the execution scope that should be propagated
+	 * @throws IllegalStateException if another schedulers hook is already registered (or RxJava already fixed its default hook, because a
+	 *                               scheduler was utilised before)
+	 */
+	public static synchronized void register(final ExecutionScope executionScope) {
+
+		try {
+
+			RxJavaPlugins.getInstance().registerSchedulersHook(new ExecutionScopeSchedulersHook(executionScope));
+		} catch (final IllegalStateException e) {
+
+			final RxJavaSchedulersHook registeredHook = RxJavaPlugins.getInstance().getSchedulersHook();
+
+			if (registeredHook instanceof ExecutionScopeSchedulersHook
+					&& ((ExecutionScopeSchedulersHook) registeredHook).executionScope == executionScope) {
+
+				// already registered
+				return;
+			}
+
+			throw new IllegalStateException(String.format(
+					"couldn't register the execution scope propagation, because the RxJava schedulers hook '%s' is already registered "
+							+ "(the propagation needs to be registered before any RxJava scheduler is utilised)",
+					registeredHook.getClass().getName()), e);
+		}
+	}
+
+	@Override
+	public Action0 onSchedule(final Action0 action) {
+
+		final Action0 scheduledAction = super.onSchedule(action);
+		final Runnable task = scheduledAction::call;
+		final Runnable scopedTask = executionScope.wrap(task);
+
+		if (scopedTask == task) {
+
+			// no execution scope was opened
+			return scheduledAction;
+		}
+
+		return scopedTask::run;
+	}
+}
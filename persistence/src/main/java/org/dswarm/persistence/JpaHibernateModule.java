@@ -30,6 +30,9 @@ public class JpaHibernateModule extends AbstractModule {
 	private final String  password;
 	private final boolean isLogSql;
 	private final String  jpaUnit;
+	private final int     batchSize;
+	private final boolean isCacheEnabled;
+	private final int     cacheMaxSize;
 
 	public JpaHibernateModule(final Config config) {
 		Preconditions.checkNotNull(config);
@@ -40,6 +43,9 @@ public class JpaHibernateModule extends AbstractModule {
 		password = metadataConfig.getString("password");
 		isLogSql = metadataConfig.getBoolean("log-sql");
 		jpaUnit = metadataConfig.getString("jpa-unit");
+		batchSize = metadataConfig.getInt("batch-size");
+		isCacheEnabled = metadataConfig.getBoolean("cache.enabled");
+		cacheMaxSize = metadataConfig.getInt("cache.max-size");
 	}
 
 	@Override
@@ -94,6 +100,20 @@ public class JpaHibernateModule extends AbstractModule {
 		properties.setProperty("eclipselink.cache.shared.default", "false");
 		properties.setProperty("eclipselink.weaving", "static");
 
+		if (batchSize > 1) {
+
+			// statements of one transaction are written in JDBC batches, e.g., on bulk creation of attributes or attribute paths
+			properties.setProperty("eclipselink.jdbc.batch-writing", "JDBC");
+			properties.setProperty("eclipselink.jdbc.batch-writing.size", String.valueOf(batchSize));
+		}
+
+		if (isCacheEnabled) {
+
+			// the shared cache of the vocabulary entities and schemas is configured by the session customizer
+			properties.setProperty("eclipselink.session.customizer", SharedCacheCustomizer.class.getName());
+			properties.setProperty(SharedCacheCustomizer.MAX_SIZE_PROPERTY, String.valueOf(cacheMaxSize));
+		}
+
 		return properties;
 	}
 
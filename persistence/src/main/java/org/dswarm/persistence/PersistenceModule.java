@@ -18,6 +18,7 @@ package org.dswarm.persistence;
 import java.lang.management.ManagementFactory;
 
 import ch.qos.logback.classic.LoggerContext;
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.jvm.BufferPoolMetricSet;
 import com.codahale.metrics.jvm.ClassLoadingGaugeSet;
@@ -64,6 +65,8 @@ import org.dswarm.persistence.service.schema.MappingAttributePathInstanceService
 import org.dswarm.persistence.service.schema.SchemaAttributePathInstanceService;
 import org.dswarm.persistence.service.schema.SchemaService;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 /**
  * The Guice configuration of the persistence module. Interface/classes that are registered here can be utilised for injection.
  *
@@ -100,6 +103,7 @@ public class PersistenceModule extends AbstractModule {
 		bind(ContentSchemaService.class).in(Scopes.SINGLETON);
 		bind(MaintainDBService.class).in(Scopes.SINGLETON);
 		bind(UUIDService.class).in(Scopes.SINGLETON);
+		requestStaticInjection(UUIDService.class);
 
 		bind(InternalModelServiceFactory.class).to(InternalServiceFactoryImpl.class).in(Scopes.SINGLETON);
 		bind(DMPUtil.class);
@@ -122,6 +126,7 @@ public class PersistenceModule extends AbstractModule {
 		final MetricRegistry registry = new MetricRegistry();
 		instrumentLogback(registry);
 		instrumentJvm(registry);
+		instrumentExecutionScope(registry);
 
 		return registry;
 	}
@@ -167,6 +172,11 @@ public class PersistenceModule extends AbstractModule {
 		registry.register("jvm.threads", new ThreadStatesGaugeSet());
 	}
 
+	private static void instrumentExecutionScope(final MetricRegistry registry) {
+		registry.register(name(ExecutionScope.class, "provisions", "out-of-scope"), (Gauge<Long>) EXECUTION::getOutOfScopeProvisions);
+		registry.register(name(ExecutionScope.class, "propagations"), (Gauge<Long>) EXECUTION::getPropagations);
+	}
+
 	public static class DmpDeserializerModule extends SimpleModule {
 
 		public DmpDeserializerModule() {
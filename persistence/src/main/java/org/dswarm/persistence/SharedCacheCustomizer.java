@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence;
+
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import org.eclipse.persistence.config.CacheIsolationType;
+import org.eclipse.persistence.config.SessionCustomizer;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.sessions.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.dswarm.persistence.model.schema.Attribute;
+import org.dswarm.persistence.model.schema.AttributePath;
+import org.dswarm.persistence.model.schema.Clasz;
+
+/**
+ * Enables the shared (second-level) cache for the write-once vocabulary entities, i.e., attributes, classes and attribute paths. All other
+ * entities (incl. schemas and attribute path instances, which can be edited by the user) are still isolated (see shared-cache-mode in
+ * persistence.xml).<br/>
+ * Every cached entity type is held in a fixed-size LRU cache (see {@link #MAX_SIZE_PROPERTY}). Updates and deletions via the entity manager
+ * are merged into the shared cache on commit. Relationships of cached entities to isolated entities won't be cached.
+ */
+public class SharedCacheCustomizer implements SessionCustomizer {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SharedCacheCustomizer.class);
+
+	/**
+	 * The (persistence unit) property for the maximum number of cached objects per entity type.
+	 */
+	public static final String MAX_SIZE_PROPERTY = "dswarm.db.metadata.cache.max-size";
+
+	private static final int DEFAULT_MAX_SIZE = 10000;
+
+	private static final Set<Class<?>> SHARED_CLASSES = ImmutableSet.<Class<?>>of(Attribute.class, Clasz.class, AttributePath.class);
+
+	@Override
+	public void customize(final Session session) throws Exception {
+
+		final int maxSize = determineMaxSize(session.getProperty(MAX_SIZE_PROPERTY));
+
+		for (final ClassDescriptor descriptor : session.getDescriptors().values()) {
+
+			if (!isShared(descriptor.getJavaClass())) {
+
+				continue;
+			}
+
+			descriptor.setCacheIsolation(CacheIsolationType.SHARED);
+			descriptor.useCacheIdentityMap();
+			descriptor.setIdentityMapSize(maxSize);
+
+			LOG.debug("enabled shared cache for '{}' with a maximum size of '{}'", descriptor.getJavaClass().getSimpleName(), maxSize);
+		}
+	}
+
+	/**
+	 * Checks, whether the objects of the given entity type are held in the shared cache (if the shared cache is enabled). Only the exact
+	 * entity types are shared, i.e., not their sub types.
+	 *
+	 * @param clasz an entity type
+	 * @return true, if the objects of the given entity type are held in the shared cache
+	 */
+	public static boolean isShared(final Class<?> clasz) {
+
+		return SHARED_CLASSES.contains(clasz);
+	}
+
+	private static int determineMaxSize(final Object maxSizeProperty) {
+
+		if (maxSizeProperty == null) {
+
+			return DEFAULT_MAX_SIZE;
+		}
+
+		try {
+
+			return Integer.parseInt(maxSizeProperty.toString());
+		} catch (final NumberFormatException e) {
+
+			LOG.warn("couldn't parse maximum size of the shared cache '{}', will use the default size '{}' instead", maxSizeProperty,
+					DEFAULT_MAX_SIZE);
+
+			return DEFAULT_MAX_SIZE;
+		}
+	}
+}
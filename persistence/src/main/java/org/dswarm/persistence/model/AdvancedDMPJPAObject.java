@@ -39,6 +39,22 @@ public abstract class AdvancedDMPJPAObject extends BasicDMPJPAObject {
 	 */
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * The name suffix of the named query that retrieves an object by its uri (parameter {@link #URI_PARAMETER}). Every concrete entity class
+	 * declares this query with its entity name as prefix, e.g. 'Attribute.findByUri'.
+	 */
+	public static final String FIND_BY_URI = ".findByUri";
+
+	public static final String URI_PARAMETER = "uri";
+
+	/**
+	 * The name suffix of the named query that retrieves all objects with one of the given uris (parameter {@link #URIS_PARAMETER}). Every
+	 * concrete entity class declares this query with its entity name as prefix, e.g. 'Attribute.findByUris'.
+	 */
+	public static final String FIND_BY_URIS = ".findByUris";
+
+	public static final String URIS_PARAMETER = "uris";
+
 	// @Id
 	@Access(AccessType.FIELD)
 	@Column(name = "URI", columnDefinition = "VARCHAR(255)", length = 255, unique = true)
@@ -46,7 +46,7 @@ import org.dswarm.persistence.model.internal.helper.ConverterHelper;
 import org.dswarm.persistence.model.internal.helper.SchemaHelper;
 import org.dswarm.persistence.model.internal.helper.SchemaHelperHelper;
 import org.dswarm.persistence.util.DMPPersistenceUtil;
-import org.dswarm.persistence.util.GDMUtil;
+import org.dswarm.persistence.util.GDMResourceIndex;
 
 /**
  * @author tgaengler
@@ -186,8 +186,11 @@ public class GDMModel implements Model {
 
 		final ArrayNode json = DMPPersistenceUtil.getJSONObjectMapper().createArrayNode();
 
+		final Map<String, GDMResourceIndex> resourceIndices = Maps.newHashMap();
+		final GDMResourceIndex recordResourceIndex = getResourceIndex(recordResource, resourceIndices);
+
 		// determine record resource node from statements of the record resource
-		final ResourceNode recordResourceNode = GDMUtil.getResourceNode(resourceURI, recordResource);
+		final ResourceNode recordResourceNode = recordResourceIndex.getResourceNode(resourceURI);
 
 		if (recordResourceNode == null) {
 
@@ -196,7 +199,7 @@ public class GDMModel implements Model {
 			return null;
 		}
 
-		convertGDMToJSON(recordResource, recordResourceNode, json);
+		convertGDMToJSON(recordResource, recordResourceNode, json, resourceIndices);
 
 		return json;
 	}
@@ -235,7 +238,8 @@ public class GDMModel implements Model {
 			return null;
 		}
 
-		final Set<AttributePathHelper> attributePaths = Sets.newCopyOnWriteArraySet();
+		// note: attribute path helpers are interned, i.e., hashing and comparing them is cheap
+		final Set<AttributePathHelper> attributePaths = Sets.newLinkedHashSet();
 
 		// attribute path retrieval from all records
 		for (final String resourceURI : getRecordURIs()) {
@@ -251,8 +255,11 @@ public class GDMModel implements Model {
 
 			final ObjectNode json = DMPPersistenceUtil.getJSONObjectMapper().createObjectNode();
 
+			// index the statements of the record resource once per record (instead of scanning them for every nested node)
+			final GDMResourceIndex recordResourceIndex = new GDMResourceIndex(recordResource);
+
 			// determine record resource node from statements of the record resource
-			final ResourceNode recordResourceNode = GDMUtil.getResourceNode(resourceURI, recordResource);
+			final ResourceNode recordResourceNode = recordResourceIndex.getResourceNode(resourceURI);
 
 			if (recordResourceNode == null) {
 
@@ -261,16 +268,9 @@ public class GDMModel implements Model {
 				continue;
 			}
 
-			final JsonNode result = determineUnnormalizedSchema(recordResource, recordResourceNode, json, json);
-
-			Set<AttributePathHelper> recordAttributePaths = Sets.newCopyOnWriteArraySet();
-
-			recordAttributePaths = determineAttributePaths(result, recordAttributePaths, new AttributePathHelper());
+			final JsonNode result = determineUnnormalizedSchema(recordResourceIndex, recordResourceNode, json, json);
 
-			if (recordAttributePaths != null && !recordAttributePaths.isEmpty()) {
-
-				attributePaths.addAll(recordAttributePaths);
-			}
+			determineAttributePaths(result, attributePaths, new AttributePathHelper());
 		}
 
 		GDMModel.LOG.debug("determined attribute paths from model");
@@ -326,6 +326,9 @@ public class GDMModel implements Model {
 
 		final ArrayNode jsonArray = DMPPersistenceUtil.getJSONObjectMapper().createArrayNode();
 
+		// statement indices of all resources that are touched by this conversion (record resources and resources that are referred by them)
+		final Map<String, GDMResourceIndex> resourceIndices = Maps.newHashMap();
+
 		while (iter.hasNext()) {
 
 			final String resourceURI = iter.next();
@@ -341,7 +344,7 @@ public class GDMModel implements Model {
 			final ArrayNode json = DMPPersistenceUtil.getJSONObjectMapper().createArrayNode();
 
 			// determine record resource node from statements of the record resource
-			final ResourceNode recordResourceNode = GDMUtil.getResourceNode(resourceURI, recordResource);
+			final ResourceNode recordResourceNode = getResourceIndex(recordResource, resourceIndices).getResourceNode(resourceURI);
 
 			if (recordResourceNode == null) {
 
@@ -350,7 +353,7 @@ public class GDMModel implements Model {
 				return null;
 			}
 
-			convertGDMToJSON(recordResource, recordResourceNode, json);
+			convertGDMToJSON(recordResource, recordResourceNode, json, resourceIndices);
 
 			if (json == null) {
 
@@ -368,12 +371,13 @@ public class GDMModel implements Model {
 		return jsonArray;
 	}
 
-	private JsonNode convertGDMToJSON(final Resource recordResource, final Node resourceNode, final ArrayNode json) {
+	private JsonNode convertGDMToJSON(final Resource recordResource, final Node resourceNode, final ArrayNode json,
+			final Map<String, GDMResourceIndex> resourceIndices) {
 
 		final Map<String, ConverterHelper> converterHelpers = Maps.newLinkedHashMap();
 
 		// filter record resource statements to statements for subject uri/id (resource node))
-		final Set<Statement> statements = GDMUtil.getResourceStatement(resourceNode, recordResource);
+		final Set<Statement> statements = getResourceIndex(recordResource, resourceIndices).getResourceStatements(resourceNode);
 
 		for (final Statement statement : statements) {
 
@@ -391,11 +395,13 @@ public class GDMModel implements Model {
 
 				final ResourceNode object = (ResourceNode) gdmNode;
 
+				final Resource modelObjectResource = model.getResource(object.getUri());
+
 				final Resource objectResource;
 
-				if (model.getResource(object.getUri()) != null) {
+				if (modelObjectResource != null) {
 
-					objectResource = model.getResource(object.getUri());
+					objectResource = modelObjectResource;
 				} else {
 
 					objectResource = recordResource;
@@ -404,7 +410,7 @@ public class GDMModel implements Model {
 				// TODO: define stop criteria to avoid running in endless loops
 
 				// filter record resource statements to statements for object uri (object node))
-				final Set<Statement> objectStatements = GDMUtil.getResourceStatement(object, objectResource);
+				final Set<Statement> objectStatements = getResourceIndex(objectResource, resourceIndices).getResourceStatements(object);
 
 				if (objectStatements == null || objectStatements.isEmpty()) {
 
@@ -417,7 +423,7 @@ public class GDMModel implements Model {
 
 				final ArrayNode objectNode = DMPPersistenceUtil.getJSONObjectMapper().createArrayNode();
 
-				final JsonNode jsonNode = convertGDMToJSON(objectResource, object, objectNode);
+				final JsonNode jsonNode = convertGDMToJSON(objectResource, object, objectNode, resourceIndices);
 
 				final ObjectNode recordIdNode = DMPPersistenceUtil.getJSONObjectMapper().createObjectNode();
 				recordIdNode.put(DMPPersistenceUtil.RECORD_ID, object.getUri());
@@ -433,7 +439,7 @@ public class GDMModel implements Model {
 
 			final ArrayNode objectNode = DMPPersistenceUtil.getJSONObjectMapper().createArrayNode();
 
-			final JsonNode jsonNode = convertGDMToJSON(recordResource, gdmNode, objectNode);
+			final JsonNode jsonNode = convertGDMToJSON(recordResource, gdmNode, objectNode, resourceIndices);
 
 			ConverterHelperGDMHelper.addJSONNodeToConverterHelper(converterHelpers, propertyURI, jsonNode);
 		}
@@ -446,11 +452,11 @@ public class GDMModel implements Model {
 		return json;
 	}
 
-	private JsonNode determineUnnormalizedSchema(final Resource recordResource, final Node resourceNode, final ObjectNode rootJson,
+	private JsonNode determineUnnormalizedSchema(final GDMResourceIndex recordResourceIndex, final Node resourceNode, final ObjectNode rootJson,
 			final JsonNode json) {
 
 		// filter record resource statements to statements for subject uri/id (resource node))
-		final Set<Statement> statements = GDMUtil.getResourceStatement(resourceNode, recordResource);
+		final Set<Statement> statements = recordResourceIndex.getResourceStatements(resourceNode);
 
 		final Map<String, SchemaHelper> schemaHelpers = Maps.newLinkedHashMap();
 
@@ -471,7 +477,7 @@ public class GDMModel implements Model {
 				final ResourceNode object = (ResourceNode) gdmNode;
 
 				// filter record resource statements to statements for object uri (object node))
-				final Set<Statement> objectStatements = GDMUtil.getResourceStatement(object, recordResource);
+				final Set<Statement> objectStatements = recordResourceIndex.getResourceStatements(object);
 
 				if (objectStatements == null || objectStatements.isEmpty()) {
 
@@ -485,7 +491,7 @@ public class GDMModel implements Model {
 
 				final ObjectNode objectNode = DMPPersistenceUtil.getJSONObjectMapper().createObjectNode();
 
-				final JsonNode jsonNode = determineUnnormalizedSchema(recordResource, gdmNode, rootJson, objectNode);
+				final JsonNode jsonNode = determineUnnormalizedSchema(recordResourceIndex, gdmNode, rootJson, objectNode);
 
 				SchemaHelperHelper.addJSONNodeToSchemaHelper(schemaHelpers, propertyURI, jsonNode);
 
@@ -496,7 +502,7 @@ public class GDMModel implements Model {
 
 			final ObjectNode objectNode = DMPPersistenceUtil.getJSONObjectMapper().createObjectNode();
 
-			final JsonNode jsonNode = determineUnnormalizedSchema(recordResource, gdmNode, rootJson, objectNode);
+			final JsonNode jsonNode = determineUnnormalizedSchema(recordResourceIndex, gdmNode, rootJson, objectNode);
 
 			SchemaHelperHelper.addJSONNodeToSchemaHelper(schemaHelpers, propertyURI, jsonNode);
 		}
@@ -523,6 +529,18 @@ public class GDMModel implements Model {
 		return json;
 	}
 
+	/**
+	 * Gets the statement index of the given resource. The index will be built (once) on first access.
+	 *
+	 * @param resource        the resource whose statements should be indexed
+	 * @param resourceIndices the statement indices that were already built by the current conversion
+	 * @return the statement index of the given resource
+	 */
+	private static GDMResourceIndex getResourceIndex(final Resource resource, final Map<String, GDMResourceIndex> resourceIndices) {
+
+		return resourceIndices.computeIfAbsent(resource.getUri(), resourceURI -> new GDMResourceIndex(resource));
+	}
+
 	private Set<AttributePathHelper> determineAttributePaths(final JsonNode unnormalizedSchema, final Set<AttributePathHelper> attributePaths,
 			final AttributePathHelper attributePath) {
 
@@ -535,8 +553,7 @@ public class GDMModel implements Model {
 
 			for (final JsonNode entryNode : jsonArray) {
 
-				final Set<AttributePathHelper> newAttributePaths = determineAttributePaths(entryNode, attributePaths, attributePath);
-				attributePaths.addAll(newAttributePaths);
+				determineAttributePaths(entryNode, attributePaths, attributePath);
 			}
 
 		} else if (ObjectNode.class.isInstance(unnormalizedSchema)) {
@@ -553,8 +570,7 @@ public class GDMModel implements Model {
 
 				final JsonNode valueNode = jsonObject.get(fieldName);
 
-				final Set<AttributePathHelper> newAttributePaths = determineAttributePaths(valueNode, attributePaths, newAttributePath);
-				attributePaths.addAll(newAttributePaths);
+				determineAttributePaths(valueNode, attributePaths, newAttributePath);
 			}
 
 		} else if (TextNode.class.isInstance(unnormalizedSchema)) {
@@ -664,7 +680,7 @@ public class GDMModel implements Model {
 
 				for (final AttributePathHelper levelRootAttributePath : levelRootAttributePaths.values()) {
 
-					jsonArray.add(levelRootAttributePath.getAttributePath().getLast());
+					jsonArray.add(levelRootAttributePath.getLastAttribute());
 				}
 			}
 
@@ -677,7 +693,7 @@ public class GDMModel implements Model {
 						level);
 			} else {
 
-				return new TextNode(firstAttributePathInLevel.getAttributePath().getLast());
+				return new TextNode(firstAttributePathInLevel.getLastAttribute());
 			}
 		}
 	}
@@ -697,12 +713,12 @@ public class GDMModel implements Model {
 
 			final JsonNode nextLevelAttributePathJson = generateSchema(nextLevelAttributePathsForRootAttributePath, level + 1);
 
-			jsonObject.set(sampleAttributePath.getAttributePath().get(level - 1), nextLevelAttributePathJson);
+			jsonObject.set(sampleAttributePath.getAttributeList().get(level - 1), nextLevelAttributePathJson);
 
 			return jsonObject;
 		} else {
 
-			return new TextNode(sampleAttributePath.getAttributePath().get(level - 1));
+			return new TextNode(sampleAttributePath.getAttributeList().get(level - 1));
 		}
 	}
 }
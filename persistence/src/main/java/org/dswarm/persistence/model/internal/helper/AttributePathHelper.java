@@ -16,65 +16,82 @@
 package org.dswarm.persistence.model.internal.helper;
 
 import java.util.LinkedList;
+import java.util.List;
 
-import com.google.common.collect.Lists;
+public class AttributePathHelper {
 
-import org.dswarm.init.util.DMPStatics;
+	private InternedAttributePath attributePath;
 
-public class AttributePathHelper {
+	public AttributePathHelper() {
 
-	private final LinkedList<String>	attributePath	= Lists.newLinkedList();
+		this(InternedAttributePath.root());
+	}
+
+	public AttributePathHelper(final InternedAttributePath attributePathArg) {
+
+		attributePath = attributePathArg;
+	}
 
 	public void addAttribute(final String attribute) {
 
-		attributePath.add(attribute);
+		attributePath = attributePath.child(attribute);
 	}
 
 	public void setAttributePath(final LinkedList<String> attributePathArg) {
 
-		attributePath.clear();
-		attributePath.addAll(attributePathArg);
+		attributePath = InternedAttributePath.of(attributePathArg);
 	}
 
+	/**
+	 * @return a new list of the attribute URIs of this attribute path, i.e., modifications of this list won't be reflected
+	 */
 	public LinkedList<String> getAttributePath() {
 
-		return attributePath;
+		return attributePath.getAttributes();
 	}
 
-	public int length() {
+	/**
+	 * @return the (unmodifiable) list of the attribute URIs of this attribute path, i.e., without copying
+	 */
+	public List<String> getAttributeList() {
 
-		return attributePath.size();
+		return attributePath.getAttributeList();
 	}
 
-	@Override
-	public String toString() {
+	/**
+	 * @return the last attribute URI of this attribute path or null, if this is the empty attribute path
+	 */
+	public String getLastAttribute() {
 
-		final StringBuilder sb = new StringBuilder();
+		return attributePath.getAttribute();
+	}
 
-		for (int i = 0; i < attributePath.size(); i++) {
+	public InternedAttributePath getInternedAttributePath() {
 
-			final String attribute = attributePath.get(i);
+		return attributePath;
+	}
 
-			sb.append(attribute);
+	public int length() {
 
-			if (i < (attributePath.size() - 1)) {
+		return attributePath.length();
+	}
 
-				sb.append(DMPStatics.ATTRIBUTE_DELIMITER);
-			}
-		}
+	@Override
+	public String toString() {
 
-		return sb.toString();
+		return attributePath.toString();
 	}
 
 	@Override
 	public int hashCode() {
 
-		return toString().hashCode();
+		return attributePath.hashCode();
 	}
 
 	@Override
 	public boolean equals(final java.lang.Object obj) {
 
-		return obj != null && AttributePathHelper.class.isInstance(obj) && toString().equals(obj.toString());
+		return obj != null && AttributePathHelper.class.isInstance(obj)
+				&& attributePath == ((AttributePathHelper) obj).getInternedAttributePath();
 	}
 }
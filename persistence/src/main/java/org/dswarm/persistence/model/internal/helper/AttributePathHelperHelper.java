@@ -16,13 +16,11 @@
 package org.dswarm.persistence.model.internal.helper;
 
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
 import ch.lambdaj.Lambda;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.google.common.collect.Lists;
 import org.hamcrest.Matchers;
 
 import org.dswarm.init.util.DMPStatics;
@@ -40,10 +38,7 @@ public class AttributePathHelperHelper {
 	public static AttributePathHelper addAttributePath(final String attribute, final Set<AttributePathHelper> attributePaths,
 			final AttributePathHelper attributePath) {
 
-		final LinkedList<String> currentAttributePath = Lists.newLinkedList(attributePath.getAttributePath());
-		currentAttributePath.add(attribute);
-		final AttributePathHelper schemaNormalizerHelper = new AttributePathHelper();
-		schemaNormalizerHelper.setAttributePath(currentAttributePath);
+		final AttributePathHelper schemaNormalizerHelper = new AttributePathHelper(attributePath.getInternedAttributePath().child(attribute));
 		attributePaths.add(schemaNormalizerHelper);
 
 		return schemaNormalizerHelper;
@@ -52,10 +47,8 @@ public class AttributePathHelperHelper {
 	public static AttributePathHelper addAttributePath(final AttributePathHelper childAttributePath, final Set<AttributePathHelper> attributePaths,
 			final AttributePathHelper rootAttributePath) {
 
-		final LinkedList<String> currentAttributePath = Lists.newLinkedList(rootAttributePath.getAttributePath());
-		currentAttributePath.addAll(childAttributePath.getAttributePath());
-		final AttributePathHelper schemaNormalizerHelper = new AttributePathHelper();
-		schemaNormalizerHelper.setAttributePath(currentAttributePath);
+		final AttributePathHelper schemaNormalizerHelper = new AttributePathHelper(
+				rootAttributePath.getInternedAttributePath().append(childAttributePath.getInternedAttributePath()));
 		attributePaths.add(schemaNormalizerHelper);
 
 		return schemaNormalizerHelper;
@@ -84,7 +77,7 @@ public class AttributePathHelperHelper {
 
 		int currentLevel = 0;
 
-		final Iterator<String> iter = attributePathHelper.getAttributePath().iterator();
+		final Iterator<String> iter = attributePathHelper.getAttributeList().iterator();
 
 		while ((level > currentLevel) && iter.hasNext()) {
 
@@ -0,0 +1,200 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.model.internal.helper;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
+
+import org.dswarm.init.util.DMPStatics;
+
+/**
+ * An interned attribute path, i.e., a node of a (JVM-wide) trie of attribute URIs. Each distinct attribute path exists only once, i.e., equal
+ * attribute paths are identical. Thereby, extending an attribute path by one attribute is a lookup in the children of the node (and doesn't
+ * create a new path, if it is already known). The string representation (attribute URIs delimited by {@link DMPStatics#ATTRIBUTE_DELIMITER}),
+ * the list of attribute URIs and the hash code are determined once at creation time.<br/>
+ * The children of a node are only weakly referenced, i.e., attribute paths that are neither referenced from outside of the trie nor by one of
+ * their descendants are evicted by the garbage collector. Hence, the trie only grows with the attribute paths that are currently in use (and
+ * not with every attribute path that has been seen since JVM start).
+ */
+public final class InternedAttributePath {
+
+	private static final AtomicInteger ID_COUNTER = new AtomicInteger();
+
+	private static final InternedAttributePath ROOT = new InternedAttributePath(null, null);
+
+	private final InternedAttributePath parent;
+	private final String                attribute;
+	private final int                   id;
+	private final int                   length;
+	private final String                path;
+	private final List<String>          attributes;
+
+	private final ConcurrentMap<String, InternedAttributePath> children = new MapMaker().weakValues().makeMap();
+
+	private InternedAttributePath(final InternedAttributePath parent, final String attribute) {
+
+		this.parent = parent;
+		this.attribute = attribute;
+		id = ID_COUNTER.getAndIncrement();
+
+		if (parent == null) {
+
+			length = 0;
+			path = "";
+			attributes = ImmutableList.of();
+		} else {
+
+			length = parent.length + 1;
+			path = parent.length == 0 ? attribute : parent.path + DMPStatics.ATTRIBUTE_DELIMITER + attribute;
+			attributes = ImmutableList.<String>builder().addAll(parent.attributes).add(attribute).build();
+		}
+	}
+
+	/**
+	 * @return the empty attribute path, i.e., the root of the trie
+	 */
+	public static InternedAttributePath root() {
+
+		return ROOT;
+	}
+
+	/**
+	 * Returns the interned attribute path for the given attributes.
+	 *
+	 * @param attributes the attribute URIs of the attribute path (in order)
+	 * @return the interned attribute path
+	 */
+	public static InternedAttributePath of(final Iterable<String> attributes) {
+
+		return ROOT.append(attributes);
+	}
+
+	/**
+	 * Returns the interned attribute path that extends this attribute path by the given attribute.
+	 *
+	 * @param attributeArg the attribute URI
+	 * @return the extended attribute path
+	 */
+	public InternedAttributePath child(final String attributeArg) {
+
+		final InternedAttributePath child = children.get(attributeArg);
+
+		if (child != null) {
+
+			return child;
+		}
+
+		return children.computeIfAbsent(attributeArg, a -> new InternedAttributePath(this, a));
+	}
+
+	/**
+	 * Returns the interned attribute path that extends this attribute path by the given attributes.
+	 *
+	 * @param attributes the attribute URIs (in order)
+	 * @return the extended attribute path
+	 */
+	public InternedAttributePath append(final Iterable<String> attributes) {
+
+		InternedAttributePath current = this;
+
+		for (final String attributeArg : attributes) {
+
+			current = current.child(attributeArg);
+		}
+
+		return current;
+	}
+
+	/**
+	 * Returns the interned attribute path that extends this attribute path by the attributes of the given attribute path.
+	 *
+	 * @param attributePath an attribute path
+	 * @return the extended attribute path
+	 */
+	public InternedAttributePath append(final InternedAttributePath attributePath) {
+
+		return append(attributePath.getAttributeList());
+	}
+
+	/**
+	 * @return the parent attribute path or null, if this is the empty attribute path
+	 */
+	public InternedAttributePath getParent() {
+
+		return parent;
+	}
+
+	/**
+	 * @return the last attribute URI of this attribute path or null, if this is the empty attribute path
+	 */
+	public String getAttribute() {
+
+		return attribute;
+	}
+
+	/**
+	 * @return the identifier of this attribute path (stable as long as this attribute path is referenced)
+	 */
+	public int getId() {
+
+		return id;
+	}
+
+	public int length() {
+
+		return length;
+	}
+
+	/**
+	 * @return a new list of the attribute URIs of this attribute path (in order)
+	 */
+	public LinkedList<String> getAttributes() {
+
+		return new LinkedList<>(attributes);
+	}
+
+	/**
+	 * @return the (unmodifiable) list of the attribute URIs of this attribute path (in order)
+	 */
+	public List<String> getAttributeList() {
+
+		return attributes;
+	}
+
+	@Override
+	public String toString() {
+
+		return path;
+	}
+
+	@Override
+	public int hashCode() {
+
+		return id;
+	}
+
+	@Override
+	public boolean equals(final java.lang.Object obj) {
+
+		// interned, i.e., equal attribute paths are identical
+		return this == obj;
+	}
+}
@@ -18,7 +18,6 @@ package org.dswarm.persistence.model.resource.utils;
 import java.io.File;
 import java.net.URI;
 import java.util.Map;
-import java.util.UUID;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.slf4j.Logger;
@@ -28,6 +27,7 @@ import org.dswarm.graph.json.Predicate;
 import org.dswarm.graph.json.ResourceNode;
 import org.dswarm.persistence.model.resource.DataModel;
 import org.dswarm.persistence.model.utils.ExtendedBasicDMPJPAObjectUtils;
+import org.dswarm.persistence.service.UUIDService;
 import org.dswarm.persistence.util.GDMUtil;
 
 /**
@@ -78,7 +78,7 @@ public final class DataModelUtils extends ExtendedBasicDMPJPAObjectUtils<DataMod
 
 			// create uri with random uuid
 
-			sb.append("http://data.slub-dresden.de/datamodels/").append(UUID.randomUUID());
+			sb.append("http://data.slub-dresden.de/datamodels/").append(UUIDService.getUUID());
 
 			return sb.toString();
 		}
@@ -169,7 +169,7 @@ public final class DataModelUtils extends ExtendedBasicDMPJPAObjectUtils<DataMod
 
 				// create uri with random uuid
 
-				sb.append("http://data.slub-dresden.de/datamodels/").append(UUID.randomUUID());
+				sb.append("http://data.slub-dresden.de/datamodels/").append(UUIDService.getUUID());
 			}
 
 			dataResourceBaseURI = sb.toString();
@@ -196,7 +196,7 @@ public final class DataModelUtils extends ExtendedBasicDMPJPAObjectUtils<DataMod
 			sb.append("http://data.slub-dresden.de/records/");
 		}
 
-		final String recordURI = sb.append(UUID.randomUUID()).toString();
+		final String recordURI = sb.append(UUIDService.getUUID()).toString();
 
 		return new org.dswarm.graph.json.Resource(recordURI);
 	}
@@ -17,6 +17,8 @@ package org.dswarm.persistence.model.schema;
 
 import javax.persistence.Cacheable;
 import javax.persistence.Entity;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
 import javax.persistence.Table;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -33,6 +35,9 @@ import org.dswarm.persistence.model.AdvancedDMPJPAObject;
 // @Cacheable(true)
 // @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "ATTRIBUTE")
+@NamedQueries({
+		@NamedQuery(name = "Attribute" + AdvancedDMPJPAObject.FIND_BY_URI, query = "SELECT o FROM Attribute o WHERE o.uri = :uri"),
+		@NamedQuery(name = "Attribute" + AdvancedDMPJPAObject.FIND_BY_URIS, query = "SELECT o FROM Attribute o WHERE o.uri IN :uris") })
 @Cacheable(false)
 public class Attribute extends AdvancedDMPJPAObject {
 
@@ -30,8 +30,11 @@ import javax.persistence.JoinColumn;
 import javax.persistence.JoinTable;
 import javax.persistence.Lob;
 import javax.persistence.ManyToMany;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
 import javax.persistence.Table;
 import javax.persistence.Transient;
+import javax.persistence.UniqueConstraint;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -42,6 +45,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.google.common.base.Charsets;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
 import org.apache.commons.lang3.StringUtils;
 import org.hamcrest.Matchers;
 import org.slf4j.Logger;
@@ -61,7 +65,11 @@ import org.dswarm.persistence.util.DMPPersistenceUtil;
 @Entity
 // @Cacheable(true)
 // @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
-@Table(name = "ATTRIBUTE_PATH")
+@Table(name = "ATTRIBUTE_PATH", uniqueConstraints = @UniqueConstraint(name = "UK_ATTRIBUTE_PATH_HASH", columnNames = "ATTRIBUTE_PATH_HASH"))
+@NamedQueries({
+		@NamedQuery(name = AttributePath.FIND_BY_ATTRIBUTE_PATH_HASH, query = "SELECT o FROM AttributePath o WHERE o.attributePathHash = :attributePathHash"),
+		@NamedQuery(name = AttributePath.FIND_BY_ATTRIBUTE_PATH_HASHES,
+				query = "SELECT o FROM AttributePath o WHERE o.attributePathHash IN :attributePathHashes") })
 @Cacheable(false)
 public class AttributePath extends DMPObject {
 
@@ -70,6 +78,22 @@ public class AttributePath extends DMPObject {
 	 */
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * The name of the named query that retrieves attribute paths by the digest of their serialised JSON object (parameter
+	 * {@link #ATTRIBUTE_PATH_HASH_PARAMETER}, see {@link #toAttributePathHash(String)}).
+	 */
+	public static final String FIND_BY_ATTRIBUTE_PATH_HASH = "AttributePath.findByAttributePathHash";
+
+	public static final String ATTRIBUTE_PATH_HASH_PARAMETER = "attributePathHash";
+
+	/**
+	 * The name of the named query that retrieves all attribute paths with one of the given digests (parameter
+	 * {@link #ATTRIBUTE_PATH_HASHES_PARAMETER}).
+	 */
+	public static final String FIND_BY_ATTRIBUTE_PATH_HASHES = "AttributePath.findByAttributePathHashes";
+
+	public static final String ATTRIBUTE_PATH_HASHES_PARAMETER = "attributePathHashes";
+
 	private static final Logger LOG = LoggerFactory.getLogger(AttributePath.class);
 
 	/**
@@ -111,6 +135,15 @@ public class AttributePath extends DMPObject {
 	@Column(name = "ATTRIBUTE_PATH", columnDefinition = "BLOB")
 	private byte[] attributePath;
 
+	/**
+	 * The SHA-256 digest (hex) of the serialised JSON object of the attribute path, i.e., the (indexed) natural key of an attribute path.
+	 * It is refreshed together with the serialised JSON object.
+	 */
+	@JsonIgnore
+	@Access(AccessType.FIELD)
+	@Column(name = "ATTRIBUTE_PATH_HASH", columnDefinition = "CHAR(64)", length = 64)
+	private String attributePathHash;
+
 	/**
 	 * All schemas that utilise this attribute path
 	 */
@@ -193,6 +226,17 @@ public class AttributePath extends DMPObject {
 		return StringUtils.toEncodedString(attributePath, Charsets.UTF_8);
 	}
 
+	/**
+	 * Gets the digest of the serialised JSON object of the attribute path, see {@link #toAttributePathHash(String)}.
+	 *
+	 * @return the digest of the attribute path
+	 */
+	@JsonIgnore
+	public String getAttributePathHash() {
+
+		return attributePathHash;
+	}
+
 	/**
 	 * Sets the attribute path (ordered list of attributes).
 	 *
@@ -478,12 +522,30 @@ public class AttributePath extends DMPObject {
 		if (null != orderedAttributesJSON && orderedAttributesJSON.size() > 0) {
 
 			attributePath = orderedAttributesJSON.toString().getBytes(Charsets.UTF_8);
+			attributePathHash = toAttributePathHash(attributePath);
 		} else {
 
 			attributePath = null;
+			attributePathHash = null;
 		}
 	}
 
+	/**
+	 * Computes the digest of the given serialised JSON object of an attribute path, i.e., the value of its hash column.
+	 *
+	 * @param attributePathJSONString the serialised JSON object of an attribute path (ordered list of attribute identifiers)
+	 * @return the SHA-256 digest (hex) of the UTF-8 bytes of the given string
+	 */
+	public static String toAttributePathHash(final String attributePathJSONString) {
+
+		return toAttributePathHash(attributePathJSONString.getBytes(Charsets.UTF_8));
+	}
+
+	private static String toAttributePathHash(final byte[] attributePathBytes) {
+
+		return Hashing.sha256().hashBytes(attributePathBytes).toString();
+	}
+
 	/**
 	 * Initialises the attribute path, collection of attributes and JSON object from the string that holds the serialised JSON
 	 * object of the attribute path.
@@ -16,6 +16,8 @@
 package org.dswarm.persistence.model.schema;
 
 import javax.persistence.Entity;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
 import javax.persistence.Table;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -34,6 +36,9 @@ import org.dswarm.persistence.model.AdvancedDMPJPAObject;
 // @Cacheable(true)
 // @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "CLASS")
+@NamedQueries({
+		@NamedQuery(name = "Clasz" + AdvancedDMPJPAObject.FIND_BY_URI, query = "SELECT o FROM Clasz o WHERE o.uri = :uri"),
+		@NamedQuery(name = "Clasz" + AdvancedDMPJPAObject.FIND_BY_URIS, query = "SELECT o FROM Clasz o WHERE o.uri IN :uris") })
 public class Clasz extends AdvancedDMPJPAObject {
 
 	private static final Logger LOG = LoggerFactory.getLogger(Clasz.class);
@@ -17,16 +17,17 @@ package org.dswarm.persistence.model.schema.utils;
 
 import java.net.URI;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 
 import javax.annotation.Nullable;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.net.UrlEscapers;
 import com.google.inject.Provider;
 import org.slf4j.Logger;
@@ -41,12 +42,12 @@ import org.dswarm.persistence.model.schema.AttributePath;
 import org.dswarm.persistence.model.schema.Clasz;
 import org.dswarm.persistence.model.schema.Schema;
 import org.dswarm.persistence.model.schema.SchemaAttributePathInstance;
-import org.dswarm.persistence.model.schema.proxy.ProxyAttribute;
 import org.dswarm.persistence.model.schema.proxy.ProxyAttributePath;
 import org.dswarm.persistence.model.schema.proxy.ProxyClasz;
 import org.dswarm.persistence.model.schema.proxy.ProxySchema;
 import org.dswarm.persistence.model.schema.proxy.ProxySchemaAttributePathInstance;
 import org.dswarm.persistence.model.utils.BasicDMPJPAObjectUtils;
+import org.dswarm.persistence.service.UUIDService;
 import org.dswarm.persistence.service.schema.AttributePathService;
 import org.dswarm.persistence.service.schema.AttributeService;
 import org.dswarm.persistence.service.schema.ClaszService;
@@ -197,10 +198,8 @@ public final class SchemaUtils extends BasicDMPJPAObjectUtils<Schema> {
 			return true;
 		}
 
-		final AttributeService attributeService = attributeServiceProvider.get();
-		final AttributePathService attributePathService = attributePathServiceProvider.get();
-		final SchemaAttributePathInstanceService schemaAttributePathInstanceService =
-				attributePathInstanceServiceProvider.get();
+		final List<LinkedList<String>> pendingAttributePaths = Lists.newArrayList();
+		final Set<String> attributeURIs = Sets.newLinkedHashSet();
 
 		for (final AttributePathHelper attributePathHelper : attributePathHelpers) {
 
@@ -231,18 +230,35 @@ public final class SchemaUtils extends BasicDMPJPAObjectUtils<Schema> {
 				continue;
 			}
 
-			final LinkedList<Attribute> attributes = Lists.newLinkedList();
+			pendingAttributePaths.add(attributePathFromHelper);
+			attributeURIs.addAll(attributePathFromHelper);
+		}
 
-			for (final String attributeString : attributePathFromHelper) {
+		if (pendingAttributePaths.isEmpty()) {
 
-				final ProxyAttribute proxyAttribute = attributeService.createOrGetObjectTransactional(attributeString);
+			return true;
+		}
 
-				if (proxyAttribute == null) {
+		// 1. create or retrieve all attributes at once
 
-					throw new DMPPersistenceException("couldn't create or retrieve attribute");
-				}
+		final Map<String, Attribute> attributesByURI = attributeServiceProvider.get().createOrGetObjectsTransactional(attributeURIs);
+
+		for (final Map.Entry<String, Attribute> attributeEntry : attributesByURI.entrySet()) {
+
+			final String attributeName = SchemaUtils.determineRelativeURIPart(attributeEntry.getKey());
+
+			attributeEntry.getValue().setName(attributeName);
+		}
+
+		final List<List<Attribute>> attributePaths = Lists.newArrayListWithCapacity(pendingAttributePaths.size());
 
-				final Attribute attribute = proxyAttribute.getObject();
+		for (final LinkedList<String> pendingAttributePath : pendingAttributePaths) {
+
+			final List<Attribute> attributes = Lists.newArrayListWithCapacity(pendingAttributePath.size());
+
+			for (final String attributeURI : pendingAttributePath) {
+
+				final Attribute attribute = attributesByURI.get(attributeURI);
 
 				if (attribute == null) {
 
@@ -250,13 +266,23 @@ public final class SchemaUtils extends BasicDMPJPAObjectUtils<Schema> {
 				}
 
 				attributes.add(attribute);
+			}
+
+			attributePaths.add(attributes);
+		}
 
-				final String attributeName = SchemaUtils.determineRelativeURIPart(attributeString);
+		// 2. create or retrieve all attribute paths at once
 
-				attribute.setName(attributeName);
-			}
+		final Map<String, AttributePath> attributePathsByJSON = attributePathServiceProvider.get().createOrGetObjectsTransactional(attributePaths);
+
+		// 3. create all schema attribute path instances at once
+
+		final List<SchemaAttributePathInstance> schemaAttributePathInstances = attributePathInstanceServiceProvider.get()
+				.createObjectsTransactional(attributePathsByJSON.values());
+
+		for (final SchemaAttributePathInstance schemaAttributePathInstance : schemaAttributePathInstances) {
 
-			addAttributePaths(schema, attributes, attributePathService, schemaAttributePathInstanceService);
+			schema.addAttributePath(schemaAttributePathInstance);
 		}
 
 		return true;
@@ -359,11 +385,11 @@ public final class SchemaUtils extends BasicDMPJPAObjectUtils<Schema> {
 					return SchemaUtils.mintUri(baseURI.get(), localName);
 				} else {
 
-					return SchemaUtils.mintUri(baseURI.get(), UUID.randomUUID().toString());
+					return SchemaUtils.mintUri(baseURI.get(), UUIDService.getUUID());
 				}
 			}
 
-			return String.format(TERM_BASE_URI, UUID.randomUUID());
+			return String.format(TERM_BASE_URI, UUIDService.getUUID());
 		}
 
 		if (canUseLocalName) {
@@ -371,7 +397,7 @@ public final class SchemaUtils extends BasicDMPJPAObjectUtils<Schema> {
 			return SchemaUtils.mintUri(uri, localName);
 		} else {
 
-			return String.format(TERM_BASE_URI, UUID.randomUUID());
+			return String.format(TERM_BASE_URI, UUIDService.getUUID());
 		}
 	}
 
@@ -407,7 +433,7 @@ public final class SchemaUtils extends BasicDMPJPAObjectUtils<Schema> {
 				sb.append(RECORD_BASE_URI);
 			}
 
-			return sb.append(UUID.randomUUID()).toString();
+			return sb.append(UUIDService.getUUID()).toString();
 		}
 
 		// create uri with help of given record id
@@ -17,12 +17,21 @@ package org.dswarm.persistence.service;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javax.persistence.EntityManager;
 import javax.persistence.NoResultException;
 import javax.persistence.NonUniqueResultException;
 import javax.persistence.TypedQuery;
 
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.inject.Provider;
 import com.google.inject.persist.Transactional;
 import org.slf4j.Logger;
@@ -45,6 +54,16 @@ public abstract class AdvancedDMPJPAService<PROXYPOJOCLASS extends ProxyAdvanced
 
 	private static final Logger LOG = LoggerFactory.getLogger(AdvancedDMPJPAService.class);
 
+	/**
+	 * The name of the named query of the concrete POJO class that retrieves an object by its uri.
+	 */
+	private final String findByUriQueryName;
+
+	/**
+	 * The name of the named query of the concrete POJO class that retrieves objects by their uris.
+	 */
+	private final String findByUrisQueryName;
+
 	/**
 	 * Creates a new persistence service for the given concrete POJO class and the entity manager provider.
 	 *
@@ -55,6 +74,9 @@ public abstract class AdvancedDMPJPAService<PROXYPOJOCLASS extends ProxyAdvanced
 			final Provider<EntityManager> entityManagerProvider) {
 
 		super(clasz, proxyClasz, entityManagerProvider);
+
+		findByUriQueryName = className + AdvancedDMPJPAObject.FIND_BY_URI;
+		findByUrisQueryName = className + AdvancedDMPJPAObject.FIND_BY_URIS;
 	}
 
 	/**
@@ -83,6 +105,52 @@ public abstract class AdvancedDMPJPAService<PROXYPOJOCLASS extends ProxyAdvanced
 		return createOrGetObject(object, "transactional");
 	}
 
+	/**
+	 * Create and persist objects of the specific class for all given identifiers that don't exist in the database yet and retrieve the
+	 * existing ones, i.e., the bulk variant of {@link #createOrGetObjectTransactional(String)}. The existing objects are retrieved with one
+	 * query (per {@link #IN_QUERY_CHUNK_SIZE} identifiers) and the new objects are written in one transaction, i.e., in JDBC batches.
+	 *
+	 * @param uris the object identifiers
+	 * @return the persisted or retrieved objects by their identifiers (in the order of the given identifiers)
+	 * @throws DMPPersistenceException
+	 */
+	@Transactional(rollbackOn = DMPPersistenceException.class)
+	public Map<String, POJOCLASS> createOrGetObjectsTransactional(final Collection<String> uris) throws DMPPersistenceException {
+
+		final EntityManager entityManager = acquire();
+
+		return createOrGetObjectsInternal(uris, entityManager);
+	}
+
+	protected Map<String, POJOCLASS> createOrGetObjectsInternal(final Collection<String> uris, final EntityManager entityManager)
+			throws DMPPersistenceException {
+
+		final Set<String> distinctUris = Sets.newLinkedHashSet(Iterables.filter(uris, uri -> uri != null));
+		final Map<String, POJOCLASS> existingObjects = getObjectsByUris(distinctUris, entityManager);
+		final Map<String, POJOCLASS> objects = Maps.newLinkedHashMap();
+
+		for (final String uri : distinctUris) {
+
+			final POJOCLASS existingObject = existingObjects.get(uri);
+
+			if (existingObject != null) {
+
+				objects.put(uri, existingObject);
+
+				continue;
+			}
+
+			final POJOCLASS newObject = createNewObject(uri);
+
+			objects.put(uri, persistObject(newObject, entityManager));
+		}
+
+		AdvancedDMPJPAService.LOG.debug("retrieved '{}' existing and created '{}' new {} objects", existingObjects.size(),
+				objects.size() - existingObjects.size(), className);
+
+		return objects;
+	}
+
 	/**
 	 * Create and persist an object of the specific class with the given object.<br>
 	 *
@@ -224,12 +292,35 @@ public abstract class AdvancedDMPJPAService<PROXYPOJOCLASS extends ProxyAdvanced
 		return tempProxyObject;
 	}
 
+	/**
+	 * {@inheritDoc}<br/>
+	 * Objects of this persistence service can be retrieved by their uris.
+	 */
+	@Override
+	protected boolean hasNaturalKey() {
+
+		return true;
+	}
+
+	@Override
+	protected Optional<String> determineNaturalKey(final POJOCLASS object) {
+
+		return Optional.ofNullable(object.getUri());
+	}
+
 	private POJOCLASS getObjectByUri(final String uri, final EntityManager entityManager) throws DMPPersistenceException {
 
+		final POJOCLASS cachedObject = getObjectByNaturalKey(uri, entityManager);
+
+		if (cachedObject != null) {
+
+			return cachedObject;
+		}
+
 		final POJOCLASS object;
 
-		final String queryString = "SELECT o FROM " + className + " o WHERE o.uri = '" + uri + "'";
-		final TypedQuery<POJOCLASS> query = entityManager.createQuery(queryString, clasz);
+		final TypedQuery<POJOCLASS> query = entityManager.createNamedQuery(findByUriQueryName, clasz)
+				.setParameter(AdvancedDMPJPAObject.URI_PARAMETER, uri);
 
 		try {
 
@@ -244,9 +335,45 @@ public abstract class AdvancedDMPJPAService<PROXYPOJOCLASS extends ProxyAdvanced
 			throw new DMPPersistenceException("there is more than one " + className + " in the database for uri '" + uri + "'");
 		}
 
+		cacheNaturalKey(object);
+
 		return object;
 	}
 
+	private Map<String, POJOCLASS> getObjectsByUris(final Set<String> uris, final EntityManager entityManager) {
+
+		final Map<String, POJOCLASS> objects = Maps.newHashMapWithExpectedSize(uris.size());
+		final List<String> uncachedUris = Lists.newArrayList();
+
+		for (final String uri : uris) {
+
+			final POJOCLASS cachedObject = getObjectByNaturalKey(uri, entityManager);
+
+			if (cachedObject != null) {
+
+				objects.put(uri, cachedObject);
+			} else {
+
+				uncachedUris.add(uri);
+			}
+		}
+
+		for (final List<String> urisChunk : Iterables.partition(uncachedUris, IN_QUERY_CHUNK_SIZE)) {
+
+			final List<POJOCLASS> chunkObjects = entityManager.createNamedQuery(findByUrisQueryName, clasz)
+					.setParameter(AdvancedDMPJPAObject.URIS_PARAMETER, urisChunk)
+					.getResultList();
+
+			for (final POJOCLASS object : chunkObjects) {
+
+				objects.put(object.getUri(), object);
+				cacheNaturalKey(object);
+			}
+		}
+
+		return objects;
+	}
+
 	/**
 	 * Creates a new object of the concrete POJO class with the given identifier.
 	 *
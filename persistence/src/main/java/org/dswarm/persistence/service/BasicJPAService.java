@@ -18,21 +18,30 @@ package org.dswarm.persistence.service;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import java.util.Optional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.RatioGauge;
+import com.google.inject.Inject;
 import com.google.inject.Provider;
+import com.google.inject.name.Named;
 import com.google.inject.persist.Transactional;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.dswarm.persistence.DMPPersistenceException;
+import org.dswarm.persistence.SharedCacheCustomizer;
 import org.dswarm.persistence.model.DMPObject;
 import org.dswarm.persistence.model.proxy.ProxyDMPObject;
 import org.dswarm.persistence.model.proxy.RetrievalType;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 /**
  * A generic persistence service implementation, whose concrete implementations can be derived with a given implementation of
  * {@link DMPObject} and the related identifier type. This service delivers basic persistence layer functionality to create a new
@@ -65,11 +74,30 @@ public abstract class BasicJPAService<PROXYPOJOCLASS extends ProxyDMPObject<POJO
 	 */
 	protected final String proxyClassName;
 
+	/**
+	 * The maximum number of values that are bound to one IN clause of a (bulk) retrieval query.
+	 */
+	protected static final int IN_QUERY_CHUNK_SIZE = 1000;
+
 	/**
 	 * The entity manager provider (powered by Guice).
 	 */
 	private final Provider<EntityManager> entityManagerProvider;
 
+	/**
+	 * Is true, if the objects of this persistence service are held in the shared cache, see {@link SharedCacheCustomizer}.
+	 */
+	private boolean isShared = false;
+
+	private Counter sharedCacheHits;
+	private Counter sharedCacheMisses;
+
+	/**
+	 * The index of the natural keys of the objects of this persistence service (only present, if the objects are held in the shared cache
+	 * and can be retrieved by a natural key, see {@link #determineNaturalKey(DMPObject)}).
+	 */
+	private Optional<NaturalKeyCache> optionalNaturalKeyCache = Optional.empty();
+
 	/**
 	 * Creates a new persistence service for the given concrete POJO class and the entity manager provider.
 	 *
@@ -88,6 +116,46 @@ public abstract class BasicJPAService<PROXYPOJOCLASS extends ProxyDMPObject<POJO
 		this.entityManagerProvider = entityManagerProvider;
 	}
 
+	/**
+	 * Initialises the statistics of the shared cache and the natural key index, if the shared cache is enabled and the objects of this
+	 * persistence service are held in the shared cache.
+	 *
+	 * @param isSharedCacheEnabled true, if the shared cache is enabled
+	 * @param naturalKeyCaches     the natural key indices of all entity types
+	 * @param registry             the metric registry for the cache statistics
+	 */
+	@Inject
+	protected void initSharedCache(@Named("dswarm.db.metadata.cache.enabled") final boolean isSharedCacheEnabled,
+			final NaturalKeyCaches naturalKeyCaches, final MetricRegistry registry) {
+
+		if (!isSharedCacheEnabled || !SharedCacheCustomizer.isShared(clasz)) {
+
+			return;
+		}
+
+		isShared = true;
+
+		sharedCacheHits = registry.counter(name(clasz, "shared-cache", "hits"));
+		sharedCacheMisses = registry.counter(name(clasz, "shared-cache", "misses"));
+
+		final String hitRateMetricName = name(clasz, "shared-cache", "hit-rate");
+
+		registry.remove(hitRateMetricName);
+		registry.register(hitRateMetricName, new RatioGauge() {
+
+			@Override
+			protected Ratio getRatio() {
+
+				return Ratio.of(sharedCacheHits.getCount(), sharedCacheHits.getCount() + sharedCacheMisses.getCount());
+			}
+		});
+
+		if (hasNaturalKey()) {
+
+			optionalNaturalKeyCache = Optional.of(naturalKeyCaches.get(clasz));
+		}
+	}
+
 	/**
 	 * Acquire a new or reused EntityManager with its cache cleared
 	 *
@@ -366,6 +434,17 @@ public abstract class BasicJPAService<PROXYPOJOCLASS extends ProxyDMPObject<POJO
 
 		BasicJPAService.LOG.debug("try to find {} with uuid '{}' in the database", className, uuid);
 
+		if (isShared) {
+
+			if (entityManager.getEntityManagerFactory().getCache().contains(clasz, uuid)) {
+
+				sharedCacheHits.inc();
+			} else {
+
+				sharedCacheMisses.inc();
+			}
+		}
+
 		final POJOCLASS entity = entityManager.find(clasz, uuid);
 
 		if (entity != null) {
@@ -381,6 +460,79 @@ public abstract class BasicJPAService<PROXYPOJOCLASS extends ProxyDMPObject<POJO
 		return entity;
 	}
 
+	/**
+	 * Checks, whether the objects of this persistence service can be retrieved by a natural key, see {@link #determineNaturalKey(DMPObject)}.
+	 *
+	 * @return true, if the objects of this persistence service can be retrieved by a natural key
+	 */
+	protected boolean hasNaturalKey() {
+
+		return false;
+	}
+
+	/**
+	 * Determines the natural key (e.g. the uri) of the given object.
+	 *
+	 * @param object an object of the specific class
+	 * @return the natural key of the given object (if the objects of this persistence service can be retrieved by a natural key)
+	 */
+	protected Optional<String> determineNaturalKey(final POJOCLASS object) {
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Retrieves the object for the given natural key via the natural key index, i.e., without a database query, if the object is held in
+	 * the shared cache.
+	 *
+	 * @param naturalKey    the natural key of the requested object
+	 * @param entityManager the entity manager
+	 * @return the object for the given natural key or null, if its natural key isn't indexed (anymore)
+	 */
+	protected POJOCLASS getObjectByNaturalKey(final String naturalKey, final EntityManager entityManager) {
+
+		if (!optionalNaturalKeyCache.isPresent() || naturalKey == null) {
+
+			return null;
+		}
+
+		final NaturalKeyCache naturalKeyCache = optionalNaturalKeyCache.get();
+		final Optional<String> optionalUuid = naturalKeyCache.getIdentifier(naturalKey);
+
+		if (!optionalUuid.isPresent()) {
+
+			return null;
+		}
+
+		final POJOCLASS object = getObjectInternal(optionalUuid.get(), entityManager);
+
+		if (object != null && determineNaturalKey(object).map(naturalKey::equals).orElse(false)) {
+
+			return object;
+		}
+
+		// the object was deleted or modified in between
+		naturalKeyCache.invalidate(naturalKey);
+
+		return null;
+	}
+
+	/**
+	 * Adds the natural key of the given object to the natural key index (if available).
+	 *
+	 * @param object an object of the specific class
+	 */
+	protected void cacheNaturalKey(final POJOCLASS object) {
+
+		if (object == null) {
+
+			return;
+		}
+
+		optionalNaturalKeyCache.ifPresent(naturalKeyCache -> determineNaturalKey(object)
+				.ifPresent(naturalKey -> naturalKeyCache.put(naturalKey, object.getUuid())));
+	}
+
 	/**
 	 * Deletes an instance of the specific class permanently from the DB by a given identifier.<br>
 	 * Created by: tgaengler
@@ -395,6 +547,11 @@ public abstract class BasicJPAService<PROXYPOJOCLASS extends ProxyDMPObject<POJO
 
 		BasicJPAService.LOG.debug("try to delete {} with uuid '{}' from the database", className, uuid);
 
+		if (updateObject != null) {
+
+			optionalNaturalKeyCache.ifPresent(naturalKeyCache -> determineNaturalKey(updateObject).ifPresent(naturalKeyCache::invalidate));
+		}
+
 		prepareObjectForRemoval(updateObject);
 
 		entityManager.remove(updateObject);
@@ -449,6 +606,8 @@ public abstract class BasicJPAService<PROXYPOJOCLASS extends ProxyDMPObject<POJO
 
 		BasicJPAService.LOG.debug("created new {} with id '{}'", className, object.getUuid());
 
+		cacheNaturalKey(mergedObject);
+
 		return mergedObject;
 	}
 
@@ -46,6 +46,8 @@ public class MaintainDBService {
 
 	private final String dbName;
 
+	private final NaturalKeyCaches naturalKeyCaches;
+
 	private static final String DROP_DB_TEMPL = "DROP DATABASE IF EXISTS %s;";
 
 	private static final String CREATE_DB_TEMPL = "CREATE DATABASE IF NOT EXISTS %s DEFAULT CHARACTER SET utf8 DEFAULT COLLATE utf8_bin;";
@@ -55,10 +57,12 @@ public class MaintainDBService {
 	/**
 	 * @param entityManagerProvider
 	 */
-	@Inject MaintainDBService(final Provider<EntityManager> entityManagerProvider, @Named("dswarm.db.metadata.schema") String dbNameArg) {
+	@Inject MaintainDBService(final Provider<EntityManager> entityManagerProvider, @Named("dswarm.db.metadata.schema") String dbNameArg,
+			final NaturalKeyCaches naturalKeyCachesArg) {
 
 		this.entityManagerProvider = entityManagerProvider;
 		dbName = dbNameArg;
+		naturalKeyCaches = naturalKeyCachesArg;
 	}
 
 	/**
@@ -235,6 +239,10 @@ public class MaintainDBService {
 			final Query query = entityManager.createNativeQuery(sqlScriptLine);
 			query.executeUpdate();
 		}
+
+		// native statements bypass the shared cache, i.e., all cached objects (and their natural keys) might be outdated now
+		entityManager.getEntityManagerFactory().getCache().evictAll();
+		naturalKeyCaches.invalidateAll();
 	}
 
 	/**
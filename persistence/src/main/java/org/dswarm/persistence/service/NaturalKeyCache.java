@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.service;
+
+import java.util.Optional;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A bounded index from the natural keys (e.g. uris) of the objects of an entity type to their identifiers. Together with the shared cache
+ * (see {@link org.dswarm.persistence.SharedCacheCustomizer}) a lookup by natural key can be served without a database query.<br/>
+ * The index is not authoritative, i.e., a cached identifier needs to be verified against the retrieved object (it might be deleted or
+ * modified in between) and invalidated, if it doesn't match anymore.<br/>
+ * The cache statistics (hits, misses, hit rate, evictions, size) are reported to the metric registry.
+ */
+public class NaturalKeyCache {
+
+	private final Cache<String, String> cache;
+
+	/**
+	 * @param clasz    the entity type of the cached objects
+	 * @param maxSize  the maximum number of cached natural keys
+	 * @param registry the metric registry for the cache statistics
+	 */
+	public NaturalKeyCache(final Class<?> clasz, final long maxSize, final MetricRegistry registry) {
+
+		cache = CacheBuilder.newBuilder()
+				.maximumSize(maxSize)
+				.recordStats()
+				.build();
+
+		registerGauge(registry, clasz, "hits", () -> cache.stats().hitCount());
+		registerGauge(registry, clasz, "misses", () -> cache.stats().missCount());
+		registerGauge(registry, clasz, "hit-rate", () -> cache.stats().hitRate());
+		registerGauge(registry, clasz, "evictions", () -> cache.stats().evictionCount());
+		registerGauge(registry, clasz, "size", cache::size);
+	}
+
+	public Optional<String> getIdentifier(final String naturalKey) {
+
+		return Optional.ofNullable(cache.getIfPresent(naturalKey));
+	}
+
+	public void put(final String naturalKey, final String identifier) {
+
+		cache.put(naturalKey, identifier);
+	}
+
+	public void invalidate(final String naturalKey) {
+
+		cache.invalidate(naturalKey);
+	}
+
+	public void invalidateAll() {
+
+		cache.invalidateAll();
+	}
+
+	private static void registerGauge(final MetricRegistry registry, final Class<?> clasz, final String gaugeName, final Gauge<?> gauge) {
+
+		final String metricName = name(clasz, "natural-key-cache", gaugeName);
+
+		registry.remove(metricName);
+		registry.register(metricName, gauge);
+	}
+}
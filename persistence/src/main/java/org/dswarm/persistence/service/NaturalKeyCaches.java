@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+/**
+ * The natural key indices (see {@link NaturalKeyCache}) of all entity types, i.e., the persistence service instances of an entity type share
+ * one index. The indices are invalidated, when the database is maintained (see {@link MaintainDBService}).
+ */
+@Singleton
+public class NaturalKeyCaches {
+
+	private final ConcurrentMap<Class<?>, NaturalKeyCache> caches = new ConcurrentHashMap<>();
+
+	private final long maxSize;
+
+	private final MetricRegistry registry;
+
+	/**
+	 * @param maxSize  the maximum number of cached natural keys per entity type
+	 * @param registry the metric registry for the cache statistics
+	 */
+	@Inject
+	public NaturalKeyCaches(@Named("dswarm.db.metadata.cache.max-size") final long maxSize, final MetricRegistry registry) {
+
+		this.maxSize = maxSize;
+		this.registry = registry;
+	}
+
+	/**
+	 * Gets the natural key index of the given entity type.
+	 *
+	 * @param clasz the entity type
+	 * @return the natural key index of the given entity type
+	 */
+	public NaturalKeyCache get(final Class<?> clasz) {
+
+		return caches.computeIfAbsent(clasz, key -> new NaturalKeyCache(key, maxSize, registry));
+	}
+
+	/**
+	 * Invalidates the natural key indices of all entity types, e.g., after the database was modified with native SQL statements.
+	 */
+	public void invalidateAll() {
+
+		caches.values().forEach(NaturalKeyCache::invalidateAll);
+	}
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.service;
+
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The available strategies for generating the UUIDs of entities, records and (JPA) objects.
+ *
+ * @author tgaengler
+ */
+public enum UUIDGenerator {
+
+	/**
+	 * Random (version 4) UUIDs, i.e., every UUID is drawn from the shared {@link SecureRandom} of {@link UUID#randomUUID()}.
+	 */
+	RANDOM {
+
+		@Override
+		public UUID next() {
+
+			return UUID.randomUUID();
+		}
+	},
+
+	/**
+	 * Time-ordered (version 7) UUIDs, i.e., the 48 bit Unix timestamp in milliseconds is followed by the version and a 12 bit counter
+	 * (RFC 9562, method 3). Timestamp and counter form a sequence that is advanced to the current time whenever a thread reserves a block
+	 * of it, i.e., the timestamp only runs ahead of the clock when more than 4096 UUIDs per millisecond are generated. The random bits after the
+	 * variant are a random node identifier per JVM, i.e., UUIDs are unique across nodes and restarts. Every thread draws its UUIDs from a
+	 * block of the sequence that it reserves exclusively. Hence, threads don't contend when generating UUIDs.
+	 */
+	TIME_ORDERED {
+
+		@Override
+		public UUID next() {
+
+			return TimeOrderedSequence.next();
+		}
+	};
+
+	/**
+	 * Generates a new UUID.
+	 *
+	 * @return a new UUID
+	 */
+	public abstract UUID next();
+
+	/**
+	 * Determines the generator for the given name, e.g. 'random' or 'time-ordered'.
+	 *
+	 * @param name the name of a generator
+	 * @return the generator for the given name
+	 */
+	public static UUIDGenerator fromName(final String name) {
+
+		return UUIDGenerator.valueOf(name.trim().toUpperCase(Locale.ENGLISH).replace('-', '_'));
+	}
+
+	private static final class TimeOrderedSequence {
+
+		private static final int BLOCK_SIZE = 1024;
+
+		/**
+		 * the number of bits of the counter within a millisecond
+		 */
+		private static final int COUNTER_BITS = 12;
+
+		private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+		private static final long VERSION_7 = 0x7000L;
+
+		/**
+		 * the random node identifier with the IETF variant bits
+		 */
+		private static final long NODE = new SecureRandom().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+
+		/**
+		 * the timestamp (in milliseconds) followed by the counter, i.e., the next free value
+		 */
+		private static final AtomicLong SEQUENCE = new AtomicLong(System.currentTimeMillis() << COUNTER_BITS);
+
+		/**
+		 * the next value and the (exclusive) limit of the current block of a thread
+		 */
+		private static final ThreadLocal<long[]> BLOCK = ThreadLocal.withInitial(() -> new long[2]);
+
+		private static UUID next() {
+
+			final long[] block = BLOCK.get();
+
+			if (block[0] == block[1]) {
+
+				final long now = System.currentTimeMillis() << COUNTER_BITS;
+
+				block[1] = SEQUENCE.accumulateAndGet(now, (next, current) -> Math.max(next, current) + BLOCK_SIZE);
+				block[0] = block[1] - BLOCK_SIZE;
+			}
+
+			final long value = block[0]++;
+
+			return new UUID((value >>> COUNTER_BITS) << 16 | VERSION_7 | value & COUNTER_MASK, NODE);
+		}
+	}
+}
@@ -15,17 +15,33 @@
  */
 package org.dswarm.persistence.service;
 
-import java.util.UUID;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
 
 /**
+ * Generates the UUIDs of entities, records and (JPA) objects with the configured {@link UUIDGenerator}. Random (version 4) UUIDs are the
+ * default; time-ordered (version 7) UUIDs need to be enabled explicitly, since they change the format of the generated identifiers (e.g. they
+ * reveal their creation time).
+ *
  * @author tgaengler
  */
 public final class UUIDService {
 
-	public static String getUUID(final String base) {
+	private static volatile UUIDGenerator generator = UUIDGenerator.RANDOM;
+
+	@Inject
+	static void setGenerator(@Named("dswarm.uuid-generator") final String generatorName) {
+
+		generator = UUIDGenerator.fromName(generatorName);
+	}
 
-		final UUID uuid = UUID.randomUUID();
+	public static String getUUID() {
+
+		return generator.next().toString();
+	}
+
+	public static String getUUID(final String base) {
 
-		return String.format("%s-%s", base, uuid.toString());
+		return base + '-' + getUUID();
 	}
 }
@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.service.internal.graph;
+
+import rx.Observer;
+import rx.Subscriber;
+
+/**
+ * A subscriber that requests the elements from their producer in batches, i.e., the next batch is only requested when the previous one was
+ * handed over to the given observer. Hence, the producer is throttled by the observer (e.g., a write request that waits, if its write buffer
+ * is full).
+ *
+ * @param <T> the type of the elements
+ */
+class BatchRequestSubscriber<T> extends Subscriber<T> {
+
+	private final Observer<? super T> observer;
+	private final int                 batchSize;
+
+	private long receivedElements;
+
+	/**
+	 * Creates a new subscriber that hands over the elements to the given observer.
+	 *
+	 * @param observer  the observer of the elements
+	 * @param batchSize the number of elements that are requested at once
+	 */
+	BatchRequestSubscriber(final Observer<? super T> observer, final int batchSize) {
+
+		this.observer = observer;
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public void onStart() {
+
+		request(batchSize);
+	}
+
+	@Override
+	public void onCompleted() {
+
+		observer.onCompleted();
+	}
+
+	@Override
+	public void onError(final Throwable e) {
+
+		observer.onError(e);
+	}
+
+	@Override
+	public void onNext(final T element) {
+
+		observer.onNext(element);
+
+		if (++receivedElements % batchSize == 0) {
+
+			request(batchSize);
+		}
+	}
+}
@@ -0,0 +1,316 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.service.internal.graph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observer;
+
+import org.dswarm.graph.json.Resource;
+import org.dswarm.graph.json.stream.ModelBuilder;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * The pipeline of one GDM write request, i.e., it serialises the written record resources into a bounded buffer from which the request
+ * entity is read ({@link #getInput()}).<br/>
+ * Serialised records are handed over to the request in chunks (of the chunk size) and at least every n records (see flush records), i.e.,
+ * not after every single record. If the buffer is full, the serialisation (and hence the producer of the records) waits until the request
+ * has consumed some data.<br/>
+ * The written bytes and records (incl. their rates) and the time the serialisation had to wait for the request (stall) are reported to the
+ * given metric registry.<br/>
+ * If the production of the records or the request fails, the pipeline needs to be aborted ({@link #abort(Throwable)}), i.e., the request
+ * fails when reading the entity (instead of waiting for more data) and the serialisation fails when writing (instead of waiting for free
+ * buffer space).
+ */
+class GDMWritePipeline {
+
+	private static final Logger LOG = LoggerFactory.getLogger(GDMWritePipeline.class);
+
+	private final PipedInputStream  pipeInput;
+	private final PipedOutputStream pipeOutput;
+	private final InputStream       input;
+	private final OutputStream      output;
+	private final ModelBuilder      modelBuilder;
+	private final int               flushRecords;
+	private final Meter             recordsMeter;
+
+	private long recordsSinceLastFlush;
+
+	private volatile Throwable failure;
+
+	/**
+	 * Creates a new pipeline for one write request.
+	 *
+	 * @param bufferSize   the number of bytes that are buffered between the serialisation and the request
+	 * @param chunkSize    the number of bytes that are handed over to the request at once
+	 * @param flushRecords the serialised records are handed over to the request at least every ... records
+	 * @param registry     the metric registry for the write metrics
+	 * @throws IOException
+	 */
+	GDMWritePipeline(final int bufferSize, final int chunkSize, final int flushRecords, final MetricRegistry registry) throws IOException {
+
+		this.flushRecords = flushRecords;
+
+		recordsMeter = registry.meter(name(InternalGDMGraphService.class, "write", "records"));
+
+		pipeInput = new PipedInputStream(bufferSize);
+		input = new AbortableInputStream(new BufferedInputStream(pipeInput, chunkSize));
+
+		pipeOutput = new PipedOutputStream(pipeInput);
+
+		final InstrumentedOutputStream instrumentedPipeOutput = new InstrumentedOutputStream(pipeOutput,
+				registry.meter(name(InternalGDMGraphService.class, "write", "bytes")),
+				registry.timer(name(InternalGDMGraphService.class, "write", "stall")));
+
+		output = new BufferedOutputStream(instrumentedPipeOutput, chunkSize);
+		modelBuilder = new ModelBuilder(output);
+	}
+
+	/**
+	 * @return the serialised records, i.e., the entity of the write request
+	 */
+	InputStream getInput() {
+
+		return input;
+	}
+
+	/**
+	 * @return an observer that serialises the written record resources (must be utilised by one thread at a time)
+	 */
+	Observer<Resource> getResourceObserver() {
+
+		return new Observer<Resource>() {
+
+			@Override
+			public void onCompleted() {
+
+				try {
+
+					modelBuilder.build();
+
+					// hands over the remaining serialised records and signals the end of the request entity
+					output.close();
+				} catch (final IOException e) {
+
+					throw new RuntimeException(e);
+				}
+			}
+
+			@Override
+			public void onError(final Throwable e) {
+
+				LOG.error("couldn't produce GDM model, abort write request", e);
+
+				abort(e);
+			}
+
+			@Override
+			public void onNext(final Resource resource) {
+
+				if (failure != null) {
+
+					throw new RuntimeException("the write request was aborted", failure);
+				}
+
+				try {
+
+					modelBuilder.addResource(resource);
+					recordsMeter.mark();
+
+					if (++recordsSinceLastFlush >= flushRecords) {
+
+						recordsSinceLastFlush = 0;
+						output.flush();
+					}
+				} catch (final IOException e) {
+
+					throw new RuntimeException(e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Closes both ends of the pipeline.
+	 *
+	 * @throws IOException
+	 */
+	void close() throws IOException {
+
+		try {
+
+			output.close();
+		} finally {
+
+			input.close();
+		}
+	}
+
+	/**
+	 * Aborts the pipeline, i.e., the request entity (see {@link #getInput()}) fails on the next read and the serialisation fails on the next
+	 * write. Only the first failure will be kept.
+	 *
+	 * @param cause the reason of the abort
+	 */
+	void abort(final Throwable cause) {
+
+		if (failure == null) {
+
+			failure = cause;
+		}
+
+		// unblocks both ends of the pipe, i.e., a request that waits for data and a serialisation that waits for free buffer space fail
+		// (note: the buffered output stream can't be closed here, since it might be locked by a waiting serialisation)
+		try {
+
+			pipeOutput.close();
+		} catch (final IOException e) {
+
+			LOG.debug("couldn't close output of aborted write request", e);
+		}
+
+		try {
+
+			pipeInput.close();
+		} catch (final IOException e) {
+
+			LOG.debug("couldn't close input of aborted write request", e);
+		}
+	}
+
+	/**
+	 * @return the reason of the abort or absent, if the pipeline wasn't aborted
+	 */
+	Optional<Throwable> getFailure() {
+
+		return Optional.fromNullable(failure);
+	}
+
+	/**
+	 * Fails with the reason of the abort, if the pipeline was aborted, i.e., the request entity can't be finished regularly (with an
+	 * incomplete model).
+	 */
+	private final class AbortableInputStream extends FilterInputStream {
+
+		private AbortableInputStream(final InputStream in) {
+
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+
+			final int result;
+
+			try {
+
+				result = super.read();
+			} catch (final IOException e) {
+
+				checkAborted();
+
+				throw e;
+			}
+
+			checkAborted();
+
+			return result;
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+
+			final int result;
+
+			try {
+
+				result = super.read(b, off, len);
+			} catch (final IOException e) {
+
+				checkAborted();
+
+				throw e;
+			}
+
+			checkAborted();
+
+			return result;
+		}
+
+		private void checkAborted() throws IOException {
+
+			if (failure != null) {
+
+				throw new IOException("the write request was aborted", failure);
+			}
+		}
+	}
+
+	/**
+	 * Measures the bytes that are handed over to the pipe and the time it takes to hand them over, i.e., the time the serialisation waits for
+	 * free buffer space.
+	 */
+	private static final class InstrumentedOutputStream extends FilterOutputStream {
+
+		private final Meter bytesMeter;
+		private final Timer stallTimer;
+
+		private InstrumentedOutputStream(final OutputStream out, final Meter bytesMeter, final Timer stallTimer) {
+
+			super(out);
+
+			this.bytesMeter = bytesMeter;
+			this.stallTimer = stallTimer;
+		}
+
+		@Override
+		public void write(final int b) throws IOException {
+
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(final byte[] b, final int off, final int len) throws IOException {
+
+			final Timer.Context context = stallTimer.time();
+
+			try {
+
+				out.write(b, off, len);
+			} finally {
+
+				context.stop();
+			}
+
+			bytesMeter.mark(len);
+		}
+	}
+}
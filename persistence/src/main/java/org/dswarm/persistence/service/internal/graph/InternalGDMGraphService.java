@@ -19,27 +19,24 @@ import java.io.BufferedInputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
-import javax.ws.rs.client.Client;
-import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -48,23 +45,23 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Optional;
-import com.google.common.net.HttpHeaders;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
-import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.rx.RxWebTarget;
 import org.glassfish.jersey.client.rx.rxjava.RxObservable;
 import org.glassfish.jersey.client.rx.rxjava.RxObservableInvoker;
 import org.glassfish.jersey.media.multipart.MultiPart;
-import org.glassfish.jersey.media.multipart.MultiPartFeature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import rx.Observable;
 import rx.Observer;
+import rx.Scheduler;
 import rx.Subscriber;
+import rx.functions.Func1;
+import rx.observers.Observers;
 import rx.schedulers.Schedulers;
 import rx.subjects.AsyncSubject;
 import rx.subjects.PublishSubject;
@@ -73,9 +70,9 @@ import org.dswarm.common.DMPStatics;
 import org.dswarm.common.model.util.AttributePathUtil;
 import org.dswarm.common.types.Tuple;
 import org.dswarm.graph.json.Resource;
-import org.dswarm.graph.json.stream.ModelBuilder;
 import org.dswarm.graph.json.stream.ModelParser;
 import org.dswarm.graph.json.util.Util;
+import org.dswarm.init.ExecutionScope;
 import org.dswarm.persistence.DMPPersistenceError;
 import org.dswarm.persistence.DMPPersistenceException;
 import org.dswarm.persistence.model.internal.Model;
@@ -116,10 +113,11 @@ public class InternalGDMGraphService implements InternalModelService {
 	private static final String GDM_RESOURCE_IDENTIFIER      = "gdm";
 	private static final String MAINTAIN_RESOURCE_IDENTIFIER = "maintain";
 	private static final String MULTIPART_MIXED              = "multipart/mixed";
-	private static final String CHUNKED                      = "CHUNKED";
 
 	private static final String SEARCH_RESULT    = "search result";
 	private static final String OBJECT_RETRIEVAL = "object retrieval";
+	private static final String RECORD_RETRIEVAL  = "record retrieval";
+	private static final String RECORDS_RETRIEVAL = "records retrieval";
 	private static final String WRITE_GDM        = "write to graph database";
 
 	private static final int CHUNK_SIZE      = 1024;
@@ -129,20 +127,9 @@ public class InternalGDMGraphService implements InternalModelService {
 	private static final ExecutorService EXECUTOR_SERVICE                            = Executors.newCachedThreadPool(
 			new BasicThreadFactory.Builder().daemon(false).namingPattern(DSWARM_MODEL_STREAMER_THREAD_NAMING_PATTERN).build());
 
-	private static final ClientBuilder BUILDER                   = ClientBuilder.newBuilder().register(MultiPartFeature.class)
-			.property(ClientProperties.CHUNKED_ENCODING_SIZE, CHUNK_SIZE)
-			.property(ClientProperties.REQUEST_ENTITY_PROCESSING, CHUNKED)
-			.property(ClientProperties.OUTBOUND_CONTENT_LENGTH_BUFFER, CHUNK_SIZE)
-			.property(ClientProperties.CONNECT_TIMEOUT, REQUEST_TIMEOUT)
-			.property(ClientProperties.READ_TIMEOUT, REQUEST_TIMEOUT);
-	public static final  String        METADATA_TYPE             = "metadata";
-	public static final  String        DEPRECATE_DATA_MODEL_TYPE = "deprecate data model";
-	public static final  String        DEPRECATE_RECORDS_TYPE = "deprecate records";
-
-	static {
-
-		System.setProperty("sun.net.http.allowRestrictedHeaders", "true");
-	}
+	public static final String METADATA_TYPE             = "metadata";
+	public static final String DEPRECATE_DATA_MODEL_TYPE = "deprecate data model";
+	public static final String DEPRECATE_RECORDS_TYPE    = "deprecate records";
 
 	private static final String READ_GDM_ENDPOINT             = "/get";
 	private static final String WRITE_GDM_ENDPOINT            = "/put";
@@ -150,6 +137,7 @@ public class InternalGDMGraphService implements InternalModelService {
 	private static final String DEPRECATE_RECORDS_ENDPOINT = "/deprecate/records";
 	private static final String SEARCH_GDM_RECORDS_ENDPOINT   = "/searchrecords";
 	private static final String GET_GDM_RECORD_ENDPOINT       = "/getrecord";
+	private static final String GET_GDM_RECORDS_ENDPOINT      = "/getrecords";
 	public static final  String CHUNKED_TRANSFER_ENCODING     = "chunked";
 
 	/**
@@ -173,10 +161,60 @@ public class InternalGDMGraphService implements InternalModelService {
 
 	private final Provider<AttributeService> attributeService;
 
-	private final String graphEndpoint;
+	/**
+	 * The pooled client for the gdm resource of the graph database endpoint.
+	 */
+	private final PooledGraphDBClient gdmClient;
+
+	/**
+	 * The pooled client for the maintain resource of the graph database endpoint.
+	 */
+	private final PooledGraphDBClient maintainClient;
+
+	/**
+	 * The number of records that are requested at once at record retrieval by record identifiers.
+	 */
+	private final int recordsBatchSize;
+
+	/**
+	 * The maximum number of record (batch) requests that are in-flight at the same time at record retrieval by record identifiers.
+	 */
+	private final int recordsConcurrency;
+
+	/**
+	 * The number of records after which the attribute paths that were inferred at an ingest are added to the schema of the data model.
+	 */
+	private final long schemaInferenceFlushInterval;
+
+	/**
+	 * The number of bytes that are buffered between the serialisation of the records and a write request.
+	 */
+	private final int writeBufferSize;
+
+	/**
+	 * The chunk size of write requests.
+	 */
+	private final int writeChunkSize;
+
+	/**
+	 * The number of records after which serialised records are handed over to a write request (and the next records are requested).
+	 */
+	private final int writeFlushRecords;
+
+	private final MetricRegistry registry;
 
 	private final Provider<ObjectMapper> objectMapperProvider;
 
+	/**
+	 * The execution scope of the requests, i.e., it is propagated to the work that is moved to the model streamer threads.
+	 */
+	private final ExecutionScope executionScope;
+
+	/**
+	 * The scheduler of the graph database requests (runs in the execution scope of the caller).
+	 */
+	private final Scheduler graphDBRequestScheduler;
+
 	/**
 	 * Creates a new internal triple service with the given persistence services and the endpoint to access the graph database.
 	 *
@@ -186,6 +224,18 @@ public class InternalGDMGraphService implements InternalModelService {
 	 * @param attributePathService the attribute path persistence service
 	 * @param attributeService     the attribute persistence service
 	 * @param graphEndpointArg     the endpoint to access the graph database
+	 * @param maxConnectionsArg    the maximum number of pooled connections per graph database resource
+	 * @param keepAliveArg         the time (in ms) a pooled connection is kept alive
+	 * @param poolTimeoutArg       the maximum time (in ms) a request waits for a pooled connection
+	 * @param recordsBatchSizeArg  the number of records that are requested at once at record retrieval by record identifiers
+	 * @param recordsConcurrencyArg the maximum number of in-flight record (batch) requests at record retrieval by record identifiers
+	 * @param schemaInferenceFlushIntervalArg the number of records after which inferred attribute paths are added to the schema at an ingest
+	 * @param writeBufferSizeArg   the number of bytes that are buffered between the serialisation of the records and a write request
+	 * @param writeChunkSizeArg    the chunk size (in bytes) of write requests (this applies to all requests of the gdm resource, since they share
+	 *                             their pooled connections)
+	 * @param writeFlushRecordsArg the number of records after which serialised records are handed over to a write request
+	 * @param registry             the metric registry for the connection pool and write metrics
+	 * @param executionScopeArg    the execution scope that is propagated to the model streamer threads
 	 */
 	@Inject
 	public InternalGDMGraphService(
@@ -196,7 +246,18 @@ public class InternalGDMGraphService implements InternalModelService {
 			final Provider<AttributePathService> attributePathService,
 			final Provider<AttributeService> attributeService,
 			@Named("dswarm.db.graph.endpoint") final String graphEndpointArg,
-			final Provider<ObjectMapper> objectMapperProviderArg) {
+			@Named("dswarm.db.graph.client.max-connections") final long maxConnectionsArg,
+			@Named("dswarm.db.graph.client.keep-alive") final long keepAliveArg,
+			@Named("dswarm.db.graph.client.pool-timeout") final long poolTimeoutArg,
+			@Named("dswarm.db.graph.records.batch-size") final long recordsBatchSizeArg,
+			@Named("dswarm.db.graph.records.concurrency") final long recordsConcurrencyArg,
+			@Named("dswarm.db.graph.schema-inference.flush-interval") final long schemaInferenceFlushIntervalArg,
+			@Named("dswarm.db.graph.write.buffer-size") final long writeBufferSizeArg,
+			@Named("dswarm.db.graph.write.chunk-size") final long writeChunkSizeArg,
+			@Named("dswarm.db.graph.write.flush-records") final long writeFlushRecordsArg,
+			final MetricRegistry registry,
+			final Provider<ObjectMapper> objectMapperProviderArg,
+			final ExecutionScope executionScopeArg) {
 
 		this.dataModelService = dataModelService;
 		this.schemaService = schemaService;
@@ -205,8 +266,21 @@ public class InternalGDMGraphService implements InternalModelService {
 		this.schemaAttributePathInstanceService = schemaAttributePathInstanceService;
 		this.attributeService = attributeService;
 
-		graphEndpoint = graphEndpointArg;
+		writeBufferSize = Math.max(1, (int) writeBufferSizeArg);
+		writeChunkSize = Math.max(1, (int) writeChunkSizeArg);
+		writeFlushRecords = Math.max(1, (int) writeFlushRecordsArg);
+		this.registry = registry;
+
+		gdmClient = new PooledGraphDBClient(graphEndpointArg, GDM_RESOURCE_IDENTIFIER, (int) maxConnectionsArg, keepAliveArg, poolTimeoutArg,
+				REQUEST_TIMEOUT, writeChunkSize, registry);
+		maintainClient = new PooledGraphDBClient(graphEndpointArg, MAINTAIN_RESOURCE_IDENTIFIER, (int) maxConnectionsArg, keepAliveArg,
+				poolTimeoutArg, REQUEST_TIMEOUT, CHUNK_SIZE, registry);
+		recordsBatchSize = Math.max(1, (int) recordsBatchSizeArg);
+		recordsConcurrency = Math.max(1, (int) recordsConcurrencyArg);
+		schemaInferenceFlushInterval = Math.max(1, schemaInferenceFlushIntervalArg);
 		objectMapperProvider = objectMapperProviderArg;
+		executionScope = executionScopeArg;
+		graphDBRequestScheduler = Schedulers.from(executionScope.wrap(EXECUTOR_SERVICE));
 	}
 
 	/**
@@ -596,6 +670,12 @@ public class InternalGDMGraphService implements InternalModelService {
 
 		final String dataModelURI = GDMUtil.getDataModelGraphURI(dataModelUuid);
 
+		if (recordsBatchSize > 1) {
+
+			return getRecordsInBatches(recordIdentifiers, dataModelURI, dataModelUuid);
+		}
+
+		// note: the number of concurrent record requests is bounded, i.e., further requests will only be sent when previous ones are finished
 		return Observable.from(recordIdentifiers).flatMap(recordIdentifier ->
 						readGDMRecordFromDB(recordIdentifier, dataModelURI).filter(resource -> {
 							if (resource == null) {
@@ -623,10 +703,60 @@ public class InternalGDMGraphService implements InternalModelService {
 							final Model gdmModel = new GDMModel(model, recordIdentifier);
 
 							return Tuple.tuple(recordIdentifier, gdmModel);
-						})
+						}), recordsConcurrency
 		);
 	}
 
+	/**
+	 * Retrieves the records with the given record identifiers in batches, i.e., one request per batch of record identifiers. The resources of
+	 * a batch response are parsed in a streaming manner. The number of concurrent batch requests is bounded.<br/>
+	 * Note: this requires a graph extension that provides the batched record retrieval endpoint (/getrecords), see
+	 * {@link #readGDMRecordsFromDB(Collection, String)}. Graph extensions without this endpoint need to be run with the per-record retrieval
+	 * (dswarm.db.graph.records.batch-size = 1, the default).
+	 *
+	 * @param recordIdentifiers the record identifiers
+	 * @param dataModelURI      the graph URI of the data model
+	 * @param dataModelUuid     the identifier of the data model
+	 * @return the retrieved records
+	 */
+	private Observable<Tuple<String, Model>> getRecordsInBatches(final Set<String> recordIdentifiers, final String dataModelURI,
+			final String dataModelUuid) {
+
+		LOG.debug("try to retrieve '{}' records from data model '{}' in batches of '{}' records", recordIdentifiers.size(), dataModelUuid,
+				recordsBatchSize);
+
+		final AtomicLong counter = new AtomicLong(0);
+
+		return Observable.from(recordIdentifiers)
+				.buffer(recordsBatchSize)
+				.flatMap(recordIdentifiersBatch -> Observable.defer(() -> readGDMRecordsFromDB(recordIdentifiersBatch, dataModelURI)),
+						recordsConcurrency)
+				.filter(resource -> {
+
+					if (resource.size() <= 0) {
+
+						InternalGDMGraphService.LOG
+								.debug("resource is empty for record identifier '{}' in data model '{}' in database", resource.getUri(), dataModelUuid);
+
+						return false;
+					}
+
+					return true;
+				})
+				.map(resource -> {
+
+					counter.incrementAndGet();
+
+					final org.dswarm.graph.json.Model model = new org.dswarm.graph.json.Model();
+					model.addResource(resource);
+					final Model gdmModel = new GDMModel(model, resource.getUri());
+
+					return Tuple.tuple(resource.getUri(), gdmModel);
+				})
+				.doOnCompleted(() -> LOG.debug("retrieved '{}' of '{}' requested records from data model '{}'", counter.get(),
+						recordIdentifiers.size(), dataModelUuid));
+	}
+
 	private Observable<Response> createOrUpdateObject(final String dataModelUuid, final Observable<Model> model, final UpdateFormat updateFormat,
 			final boolean enableVersioning) throws DMPPersistenceException {
 
@@ -648,10 +778,12 @@ public class InternalGDMGraphService implements InternalModelService {
 
 		final Observable<GDMModel> modelObservable = model.cast(GDMModel.class);
 
-		final GDMWriteRequestOperator operator = new GDMWriteRequestOperator(dataModel, isSchemaAnInBuiltSchema, dataModelURI,
+		final SchemaInferenceAccumulator schemaInferenceAccumulator = new SchemaInferenceAccumulator(dataModel);
+
+		final GDMWriteRequestOperator operator = new GDMWriteRequestOperator(schemaInferenceAccumulator, isSchemaAnInBuiltSchema, dataModelURI,
 				optionalDeprecateMissingRecords,
 				enableVersioning);
-		final Observable<Resource> resourceObservable = modelObservable.lift(operator).flatMapIterable(gdm -> {
+		final Observable<Resource> resourceObservable = toRecordResources(modelObservable.lift(operator), gdm -> {
 
 			try {
 
@@ -673,7 +805,10 @@ public class InternalGDMGraphService implements InternalModelService {
 					return Collections.emptyList();
 				}
 
-				optionallyEnhancedDataModel(dataModel, gdm, model1, isSchemaAnInBuiltSchema);
+				if (!isSchemaAnInBuiltSchema) {
+
+					schemaInferenceAccumulator.accumulate(gdm, model1);
+				}
 
 				// note the model should always consist of one resource only
 				return resources;
@@ -681,9 +816,16 @@ public class InternalGDMGraphService implements InternalModelService {
 
 				throw DMPPersistenceError.wrap(e);
 			}
+		}).doOnCompleted(() -> {
+
+			if (!isSchemaAnInBuiltSchema) {
+
+				// add the remaining inferred attribute paths to the schema, before the write request will be finished
+				DMPPersistenceError.wrapped(schemaInferenceAccumulator::flush).call();
+			}
 		});
 
-		resourceObservable.subscribe(operator.resourceObserver());
+		resourceObservable.subscribe(operator.resourceSubscriber());
 
 		final Observable<Response> responseObservable = operator.responseObservable();
 
@@ -707,17 +849,19 @@ public class InternalGDMGraphService implements InternalModelService {
 		});
 	}
 
-	private DataModel optionallyEnhancedDataModel(final DataModel dataModel, final GDMModel gdmModel, final org.dswarm.graph.json.Model realModel,
-			final boolean isSchemaAnInBuildSchema)
-			throws DMPPersistenceException {
-
-		if (!isSchemaAnInBuildSchema) {
-
-			return determineSchema(dataModel, gdmModel, realModel);
-		} else {
+	/**
+	 * Flattens the given models into their record resources. The models are requested one after another from their producer, i.e., the next
+	 * model is only requested when all record resources of the previous one were requested (flatMapIterable would request all models at once
+	 * and hence would ignore the requests of the subscriber).
+	 *
+	 * @param models          the models
+	 * @param recordResources determines the record resources of a model
+	 * @param <M>             the type of the models
+	 * @return the record resources of the models
+	 */
+	static <M> Observable<Resource> toRecordResources(final Observable<M> models, final Func1<M, Iterable<Resource>> recordResources) {
 
-			return dataModel;
-		}
+		return models.concatMap(model -> Observable.from(recordResources.call(model)));
 	}
 
 	private org.dswarm.graph.json.Model getRealModel(final GDMModel gdmModel) throws DMPPersistenceException {
@@ -732,27 +876,6 @@ public class InternalGDMGraphService implements InternalModelService {
 		return realModel;
 	}
 
-	private DataModel determineSchema(final DataModel dataModel, final GDMModel gdmModel, final org.dswarm.graph.json.Model realModel)
-			throws DMPPersistenceException {
-
-		LOG.debug("determine schema for data model '{}'", dataModel.getUuid());
-
-		final DataModel updatedDataModel = addRecordClass(dataModel, gdmModel.getRecordClassURI());
-
-		if (updatedDataModel == null) {
-
-			throw new DMPPersistenceException("Could not get the actual data model to use");
-		}
-
-		determineRecordResources(gdmModel, realModel, updatedDataModel);
-
-		determineAttributePaths(updatedDataModel, gdmModel);
-
-		LOG.debug("determined schema for data model '{}'", dataModel.getUuid());
-
-		return updatedDataModel;
-	}
-
 	private void determineRecordResources(final GDMModel gdmModel, final org.dswarm.graph.json.Model realModel, final DataModel finalDataModel) {
 
 		LOG.debug("determine record resources for data model '{}'", finalDataModel.getUuid());
@@ -846,34 +969,6 @@ public class InternalGDMGraphService implements InternalModelService {
 		return dataModel;
 	}
 
-	private DataModel determineAttributePaths(final DataModel dataModel, final Model model)
-			throws DMPPersistenceException {
-
-		LOG.debug("determine attribute paths of schema for data model '{}'", dataModel.getUuid());
-
-		final Schema schema = dataModel.getSchema();
-
-		if (schema != null) {
-
-			// note: model.getAttributePaths is expensive atm
-			final Set<AttributePathHelper> attributePathHelpers = model.getAttributePaths();
-
-			final boolean result = SchemaUtils.addAttributePaths(schema, attributePathHelpers,
-					attributePathService, schemaAttributePathInstanceService, attributeService);
-
-			if (!result) {
-
-				return dataModel;
-			}
-
-			LOG.debug("determined attribute paths of schema for data model '{}'", dataModel.getUuid());
-
-			return updateDataModel(dataModel);
-		}
-
-		return dataModel;
-	}
-
 	private DataModel updateDataModel(final DataModel dataModel) throws DMPPersistenceException {
 		final ProxyDataModel proxyUpdatedDataModel = dataModelService.get().updateObjectTransactional(dataModel);
 
@@ -1033,13 +1128,16 @@ public class InternalGDMGraphService implements InternalModelService {
 
 		final Entity<String> entity = Entity.entity(requestJSONString, MediaType.APPLICATION_JSON);
 
-		final Observable<Response> post = rx.post(entity).subscribeOn(Schedulers.from(EXECUTOR_SERVICE));
+		final Observable<Response> post = rx.post(entity).subscribeOn(graphDBRequestScheduler);
 
 		final PublishSubject<Response> asyncPost = PublishSubject.create();
 		asyncPost.subscribe(response -> {
 
 			//TODO maybe check status code here, i.e., should be 200
 
+			// release the pooled connection
+			response.close();
+
 			LOG.debug("deprecated data model '{}' in data hub", dataModelURI);
 		}, throwable -> {
 
@@ -1075,13 +1173,16 @@ public class InternalGDMGraphService implements InternalModelService {
 
 		final Entity<String> entity = Entity.entity(requestJSONString, MediaType.APPLICATION_JSON);
 
-		final Observable<Response> post = rx.post(entity).subscribeOn(Schedulers.from(EXECUTOR_SERVICE));
+		final Observable<Response> post = rx.post(entity).subscribeOn(graphDBRequestScheduler);
 
 		final PublishSubject<Response> asyncPost = PublishSubject.create();
 		asyncPost.subscribe(response -> {
 
 			//TODO maybe check status code here, i.e., should be 200
 
+			// release the pooled connection
+			response.close();
+
 			LOG.debug("deprecated some records in data model '{}' in data hub", dataModelURI);
 		}, throwable -> {
 
@@ -1117,62 +1218,91 @@ public class InternalGDMGraphService implements InternalModelService {
 
 		final RxWebTarget<RxObservableInvoker> rxWebTarget = RxObservable.from(target);
 
-		final PipedInputStream input = new PipedInputStream();
-		final PipedOutputStream output = new PipedOutputStream();
+		final GDMWritePipeline writePipeline;
 
 		try {
 
-			final Observer<Resource> modelConsumer = EXECUTOR_SERVICE.submit(() -> {
-
-				output.connect(input);
+			writePipeline = new GDMWritePipeline(writeBufferSize, writeChunkSize, writeFlushRecords, registry);
+		} catch (final IOException e) {
 
-				return getBytes(output); // turns a Runnable into a Callable which handles exceptions
-			}).get();
+			throw new DMPPersistenceException("couldn't serialize model", e);
+		}
 
-			final MultiPart multiPart = new MultiPart();
-			final BufferedInputStream entity1 = new BufferedInputStream(input, CHUNK_SIZE);
+		final MultiPart multiPart = new MultiPart();
 
-			multiPart
-					.bodyPart(metadata, MediaType.APPLICATION_JSON_TYPE)
-					.bodyPart(entity1, MediaType.APPLICATION_OCTET_STREAM_TYPE);
+		multiPart
+				.bodyPart(metadata, MediaType.APPLICATION_JSON_TYPE)
+				.bodyPart(writePipeline.getInput(), MediaType.APPLICATION_OCTET_STREAM_TYPE);
 
-			// POST the request
-			final RxObservableInvoker rx = rxWebTarget.request(MULTIPART_MIXED).header(HttpHeaders.TRANSFER_ENCODING, CHUNKED_TRANSFER_ENCODING).rx();
+		// POST the request
+		final RxObservableInvoker rx = rxWebTarget.request(MULTIPART_MIXED).rx();
 
-			final Entity<MultiPart> entity = Entity.entity(multiPart, MULTIPART_MIXED);
+		final Entity<MultiPart> entity = Entity.entity(multiPart, MULTIPART_MIXED);
 
-			final Observable<Response> post = rx.post(entity).subscribeOn(Schedulers.from(EXECUTOR_SERVICE));
+		final Observable<Response> post = rx.post(entity).subscribeOn(graphDBRequestScheduler).onErrorResumeNext(throwable -> {
 
-			final PublishSubject<Response> asyncPost = PublishSubject.create();
-			asyncPost.subscribe(response -> {
+			final Optional<Throwable> optionalFailure = writePipeline.getFailure();
 
-				try {
+			if (optionalFailure.isPresent()) {
 
-					closeResource(multiPart, WRITE_GDM);
-					closeResource(output, WRITE_GDM);
-					closeResource(input, WRITE_GDM);
+				// the request was aborted, because the production of the records failed
+				return Observable.error(new DMPPersistenceException("Couldn't store GDM data into database. Couldn't produce GDM data.",
+						optionalFailure.get()));
+			}
 
-					//TODO maybe check status code here, i.e., should be 200
+			return Observable.error(new DMPPersistenceException(
+					String.format("Couldn't store GDM data into database. Received status code '%s' from database endpoint.",
+							throwable.getMessage()), throwable));
+		}).flatMap(response -> {
 
-					LOG.debug("wrote GDM data for data model '{}' into data hub", dataModelUri);
-				} catch (final DMPPersistenceException e) {
+			if (response.getStatus() != 200) {
 
-					throw DMPPersistenceError.wrap(e);
-				}
-			}, throwable -> {
+				closeFailedResponse(response, WRITE_GDM);
 
-				throw DMPPersistenceError.wrap(new DMPPersistenceException(
+				return Observable.error(new DMPPersistenceException(
 						String.format("Couldn't store GDM data into database. Received status code '%s' from database endpoint.",
-								throwable.getMessage())));
-			}, () -> LOG.debug("completely wrote GDM data for data model '{}' into data hub", dataModelUri));
+								response.getStatus())));
+			}
+
+			return Observable.just(response);
+		});
+
+		final PublishSubject<Response> asyncPost = PublishSubject.create();
+		asyncPost.subscribe(response -> {
 
-			post.subscribe(asyncPost);
+			try {
 
-			return Tuple.tuple(modelConsumer, asyncPost);
-		} catch (final InterruptedException | ExecutionException e) {
+				closeResource(multiPart, WRITE_GDM);
+				closeResource(writePipeline::close, WRITE_GDM);
 
-			throw new DMPPersistenceException("couldn't store GDM data into database successfully");
-		}
+				// release the pooled connection
+				response.close();
+
+				LOG.debug("wrote GDM data for data model '{}' into data hub", dataModelUri);
+			} catch (final DMPPersistenceException e) {
+
+				throw DMPPersistenceError.wrap(e);
+			}
+		}, throwable -> {
+
+			// the error will be propagated to the subscribers of the response, i.e., it only needs to be ensured that the producer of the
+			// records doesn't wait for the request anymore
+			writePipeline.abort(throwable);
+
+			try {
+
+				closeResource(multiPart, WRITE_GDM);
+			} catch (final DMPPersistenceException e) {
+
+				LOG.debug("couldn't close the entity of the failed write request for data model '{}'", dataModelUri, e);
+			}
+
+			LOG.error("couldn't write GDM data for data model '{}' into data hub", dataModelUri, throwable);
+		}, () -> LOG.debug("completely wrote GDM data for data model '{}' into data hub", dataModelUri));
+
+		post.subscribe(asyncPost);
+
+		return Tuple.tuple(writePipeline.getResourceObserver(), asyncPost);
 	}
 
 	private JsonNode generateContentSchemaJSON(final ContentSchema contentSchema) throws DMPPersistenceException {
@@ -1270,6 +1400,8 @@ public class InternalGDMGraphService implements InternalModelService {
 
 		if (response.getStatus() != 200) {
 
+			closeFailedResponse(response, OBJECT_RETRIEVAL);
+
 			throw new DMPPersistenceException(
 					String.format("Couldn't read GDM data from database. Received status code '%s' from database endpoint.", response.getStatus()));
 		}
@@ -1278,7 +1410,12 @@ public class InternalGDMGraphService implements InternalModelService {
 
 		LOG.debug("read GDM data for data model '{}' and record class '{}' from data hub", dataModelUri, recordClassUri);
 
-		return deserializeModel(body);
+		final Tuple<Observable<Resource>, InputStream> readResult = deserializeModel(body);
+
+		// the pooled connection of the response is released, when the processing failed or was cancelled as well
+		return Tuple.tuple(readResult.v1()
+				.doOnError(throwable -> closeFailedResponse(response, OBJECT_RETRIEVAL))
+				.doOnUnsubscribe(() -> closeFailedResponse(response, OBJECT_RETRIEVAL)), readResult.v2());
 	}
 
 	private Observable<Resource> readGDMRecordFromDB(final String recordUri, final String dataModelUri) {
@@ -1313,6 +1450,9 @@ public class InternalGDMGraphService implements InternalModelService {
 		return Observable.from(responseFuture)
 				.flatMap(response -> {
 					if (response.getStatus() != 200) {
+
+						closeFailedResponse(response, RECORD_RETRIEVAL);
+
 						return Observable.error(new DMPPersistenceException(
 								String.format("Couldn't read GDM record data from database. Received status code '%s' from database endpoint.",
 										response.getStatus())));
@@ -1322,6 +1462,77 @@ public class InternalGDMGraphService implements InternalModelService {
 				.map(DMPPersistenceError.wrapped(this::deserializeResource));
 	}
 
+	/**
+	 * Retrieves the records with the given record URIs with one request to the batched record retrieval endpoint (/getrecords) of the graph
+	 * extension. The request JSON contains the record URIs as array ({@link DMPStatics#RECORDS_IDENTIFIER}) and the data model URI
+	 * ({@link DMPStatics#DATA_MODEL_URI_IDENTIFIER}). The response is expected in the same format as the response of the read endpoint
+	 * (/get), i.e., a GDM model with a resource per found record (records that couldn't be found are left out).<br/>
+	 * The response is closed when its resources are completely processed, when the processing failed, or when the retrieval was cancelled.
+	 *
+	 * @param recordUris   the record URIs
+	 * @param dataModelUri the graph URI of the data model
+	 * @return the resources of the found records
+	 */
+	private Observable<Resource> readGDMRecordsFromDB(final Collection<String> recordUris, final String dataModelUri) {
+
+		final WebTarget target = gdmTarget(GET_GDM_RECORDS_ENDPOINT);
+
+		final ObjectMapper objectMapper = DMPPersistenceUtil.getJSONObjectMapper();
+		final ObjectNode requestJson = objectMapper.createObjectNode();
+
+		requestJson.set(DMPStatics.RECORDS_IDENTIFIER, createRecordURIsArray(recordUris));
+		requestJson.put(DMPStatics.DATA_MODEL_URI_IDENTIFIER, dataModelUri);
+
+		final String requestJsonString;
+
+		try {
+
+			requestJsonString = objectMapper.writeValueAsString(requestJson);
+		} catch (final JsonProcessingException e) {
+
+			return Observable.error(new DMPPersistenceException(
+					"something went wrong, while creating the request JSON string for the read-gdm-records-from-db request",
+					e));
+		}
+
+		// POST the request
+		final Future<Response> responseFuture = target.request(MediaType.APPLICATION_JSON_TYPE)
+				.accept(MediaType.APPLICATION_JSON)
+				.async()
+				.post(Entity.entity(requestJsonString, MediaType.APPLICATION_JSON));
+
+		return Observable.from(responseFuture)
+				.flatMap(response -> {
+
+					if (response.getStatus() != 200) {
+
+						closeFailedResponse(response, RECORDS_RETRIEVAL);
+
+						if (response.getStatus() == 404) {
+
+							return Observable.error(new DMPPersistenceException(String.format(
+									"Couldn't read GDM records data from database. The graph extension doesn't provide the endpoint '%s'; "
+											+ "please set 'dswarm.db.graph.records.batch-size' to 1.", GET_GDM_RECORDS_ENDPOINT)));
+						}
+
+						return Observable.error(new DMPPersistenceException(
+								String.format("Couldn't read GDM records data from database. Received status code '%s' from database endpoint.",
+										response.getStatus())));
+					}
+
+					final InputStream body = response.readEntity(InputStream.class);
+
+					// the resources of the response are parsed one after another, i.e., the whole response body is never materialised
+					final Tuple<Observable<Resource>, InputStream> readResult = deserializeModel(body);
+					final InputStream is = readResult.v2();
+
+					return readResult.v1()
+							.doOnCompleted(DMPPersistenceError.wrapped(() -> closeResource(is, RECORDS_RETRIEVAL)))
+							.doOnError(throwable -> closeFailedResponse(response, RECORDS_RETRIEVAL))
+							.doOnUnsubscribe(() -> closeFailedResponse(response, RECORDS_RETRIEVAL));
+				});
+	}
+
 	private Observable<org.dswarm.graph.json.Model> searchGDMRecordsInDB(final String keyAttributePathString, final String searchValue,
 			final String dataModelUri,
 			final Optional<Integer> optionalAtMost)
@@ -1366,6 +1577,9 @@ public class InternalGDMGraphService implements InternalModelService {
 		return Observable.from(responseFuture)
 				.flatMap(response -> {
 					if (response.getStatus() != 200) {
+
+						closeFailedResponse(response, SEARCH_RESULT);
+
 						return Observable.error(new DMPPersistenceException(
 								String.format("Couldn't find GDM records in database. Received status code '%s' from database endpoint.",
 										response.getStatus())));
@@ -1380,7 +1594,9 @@ public class InternalGDMGraphService implements InternalModelService {
 					return searchResult.reduce(
 							new org.dswarm.graph.json.Model(),
 							org.dswarm.graph.json.Model::addResource)
-							.doOnCompleted(DMPPersistenceError.wrapped(() -> closeResource(is, SEARCH_RESULT)));
+							.doOnCompleted(DMPPersistenceError.wrapped(() -> closeResource(is, SEARCH_RESULT)))
+							.doOnError(throwable -> closeFailedResponse(response, SEARCH_RESULT))
+							.doOnUnsubscribe(() -> closeFailedResponse(response, SEARCH_RESULT));
 				});
 	}
 
@@ -1415,100 +1631,14 @@ public class InternalGDMGraphService implements InternalModelService {
 		return resource;
 	}
 
-	private Client client() {
-
-		return BUILDER.build();
-	}
-
-	private WebTarget gdmTarget() {
-
-		return client().target(graphEndpoint).path(InternalGDMGraphService.GDM_RESOURCE_IDENTIFIER);
-	}
-
-	private WebTarget maintainTarget() {
-
-		return client().target(graphEndpoint).path(InternalGDMGraphService.MAINTAIN_RESOURCE_IDENTIFIER);
-	}
-
 	private WebTarget gdmTarget(final String... path) {
 
-		WebTarget target = gdmTarget();
-
-		for (final String p : path) {
-
-			target = target.path(p);
-		}
-
-		return target;
+		return gdmClient.target(path);
 	}
 
 	private WebTarget maintainTarget(final String... path) {
 
-		WebTarget target = maintainTarget();
-
-		for (final String p : path) {
-
-			target = target.path(p);
-		}
-
-		return target;
-	}
-
-	private Observer<Resource> getBytes(final OutputStream output) throws DMPPersistenceException {
-
-		try {
-
-			final ModelBuilder modelBuilder = new ModelBuilder(output);
-
-			return new Observer<org.dswarm.graph.json.Resource>() {
-
-				//final AtomicInteger counter = new AtomicInteger(0);
-
-				@Override public void onCompleted() {
-
-					try {
-
-						//LOG.debug("in model builder onCompleted with '{}' resources", counter.get());
-
-						modelBuilder.build();
-					} catch (final IOException e) {
-
-						throw new RuntimeException(e);
-					}
-				}
-
-				@Override public void onError(final Throwable e) {
-
-					// TODO
-					LOG.error("couldn't serialize GDM model", e);
-				}
-
-				@Override public void onNext(final Resource resource) {
-
-					try {
-
-						//						LOG.debug("add resource number '{}' with '{}' to output stream", counter.incrementAndGet(), resource.getUri());
-						//
-						//						if(counter.get() == 1) {
-						//
-						//							LOG.debug("added first resource to output stream '{}'", resource.getUri());
-						//						}
-						//
-						//						System.out.println("resource in model builder = " + objectMapperProvider.get().writeValueAsString(resource));
-
-						modelBuilder.addResource(resource);
-						output.flush();
-					} catch (final IOException e) {
-
-						throw new RuntimeException(e);
-					}
-				}
-			};
-
-		} catch (final RuntimeException | IOException e) {
-
-			throw new DMPPersistenceException("couldn't serialize model", e);
-		}
+		return maintainClient.target(path);
 	}
 
 	private String getMetadata(final String dataModelUri, final Optional<ContentSchema> optionalContentSchema,
@@ -1551,6 +1681,24 @@ public class InternalGDMGraphService implements InternalModelService {
 		}
 	}
 
+	/**
+	 * Closes the response of a request whose processing failed or was cancelled (closing an already closed response has no effect). A
+	 * failure while closing is only logged, i.e., it doesn't hide the original error.
+	 *
+	 * @param response the response of the request
+	 * @param type     the type of the request
+	 */
+	private static void closeFailedResponse(final Response response, final String type) {
+
+		try {
+
+			response.close();
+		} catch (final ProcessingException e) {
+
+			LOG.debug("couldn't close the response of the {}", type, e);
+		}
+	}
+
 	private static void closeResource(final Closeable closeable, final String type) throws DMPPersistenceException {
 
 		if (closeable != null) {
@@ -1567,7 +1715,7 @@ public class InternalGDMGraphService implements InternalModelService {
 
 	private class GDMWriteRequestOperator implements Observable.Operator<GDMModel, GDMModel> {
 
-		private final DataModel         dataModel;
+		private final SchemaInferenceAccumulator schemaInferenceAccumulator;
 		private final boolean           isSchemaAnInBuiltSchema;
 		private final String            dataModelURI;
 		private final Optional<Boolean> optionalDeprecateMissingRecords;
@@ -1575,18 +1723,36 @@ public class InternalGDMGraphService implements InternalModelService {
 
 		private final AsyncSubject<Response>   responseAsyncSubject   = AsyncSubject.create();
 		private final PublishSubject<Resource> resourcePublishSubject = PublishSubject.create();
+		private final AtomicBoolean            writeRequestStarted    = new AtomicBoolean();
 
-		private GDMWriteRequestOperator(final DataModel dataModel, final boolean isSchemaAnInBuiltSchema, final String dataModelURI,
-				final Optional<Boolean> optionalDeprecateMissingRecords, final boolean enableVersioning) {
-			this.dataModel = dataModel;
+		private GDMWriteRequestOperator(final SchemaInferenceAccumulator schemaInferenceAccumulator, final boolean isSchemaAnInBuiltSchema,
+				final String dataModelURI, final Optional<Boolean> optionalDeprecateMissingRecords, final boolean enableVersioning) {
+			this.schemaInferenceAccumulator = schemaInferenceAccumulator;
 			this.isSchemaAnInBuiltSchema = isSchemaAnInBuiltSchema;
 			this.dataModelURI = dataModelURI;
 			this.optionalDeprecateMissingRecords = optionalDeprecateMissingRecords;
 			this.enableVersioning = enableVersioning;
 		}
 
-		Observer<Resource> resourceObserver() {
-			return resourcePublishSubject;
+		/**
+		 * Returns a subscriber for the record resources of the write request. The resources are requested from their producer in batches
+		 * (see "dswarm.db.graph.write.flush-records"), i.e., the next batch is only requested when the previous one was handed over to the write
+		 * request (which waits, if the write buffer is full).
+		 *
+		 * @return a subscriber for the record resources of the write request
+		 */
+		Subscriber<Resource> resourceSubscriber() {
+			return new BatchRequestSubscriber<>(Observers.create(resourcePublishSubject::onNext, e -> {
+
+				// aborts the write request (if there is one)
+				resourcePublishSubject.onError(e);
+
+				if (!writeRequestStarted.get()) {
+
+					// there is no write request that could report the error
+					responseAsyncSubject.onError(e);
+				}
+			}, resourcePublishSubject::onCompleted), writeFlushRecords);
 		}
 
 		Observable<Response> responseObservable() {
@@ -1597,7 +1763,8 @@ public class InternalGDMGraphService implements InternalModelService {
 
 			final AtomicBoolean seenFirstModel = new AtomicBoolean();
 
-			return new Subscriber<GDMModel>() {
+			// propagates the requests of the downstream subscriber to the producer of the models
+			return new Subscriber<GDMModel>(subscriber) {
 
 				@Override public void onCompleted() {
 					subscriber.onCompleted();
@@ -1614,8 +1781,17 @@ public class InternalGDMGraphService implements InternalModelService {
 
 						try {
 
-							final org.dswarm.graph.json.Model realModel = getRealModel(gdm);
-							final DataModel finalDataModel = optionallyEnhancedDataModel(dataModel, gdm, realModel, isSchemaAnInBuiltSchema);
+							// the record class is required for the metadata of the write request, the attribute paths are inferred afterwards
+							final DataModel finalDataModel;
+
+							if (!isSchemaAnInBuiltSchema) {
+
+								finalDataModel = schemaInferenceAccumulator.addRecordClass(gdm);
+							} else {
+
+								finalDataModel = schemaInferenceAccumulator.getDataModel();
+							}
+
 							final Optional<ContentSchema> optionalContentSchema = Optional
 									.fromNullable(finalDataModel.getSchema().getContentSchema());
 							final Optional<String> optionalRecordClassUri = Optional
@@ -1631,6 +1807,8 @@ public class InternalGDMGraphService implements InternalModelService {
 
 							final Observable<Response> responseObservable = observerObservableTuple.v2();
 							responseObservable.subscribe(responseAsyncSubject);
+
+							writeRequestStarted.set(true);
 						} catch (final DMPPersistenceException e) {
 
 							throw DMPPersistenceError.wrap(e);
@@ -1643,4 +1821,128 @@ public class InternalGDMGraphService implements InternalModelService {
 		}
 
 	}
+
+	/**
+	 * Infers the schema of the data model of one ingest (write request), i.e., it collects the attribute paths of all records and adds the new
+	 * ones in bulk to the schema, i.e., only every n records (see "dswarm.db.graph.schema-inference.flush-interval") and at the end of the
+	 * ingest. Hence, the data model will only be updated once per flush instead of once per record.
+	 */
+	private class SchemaInferenceAccumulator {
+
+		private final DataModel dataModel;
+
+		/**
+		 * The attribute paths that are not part of the schema yet.
+		 */
+		private final Set<AttributePathHelper> pendingAttributePaths = new LinkedHashSet<>();
+
+		private long recordsSinceLastFlush;
+
+		private SchemaInferenceAccumulator(final DataModel dataModel) {
+
+			this.dataModel = dataModel;
+		}
+
+		synchronized DataModel getDataModel() {
+
+			return dataModel;
+		}
+
+		/**
+		 * Adds the record class of the given model to the schema of the data model, if the schema doesn't have one yet.
+		 *
+		 * @param gdmModel a record
+		 * @return the data model
+		 * @throws DMPPersistenceException
+		 */
+		synchronized DataModel addRecordClass(final GDMModel gdmModel) throws DMPPersistenceException {
+
+			final Schema schema = dataModel.getSchema();
+
+			// note: an existing record class won't be replaced by SchemaUtils#addRecordClass, so there is nothing to update then
+			if (schema != null && schema.getRecordClass() == null) {
+
+				if (InternalGDMGraphService.this.addRecordClass(dataModel, gdmModel.getRecordClassURI()) == null) {
+
+					throw new DMPPersistenceException("Could not get the actual data model to use");
+				}
+			}
+
+			return dataModel;
+		}
+
+		/**
+		 * Determines the record resources and the attribute paths of the given record. Attribute paths that are not part of the schema yet will
+		 * be added to the schema at the next flush.
+		 *
+		 * @param gdmModel  a record
+		 * @param realModel the GDM of the record
+		 * @throws DMPPersistenceException
+		 */
+		synchronized void accumulate(final GDMModel gdmModel, final org.dswarm.graph.json.Model realModel) throws DMPPersistenceException {
+
+			addRecordClass(gdmModel);
+			determineRecordResources(gdmModel, realModel, dataModel);
+
+			final Schema schema = dataModel.getSchema();
+
+			if (schema == null) {
+
+				return;
+			}
+
+			// note: model.getAttributePaths is expensive atm
+			final Set<AttributePathHelper> attributePathHelpers = gdmModel.getAttributePaths();
+
+			if (attributePathHelpers != null) {
+
+				for (final AttributePathHelper attributePathHelper : attributePathHelpers) {
+
+					if (!pendingAttributePaths.contains(attributePathHelper)
+							&& schema.getAttributePathByURIPath(attributePathHelper.toString()) == null) {
+
+						pendingAttributePaths.add(attributePathHelper);
+					}
+				}
+			}
+
+			recordsSinceLastFlush++;
+
+			if (recordsSinceLastFlush >= schemaInferenceFlushInterval) {
+
+				flush();
+			}
+		}
+
+		/**
+		 * Adds the pending attribute paths to the schema and updates the data model (only if there are pending attribute paths).
+		 *
+		 * @throws DMPPersistenceException
+		 */
+		synchronized void flush() throws DMPPersistenceException {
+
+			recordsSinceLastFlush = 0;
+
+			final Schema schema = dataModel.getSchema();
+
+			if (schema == null || pendingAttributePaths.isEmpty()) {
+
+				return;
+			}
+
+			LOG.debug("add '{}' inferred attribute paths to schema for data model '{}'", pendingAttributePaths.size(), dataModel.getUuid());
+
+			final boolean result = SchemaUtils.addAttributePaths(schema, pendingAttributePaths, attributePathService,
+					schemaAttributePathInstanceService, attributeService);
+
+			pendingAttributePaths.clear();
+
+			if (result) {
+
+				updateDataModel(dataModel);
+
+				LOG.debug("added inferred attribute paths to schema for data model '{}'", dataModel.getUuid());
+			}
+		}
+	}
 }
@@ -0,0 +1,246 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.service.internal.graph;
+
+import java.io.OutputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.ConnectionConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.entity.ContentLengthStrategy;
+import org.apache.http.impl.conn.DefaultManagedHttpClientConnection;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.io.ChunkedOutputStream;
+import org.apache.http.io.SessionOutputBuffer;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.media.multipart.MultiPartFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A long-lived HTTP client for one resource (e.g. gdm or maintain) of the graph database endpoint. All requests of this client share a bounded
+ * pool of keep-alive connections, i.e., connections are reused instead of being established per request.<br/>
+ * The pool usage (leased, available, pending connections) and the time requests had to wait for a pooled connection are reported to the given
+ * metric registry.<br/>
+ * Note: the chunk size of chunked request entities is a property of the pooled connections, i.e., it applies to all requests of this client.
+ */
+class PooledGraphDBClient implements AutoCloseable {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PooledGraphDBClient.class);
+
+	private static final String CHUNKED = "CHUNKED";
+
+	private final String                             resourceIdentifier;
+	private final PoolingHttpClientConnectionManager connectionManager;
+	private final Client                             client;
+	private final WebTarget                          baseTarget;
+
+	/**
+	 * Creates a new pooled client for the given resource of the graph database endpoint.
+	 *
+	 * @param graphEndpoint          the endpoint to access the graph database
+	 * @param resourceIdentifier     the resource of the graph database endpoint, e.g. 'gdm'
+	 * @param maxConnections         the maximum number of pooled connections
+	 * @param keepAliveInMillis      the time to live of a pooled connection
+	 * @param poolTimeoutInMillis    the maximum time to wait for a pooled connection
+	 * @param requestTimeoutInMillis the connect and read timeout of a request
+	 * @param chunkSize              the chunk size of chunked request entities (of all requests of this client)
+	 * @param registry               the metric registry for the pool metrics
+	 */
+	PooledGraphDBClient(final String graphEndpoint, final String resourceIdentifier, final int maxConnections, final long keepAliveInMillis,
+			final long poolTimeoutInMillis, final int requestTimeoutInMillis, final int chunkSize, final MetricRegistry registry) {
+
+		this.resourceIdentifier = resourceIdentifier;
+
+		final Timer waitTimer = registry.timer(name(InternalGDMGraphService.class, resourceIdentifier, "pool", "wait"));
+
+		connectionManager = new InstrumentedConnectionManager(keepAliveInMillis, chunkSize, waitTimer);
+		connectionManager.setMaxTotal(maxConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnections);
+
+		registerGauge(registry, "leased", () -> connectionManager.getTotalStats().getLeased());
+		registerGauge(registry, "available", () -> connectionManager.getTotalStats().getAvailable());
+		registerGauge(registry, "pending", () -> connectionManager.getTotalStats().getPending());
+		registerGauge(registry, "max", () -> connectionManager.getTotalStats().getMax());
+
+		final RequestConfig requestConfig = RequestConfig.custom()
+				.setConnectionRequestTimeout((int) Math.min(poolTimeoutInMillis, Integer.MAX_VALUE))
+				.build();
+
+		final ClientConfig clientConfig = new ClientConfig()
+				.register(MultiPartFeature.class)
+				.property(ClientProperties.CHUNKED_ENCODING_SIZE, chunkSize)
+				.property(ClientProperties.REQUEST_ENTITY_PROCESSING, CHUNKED)
+				.property(ClientProperties.OUTBOUND_CONTENT_LENGTH_BUFFER, chunkSize)
+				.property(ClientProperties.CONNECT_TIMEOUT, requestTimeoutInMillis)
+				.property(ClientProperties.READ_TIMEOUT, requestTimeoutInMillis)
+				.property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager)
+				.property(ApacheClientProperties.REQUEST_CONFIG, requestConfig)
+				.connectorProvider(new ApacheConnectorProvider());
+
+		client = ClientBuilder.newClient(clientConfig);
+		baseTarget = client.target(graphEndpoint).path(resourceIdentifier);
+
+		LOG.debug("created pooled client for '{}' resource at graph endpoint '{}' with at most '{}' connections", resourceIdentifier, graphEndpoint,
+				maxConnections);
+	}
+
+	/**
+	 * Returns a web target for the given path below the resource of this client. Web targets are lightweight and share the connection pool
+	 * of this client.
+	 *
+	 * @param path the path segments below the resource
+	 * @return a web target for the given path
+	 */
+	WebTarget target(final String... path) {
+
+		WebTarget target = baseTarget;
+
+		for (final String p : path) {
+
+			target = target.path(p);
+		}
+
+		return target;
+	}
+
+	@Override
+	public void close() {
+
+		LOG.debug("close pooled client for '{}' resource at graph endpoint", resourceIdentifier);
+
+		client.close();
+		connectionManager.shutdown();
+	}
+
+	private void registerGauge(final MetricRegistry registry, final String gaugeName, final Gauge<Integer> gauge) {
+
+		final String metricName = name(InternalGDMGraphService.class, resourceIdentifier, "pool", gaugeName);
+
+		// a (re-)created client replaces the gauges of its predecessor
+		registry.remove(metricName);
+		registry.register(metricName, gauge);
+	}
+
+	/**
+	 * A pooling connection manager that measures the time requests spend waiting for a connection lease. Its connections write chunked request
+	 * entities in chunks of the given size (note: Jersey's Apache connector only applies the configured chunk size to the connection managers
+	 * that it creates itself).
+	 */
+	private static final class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+		private final Timer waitTimer;
+
+		private InstrumentedConnectionManager(final long keepAliveInMillis, final int chunkSize, final Timer waitTimer) {
+
+			super(RegistryBuilder.<ConnectionSocketFactory>create()
+					.register("http", PlainConnectionSocketFactory.getSocketFactory())
+					.register("https", SSLConnectionSocketFactory.getSocketFactory())
+					.build(), new ChunkedConnectionFactory(chunkSize), null, null, keepAliveInMillis, TimeUnit.MILLISECONDS);
+
+			this.waitTimer = waitTimer;
+		}
+
+		@Override
+		public ConnectionRequest requestConnection(final HttpRoute route, final Object state) {
+
+			final ConnectionRequest connectionRequest = super.requestConnection(route, state);
+
+			return new ConnectionRequest() {
+
+				@Override
+				public HttpClientConnection get(final long timeout, final TimeUnit tunit)
+						throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+
+					final Timer.Context context = waitTimer.time();
+
+					try {
+
+						return connectionRequest.get(timeout, tunit);
+					} finally {
+
+						context.stop();
+					}
+				}
+
+				@Override
+				public boolean cancel() {
+
+					return connectionRequest.cancel();
+				}
+			};
+		}
+	}
+
+	/**
+	 * Creates connections that write chunked request entities in chunks of the given size.
+	 */
+	private static final class ChunkedConnectionFactory extends ManagedHttpClientConnectionFactory {
+
+		private static final AtomicLong COUNTER = new AtomicLong();
+
+		private final int chunkSize;
+
+		private ChunkedConnectionFactory(final int chunkSize) {
+
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public ManagedHttpClientConnection create(final HttpRoute route, final ConnectionConfig config) {
+
+			final ConnectionConfig connectionConfig = config != null ? config : ConnectionConfig.DEFAULT;
+
+			return new DefaultManagedHttpClientConnection("http-outgoing-" + COUNTER.getAndIncrement(), connectionConfig.getBufferSize()) {
+
+				@Override
+				protected OutputStream createOutputStream(final long len, final SessionOutputBuffer outbuffer) {
+
+					if (len == ContentLengthStrategy.CHUNKED) {
+
+						return new ChunkedOutputStream(chunkSize, outbuffer);
+					}
+
+					return super.createOutputStream(len, outbuffer);
+				}
+			};
+		}
+	}
+}
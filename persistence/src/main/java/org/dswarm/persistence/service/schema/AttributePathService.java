@@ -15,13 +15,20 @@
  */
 package org.dswarm.persistence.service.schema;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.NoResultException;
 import javax.persistence.NonUniqueResultException;
 import javax.persistence.TypedQuery;
 
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.persist.Transactional;
@@ -71,6 +78,61 @@ public class AttributePathService extends BasicJPAService<ProxyAttributePath, At
 		return createObject(tempAttributePath);
 	}
 
+	/**
+	 * Creates attribute paths for all given ordered lists of attributes that don't exist in the database yet and retrieves the existing
+	 * ones, i.e., the bulk variant of {@link #createOrGetObjectTransactional(List)}. The existing attribute paths are retrieved with one
+	 * query (per {@link #IN_QUERY_CHUNK_SIZE} attribute paths) and the new attribute paths are written in one transaction, i.e., in JDBC
+	 * batches.
+	 *
+	 * @param attributePaths ordered lists of attributes
+	 * @return the persisted or matched attribute paths by their serialised JSON objects (in the order of the given attribute paths)
+	 * @throws DMPPersistenceException
+	 */
+	@Transactional(rollbackOn = DMPPersistenceException.class)
+	public Map<String, AttributePath> createOrGetObjectsTransactional(final Collection<? extends List<Attribute>> attributePaths)
+			throws DMPPersistenceException {
+
+		final EntityManager entityManager = acquire();
+
+		final Map<String, AttributePath> tempAttributePaths = Maps.newLinkedHashMap();
+
+		for (final List<Attribute> attributes : attributePaths) {
+
+			final AttributePath tempAttributePath = new AttributePath(attributes);
+			final String attributePathJSONString = tempAttributePath.getAttributePathAsJSONObjectString();
+
+			if (attributePathJSONString != null) {
+
+				tempAttributePaths.putIfAbsent(attributePathJSONString, tempAttributePath);
+			}
+		}
+
+		final Map<String, AttributePath> existingAttributePaths = getObjects(tempAttributePaths.keySet(), entityManager);
+		final Map<String, AttributePath> resultAttributePaths = Maps.newLinkedHashMap();
+
+		for (final Map.Entry<String, AttributePath> tempAttributePathEntry : tempAttributePaths.entrySet()) {
+
+			final String attributePathJSONString = tempAttributePathEntry.getKey();
+			final AttributePath existingAttributePath = existingAttributePaths.get(AttributePath.toAttributePathHash(attributePathJSONString));
+
+			if (existingAttributePath != null) {
+
+				resultAttributePaths.put(attributePathJSONString, existingAttributePath);
+
+				continue;
+			}
+
+			final AttributePath tempAttributePath = mergeAttributesIntoEntityManager(tempAttributePathEntry.getValue(), entityManager);
+
+			resultAttributePaths.put(attributePathJSONString, persistObject(tempAttributePath, entityManager));
+		}
+
+		AttributePathService.LOG.debug("retrieved '{}' existing and created '{}' new attribute paths", existingAttributePaths.size(),
+				resultAttributePaths.size() - existingAttributePaths.size());
+
+		return resultAttributePaths;
+	}
+
 	/**
 	 * Tries to retrieve an attribute path object for the given ordered list of attribute paths
 	 * TODO: check, when this method was called in the code
@@ -159,10 +221,21 @@ public class AttributePathService extends BasicJPAService<ProxyAttributePath, At
 
 	private AttributePath getObject(final String attributePath, final EntityManager entityManager) throws DMPPersistenceException {
 
+		if (attributePath == null) {
+
+			return null;
+		}
+
+		final AttributePath cachedObject = getObjectByNaturalKey(AttributePath.toAttributePathHash(attributePath), entityManager);
+
+		if (cachedObject != null) {
+
+			return cachedObject;
+		}
+
 		final AttributePath object;
 
-		final String queryString = "SELECT o FROM " + className + " o WHERE o.attributePath = '" + attributePath + "'";
-		final TypedQuery<AttributePath> query = entityManager.createQuery(queryString, clasz);
+		final TypedQuery<AttributePath> query = createFindByAttributePathQuery(attributePath, entityManager);
 
 		try {
 
@@ -178,9 +251,69 @@ public class AttributePathService extends BasicJPAService<ProxyAttributePath, At
 					+ attributePath + "'");
 		}
 
+		cacheNaturalKey(object);
+
 		return object;
 	}
 
+	/**
+	 * Retrieves the existing attribute paths for the given serialised JSON objects.
+	 *
+	 * @param attributePathJSONStrings serialised JSON objects of attribute paths
+	 * @param entityManager            the entity manager
+	 * @return the existing attribute paths by their digests
+	 */
+	private Map<String, AttributePath> getObjects(final Collection<String> attributePathJSONStrings, final EntityManager entityManager) {
+
+		final Map<String, AttributePath> objects = Maps.newHashMapWithExpectedSize(attributePathJSONStrings.size());
+		final List<String> uncachedAttributePathHashes = Lists.newArrayList();
+
+		for (final String attributePathJSONString : attributePathJSONStrings) {
+
+			final String attributePathHash = AttributePath.toAttributePathHash(attributePathJSONString);
+			final AttributePath cachedObject = getObjectByNaturalKey(attributePathHash, entityManager);
+
+			if (cachedObject != null) {
+
+				objects.put(attributePathHash, cachedObject);
+			} else {
+
+				uncachedAttributePathHashes.add(attributePathHash);
+			}
+		}
+
+		for (final List<String> attributePathHashesChunk : Iterables.partition(uncachedAttributePathHashes, IN_QUERY_CHUNK_SIZE)) {
+
+			final List<AttributePath> chunkObjects = entityManager.createNamedQuery(AttributePath.FIND_BY_ATTRIBUTE_PATH_HASHES, AttributePath.class)
+					.setParameter(AttributePath.ATTRIBUTE_PATH_HASHES_PARAMETER, attributePathHashesChunk)
+					.getResultList();
+
+			for (final AttributePath object : chunkObjects) {
+
+				objects.put(object.getAttributePathHash(), object);
+				cacheNaturalKey(object);
+			}
+		}
+
+		return objects;
+	}
+
+	/**
+	 * {@inheritDoc}<br/>
+	 * Attribute paths can be retrieved by the digest of their serialised JSON object.
+	 */
+	@Override
+	protected boolean hasNaturalKey() {
+
+		return true;
+	}
+
+	@Override
+	protected Optional<String> determineNaturalKey(final AttributePath object) {
+
+		return Optional.ofNullable(object.getAttributePathHash());
+	}
+
 	private AttributePath mergeAttributesIntoEntityManager(final AttributePath object, final EntityManager entityManager) {
 
 		final String uuid;
@@ -227,13 +360,22 @@ public class AttributePathService extends BasicJPAService<ProxyAttributePath, At
 
 	public List<AttributePath> getAttributePathsWithPath(final String attributePathJSONArrayString) {
 
-		final EntityManager entityManager = acquire(true);
+		if (attributePathJSONArrayString == null) {
 
-		final String queryString = "SELECT o FROM " + AttributePath.class.getName() + " o WHERE o.attributePath = '" + attributePathJSONArrayString + "'";
+			return Collections.emptyList();
+		}
 
-		final TypedQuery<AttributePath> query = entityManager.createQuery(queryString, AttributePath.class);
+		final EntityManager entityManager = acquire(true);
+
+		final TypedQuery<AttributePath> query = createFindByAttributePathQuery(attributePathJSONArrayString, entityManager);
 
 		return query.getResultList();
 	}
 
+	private static TypedQuery<AttributePath> createFindByAttributePathQuery(final String attributePath, final EntityManager entityManager) {
+
+		return entityManager.createNamedQuery(AttributePath.FIND_BY_ATTRIBUTE_PATH_HASH, AttributePath.class)
+				.setParameter(AttributePath.ATTRIBUTE_PATH_HASH_PARAMETER, AttributePath.toAttributePathHash(attributePath));
+	}
+
 }
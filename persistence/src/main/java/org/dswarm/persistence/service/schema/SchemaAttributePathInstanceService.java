@@ -15,12 +15,18 @@
  */
 package org.dswarm.persistence.service.schema;
 
+import java.util.Collection;
+import java.util.List;
+
 import javax.persistence.EntityManager;
 
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
+import com.google.inject.persist.Transactional;
 
 import org.dswarm.persistence.DMPPersistenceException;
+import org.dswarm.persistence.model.proxy.RetrievalType;
 import org.dswarm.persistence.model.schema.AttributePath;
 import org.dswarm.persistence.model.schema.Schema;
 import org.dswarm.persistence.model.schema.SchemaAttributePathInstance;
@@ -82,4 +88,40 @@ public class SchemaAttributePathInstanceService extends
 		final ProxySchemaAttributePathInstance psapi = createObjectTransactional( sapi );
 		return psapi;
 	}
+
+	/**
+	 * Creates and persists schema attribute path instances for all given attribute paths in one transaction, i.e., the bulk variant of
+	 * {@link #createObjectTransactional(AttributePath)}.
+	 *
+	 * @param attributePaths the attribute paths of the new schema attribute path instances
+	 * @return the persisted schema attribute path instances (in the order of the given attribute paths)
+	 * @throws DMPPersistenceException
+	 */
+	@Transactional(rollbackOn = DMPPersistenceException.class)
+	public List<SchemaAttributePathInstance> createObjectsTransactional(final Collection<AttributePath> attributePaths)
+			throws DMPPersistenceException {
+
+		final EntityManager entityManager = acquire(false);
+
+		final List<SchemaAttributePathInstance> sapis = Lists.newArrayListWithCapacity(attributePaths.size());
+
+		for (final AttributePath attributePath : attributePaths) {
+
+			final String uuid = UUIDService.getUUID(SchemaAttributePathInstance.class.getSimpleName());
+
+			final SchemaAttributePathInstance sapi = new SchemaAttributePathInstance(uuid);
+			sapi.setAttributePath(attributePath);
+
+			final ProxySchemaAttributePathInstance psapi = createObjectInternal(sapi, entityManager, "transactional");
+
+			if (psapi == null || psapi.getType() != RetrievalType.CREATED || psapi.getObject() == null) {
+
+				throw new DMPPersistenceException("couldn't create schema attribute path instance");
+			}
+
+			sapis.add(psapi.getObject());
+		}
+
+		return sapis;
+	}
 }
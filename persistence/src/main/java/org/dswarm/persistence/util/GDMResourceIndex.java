@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import org.dswarm.graph.json.Node;
+import org.dswarm.graph.json.Resource;
+import org.dswarm.graph.json.ResourceNode;
+import org.dswarm.graph.json.Statement;
+
+/**
+ * An index of the statements of a (record) resource by their subjects. The index is built in a single pass over the statements of the
+ * resource, i.e., looking up the statements of a subject is a constant time operation (instead of a full scan of all statements of the
+ * resource as in {@link GDMUtil#getResourceStatement(Node, Resource)}).<br/>
+ * note: the index reflects the statements of the resource at creation time, i.e., it should only be utilised for read-only operations, e.g.,
+ * the conversion of a record to JSON
+ */
+public final class GDMResourceIndex {
+
+	private final Map<String, ResourceNode>   resourceNodes          = Maps.newHashMap();
+	private final Map<String, Set<Statement>> statementsBySubjectURI = Maps.newHashMap();
+	private final Map<Long, Set<Statement>>   statementsBySubjectId  = Maps.newHashMap();
+
+	/**
+	 * Creates a new statement index for the given resource.
+	 *
+	 * @param resource the resource whose statements should be indexed
+	 */
+	public GDMResourceIndex(final Resource resource) {
+
+		final Collection<Statement> statements = resource.getStatements();
+
+		if (statements == null) {
+
+			return;
+		}
+
+		for (final Statement statement : statements) {
+
+			final Node subjectNode = statement.getSubject();
+
+			if (subjectNode == null) {
+
+				// this should never be the case
+
+				continue;
+			}
+
+			if (subjectNode instanceof ResourceNode) {
+
+				final ResourceNode subjectResourceNode = (ResourceNode) subjectNode;
+				final String subjectURI = subjectResourceNode.getUri();
+
+				if (subjectURI != null) {
+
+					resourceNodes.putIfAbsent(subjectURI, subjectResourceNode);
+					statementsBySubjectURI.computeIfAbsent(subjectURI, key -> Sets.newLinkedHashSet()).add(statement);
+				}
+			}
+
+			final Long subjectId = subjectNode.getId();
+
+			if (subjectId != null) {
+
+				statementsBySubjectId.computeIfAbsent(subjectId, key -> Sets.newLinkedHashSet()).add(statement);
+			}
+		}
+	}
+
+	/**
+	 * Gets the (first) resource node with the given resource identifier that is a subject in the indexed resource.
+	 *
+	 * @param resourceURI the resource identifier
+	 * @return the resource node or null, if no statement has a resource node with the given identifier as subject
+	 */
+	public ResourceNode getResourceNode(final String resourceURI) {
+
+		if (resourceURI == null) {
+
+			return null;
+		}
+
+		return resourceNodes.get(resourceURI);
+	}
+
+	/**
+	 * Gets all statements that have the given node as subject, i.e., resource nodes are matched by their URI and all other nodes by their
+	 * identifier.
+	 *
+	 * @param resourceNode the subject node
+	 * @return the statements (in their original order) of the given subject node or an empty set, if no statement has this node as subject
+	 */
+	public Set<Statement> getResourceStatements(final Node resourceNode) {
+
+		if (resourceNode == null) {
+
+			return Collections.emptySet();
+		}
+
+		final Set<Statement> statements;
+
+		if (resourceNode instanceof ResourceNode) {
+
+			statements = statementsBySubjectURI.get(((ResourceNode) resourceNode).getUri());
+		} else {
+
+			statements = statementsBySubjectId.get(resourceNode.getId());
+		}
+
+		if (statements == null) {
+
+			return Collections.emptySet();
+		}
+
+		return Collections.unmodifiableSet(statements);
+	}
+}
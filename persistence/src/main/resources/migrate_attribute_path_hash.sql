@@ -0,0 +1,8 @@
+-- add the (indexed) digest column to the attribute paths of an existing metadata repository, e.g., mysql -u dmp -p dmp < migrate_attribute_path_hash.sql
+-- note: the unique constraint can only be added, if the metadata repository doesn't contain duplicate attribute paths
+
+ALTER TABLE ATTRIBUTE_PATH ADD COLUMN ATTRIBUTE_PATH_HASH CHAR(64) AFTER ATTRIBUTE_PATH;
+
+UPDATE ATTRIBUTE_PATH SET ATTRIBUTE_PATH_HASH = SHA2(ATTRIBUTE_PATH, 256) WHERE ATTRIBUTE_PATH IS NOT NULL;
+
+ALTER TABLE ATTRIBUTE_PATH ADD CONSTRAINT UK_ATTRIBUTE_PATH_HASH UNIQUE (ATTRIBUTE_PATH_HASH);
@@ -60,6 +60,7 @@ SET foreign_key_checks = 0;
     create table ATTRIBUTE_PATH (
         UUID VARCHAR(160) not null,
         ATTRIBUTE_PATH BLOB,
+        ATTRIBUTE_PATH_HASH CHAR(64),
         primary key (UUID)
     ) ENGINE=InnoDB;
 
@@ -239,6 +240,9 @@ SET foreign_key_checks = 0;
     alter table ATTRIBUTE
         add constraint UK_govks6nlmh5r4fx9qexkfqqjd unique (URI);
 
+    alter table ATTRIBUTE_PATH
+        add constraint UK_ATTRIBUTE_PATH_HASH unique (ATTRIBUTE_PATH_HASH);
+
     alter table CLASS
         add constraint UK_a939ymvsn9fupg3bnearmr7mb unique (URI);
 
@@ -0,0 +1,227 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Observable;
+import rx.plugins.RxJavaPlugins;
+import rx.plugins.RxJavaSchedulersHook;
+import rx.schedulers.Schedulers;
+
+import org.dswarm.init.ExecutionScope;
+
+public class ExecutionScopePropagationTest {
+
+	private ExecutorService executorService;
+
+	@Before
+	public void prepare() throws Exception {
+
+		executorService = Executors.newSingleThreadExecutor();
+
+		// RxJava might have fixed its schedulers hook already (e.g., in a previous test)
+		resetRxJavaPlugins();
+	}
+
+	@After
+	public void cleanUp() throws Exception {
+
+		executorService.shutdownNow();
+
+		resetRxJavaPlugins();
+	}
+
+	@Test
+	public void testPropagationToNewThreadScheduler() throws Exception {
+
+		final ExecutionScope executionScope = new ExecutionScope();
+		final Provider<Object> scopedProvider = createScopedProvider(executionScope);
+
+		ExecutionScopeSchedulersHook.register(executionScope);
+		// a repeated registration for the same execution scope is fine
+		ExecutionScopeSchedulersHook.register(executionScope);
+
+		executionScope.enter();
+
+		try {
+
+			final Object scopedObject = scopedProvider.get();
+
+			final Object asyncScopedObject = Observable.defer(() -> Observable.just(scopedProvider.get()))
+					.subscribeOn(Schedulers.newThread())
+					.toBlocking()
+					.single();
+
+			Assert.assertSame(scopedObject, asyncScopedObject);
+			Assert.assertEquals(0, executionScope.getOutOfScopeProvisions());
+			Assert.assertEquals(1, executionScope.getPropagations());
+		} finally {
+
+			executionScope.leave();
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testRegistrationFailsWithAnotherHook() throws Exception {
+
+		RxJavaPlugins.getInstance().registerSchedulersHook(new RxJavaSchedulersHook() {
+
+		});
+
+		ExecutionScopeSchedulersHook.register(new ExecutionScope());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testRegistrationFailsForAnotherScope() throws Exception {
+
+		ExecutionScopeSchedulersHook.register(new ExecutionScope());
+		ExecutionScopeSchedulersHook.register(new ExecutionScope());
+	}
+
+	@Test
+	public void testPropagationToExecutor() throws Exception {
+
+		final ExecutionScope executionScope = new ExecutionScope();
+		final Provider<Object> scopedProvider = createScopedProvider(executionScope);
+
+		executionScope.enter();
+
+		try {
+
+			final Object scopedObject = scopedProvider.get();
+
+			final Object asyncScopedObject = Observable.defer(() -> Observable.just(scopedProvider.get()))
+					.subscribeOn(Schedulers.from(executionScope.wrap(executorService)))
+					.toBlocking()
+					.single();
+
+			Assert.assertSame(scopedObject, asyncScopedObject);
+			Assert.assertSame(scopedObject, executorService.submit(executionScope.wrap(scopedProvider::get)).get());
+			Assert.assertEquals(0, executionScope.getOutOfScopeProvisions());
+			Assert.assertEquals(2, executionScope.getPropagations());
+		} finally {
+
+			executionScope.leave();
+		}
+
+		// the execution scope was left at the worker thread
+		Assert.assertNotSame(executorService.submit(scopedProvider::get).get(), executorService.submit(scopedProvider::get).get());
+		Assert.assertEquals(2, executionScope.getOutOfScopeProvisions());
+	}
+
+	@Test
+	public void testNoPropagationWithoutScope() throws Exception {
+
+		final ExecutionScope executionScope = new ExecutionScope();
+		final Provider<Object> scopedProvider = createScopedProvider(executionScope);
+
+		executorService.submit(executionScope.wrap(scopedProvider::get)).get();
+
+		Assert.assertEquals(1, executionScope.getOutOfScopeProvisions());
+		Assert.assertEquals(0, executionScope.getPropagations());
+	}
+
+	@Test
+	public void testConcurrentProvisionsInScope() throws Exception {
+
+		final int threads = 4;
+
+		final ExecutionScope executionScope = new ExecutionScope();
+		final AtomicInteger counter = new AtomicInteger();
+		final CyclicBarrier barrier = new CyclicBarrier(threads);
+
+		// all threads create their object at the same time, i.e., all of them miss the object in the scope
+		final Provider<Object> scopedProvider = executionScope.scope(Key.get(Object.class), () -> {
+
+			try {
+
+				barrier.await(10, TimeUnit.SECONDS);
+			} catch (final Exception e) {
+
+				throw new IllegalStateException(e);
+			}
+
+			return "object-" + counter.incrementAndGet();
+		});
+
+		final ExecutorService concurrentExecutorService = Executors.newFixedThreadPool(threads);
+
+		executionScope.enter();
+
+		try {
+
+			final List<Future<Object>> asyncScopedObjects = new ArrayList<>();
+
+			for (int i = 0; i < threads; i++) {
+
+				asyncScopedObjects.add(concurrentExecutorService.submit(executionScope.wrap(scopedProvider::get)));
+			}
+
+			final List<Object> scopedObjects = new ArrayList<>();
+
+			for (final Future<Object> asyncScopedObject : asyncScopedObjects) {
+
+				scopedObjects.add(asyncScopedObject.get());
+			}
+
+			// every thread created an object, but only the first stored one is utilised
+			Assert.assertEquals(threads, counter.get());
+
+			final Object scopedObject = scopedProvider.get();
+
+			for (final Object asyncScopedObject : scopedObjects) {
+
+				Assert.assertSame(scopedObject, asyncScopedObject);
+			}
+
+			Assert.assertEquals(0, executionScope.getOutOfScopeProvisions());
+		} finally {
+
+			executionScope.leave();
+
+			concurrentExecutorService.shutdownNow();
+		}
+	}
+
+	private static void resetRxJavaPlugins() throws Exception {
+
+		final Method reset = RxJavaPlugins.class.getDeclaredMethod("reset");
+		reset.setAccessible(true);
+		reset.invoke(RxJavaPlugins.getInstance());
+	}
+
+	private static Provider<Object> createScopedProvider(final ExecutionScope executionScope) {
+
+		final AtomicInteger counter = new AtomicInteger();
+
+		return executionScope.scope(Key.get(Object.class), () -> "object-" + counter.incrementAndGet());
+	}
+}
@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.model.internal.helper.test;
+
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import org.hamcrest.CoreMatchers;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.dswarm.init.util.DMPStatics;
+import org.dswarm.persistence.SlowTests;
+import org.dswarm.persistence.model.internal.helper.AttributePathHelper;
+import org.dswarm.persistence.model.internal.helper.AttributePathHelperHelper;
+import org.dswarm.persistence.model.internal.helper.InternedAttributePath;
+
+public class AttributePathHelperTest {
+
+	private static final String	A1	= "http://example.com/a1";
+	private static final String	A2	= "http://example.com/a2";
+	private static final String	A3	= "http://example.com/a3";
+
+	@Test
+	public void testInterning() throws Exception {
+
+		final InternedAttributePath path1 = InternedAttributePath.of(Lists.newArrayList(A1, A2));
+		final InternedAttributePath path2 = InternedAttributePath.root().child(A1).child(A2);
+
+		Assert.assertThat(path1, CoreMatchers.sameInstance(path2));
+		Assert.assertThat(path1.getId(), CoreMatchers.equalTo(path2.getId()));
+		Assert.assertThat(path1.length(), CoreMatchers.equalTo(2));
+		Assert.assertThat(path1.getParent(), CoreMatchers.sameInstance(InternedAttributePath.root().child(A1)));
+		Assert.assertThat(path1.getAttributes(), CoreMatchers.equalTo(Lists.newLinkedList(Lists.newArrayList(A1, A2))));
+		Assert.assertThat(path1.toString(), CoreMatchers.equalTo(A1 + DMPStatics.ATTRIBUTE_DELIMITER + A2));
+		Assert.assertThat(InternedAttributePath.root().toString(), CoreMatchers.equalTo(""));
+	}
+
+	@Test
+	public void testEquality() throws Exception {
+
+		final AttributePathHelper helper1 = new AttributePathHelper();
+		helper1.addAttribute(A1);
+		helper1.addAttribute(A2);
+
+		final AttributePathHelper helper2 = new AttributePathHelper();
+		helper2.setAttributePath(Lists.newLinkedList(Lists.newArrayList(A1, A2)));
+
+		Assert.assertThat(helper1, CoreMatchers.equalTo(helper2));
+		Assert.assertThat(helper1.hashCode(), CoreMatchers.equalTo(helper2.hashCode()));
+		Assert.assertThat(helper1.toString(), CoreMatchers.equalTo(helper2.toString()));
+		Assert.assertThat(helper1.length(), CoreMatchers.equalTo(2));
+
+		final AttributePathHelper helper3 = new AttributePathHelper();
+		helper3.addAttribute(A1);
+
+		Assert.assertThat(helper1, CoreMatchers.not(CoreMatchers.equalTo(helper3)));
+	}
+
+	@Test
+	public void testAttributePathIsACopy() throws Exception {
+
+		final AttributePathHelper helper = new AttributePathHelper();
+		helper.addAttribute(A1);
+
+		final LinkedList<String> attributePath = helper.getAttributePath();
+		attributePath.add(A2);
+
+		Assert.assertThat(helper.length(), CoreMatchers.equalTo(1));
+		Assert.assertThat(helper.toString(), CoreMatchers.equalTo(A1));
+	}
+
+	@Test
+	public void testAttributeList() throws Exception {
+
+		final AttributePathHelper helper = new AttributePathHelper();
+		helper.addAttribute(A1);
+		helper.addAttribute(A2);
+
+		Assert.assertThat(helper.getAttributeList(), CoreMatchers.equalTo(Lists.newArrayList(A1, A2)));
+		Assert.assertThat(helper.getAttributeList(), CoreMatchers.sameInstance(helper.getAttributeList()));
+		Assert.assertThat(helper.getLastAttribute(), CoreMatchers.equalTo(A2));
+		Assert.assertThat(new AttributePathHelper().getLastAttribute(), CoreMatchers.nullValue());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testAttributeListIsUnmodifiable() throws Exception {
+
+		final AttributePathHelper helper = new AttributePathHelper();
+		helper.addAttribute(A1);
+
+		helper.getAttributeList().add(A2);
+	}
+
+	/**
+	 * Relies on the garbage collector to clear the weakly referenced children of the trie, which System.gc() doesn't guarantee. Hence, this
+	 * test is only executed with the long-running tests (see {@link SlowTests}).
+	 */
+	@Test
+	@Category(SlowTests.class)
+	public void testUnreferencedAttributePathsAreEvicted() throws Exception {
+
+		final InternedAttributePath parent = InternedAttributePath.root().child(A1);
+		final WeakReference<InternedAttributePath> child = new WeakReference<>(parent.child(A3 + "/unreferenced"));
+
+		for (int i = 0; i < 50 && child.get() != null; i++) {
+
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		Assert.assertThat(child.get(), CoreMatchers.nullValue());
+		Assert.assertThat(parent, CoreMatchers.sameInstance(InternedAttributePath.root().child(A1)));
+	}
+
+	@Test
+	public void testAddAttributePath() throws Exception {
+
+		final Set<AttributePathHelper> attributePaths = new LinkedHashSet<>();
+
+		final AttributePathHelper root = AttributePathHelperHelper.addAttributePath(A1, attributePaths, new AttributePathHelper());
+		final AttributePathHelper child = AttributePathHelperHelper.addAttributePath(A2, attributePaths, root);
+		AttributePathHelperHelper.addAttributePath(A2, attributePaths, root);
+
+		Assert.assertThat(attributePaths.size(), CoreMatchers.equalTo(2));
+
+		final AttributePathHelper childPath = new AttributePathHelper();
+		childPath.addAttribute(A2);
+		childPath.addAttribute(A3);
+
+		final AttributePathHelper compound = AttributePathHelperHelper.addAttributePath(childPath, attributePaths, root);
+
+		Assert.assertThat(compound.getAttributePath(), CoreMatchers.equalTo(Lists.newLinkedList(Lists.newArrayList(A1, A2, A3))));
+		Assert.assertThat(compound.getInternedAttributePath().getParent(), CoreMatchers.sameInstance(child.getInternedAttributePath()));
+		Assert.assertThat(attributePaths.size(), CoreMatchers.equalTo(3));
+	}
+}
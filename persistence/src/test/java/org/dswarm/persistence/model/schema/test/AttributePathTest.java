@@ -67,6 +67,25 @@ public class AttributePathTest extends GuicedTest {
 		AttributePathTest.LOG.debug("attribute path json: " + json);
 	}
 
+	/**
+	 * The digest of an attribute path needs to be equal to the one of the (pre-computed) internal schema attribute paths, i.e., MySQL's
+	 * SHA2(ATTRIBUTE_PATH, 256).
+	 */
+	@Test
+	public void attributePathHashTest() {
+
+		final Attribute attribute = new Attribute("Attribute-ad0264ac-39ca-41b2-8268-6bebb4364f54", "http://purl.org/dc/terms/title");
+
+		final AttributePath attributePath = new AttributePath("AttributePath-0036b640-7a87-45a4-80b3-438a6025bf29");
+		attributePath.addAttribute(attribute);
+
+		final String attributePathJSONString = attributePath.getAttributePathAsJSONObjectString();
+
+		Assert.assertEquals("[\"Attribute-ad0264ac-39ca-41b2-8268-6bebb4364f54\"]", attributePathJSONString);
+		Assert.assertEquals("the attribute path hashes are not equal", "d2e021d97f9dfcfc6225ae6077d5371c36bf7eb208364ce6a10d55f81cf31f31",
+				AttributePath.toAttributePathHash(attributePathJSONString));
+	}
+
 	private Attribute createAttribute(final String id, final String name) {
 
 		final String uuid = UUIDService.getUUID(Attribute.class.getSimpleName());
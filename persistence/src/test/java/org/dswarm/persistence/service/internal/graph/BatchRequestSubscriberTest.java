@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.service.internal.graph;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Observable;
+import rx.observers.TestSubscriber;
+
+import org.dswarm.graph.json.Resource;
+
+/**
+ * Checks that the producer of the records of a write request is throttled by the (batched) requests of the write request, i.e., it isn't
+ * asked for all records at once.
+ */
+public class BatchRequestSubscriberTest {
+
+	private static final String RECORD_BASE_URI = "http://data.slub-dresden.de/records/";
+
+	private static final int RECORDS    = 1000;
+	private static final int BATCH_SIZE = 10;
+
+	@Test
+	public void testProducerIsThrottledByRequests() throws Exception {
+
+		// the amounts of records that were requested from the producer
+		final List<Long> requests = new CopyOnWriteArrayList<>();
+
+		final Observable<Integer> records = Observable.range(0, RECORDS).doOnRequest(requests::add);
+
+		final Observable<Resource> resources = InternalGDMGraphService.toRecordResources(records,
+				record -> Collections.singletonList(new Resource(RECORD_BASE_URI + record)));
+
+		final TestSubscriber<Resource> writeRequest = new TestSubscriber<>();
+
+		resources.subscribe(new BatchRequestSubscriber<>(writeRequest, BATCH_SIZE));
+
+		writeRequest.assertNoErrors();
+		writeRequest.assertTerminalEvent();
+		Assert.assertEquals(RECORDS, writeRequest.getOnNextEvents().size());
+
+		for (int i = 0; i < RECORDS; i++) {
+
+			Assert.assertEquals(RECORD_BASE_URI + i, writeRequest.getOnNextEvents().get(i).getUri());
+		}
+
+		Assert.assertFalse("there should be some requests", requests.isEmpty());
+
+		for (final Long request : requests) {
+
+			Assert.assertTrue(String.format("the producer shouldn't be asked for more records than a batch (but was asked for %d)", request),
+					request <= BATCH_SIZE);
+		}
+	}
+}
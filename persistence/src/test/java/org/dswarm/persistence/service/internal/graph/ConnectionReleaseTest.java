@@ -0,0 +1,233 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.service.internal.graph;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.inject.Provider;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Observable;
+
+import org.dswarm.graph.json.LiteralNode;
+import org.dswarm.graph.json.Predicate;
+import org.dswarm.graph.json.Resource;
+import org.dswarm.graph.json.ResourceNode;
+import org.dswarm.init.ExecutionScope;
+import org.dswarm.persistence.DMPPersistenceException;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+import org.dswarm.persistence.model.resource.DataModel;
+import org.dswarm.persistence.model.resource.proxy.ProxyDataModel;
+import org.dswarm.persistence.model.schema.Clasz;
+import org.dswarm.persistence.model.schema.Schema;
+import org.dswarm.persistence.model.schema.utils.SchemaUtils;
+import org.dswarm.persistence.service.resource.DataModelService;
+import org.dswarm.persistence.util.DMPPersistenceUtil;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Checks that the pooled connections of failed graph database requests are released, i.e., a series of error responses doesn't exhaust the
+ * connection pool. The graph database endpoint is a stub that always answers with status code 500.
+ */
+public class ConnectionReleaseTest {
+
+	private static final int REQUESTS = 5;
+
+	private static final long POOL_TIMEOUT = 2000;
+
+	private static final String DATA_MODEL_UUID = "DataModel-1";
+
+	private static final String RECORD_CLASS_URI = "http://www.ddb.de/professionell/mabxml/mabxml-1.xsd#datensatzType";
+
+	private static final String ERROR_BODY = "{\"error\":\"something went wrong\"}";
+
+	private final AtomicInteger receivedRequests = new AtomicInteger();
+
+	private HttpServer server;
+
+	private MetricRegistry registry;
+
+	@Before
+	public void startServer() throws IOException {
+
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+
+			receivedRequests.incrementAndGet();
+
+			try (final InputStream requestBody = exchange.getRequestBody()) {
+
+				while (requestBody.read() != -1) {
+
+					// read the request completely
+				}
+			}
+
+			final byte[] body = ERROR_BODY.getBytes(StandardCharsets.UTF_8);
+
+			exchange.sendResponseHeaders(500, body.length);
+
+			try (final OutputStream responseBody = exchange.getResponseBody()) {
+
+				responseBody.write(body);
+			}
+		});
+		server.start();
+
+		registry = new MetricRegistry();
+	}
+
+	@After
+	public void stopServer() {
+
+		server.stop(0);
+	}
+
+	@Test
+	public void testRecordRetrievalReleasesConnections() throws Exception {
+
+		final InternalGDMGraphService service = createService(1);
+
+		for (int i = 0; i < REQUESTS; i++) {
+
+			assertFailsWithStatusCode(service.getRecord("http://data.slub-dresden.de/records/" + i, DATA_MODEL_UUID));
+		}
+
+		assertConnectionsReleased();
+	}
+
+	@Test
+	public void testBatchedRecordsRetrievalReleasesConnections() throws Exception {
+
+		final InternalGDMGraphService service = createService(2);
+
+		for (int i = 0; i < REQUESTS; i++) {
+
+			assertFailsWithStatusCode(service.getRecords(
+					new HashSet<>(Arrays.asList("http://data.slub-dresden.de/records/a" + i, "http://data.slub-dresden.de/records/b" + i)),
+					DATA_MODEL_UUID));
+		}
+
+		assertConnectionsReleased();
+	}
+
+	@Test
+	public void testWriteFailsOnErrorStatusAndReleasesConnections() throws Exception {
+
+		// a data model with an inbuilt schema, i.e., there is no schema inference that would require the other persistence services
+		final Schema schema = new Schema(SchemaUtils.MABXML_SCHEMA_UUID);
+		schema.setRecordClass(new Clasz("Clasz-1", RECORD_CLASS_URI));
+
+		final DataModel dataModel = new DataModel(DATA_MODEL_UUID);
+		dataModel.setSchema(schema);
+
+		final DataModelService dataModelService = new DataModelService(null) {
+
+			@Override
+			public DataModel getObject(final String id) {
+
+				return dataModel;
+			}
+
+			@Override
+			public ProxyDataModel updateObjectTransactional(final DataModel object) {
+
+				return new ProxyDataModel(object);
+			}
+		};
+
+		final InternalGDMGraphService service = createService(() -> dataModelService, 1);
+
+		for (int i = 0; i < REQUESTS; i++) {
+
+			assertFailsWithStatusCode(service.createObject(DATA_MODEL_UUID, Observable.just(record("http://data.slub-dresden.de/records/" + i))));
+		}
+
+		assertConnectionsReleased();
+	}
+
+	/**
+	 * Creates a graph service with one pooled connection, i.e., a leaked connection would let the next request wait for the pool timeout.
+	 */
+	private InternalGDMGraphService createService(final long recordsBatchSize) {
+
+		return createService(null, recordsBatchSize);
+	}
+
+	private InternalGDMGraphService createService(final Provider<DataModelService> dataModelService, final long recordsBatchSize) {
+
+		final String graphEndpoint = String.format("http://localhost:%d/graph", server.getAddress().getPort());
+
+		return new InternalGDMGraphService(dataModelService, null, null, null, null, null, graphEndpoint, 1, 60000, POOL_TIMEOUT, recordsBatchSize,
+				1, 1000, 65536, 8192, 100, registry, DMPPersistenceUtil::getJSONObjectMapper, new ExecutionScope());
+	}
+
+	private static GDMModel record(final String recordURI) {
+
+		final Resource resource = new Resource(recordURI);
+		resource.addStatement(new ResourceNode(recordURI), new Predicate("http://purl.org/dc/terms/title"), new LiteralNode("a title"));
+
+		final org.dswarm.graph.json.Model model = new org.dswarm.graph.json.Model();
+		model.addResource(resource);
+
+		return new GDMModel(model, recordURI, RECORD_CLASS_URI);
+	}
+
+	private void assertFailsWithStatusCode(final Observable<?> request) {
+
+		try {
+
+			request.toBlocking().lastOrDefault(null);
+
+			Assert.fail("the request should fail");
+		} catch (final RuntimeException e) {
+
+			Throwable cause = e;
+
+			while (cause != null && !(cause instanceof DMPPersistenceException)) {
+
+				cause = cause.getCause();
+			}
+
+			Assert.assertNotNull(String.format("the request should fail with a persistence exception, but failed with '%s'", e), cause);
+			Assert.assertTrue(String.format("the request should fail because of the status code, but failed with '%s'", cause.getMessage()),
+					cause.getMessage().contains("'500'"));
+		}
+	}
+
+	private void assertConnectionsReleased() {
+
+		Assert.assertEquals(REQUESTS, receivedRequests.get());
+
+		final Gauge<?> leased = registry.getGauges().get(name(InternalGDMGraphService.class, "gdm", "pool", "leased"));
+
+		Assert.assertNotNull(leased);
+		Assert.assertEquals(0, leased.getValue());
+	}
+}
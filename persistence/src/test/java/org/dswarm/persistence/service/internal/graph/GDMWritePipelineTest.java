@@ -0,0 +1,176 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.service.internal.graph;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.io.ByteStreams;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Observer;
+
+import org.dswarm.graph.json.LiteralNode;
+import org.dswarm.graph.json.Predicate;
+import org.dswarm.graph.json.Resource;
+import org.dswarm.graph.json.ResourceNode;
+import org.dswarm.graph.json.stream.ModelParser;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+public class GDMWritePipelineTest {
+
+	private static final String RECORD_BASE_URI = "http://data.slub-dresden.de/records/";
+
+	private static final int RECORDS = 100;
+
+	private ExecutorService executorService;
+
+	@Before
+	public void prepare() {
+
+		executorService = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void cleanUp() {
+
+		executorService.shutdownNow();
+	}
+
+	@Test
+	public void testWriteWithSmallBuffer() throws Exception {
+
+		final MetricRegistry registry = new MetricRegistry();
+
+		// the buffer is much smaller than the serialised records, i.e., the serialisation needs to wait for the consumer
+		final GDMWritePipeline writePipeline = new GDMWritePipeline(64, 16, 10, registry);
+
+		final Future<List<Resource>> consumer = executorService
+				.submit(() -> new ModelParser(writePipeline.getInput()).parse().toList().toBlocking().single());
+
+		final Observer<Resource> resourceObserver = writePipeline.getResourceObserver();
+		final Predicate predicate = new Predicate("http://purl.org/dc/terms/title");
+
+		for (int i = 0; i < RECORDS; i++) {
+
+			final Resource resource = new Resource(RECORD_BASE_URI + i);
+			resource.addStatement(new ResourceNode(resource.getUri()), predicate, new LiteralNode("title " + i), 1L);
+
+			resourceObserver.onNext(resource);
+		}
+
+		resourceObserver.onCompleted();
+
+		final List<Resource> resources = consumer.get(30, TimeUnit.SECONDS);
+
+		writePipeline.close();
+
+		Assert.assertEquals(RECORDS, resources.size());
+
+		for (int i = 0; i < RECORDS; i++) {
+
+			Assert.assertEquals(RECORD_BASE_URI + i, resources.get(i).getUri());
+		}
+
+		Assert.assertEquals(RECORDS, registry.meter(name(InternalGDMGraphService.class, "write", "records")).getCount());
+		Assert.assertTrue(registry.meter(name(InternalGDMGraphService.class, "write", "bytes")).getCount() > 0);
+		Assert.assertTrue(registry.timer(name(InternalGDMGraphService.class, "write", "stall")).getCount() > 0);
+	}
+
+	@Test(timeout = 30000)
+	public void testAbortOnProducerError() throws Exception {
+
+		final GDMWritePipeline writePipeline = new GDMWritePipeline(64, 16, 10, new MetricRegistry());
+
+		final Future<byte[]> consumer = executorService.submit(() -> ByteStreams.toByteArray(writePipeline.getInput()));
+
+		final Observer<Resource> resourceObserver = writePipeline.getResourceObserver();
+		final Predicate predicate = new Predicate("http://purl.org/dc/terms/title");
+
+		for (int i = 0; i < 3; i++) {
+
+			final Resource resource = new Resource(RECORD_BASE_URI + i);
+			resource.addStatement(new ResourceNode(resource.getUri()), predicate, new LiteralNode("title " + i), 1L);
+
+			resourceObserver.onNext(resource);
+		}
+
+		final IllegalStateException producerError = new IllegalStateException("couldn't produce the next record");
+
+		resourceObserver.onError(producerError);
+
+		try {
+
+			consumer.get();
+
+			Assert.fail("the request entity shouldn't be finished regularly");
+		} catch (final ExecutionException e) {
+
+			Assert.assertTrue(e.getCause() instanceof IOException);
+			Assert.assertSame(producerError, e.getCause().getCause());
+		}
+
+		Assert.assertSame(producerError, writePipeline.getFailure().get());
+	}
+
+	@Test(timeout = 30000)
+	public void testAbortOnRequestError() throws Exception {
+
+		// the request never reads the entity, i.e., the serialisation will wait for free buffer space
+		final GDMWritePipeline writePipeline = new GDMWritePipeline(64, 16, 10, new MetricRegistry());
+
+		final IOException requestError = new IOException("couldn't connect to the database");
+
+		executorService.submit(() -> {
+
+			Thread.sleep(200);
+
+			writePipeline.abort(requestError);
+
+			return null;
+		});
+
+		final Observer<Resource> resourceObserver = writePipeline.getResourceObserver();
+		final Predicate predicate = new Predicate("http://purl.org/dc/terms/title");
+
+		try {
+
+			for (int i = 0; i < RECORDS; i++) {
+
+				final Resource resource = new Resource(RECORD_BASE_URI + i);
+				resource.addStatement(new ResourceNode(resource.getUri()), predicate, new LiteralNode("title " + i), 1L);
+
+				resourceObserver.onNext(resource);
+			}
+
+			Assert.fail("the serialisation shouldn't succeed without a request");
+		} catch (final RuntimeException e) {
+
+			// the serialisation doesn't wait forever
+		}
+
+		Assert.assertSame(requestError, writePipeline.getFailure().get());
+	}
+}
@@ -0,0 +1,296 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.service.internal.graph;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.codahale.metrics.MetricRegistry;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Observable;
+
+import org.dswarm.graph.json.LiteralNode;
+import org.dswarm.graph.json.Predicate;
+import org.dswarm.graph.json.Resource;
+import org.dswarm.graph.json.ResourceNode;
+import org.dswarm.init.ExecutionScope;
+import org.dswarm.persistence.model.internal.Model;
+import org.dswarm.persistence.model.internal.gdm.GDMModel;
+import org.dswarm.persistence.model.resource.DataModel;
+import org.dswarm.persistence.model.resource.proxy.ProxyDataModel;
+import org.dswarm.persistence.model.schema.Attribute;
+import org.dswarm.persistence.model.schema.AttributePath;
+import org.dswarm.persistence.model.schema.Clasz;
+import org.dswarm.persistence.model.schema.Schema;
+import org.dswarm.persistence.model.schema.SchemaAttributePathInstance;
+import org.dswarm.persistence.model.schema.utils.SchemaUtils;
+import org.dswarm.persistence.service.resource.DataModelService;
+import org.dswarm.persistence.service.schema.AttributePathService;
+import org.dswarm.persistence.service.schema.AttributeService;
+import org.dswarm.persistence.service.schema.SchemaAttributePathInstanceService;
+import org.dswarm.persistence.util.DMPPersistenceUtil;
+
+/**
+ * Checks the schema inference of an ingest (see InternalGDMGraphService.SchemaInferenceAccumulator), i.e., the inferred attribute paths are
+ * added in bulk to the schema at every flush interval and at the end of the ingest. The persistence services are replaced by in-memory ones
+ * and the graph database endpoint is a stub that accepts every write request.
+ */
+public class SchemaInferenceAccumulatorTest {
+
+	private static final String DATA_MODEL_UUID = "DataModel-1";
+
+	private static final String RECORD_CLASS_URI = "http://purl.org/ontology/bibo/Document";
+
+	private static final String TITLE     = "http://purl.org/dc/terms/title";
+	private static final String CREATOR   = "http://purl.org/dc/terms/creator";
+	private static final String SUBJECT   = "http://purl.org/dc/terms/subject";
+	private static final String PUBLISHER = "http://purl.org/dc/terms/publisher";
+
+	/**
+	 * the attributes of the records of the ingest, i.e., with a flush interval of 2 records, the new attribute paths are title and creator
+	 * (1st flush), subject (2nd flush) and publisher (end of the ingest)
+	 */
+	private static final List<List<String>> RECORDS = Arrays.asList(
+			Arrays.asList(TITLE),
+			Arrays.asList(TITLE, CREATOR),
+			Arrays.asList(TITLE, SUBJECT),
+			Arrays.asList(CREATOR, SUBJECT),
+			Arrays.asList(TITLE, PUBLISHER));
+
+	private static final long FLUSH_INTERVAL = 2;
+
+	/**
+	 * the attribute paths per bulk request to the attribute path service
+	 */
+	private final List<List<String>> addedAttributePaths = new ArrayList<>();
+
+	private final AtomicInteger dataModelUpdates = new AtomicInteger();
+
+	private HttpServer server;
+
+	@Before
+	public void startServer() throws IOException {
+
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+
+			try (final InputStream requestBody = exchange.getRequestBody()) {
+
+				while (requestBody.read() != -1) {
+
+					// read the request completely
+				}
+			}
+
+			exchange.sendResponseHeaders(200, -1);
+			exchange.close();
+		});
+		server.start();
+	}
+
+	@After
+	public void stopServer() {
+
+		server.stop(0);
+	}
+
+	@Test
+	public void testEveryAttributePathIsAddedOnce() throws Exception {
+
+		final Schema schema = new Schema("Schema-1");
+		schema.setRecordClass(new Clasz("Clasz-1", RECORD_CLASS_URI));
+
+		ingest(schema);
+
+		Assert.assertEquals("the attribute paths should be added at every flush interval and at the end of the ingest",
+				Arrays.asList(Arrays.asList(TITLE, CREATOR), Arrays.asList(SUBJECT), Arrays.asList(PUBLISHER)), addedAttributePaths);
+
+		final Set<String> schemaAttributePaths = schema.getUniqueAttributePaths().stream()
+				.map(sapi -> sapi.getAttributePath().toAttributePath())
+				.collect(Collectors.toSet());
+
+		Assert.assertEquals(new HashSet<>(Arrays.asList(TITLE, CREATOR, SUBJECT, PUBLISHER)), schemaAttributePaths);
+
+		// the data model is updated once before the ingest and once per flush
+		Assert.assertEquals(1 + addedAttributePaths.size(), dataModelUpdates.get());
+	}
+
+	@Test
+	public void testInbuiltSchemaIsUntouched() throws Exception {
+
+		final Schema schema = new Schema(SchemaUtils.MABXML_SCHEMA_UUID);
+		schema.setRecordClass(new Clasz("Clasz-1", RECORD_CLASS_URI));
+
+		ingest(schema);
+
+		Assert.assertTrue(addedAttributePaths.isEmpty());
+		Assert.assertTrue(schema.getUniqueAttributePaths() == null || schema.getUniqueAttributePaths().isEmpty());
+
+		// the data model is only updated before the ingest
+		Assert.assertEquals(1, dataModelUpdates.get());
+	}
+
+	private void ingest(final Schema schema) throws Exception {
+
+		final DataModel dataModel = new DataModel(DATA_MODEL_UUID);
+		dataModel.setSchema(schema);
+
+		final String graphEndpoint = String.format("http://localhost:%d/graph", server.getAddress().getPort());
+
+		final InternalGDMGraphService service = new InternalGDMGraphService(() -> new InMemoryDataModelService(dataModel), null, null,
+				InMemorySchemaAttributePathInstanceService::new, InMemoryAttributePathService::new, InMemoryAttributeService::new, graphEndpoint,
+				1, 60000, 2000, 1, 1, FLUSH_INTERVAL, 65536, 8192, 1, new MetricRegistry(), DMPPersistenceUtil::getJSONObjectMapper,
+				new ExecutionScope());
+
+		final List<Model> records = new ArrayList<>();
+
+		for (int i = 0; i < RECORDS.size(); i++) {
+
+			records.add(record("http://data.slub-dresden.de/records/" + i, RECORDS.get(i)));
+		}
+
+		service.createObject(DATA_MODEL_UUID, Observable.from(records)).toBlocking().lastOrDefault(null);
+	}
+
+	private static GDMModel record(final String recordURI, final List<String> attributes) {
+
+		final Resource resource = new Resource(recordURI);
+		final ResourceNode recordNode = new ResourceNode(recordURI);
+
+		for (final String attribute : attributes) {
+
+			resource.addStatement(recordNode, new Predicate(attribute), new LiteralNode("value of " + attribute));
+		}
+
+		final org.dswarm.graph.json.Model model = new org.dswarm.graph.json.Model();
+		model.addResource(resource);
+
+		return new GDMModel(model, recordURI, RECORD_CLASS_URI);
+	}
+
+	private final class InMemoryDataModelService extends DataModelService {
+
+		private final DataModel dataModel;
+
+		private InMemoryDataModelService(final DataModel dataModel) {
+
+			super(null);
+
+			this.dataModel = dataModel;
+		}
+
+		@Override
+		public DataModel getObject(final String id) {
+
+			return dataModel;
+		}
+
+		@Override
+		public ProxyDataModel updateObjectTransactional(final DataModel object) {
+
+			dataModelUpdates.incrementAndGet();
+
+			return new ProxyDataModel(object);
+		}
+	}
+
+	private static final class InMemoryAttributeService extends AttributeService {
+
+		private InMemoryAttributeService() {
+
+			super(null);
+		}
+
+		@Override
+		public Map<String, Attribute> createOrGetObjectsTransactional(final Collection<String> uris) {
+
+			final Map<String, Attribute> attributes = new LinkedHashMap<>();
+
+			for (final String uri : uris) {
+
+				attributes.put(uri, new Attribute("Attribute-" + uri, uri));
+			}
+
+			return attributes;
+		}
+	}
+
+	private final class InMemoryAttributePathService extends AttributePathService {
+
+		private InMemoryAttributePathService() {
+
+			super(null);
+		}
+
+		@Override
+		public Map<String, AttributePath> createOrGetObjectsTransactional(final Collection<? extends List<Attribute>> attributePaths) {
+
+			final Map<String, AttributePath> result = new LinkedHashMap<>();
+			final List<String> attributePathStrings = new ArrayList<>();
+
+			for (final List<Attribute> attributes : attributePaths) {
+
+				final AttributePath attributePath = new AttributePath(attributes);
+
+				result.put(attributePath.toAttributePath(), attributePath);
+				attributePathStrings.add(attributePath.toAttributePath());
+			}
+
+			addedAttributePaths.add(attributePathStrings);
+
+			return result;
+		}
+	}
+
+	private static final class InMemorySchemaAttributePathInstanceService extends SchemaAttributePathInstanceService {
+
+		private InMemorySchemaAttributePathInstanceService() {
+
+			super(null);
+		}
+
+		@Override
+		public List<SchemaAttributePathInstance> createObjectsTransactional(final Collection<AttributePath> attributePaths) {
+
+			final List<SchemaAttributePathInstance> sapis = new ArrayList<>();
+
+			for (final AttributePath attributePath : attributePaths) {
+
+				final SchemaAttributePathInstance sapi = new SchemaAttributePathInstance("SchemaAttributePathInstance-" + attributePath.toAttributePath());
+				sapi.setAttributePath(attributePath);
+
+				sapis.add(sapi);
+			}
+
+			return sapis;
+		}
+	}
+}
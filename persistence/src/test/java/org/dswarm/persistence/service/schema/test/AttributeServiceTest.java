@@ -15,6 +15,9 @@
  */
 package org.dswarm.persistence.service.schema.test;
 
+import java.util.Map;
+
+import com.google.common.collect.Lists;
 import org.junit.Assert;
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -61,6 +64,39 @@ public class AttributeServiceTest extends AdvancedJPAServiceTest<ProxyAttribute,
 		Assert.assertEquals("the attribute uris should be equal", attribute1.getName(), attribute2.getName());
 	}
 
+	@Test
+	public void testAttributeWithQuoteInUri() throws Exception {
+
+		final String uri = "http://example.com/terms#o'reilly";
+
+		final ProxyAttribute proxyAttribute1 = jpaService.createOrGetObjectTransactional(uri);
+		final ProxyAttribute proxyAttribute2 = jpaService.createOrGetObjectTransactional(uri);
+
+		Assert.assertNotNull("the attribute shouldn't be null", proxyAttribute1.getObject());
+		Assert.assertEquals("the attribute uri should be equal", uri, proxyAttribute1.getObject().getUri());
+		Assert.assertEquals("the existing attribute should be retrieved", proxyAttribute1.getObject().getUuid(), proxyAttribute2.getObject().getUuid());
+	}
+
+	@Test
+	public void testCreateOrGetAttributes() throws Exception {
+
+		final String existingUri = "http://example.com/terms#existing";
+		final String newUri = "http://example.com/terms#new";
+
+		final ProxyAttribute proxyExistingAttribute = jpaService.createOrGetObjectTransactional(existingUri);
+
+		final Map<String, Attribute> attributes = jpaService.createOrGetObjectsTransactional(Lists.newArrayList(newUri, existingUri, newUri));
+
+		Assert.assertEquals("there should be one attribute per distinct uri", 2, attributes.size());
+		Assert.assertEquals("the attributes should be in the order of the given uris", Lists.newArrayList(newUri, existingUri),
+				Lists.newArrayList(attributes.keySet()));
+		Assert.assertEquals("the existing attribute should be retrieved", proxyExistingAttribute.getObject().getUuid(),
+				attributes.get(existingUri).getUuid());
+		Assert.assertEquals("the attribute uri should be equal", newUri, attributes.get(newUri).getUri());
+		Assert.assertEquals("the new attribute should be retrieved afterwards", attributes.get(newUri).getUuid(),
+				jpaService.createOrGetObjectTransactional(newUri).getObject().getUuid());
+	}
+
 	private Attribute createAndUpdateAttribute() throws Exception {
 
 		final Attribute attribute = astUtils.createObject(AttributeServiceTestUtils.DCTERMS_TITLE, "title");
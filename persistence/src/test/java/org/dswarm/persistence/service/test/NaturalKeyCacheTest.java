@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.service.test;
+
+import java.util.Optional;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.dswarm.persistence.model.schema.Attribute;
+import org.dswarm.persistence.service.NaturalKeyCache;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+public class NaturalKeyCacheTest {
+
+	private static final String URI = "http://purl.org/dc/terms/title";
+
+	private static final String UUID = "Attribute-1";
+
+	@Test
+	public void testPutAndInvalidate() {
+
+		final NaturalKeyCache naturalKeyCache = new NaturalKeyCache(Attribute.class, 10, new MetricRegistry());
+
+		Assert.assertEquals(Optional.empty(), naturalKeyCache.getIdentifier(URI));
+
+		naturalKeyCache.put(URI, UUID);
+
+		Assert.assertEquals(Optional.of(UUID), naturalKeyCache.getIdentifier(URI));
+
+		naturalKeyCache.invalidate(URI);
+
+		Assert.assertEquals(Optional.empty(), naturalKeyCache.getIdentifier(URI));
+	}
+
+	@Test
+	public void testStatistics() {
+
+		final MetricRegistry registry = new MetricRegistry();
+		final NaturalKeyCache naturalKeyCache = new NaturalKeyCache(Attribute.class, 1, registry);
+
+		naturalKeyCache.getIdentifier(URI);
+		naturalKeyCache.put(URI, UUID);
+		naturalKeyCache.getIdentifier(URI);
+		naturalKeyCache.put("http://purl.org/dc/terms/creator", "Attribute-2");
+
+		Assert.assertEquals(1L, getGaugeValue(registry, "hits"));
+		Assert.assertEquals(1L, getGaugeValue(registry, "misses"));
+		Assert.assertEquals(0.5, getGaugeValue(registry, "hit-rate"));
+		Assert.assertEquals(1L, getGaugeValue(registry, "evictions"));
+		Assert.assertEquals(1L, getGaugeValue(registry, "size"));
+	}
+
+	private static Object getGaugeValue(final MetricRegistry registry, final String gaugeName) {
+
+		final Gauge<?> gauge = registry.getGauges().get(name(Attribute.class, "natural-key-cache", gaugeName));
+
+		Assert.assertNotNull("the gauge '" + gaugeName + "' should be registered", gauge);
+
+		return gauge.getValue();
+	}
+}
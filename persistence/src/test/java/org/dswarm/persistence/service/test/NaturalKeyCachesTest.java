@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.service.test;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.name.Names;
+import com.google.inject.persist.PersistService;
+import com.google.inject.util.Modules;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValueFactory;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.dswarm.init.ConfigModule;
+import org.dswarm.init.ExecutionScope;
+import org.dswarm.persistence.JacksonObjectMapperModule;
+import org.dswarm.persistence.JpaHibernateModule;
+import org.dswarm.persistence.PersistenceModule;
+import org.dswarm.persistence.model.schema.Attribute;
+import org.dswarm.persistence.service.MaintainDBService;
+import org.dswarm.persistence.service.schema.AttributeService;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Tests the natural key index of the persistence services with enabled shared cache, i.e., the lookups by uri of different service instances
+ * and the invalidation at database maintenance.
+ */
+public class NaturalKeyCachesTest {
+
+	private static final String CACHE_ENABLED = "dswarm.db.metadata.cache.enabled";
+
+	private static final String URI = "http://purl.org/dc/terms/title";
+
+	private static Injector injector;
+
+	private MaintainDBService maintainDBService;
+
+	@BeforeClass
+	public static void startUp() {
+
+		final ConfigModule configModule = new ConfigModule();
+		final Config config = configModule.getConfig().withValue(CACHE_ENABLED, ConfigValueFactory.fromAnyRef(true));
+
+		injector = Guice.createInjector(
+				Modules.override(configModule).with(new AbstractModule() {
+
+					@Override
+					protected void configure() {
+
+						bindConstant().annotatedWith(Names.named(CACHE_ENABLED)).to(true);
+					}
+				}),
+				new PersistenceModule(),
+				new JacksonObjectMapperModule(),
+				new JpaHibernateModule(config)
+		);
+
+		injector.getInstance(PersistService.class).start();
+		injector.getInstance(ExecutionScope.class).enter();
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+
+		injector.getInstance(MaintainDBService.class).initDB();
+		injector.getInstance(PersistService.class).stop();
+		injector.getInstance(ExecutionScope.class).leave();
+		injector = null;
+	}
+
+	@Before
+	public void prepare() throws Exception {
+
+		maintainDBService = injector.getInstance(MaintainDBService.class);
+		maintainDBService.initDB();
+	}
+
+	@Test
+	public void testLookupByUriOfAnotherServiceInstance() throws Exception {
+
+		final AttributeService attributeService = injector.getInstance(AttributeService.class);
+		final AttributeService otherAttributeService = injector.getInstance(AttributeService.class);
+
+		Assert.assertNotSame(attributeService, otherAttributeService);
+
+		final Attribute attribute = attributeService.createOrGetObjectTransactional(URI).getObject();
+
+		// the first lookup by uri queries the database and indexes the uri
+		Assert.assertEquals(attribute.getUuid(), attributeService.getObjectByUri(URI).getUuid());
+
+		final long hits = getGaugeValue("hits");
+
+		Assert.assertEquals(attribute.getUuid(), otherAttributeService.getObjectByUri(URI).getUuid());
+		Assert.assertEquals("the lookup should be served by the natural key index", hits + 1, getGaugeValue("hits"));
+	}
+
+	@Test
+	public void testInvalidationAtDatabaseMaintenance() throws Exception {
+
+		final AttributeService attributeService = injector.getInstance(AttributeService.class);
+
+		attributeService.createOrGetObjectTransactional(URI);
+		attributeService.getObjectByUri(URI);
+
+		Assert.assertEquals(1L, getGaugeValue("size"));
+
+		maintainDBService.truncateTables();
+
+		Assert.assertEquals("the natural key index should be empty after the tables were truncated", 0L, getGaugeValue("size"));
+		Assert.assertNull(injector.getInstance(AttributeService.class).getObjectByUri(URI));
+	}
+
+	private static long getGaugeValue(final String gaugeName) {
+
+		final Gauge<?> gauge = injector.getInstance(MetricRegistry.class).getGauges().get(name(Attribute.class, "natural-key-cache", gaugeName));
+
+		Assert.assertNotNull("the gauge '" + gaugeName + "' should be registered", gauge);
+
+		return (Long) gauge.getValue();
+	}
+}
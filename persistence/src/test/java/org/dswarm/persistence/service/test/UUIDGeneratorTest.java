@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.service.test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.dswarm.persistence.service.UUIDGenerator;
+import org.dswarm.persistence.service.UUIDService;
+
+public class UUIDGeneratorTest {
+
+	private static final int THREADS = 8;
+
+	private static final int UUIDS_PER_THREAD = 100000;
+
+	@Test
+	public void testFromName() {
+
+		Assert.assertEquals(UUIDGenerator.RANDOM, UUIDGenerator.fromName("random"));
+		Assert.assertEquals(UUIDGenerator.TIME_ORDERED, UUIDGenerator.fromName("time-ordered"));
+	}
+
+	@Test
+	public void testUniqueTimeOrderedUUIDs() throws InterruptedException {
+
+		final Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+
+		for (int i = 0; i < THREADS; i++) {
+
+			executorService.submit(() -> {
+
+				for (int j = 0; j < UUIDS_PER_THREAD; j++) {
+
+					uuids.add(UUIDGenerator.TIME_ORDERED.next());
+				}
+			});
+		}
+
+		executorService.shutdown();
+
+		Assert.assertTrue(executorService.awaitTermination(1, TimeUnit.MINUTES));
+		Assert.assertEquals("every generated UUID should be unique", THREADS * UUIDS_PER_THREAD, uuids.size());
+	}
+
+	@Test
+	public void testOrderedVersion7UUIDsAcrossBlocks() {
+
+		UUID previous = UUIDGenerator.TIME_ORDERED.next();
+
+		// more UUIDs than fit into one millisecond (i.e., the counter overflows into the timestamp) and into one block of a thread
+		for (int i = 0; i < 10000; i++) {
+
+			final UUID uuid = UUIDGenerator.TIME_ORDERED.next();
+
+			Assert.assertEquals(7, uuid.version());
+			Assert.assertEquals(2, uuid.variant());
+			Assert.assertTrue("the UUIDs of a thread should be ordered", previous.compareTo(uuid) < 0);
+
+			previous = uuid;
+		}
+	}
+
+	@Test
+	public void testUUIDLayout() {
+
+		final UUID first = UUIDGenerator.TIME_ORDERED.next();
+		final UUID second = UUIDGenerator.TIME_ORDERED.next();
+
+		Assert.assertEquals("the UUID should be a version 7 UUID", 7, first.version());
+		Assert.assertEquals("the UUID should have the IETF variant", 2, first.variant());
+		Assert.assertEquals("the timestamp of the UUID should be the current time", System.currentTimeMillis(),
+				first.getMostSignificantBits() >>> 16, TimeUnit.MINUTES.toMillis(1));
+		Assert.assertEquals("the node part should be stable within a JVM", first.getLeastSignificantBits(), second.getLeastSignificantBits());
+		Assert.assertTrue("the UUIDs of a thread should be ordered", first.compareTo(second) < 0);
+
+		final String uuid = UUIDService.getUUID("Schema");
+
+		Assert.assertTrue(uuid.startsWith("Schema-"));
+		Assert.assertEquals(UUID.fromString(uuid.substring("Schema-".length())).toString(), uuid.substring("Schema-".length()));
+	}
+}
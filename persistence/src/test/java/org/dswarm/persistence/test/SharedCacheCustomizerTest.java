@@ -0,0 +1,50 @@
+/**
+ * Copyright (C) 2013 – 2015 SLUB Dresden & Avantgarde Labs GmbH (<code@dswarm.org>)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dswarm.persistence.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.dswarm.persistence.SharedCacheCustomizer;
+import org.dswarm.persistence.model.schema.Attribute;
+import org.dswarm.persistence.model.schema.AttributePath;
+import org.dswarm.persistence.model.schema.AttributePathInstance;
+import org.dswarm.persistence.model.schema.Clasz;
+import org.dswarm.persistence.model.schema.ContentSchema;
+import org.dswarm.persistence.model.schema.MappingAttributePathInstance;
+import org.dswarm.persistence.model.schema.Schema;
+import org.dswarm.persistence.model.schema.SchemaAttributePathInstance;
+
+public class SharedCacheCustomizerTest {
+
+	@Test
+	public void testVocabularyEntitiesAreShared() {
+
+		Assert.assertTrue(SharedCacheCustomizer.isShared(Attribute.class));
+		Assert.assertTrue(SharedCacheCustomizer.isShared(Clasz.class));
+		Assert.assertTrue(SharedCacheCustomizer.isShared(AttributePath.class));
+	}
+
+	@Test
+	public void testEditableEntitiesAreNotShared() {
+
+		Assert.assertFalse(SharedCacheCustomizer.isShared(Schema.class));
+		Assert.assertFalse(SharedCacheCustomizer.isShared(ContentSchema.class));
+		Assert.assertFalse(SharedCacheCustomizer.isShared(AttributePathInstance.class));
+		Assert.assertFalse(SharedCacheCustomizer.isShared(MappingAttributePathInstance.class));
+		Assert.assertFalse(SharedCacheCustomizer.isShared(SchemaAttributePathInstance.class));
+	}
+}